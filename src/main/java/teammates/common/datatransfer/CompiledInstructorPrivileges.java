@@ -0,0 +1,133 @@
+package teammates.common.datatransfer;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+
+/**
+ * Immutable form of {@link InstructorPrivileges} used for checking privileges, in which the privileges
+ * of the course, of each section and of each session in a section are stored as the bits of an {@code int}.
+ *
+ * <p>A privilege check is at most two hash map lookups and a bit test, and creates no objects.
+ */
+final class CompiledInstructorPrivileges {
+
+    /**
+     * The privileges of an instructor, each of which is a bit in the compiled privileges.
+     */
+    private enum Privilege {
+        MODIFY_COURSE(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE),
+        MODIFY_INSTRUCTOR(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_INSTRUCTOR),
+        MODIFY_SESSION(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION),
+        MODIFY_STUDENT(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_STUDENT),
+        VIEW_STUDENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS),
+        VIEW_SESSION_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS),
+        SUBMIT_SESSION_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS),
+        MODIFY_SESSION_COMMENT_IN_SECTIONS(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_SESSION_COMMENT_IN_SECTIONS);
+
+        private static final Map<String, Privilege> PRIVILEGES_BY_NAME = new HashMap<>();
+
+        static {
+            for (Privilege privilege : values()) {
+                PRIVILEGES_BY_NAME.put(privilege.privilegeName, privilege);
+            }
+        }
+
+        private final String privilegeName;
+        private final int bit;
+
+        Privilege(String privilegeName) {
+            this.privilegeName = privilegeName;
+            this.bit = 1 << ordinal();
+        }
+    }
+
+    private final int courseLevel;
+    private final Map<String, Integer> sectionLevel = new HashMap<>();
+    private final Map<String, Map<String, Integer>> sessionLevel = new HashMap<>();
+
+    /** Privileges for a session in any of the sections with special settings, for sessions without special settings. */
+    private final int anySectionLevel;
+
+    /** Privileges for a session in any of the sections with special settings, for sessions with special settings. */
+    private final Map<String, Integer> anySectionSessionLevel = new HashMap<>();
+
+    CompiledInstructorPrivileges(Map<String, Boolean> courseLevel, Map<String, Map<String, Boolean>> sectionLevel,
+                                 Map<String, Map<String, Map<String, Boolean>>> sessionLevel) {
+        this.courseLevel = toBits(courseLevel);
+        sectionLevel.forEach((sectionName, privileges) -> this.sectionLevel.put(sectionName, toBits(privileges)));
+        sessionLevel.forEach((sectionName, sessions) -> {
+            Map<String, Integer> sessionBits = new HashMap<>();
+            sessions.forEach((sessionName, privileges) -> sessionBits.put(sessionName, toBits(privileges)));
+            this.sessionLevel.put(sectionName, sessionBits);
+        });
+
+        Set<String> sections = new LinkedHashSet<>(sessionLevel.keySet());
+        sections.addAll(sectionLevel.keySet());
+        int anySection = 0;
+        for (String sectionName : sections) {
+            anySection |= getSectionLevel(sectionName);
+        }
+        this.anySectionLevel = anySection;
+
+        for (Map<String, Integer> sessions : this.sessionLevel.values()) {
+            for (String sessionName : sessions.keySet()) {
+                int anySectionForSession = 0;
+                for (String sectionName : sections) {
+                    anySectionForSession |= getSessionLevel(sectionName, sessionName);
+                }
+                anySectionSessionLevel.put(sessionName, anySectionForSession);
+            }
+        }
+    }
+
+    private static int toBits(Map<String, Boolean> privileges) {
+        int bits = 0;
+        for (Map.Entry<String, Boolean> entry : privileges.entrySet()) {
+            Privilege privilege = Privilege.PRIVILEGES_BY_NAME.get(entry.getKey());
+            if (privilege != null && Boolean.TRUE.equals(entry.getValue())) {
+                bits |= privilege.bit;
+            }
+        }
+        return bits;
+    }
+
+    private static int getBit(String privilegeName) {
+        Privilege privilege = Privilege.PRIVILEGES_BY_NAME.get(privilegeName);
+        Assumption.assertTrue(privilege != null);
+        return privilege.bit;
+    }
+
+    private int getSectionLevel(String sectionName) {
+        Integer bits = sectionLevel.get(sectionName);
+        return bits == null ? courseLevel : bits;
+    }
+
+    private int getSessionLevel(String sectionName, String sessionName) {
+        Map<String, Integer> sessions = sessionLevel.get(sectionName);
+        Integer bits = sessions == null ? null : sessions.get(sessionName);
+        return bits == null ? getSectionLevel(sectionName) : bits;
+    }
+
+    boolean isAllowedInCourseLevel(String privilegeName) {
+        return (courseLevel & getBit(privilegeName)) != 0;
+    }
+
+    boolean isAllowedInSectionLevel(String sectionName, String privilegeName) {
+        return (getSectionLevel(sectionName) & getBit(privilegeName)) != 0;
+    }
+
+    boolean isAllowedInSessionLevel(String sectionName, String sessionName, String privilegeName) {
+        return (getSessionLevel(sectionName, sessionName) & getBit(privilegeName)) != 0;
+    }
+
+    boolean isAllowedInSessionLevelAnySection(String sessionName, String privilegeName) {
+        Integer bits = anySectionSessionLevel.get(sessionName);
+        return ((bits == null ? anySectionLevel : bits) & getBit(privilegeName)) != 0;
+    }
+
+}
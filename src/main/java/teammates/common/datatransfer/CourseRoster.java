@@ -1,9 +1,13 @@
 package teammates.common.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
 
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -12,23 +16,48 @@ import teammates.common.datatransfer.attributes.StudentAttributes;
  * Contains a list of students and instructors in a course. Useful for caching
  * a copy of student and instructor details of a course instead of reading
  * them from the database multiple times.
+ *
+ * <p>The roster is immutable once created. Besides the lookup by email, it keeps team, section
+ * and sorted views of the course members, which are built at most once per roster.
  */
 public class CourseRoster {
 
-    Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
-    Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+    private final Map<String, StudentAttributes> studentListByEmail = new HashMap<>();
+    private final Map<String, InstructorAttributes> instructorListByEmail = new HashMap<>();
+
+    private final List<StudentAttributes> students;
+    private final List<InstructorAttributes> instructors;
+
+    private final Map<String, Set<String>> teamNameToStudentEmails;
+    private final Map<String, Set<String>> sectionToTeamNames;
+
+    // the sorted views are built on first use, as not every user of the roster needs them
+    private List<String> sortedTeamNames;
+    private List<String> studentEmailsSortedBySection;
+    private List<String> sortedInstructorEmails;
 
     public CourseRoster(List<StudentAttributes> students, List<InstructorAttributes> instructors) {
         populateStudentListByEmail(students);
         populateInstructorListByEmail(instructors);
+
+        this.students = Collections.unmodifiableList(new ArrayList<>(studentListByEmail.values()));
+        this.instructors = Collections.unmodifiableList(new ArrayList<>(instructorListByEmail.values()));
+        this.teamNameToStudentEmails = buildTeamNameToStudentEmailsTable(this.students);
+        this.sectionToTeamNames = buildSectionToTeamNamesTable(this.students);
     }
 
+    /**
+     * Returns an unmodifiable list of the students in the course.
+     */
     public List<StudentAttributes> getStudents() {
-        return new ArrayList<>(studentListByEmail.values());
+        return students;
     }
 
+    /**
+     * Returns an unmodifiable list of the instructors in the course.
+     */
     public List<InstructorAttributes> getInstructors() {
-        return new ArrayList<>(instructorListByEmail.values());
+        return instructors;
     }
 
     /**
@@ -64,6 +93,61 @@ public class CourseRoster {
         return instructorListByEmail.get(email);
     }
 
+    /**
+     * Returns an unmodifiable map of team name to the emails of the students in the team,
+     * where the emails of each team are sorted alphabetically.
+     */
+    public Map<String, Set<String>> getTeamNameToStudentEmailsTable() {
+        return teamNameToStudentEmails;
+    }
+
+    /**
+     * Returns an unmodifiable map of section name to the names of the teams in the section.
+     */
+    public Map<String, Set<String>> getSectionToTeamNamesTable() {
+        return sectionToTeamNames;
+    }
+
+    /**
+     * Returns an unmodifiable, alphabetically sorted list of the teams in the course.
+     */
+    public List<String> getSortedTeamNames() {
+        if (sortedTeamNames == null) {
+            List<String> teamNames = new ArrayList<>(teamNameToStudentEmails.keySet());
+            teamNames.sort(null);
+            sortedTeamNames = Collections.unmodifiableList(teamNames);
+        }
+        return sortedTeamNames;
+    }
+
+    /**
+     * Returns an unmodifiable list of student emails, sorted by section name, then team name, then student name.
+     */
+    public List<String> getStudentEmailsSortedBySection() {
+        if (studentEmailsSortedBySection == null) {
+            List<StudentAttributes> sortedStudents = new ArrayList<>(students);
+            StudentAttributes.sortBySectionName(sortedStudents);
+            List<String> emails = new ArrayList<>();
+            for (StudentAttributes student : sortedStudents) {
+                emails.add(student.email);
+            }
+            studentEmailsSortedBySection = Collections.unmodifiableList(emails);
+        }
+        return studentEmailsSortedBySection;
+    }
+
+    /**
+     * Returns an unmodifiable, alphabetically sorted list of instructor emails.
+     */
+    public List<String> getSortedInstructorEmails() {
+        if (sortedInstructorEmails == null) {
+            List<String> emails = new ArrayList<>(instructorListByEmail.keySet());
+            emails.sort(null);
+            sortedInstructorEmails = Collections.unmodifiableList(emails);
+        }
+        return sortedInstructorEmails;
+    }
+
     /**
      * Returns a map of email mapped to name of instructors and students of the course.
      *
@@ -71,13 +155,11 @@ public class CourseRoster {
      */
     public Map<String, String> getEmailToNameTableFromRoster() {
         Map<String, String> emailToNameTable = new HashMap<>();
-        List<InstructorAttributes> instructorList = getInstructors();
-        for (InstructorAttributes instructor : instructorList) {
+        for (InstructorAttributes instructor : instructors) {
             emailToNameTable.put(instructor.email, instructor.name);
         }
 
-        List<StudentAttributes> studentList = getStudents();
-        for (StudentAttributes student : studentList) {
+        for (StudentAttributes student : students) {
             emailToNameTable.put(student.email, student.name);
         }
         return emailToNameTable;
@@ -104,4 +186,26 @@ public class CourseRoster {
             instructorListByEmail.put(i.email, i);
         }
     }
+
+    private static Map<String, Set<String>> buildTeamNameToStudentEmailsTable(List<StudentAttributes> students) {
+        Map<String, Set<String>> teamNameToEmails = new HashMap<>();
+        for (StudentAttributes student : students) {
+            teamNameToEmails.computeIfAbsent(student.team, team -> new TreeSet<>()).add(student.email);
+        }
+        for (Map.Entry<String, Set<String>> entry : teamNameToEmails.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(teamNameToEmails);
+    }
+
+    private static Map<String, Set<String>> buildSectionToTeamNamesTable(List<StudentAttributes> students) {
+        Map<String, Set<String>> sectionToTeams = new HashMap<>();
+        for (StudentAttributes student : students) {
+            sectionToTeams.computeIfAbsent(student.section, section -> new HashSet<>()).add(student.team);
+        }
+        for (Map.Entry<String, Set<String>> entry : sectionToTeams.entrySet()) {
+            entry.setValue(Collections.unmodifiableSet(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(sectionToTeams);
+    }
 }
@@ -0,0 +1,99 @@
+package teammates.common.datatransfer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+
+/**
+ * Represents the number of students in each team of each section of a course.
+ * <br> Contains:
+ * <br> * The number of students in each team, grouped by section.
+ *
+ * <p>Whether the students are registered is not counted, so that students joining the course do not change it.
+ */
+public class CourseStatisticsBundle {
+
+    /** Section name to team name to the number of students in that team and section, sorted by name. */
+    private TreeMap<String, TreeMap<String, Integer>> studentCounts = new TreeMap<>();
+
+    /**
+     * Counts {@code student} in its section and team.
+     */
+    public void addStudent(StudentAttributes student) {
+        studentCounts.computeIfAbsent(student.section, section -> new TreeMap<>())
+                .merge(student.team, 1, Integer::sum);
+    }
+
+    /**
+     * Stops counting {@code student}, which must have been counted with the same section and team.
+     * Teams and sections left without students are removed.
+     */
+    public void removeStudent(StudentAttributes student) {
+        Map<String, Integer> teamCounts = studentCounts.get(student.section);
+        if (teamCounts == null || !teamCounts.containsKey(student.team)) {
+            return;
+        }
+        teamCounts.computeIfPresent(student.team, (team, count) -> count > 1 ? count - 1 : null);
+        if (teamCounts.isEmpty()) {
+            studentCounts.remove(student.section);
+        }
+    }
+
+    /**
+     * Returns the names of all sections with students, including the default section, in sorted order.
+     */
+    public List<String> getSectionNames() {
+        return new ArrayList<>(studentCounts.keySet());
+    }
+
+    /**
+     * Returns the names of all teams with students, in sorted order.
+     */
+    public List<String> getTeamNames() {
+        TreeSet<String> teamNames = new TreeSet<>();
+        for (Map<String, Integer> teamCounts : studentCounts.values()) {
+            teamNames.addAll(teamCounts.keySet());
+        }
+        return new ArrayList<>(teamNames);
+    }
+
+    /**
+     * Returns true if any student is in a section other than the default section.
+     */
+    public boolean hasIndicatedSections() {
+        for (String sectionName : studentCounts.keySet()) {
+            if (!sectionName.equals(Const.DEFAULT_SECTION)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the statistics in the form used in {@link CourseDetailsBundle}.
+     * As in {@link SectionDetailsBundle}, a team which spans several sections is counted once in each section,
+     * and the default section is not counted as a section.
+     *
+     * @param unregisteredTotal the number of unregistered students in the course, which is not counted here
+     */
+    public CourseStats toCourseStats(int unregisteredTotal) {
+        CourseStats stats = new CourseStats();
+        for (Map.Entry<String, TreeMap<String, Integer>> section : studentCounts.entrySet()) {
+            if (!section.getKey().equals(Const.DEFAULT_SECTION)) {
+                stats.sectionsTotal++;
+            }
+            stats.teamsTotal += section.getValue().size();
+            for (int count : section.getValue().values()) {
+                stats.studentsTotal += count;
+            }
+        }
+        stats.unregisteredTotal = unregisteredTotal;
+        return stats;
+    }
+
+}
@@ -72,6 +72,9 @@ public class FeedbackSessionResultsBundle {
      */
     public Map<String, Set<String>> sectionTeamNameTable;
 
+    // key is participant type and name, value is the anonymized name
+    private final Map<String, String> anonNameTable = new HashMap<>();
+
     private Comparator<FeedbackResponseAttributes> compareByGiverSection =
             Comparator.comparing(fra -> fra.giverSection);
 
@@ -318,7 +321,7 @@ public class FeedbackSessionResultsBundle {
         // unlike emailTeamNameTable, emailLastNameTable and emailTeamNameTable,
         // roster.*Table is populated using the CourseRoster data directly
         this.rosterTeamNameMembersTable = getTeamNameToEmailsTableFromRoster(roster);
-        this.rosterSectionTeamNameTable = getSectionToTeamNamesFromRoster(roster);
+        this.rosterSectionTeamNameTable = roster.getSectionToTeamNamesTable();
     }
 
     /**
@@ -338,8 +341,8 @@ public class FeedbackSessionResultsBundle {
             }
 
             if (!isRecipientVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getAnonymizedName(participantType, name);
+                String anonEmail = toAnonEmail(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -352,8 +355,8 @@ public class FeedbackSessionResultsBundle {
             participantType = question.giverType;
 
             if (!isGiverVisible(response)) {
-                String anonEmail = getAnonEmail(participantType, name);
-                name = getAnonName(participantType, name);
+                name = getAnonymizedName(participantType, name);
+                String anonEmail = toAnonEmail(name);
 
                 emailNameTable.put(anonEmail, name);
                 emailTeamNameTable.put(anonEmail, name + Const.TEAM_OF_EMAIL_OWNER);
@@ -404,19 +407,38 @@ public class FeedbackSessionResultsBundle {
 
     public static String getAnonEmail(FeedbackParticipantType type, String name) {
         String anonName = getAnonName(type, name);
-        return anonName + "@@" + anonName + ".com";
+        return toAnonEmail(anonName);
     }
 
     public String getAnonEmailFromStudentEmail(String studentEmail) {
         String name = roster.getStudentForEmail(studentEmail).name;
-        return getAnonEmail(FeedbackParticipantType.STUDENTS, name);
+        return getAnonymizedEmail(FeedbackParticipantType.STUDENTS, name);
     }
 
     public static String getAnonName(FeedbackParticipantType type, String name) {
         String hashedEncryptedName = getHashOfName(getEncryptedName(name));
-        String participantType = type.toSingularFormString();
-        return String.format(
-                Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " %s %s", participantType, hashedEncryptedName);
+        return Const.DISPLAYED_NAME_FOR_ANONYMOUS_PARTICIPANT + " " + type.toSingularFormString()
+                + " " + hashedEncryptedName;
+    }
+
+    /**
+     * Returns the same name as {@link #getAnonName(FeedbackParticipantType, String)}.
+     * The names are remembered by the bundle, so that each name is only encrypted once.
+     */
+    public String getAnonymizedName(FeedbackParticipantType type, String name) {
+        return anonNameTable.computeIfAbsent(type.name() + "%" + name, key -> getAnonName(type, name));
+    }
+
+    /**
+     * Returns the same email as {@link #getAnonEmail(FeedbackParticipantType, String)},
+     * using the names remembered by the bundle.
+     */
+    public String getAnonymizedEmail(FeedbackParticipantType type, String name) {
+        return toAnonEmail(getAnonymizedName(type, name));
+    }
+
+    private static String toAnonEmail(String anonName) {
+        return anonName + "@@" + anonName + ".com";
     }
 
     private static String getEncryptedName(String name) {
@@ -959,9 +981,8 @@ public class FeedbackSessionResultsBundle {
      * Instructors are not present as a team.
      */
     private List<String> getSortedListOfTeams() {
-        List<String> teams = new ArrayList<>(rosterTeamNameMembersTable.keySet());
+        List<String> teams = new ArrayList<>(roster.getSortedTeamNames());
         teams.remove(Const.USER_TEAM_FOR_INSTRUCTOR);
-        teams.sort(null);
         return teams;
     }
 
@@ -975,9 +996,7 @@ public class FeedbackSessionResultsBundle {
     public List<String> getSortedListOfTeamMembersEmails(StudentAttributes student) {
         String teamName = student.team;
         Set<String> teamMembersEmailsToNames = rosterTeamNameMembersTable.get(teamName);
-        List<String> teamMembers = new ArrayList<>(teamMembersEmailsToNames);
-        teamMembers.sort(null);
-        return teamMembers;
+        return new ArrayList<>(teamMembersEmailsToNames);
     }
 
     /**
@@ -998,26 +1017,14 @@ public class FeedbackSessionResultsBundle {
      * Returns a list of student emails, sorted by section name.
      */
     private List<String> getSortedListOfStudentEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<StudentAttributes> students = roster.getStudents();
-        StudentAttributes.sortBySectionName(students);
-        for (StudentAttributes student : students) {
-            emailList.add(student.email);
-        }
-        return emailList;
+        return new ArrayList<>(roster.getStudentEmailsSortedBySection());
     }
 
     /**
      * Returns a list of instructor emails, sorted alphabetically.
      */
     private List<String> getSortedListOfInstructorEmails() {
-        List<String> emailList = new ArrayList<>();
-        List<InstructorAttributes> instructors = roster.getInstructors();
-        for (InstructorAttributes instructor : instructors) {
-            emailList.add(instructor.email);
-        }
-        emailList.sort(null);
-        return emailList;
+        return new ArrayList<>(roster.getSortedInstructorEmails());
     }
 
     /**
@@ -1533,45 +1540,16 @@ public class FeedbackSessionResultsBundle {
     }
 
     private Map<String, Set<String>> getTeamNameToEmailsTableFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
-        Map<String, Set<String>> teamNameToEmails = new HashMap<>();
-
-        for (StudentAttributes student : students) {
-            String studentTeam = student.team;
-            Set<String> studentEmails = teamNameToEmails.getOrDefault(studentTeam, new TreeSet<>());
-
-            studentEmails.add(student.email);
-            teamNameToEmails.put(studentTeam, studentEmails);
-        }
-
-        List<InstructorAttributes> instructors = courseroster.getInstructors();
-        String instructorsTeam = Const.USER_TEAM_FOR_INSTRUCTOR;
-        Set<String> instructorEmails = new HashSet<>();
+        Map<String, Set<String>> teamNameToEmails = new HashMap<>(courseroster.getTeamNameToStudentEmailsTable());
 
-        for (InstructorAttributes instructor : instructors) {
-            instructorEmails.add(instructor.email);
-            teamNameToEmails.put(instructorsTeam, instructorEmails);
+        List<String> instructorEmails = courseroster.getSortedInstructorEmails();
+        if (!instructorEmails.isEmpty()) {
+            teamNameToEmails.put(Const.USER_TEAM_FOR_INSTRUCTOR, new TreeSet<>(instructorEmails));
         }
 
         return teamNameToEmails;
     }
 
-    private Map<String, Set<String>> getSectionToTeamNamesFromRoster(CourseRoster courseroster) {
-        List<StudentAttributes> students = courseroster.getStudents();
-        Map<String, Set<String>> sectionToTeam = new HashMap<>();
-
-        for (StudentAttributes student : students) {
-            String studentSection = student.section;
-            String studentTeam = student.team;
-            Set<String> teamNames = sectionToTeam.getOrDefault(studentSection, new HashSet<>());
-
-            teamNames.add(studentTeam);
-            sectionToTeam.put(studentSection, teamNames);
-        }
-
-        return sectionToTeam;
-    }
-
     /**
      * Compares the values of {@code name1} and {@code name2}.
      * Anonymous names are ordered later than non-anonymous names.
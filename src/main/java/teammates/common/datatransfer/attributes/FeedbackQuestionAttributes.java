@@ -44,6 +44,14 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     protected transient Instant updatedAt;
     private String feedbackQuestionId;
 
+    /**
+     * Parsed form of {@link #questionMetaData}, together with the metadata and question type it was parsed from.
+     * It is parsed again only when either of them is changed.
+     */
+    private transient FeedbackQuestionDetails cachedQuestionDetails;
+    private transient Text parsedQuestionMetaData;
+    private transient FeedbackQuestionType parsedQuestionType;
+
     protected FeedbackQuestionAttributes() {
         //attributes to be built by Builder
     }
@@ -681,9 +689,25 @@ public class FeedbackQuestionAttributes extends EntityAttributes<FeedbackQuestio
     /**
      * Retrieves the Feedback*QuestionDetails object for this question.
      *
+     * <p>The object is parsed once and shared by subsequent calls, so changes to it
+     * must be saved with {@link #setQuestionDetails(FeedbackQuestionDetails)}.
+     *
      * @return The Feedback*QuestionDetails object representing the question's details
      */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    // PMD.CompareObjectsWithEquals is suppressed as the cache is invalidated whenever
+    // the metadata is replaced, regardless of its content
     public FeedbackQuestionDetails getQuestionDetails() {
+        if (cachedQuestionDetails == null
+                || parsedQuestionMetaData != questionMetaData || parsedQuestionType != questionType) {
+            cachedQuestionDetails = parseQuestionDetails();
+            parsedQuestionMetaData = questionMetaData;
+            parsedQuestionType = questionType;
+        }
+        return cachedQuestionDetails;
+    }
+
+    private FeedbackQuestionDetails parseQuestionDetails() {
         final String questionMetaDataValue = questionMetaData.getValue();
         // For old Text questions, the questionText simply contains the question, not a JSON
         if (questionType == FeedbackQuestionType.TEXT && !isValidJsonString(questionMetaDataValue)) {
@@ -44,6 +44,14 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
     protected transient Instant updatedAt;
     private String feedbackResponseId;
 
+    /**
+     * Parsed form of {@link #responseMetaData}, together with the metadata and question type it was parsed from.
+     * It is parsed again only when either of them is changed.
+     */
+    private transient FeedbackResponseDetails cachedResponseDetails;
+    private transient Text parsedResponseMetaData;
+    private transient FeedbackQuestionType parsedQuestionType;
+
     public FeedbackResponseAttributes() {
         // attributes to be set after construction
     }
@@ -187,14 +195,30 @@ public class FeedbackResponseAttributes extends EntityAttributes<FeedbackRespons
 
     /**
      * Retrieves the Feedback*ResponseDetails object for this response.
+     *
+     * <p>The object is parsed once and shared by subsequent calls, so changes to it
+     * must be saved with {@link #setResponseDetails(FeedbackResponseDetails)}.
      * @return The Feedback*ResponseDetails object representing the response's details
      */
+    @SuppressWarnings("PMD.CompareObjectsWithEquals")
+    // PMD.CompareObjectsWithEquals is suppressed as the cache is invalidated whenever
+    // the metadata is replaced, regardless of its content
     public FeedbackResponseDetails getResponseDetails() {
 
         if (isMissingResponse()) {
             return null;
         }
 
+        if (cachedResponseDetails == null
+                || parsedResponseMetaData != responseMetaData || parsedQuestionType != feedbackQuestionType) {
+            cachedResponseDetails = parseResponseDetails();
+            parsedResponseMetaData = responseMetaData;
+            parsedQuestionType = feedbackQuestionType;
+        }
+        return cachedResponseDetails;
+    }
+
+    private FeedbackResponseDetails parseResponseDetails() {
         Class<? extends FeedbackResponseDetails> responseDetailsClass = getFeedbackResponseDetailsClass();
 
         if (responseDetailsClass == FeedbackTextResponseDetails.class) {
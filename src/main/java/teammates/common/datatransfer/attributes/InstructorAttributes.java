@@ -70,7 +70,8 @@ public class InstructorAttributes extends EntityAttributes<Instructor> {
     public InstructorAttributes getCopy() {
         return builder(googleId, courseId, name, email)
                 .withKey(key).withRole(role).withDisplayedName(displayedName)
-                .withPrivileges(privileges).withIsDisplayedToStudents(isDisplayedToStudents).withIsArchived(isArchived)
+                .withPrivileges(privileges == null ? null : privileges.getCopy())
+                .withIsDisplayedToStudents(isDisplayedToStudents).withIsArchived(isArchived)
                 .build();
     }
 
@@ -287,7 +287,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String displayTeam = team;
 
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getAnonymizedName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
             }
             int[] incomingPoints = new int[teamResult.normalizedPeerContributionRatio.length];
@@ -379,7 +379,7 @@ public class FeedbackContributionQuestionDetails extends FeedbackQuestionDetails
             String displayTeam;
             String displayEmail;
             if (hideRecipient) {
-                displayName = FeedbackSessionResultsBundle.getAnonName(type, name);
+                displayName = bundle.getAnonymizedName(type, name);
                 displayTeam = displayName + Const.TEAM_OF_EMAIL_OWNER;
                 displayEmail = Const.USER_NOBODY_TEXT;
             } else {
@@ -10,7 +10,6 @@ import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -245,16 +244,14 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         Boolean isOtherSelected = existingMcqResponse.isOtherOptionAnswer();
 
         for (int i = 0; i < choices.size(); i++) {
-            String optionFragment =
-                    Templates.populateTemplate(optionFragmentTemplate,
-                            Slots.QUESTION_INDEX, Integer.toString(qnIdx),
-                            Slots.RESPONSE_INDEX, Integer.toString(responseIdx),
-                            Slots.DISABLED, sessionIsOpen ? "" : "disabled",
-                            Slots.CHECKED,
-                                    existingMcqResponse.getAnswerString().equals(choices.get(i)) ? "checked" : "",
-                            Slots.FEEDBACK_RESPONSE_TEXT, Const.ParamsNames.FEEDBACK_RESPONSE_TEXT,
-                            Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(choices.get(i)));
-            optionListHtml.append(optionFragment).append(System.lineSeparator());
+            Templates.appendPopulatedTemplate(optionListHtml, optionFragmentTemplate,
+                    Slots.QUESTION_INDEX, Integer.toString(qnIdx),
+                    Slots.RESPONSE_INDEX, Integer.toString(responseIdx),
+                    Slots.DISABLED, sessionIsOpen ? "" : "disabled",
+                    Slots.CHECKED, existingMcqResponse.getAnswerString().equals(choices.get(i)) ? "checked" : "",
+                    Slots.FEEDBACK_RESPONSE_TEXT, Const.ParamsNames.FEEDBACK_RESPONSE_TEXT,
+                    Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(choices.get(i)));
+            optionListHtml.append(System.lineSeparator());
         }
         if (otherEnabled) {
             String otherOptionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OTHEROPTIONFRAGMENT;
@@ -289,15 +286,14 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
         String optionFragmentTemplate = FormTemplates.MCQ_SUBMISSION_FORM_OPTIONFRAGMENT;
 
         for (int i = 0; i < choices.size(); i++) {
-            String optionFragment =
-                    Templates.populateTemplate(optionFragmentTemplate,
-                            Slots.QUESTION_INDEX, Integer.toString(qnIdx),
-                            Slots.RESPONSE_INDEX, Integer.toString(responseIdx),
-                            Slots.DISABLED, sessionIsOpen ? "" : "disabled",
-                            Slots.CHECKED, "",
-                            Slots.FEEDBACK_RESPONSE_TEXT, Const.ParamsNames.FEEDBACK_RESPONSE_TEXT,
-                            Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(choices.get(i)));
-            optionListHtml.append(optionFragment).append(System.lineSeparator());
+            Templates.appendPopulatedTemplate(optionListHtml, optionFragmentTemplate,
+                    Slots.QUESTION_INDEX, Integer.toString(qnIdx),
+                    Slots.RESPONSE_INDEX, Integer.toString(responseIdx),
+                    Slots.DISABLED, sessionIsOpen ? "" : "disabled",
+                    Slots.CHECKED, "",
+                    Slots.FEEDBACK_RESPONSE_TEXT, Const.ParamsNames.FEEDBACK_RESPONSE_TEXT,
+                    Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(choices.get(i)));
+            optionListHtml.append(System.lineSeparator());
         }
 
         if (otherEnabled) {
@@ -348,15 +344,13 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
             //fallthrough
         case TEAMS_EXCLUDING_SELF:
             try {
-                List<TeamDetailsBundle> teamList = CoursesLogic.inst().getTeamsForCourse(courseId);
+                List<String> teamNames = CoursesLogic.inst().getTeamNamesForCourse(courseId);
 
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_EXCLUDING_SELF) {
-                    teamList.removeIf(teamInList -> teamInList.name.equals(studentDoingQuestion.team));
+                    teamNames.remove(studentDoingQuestion.team);
                 }
 
-                for (TeamDetailsBundle team : teamList) {
-                    optionList.add(team.name);
-                }
+                optionList.addAll(teamNames);
 
                 optionList.sort(null);
             } catch (EntityDoesNotExistException e) {
@@ -534,13 +528,13 @@ public class FeedbackMcqQuestionDetails extends FeedbackQuestionDetails {
                 weightString = hasAssignedWeights ? df.format(mcqWeights.get(mcqChoices.indexOf(key))) : "-";
             }
 
-            responseSummaryFragments.append(Templates.populateTemplate(FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
+            Templates.appendPopulatedTemplate(responseSummaryFragments, FormTemplates.MCQ_RESULT_STATS_OPTIONFRAGMENT,
                     Slots.MCQ_CHOICE_VALUE, SanitizationHelper.sanitizeForHtml(key),
                     Slots.MCQ_WEIGHT, weightString,
                     Slots.COUNT, Integer.toString(count),
                     Slots.PERCENTAGE, df.format(100 * (double) count / responses.size()),
                     Slots.WEIGHTED_PERCENTAGE,
-                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-"));
+                            hasAssignedWeights ? df.format(weightedPercentagePerOption.get(key)) : "-");
         }
 
         // If weights are assigned, create the per recipient statistics table,
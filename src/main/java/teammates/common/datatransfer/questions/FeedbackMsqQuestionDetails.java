@@ -10,7 +10,6 @@ import java.util.Map;
 
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackSessionResultsBundle;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -413,8 +412,7 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
         if (generateOptionsFor == FeedbackParticipantType.TEAMS
                 || generateOptionsFor == FeedbackParticipantType.TEAMS_EXCLUDING_SELF) {
             try {
-                List<TeamDetailsBundle> teamList = CoursesLogic.inst().getTeamsForCourse(courseId);
-                int sizeOfTeamlist = teamList.size();
+                int sizeOfTeamlist = CoursesLogic.inst().getTeamNamesForCourse(courseId).size();
 
                 return generateOptionsFor == FeedbackParticipantType.TEAMS ? sizeOfTeamlist : sizeOfTeamlist - 1;
             } catch (EntityDoesNotExistException e) {
@@ -452,15 +450,13 @@ public class FeedbackMsqQuestionDetails extends FeedbackQuestionDetails {
             //fallthrough
         case TEAMS_EXCLUDING_SELF:
             try {
-                List<TeamDetailsBundle> teamList = CoursesLogic.inst().getTeamsForCourse(courseId);
+                List<String> teamNames = CoursesLogic.inst().getTeamNamesForCourse(courseId);
 
                 if (generateOptionsFor == FeedbackParticipantType.TEAMS_EXCLUDING_SELF) {
-                    teamList.removeIf(teamInList -> teamInList.name.equals(studentDoingQuestion.team));
+                    teamNames.remove(studentDoingQuestion.team);
                 }
 
-                for (TeamDetailsBundle team : teamList) {
-                    optionList.add(team.name);
-                }
+                optionList.addAll(teamNames);
 
                 optionList.sort(null);
             } catch (EntityDoesNotExistException e) {
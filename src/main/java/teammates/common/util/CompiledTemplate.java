@@ -0,0 +1,126 @@
+package teammates.common.util;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a template parsed into literal segments and slots of the form <code>${name}</code>,
+ * so that it can be populated in a single pass instead of one pass over the whole template per slot.
+ *
+ * @see Templates#populateTemplate(String, String...)
+ */
+public final class CompiledTemplate {
+
+    private static final String SLOT_START = "${";
+    private static final String SLOT_END = "}";
+
+    /**
+     * The constant templates of the app, compiled once. The map is not changed afterwards,
+     * so that it can be read by many threads without locking.
+     */
+    private static final Map<String, CompiledTemplate> CONSTANT_TEMPLATES = compileConstantTemplates(
+            Templates.EmailTemplates.class, Templates.FeedbackQuestion.FormTemplates.class);
+
+    /**
+     * The segments of the template in order; the literals are at even positions and the slots,
+     * including the enclosing <code>${</code> and <code>}</code>, at odd positions.
+     */
+    private final List<String> segments;
+
+    private final int literalLength;
+
+    private CompiledTemplate(List<String> segments) {
+        this.segments = segments;
+        int length = 0;
+        for (int i = 0; i < segments.size(); i += 2) {
+            length += segments.get(i).length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Returns the compiled form of {@code template}.
+     * The constant templates of the app are compiled only once; other templates are compiled on every call.
+     */
+    public static CompiledTemplate compile(String template) {
+        CompiledTemplate compiledTemplate = CONSTANT_TEMPLATES.get(template);
+        return compiledTemplate == null ? parse(template) : compiledTemplate;
+    }
+
+    private static Map<String, CompiledTemplate> compileConstantTemplates(Class<?>... templateClasses) {
+        Map<String, CompiledTemplate> constantTemplates = new HashMap<>();
+        for (Class<?> templateClass : templateClasses) {
+            for (Field field : templateClass.getFields()) {
+                if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+                    try {
+                        String template = (String) field.get(null);
+                        constantTemplates.put(template, parse(template));
+                    } catch (IllegalAccessException e) {
+                        Assumption.fail("Template " + field.getName() + " is not accessible");
+                    }
+                }
+            }
+        }
+        return Collections.unmodifiableMap(constantTemplates);
+    }
+
+    private static CompiledTemplate parse(String template) {
+        List<String> segments = new ArrayList<>();
+        int literalStart = 0;
+        int slotStart = template.indexOf(SLOT_START);
+        while (slotStart != -1) {
+            int slotEnd = template.indexOf(SLOT_END, slotStart + SLOT_START.length());
+            if (slotEnd == -1) {
+                break;
+            }
+            // the slot is the innermost one, e.g. ${b} in ${a${b}
+            int innerSlotStart = template.lastIndexOf(SLOT_START, slotEnd);
+            segments.add(template.substring(literalStart, innerSlotStart));
+            segments.add(template.substring(innerSlotStart, slotEnd + SLOT_END.length()));
+            literalStart = slotEnd + SLOT_END.length();
+            slotStart = template.indexOf(SLOT_START, literalStart);
+        }
+        segments.add(template.substring(literalStart));
+        return new CompiledTemplate(segments);
+    }
+
+    /**
+     * Returns true if {@code key} is a slot of the form <code>${name}</code>.
+     */
+    public static boolean isSlot(String key) {
+        return key.startsWith(SLOT_START) && key.endsWith(SLOT_END)
+                && key.indexOf(SLOT_END) == key.length() - SLOT_END.length()
+                && key.lastIndexOf(SLOT_START) == 0;
+    }
+
+    /**
+     * Returns the template with each slot replaced by its value in {@code slotValues}.
+     * Slots without a value are left as they are.
+     */
+    public String render(Map<String, String> slotValues) {
+        StringBuilder populatedTemplate = new StringBuilder(literalLength * 2);
+        renderTo(populatedTemplate, slotValues);
+        return populatedTemplate.toString();
+    }
+
+    /**
+     * Appends the template with each slot replaced by its value in {@code slotValues} to {@code out}.
+     * Slots without a value are left as they are.
+     */
+    public void renderTo(StringBuilder out, Map<String, String> slotValues) {
+        for (int i = 0; i < segments.size(); i++) {
+            String segment = segments.get(i);
+            if (i % 2 == 0) {
+                out.append(segment);
+            } else {
+                out.append(slotValues.getOrDefault(segment, segment));
+            }
+        }
+    }
+
+}
@@ -1,7 +1,19 @@
 package teammates.common.util;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.Lists;
+
 /**
  * Represents an email message and its important metadata.
+ *
+ * <p>The content of an email can be generated from a template shared with other emails,
+ * in which case the emails can be sent together in a batch, with the substitutions
+ * for each recipient done by the email service.
  */
 public class EmailWrapper {
 
@@ -12,6 +24,8 @@ public class EmailWrapper {
     private String bcc;
     private String subject;
     private String content;
+    private String contentTemplate;
+    private Map<String, String> substitutions;
 
     public String getSenderName() {
         return senderName;
@@ -67,6 +81,60 @@ public class EmailWrapper {
 
     public void setContent(String content) {
         this.content = content;
+        this.contentTemplate = null;
+        this.substitutions = null;
+    }
+
+    /**
+     * Sets the content to {@code contentTemplate} with each key of {@code substitutions} replaced by its value.
+     */
+    public void setContentFromTemplate(String contentTemplate, Map<String, String> substitutions) {
+        String populatedContent = contentTemplate;
+        for (Map.Entry<String, String> substitution : substitutions.entrySet()) {
+            populatedContent = populatedContent.replace(substitution.getKey(), substitution.getValue());
+        }
+        this.content = populatedContent;
+        this.contentTemplate = contentTemplate;
+        this.substitutions = new LinkedHashMap<>(substitutions);
+    }
+
+    /**
+     * Returns the template the content is generated from, or null if the content is not generated from a template.
+     */
+    public String getContentTemplate() {
+        return contentTemplate;
+    }
+
+    /**
+     * Returns the substitutions for the recipient of the email, or null if the content is not generated
+     * from a template.
+     */
+    public Map<String, String> getSubstitutions() {
+        return substitutions;
+    }
+
+    /**
+     * Groups {@code emails} into batches of at most {@code maxBatchSize} emails which only differ
+     * in their recipient and substitutions, keeping the order of the emails within each batch.
+     * Emails without a content template or with a bcc are each in a batch of their own.
+     */
+    public static List<List<EmailWrapper>> groupIntoBatches(List<EmailWrapper> emails, int maxBatchSize) {
+        Map<List<String>, List<EmailWrapper>> emailsWithSameTemplate = new LinkedHashMap<>();
+        List<List<EmailWrapper>> batches = new ArrayList<>();
+        for (EmailWrapper email : emails) {
+            boolean isBatchable = email.contentTemplate != null && (email.bcc == null || email.bcc.isEmpty());
+            if (isBatchable) {
+                List<String> batchKey = Arrays.asList(email.senderEmail, email.senderName, email.replyTo,
+                        email.subject, email.contentTemplate);
+                emailsWithSameTemplate.computeIfAbsent(batchKey, key -> new ArrayList<>()).add(email);
+            } else {
+                batches.add(Arrays.asList(email));
+            }
+        }
+        for (List<EmailWrapper> emailGroup : emailsWithSameTemplate.values()) {
+            batches.addAll(Lists.partition(emailGroup, maxBatchSize));
+        }
+        return batches;
     }
 
     public String getInfoForLogging() {
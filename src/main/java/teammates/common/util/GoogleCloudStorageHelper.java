@@ -1,15 +1,14 @@
 package teammates.common.util;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.nio.ByteBuffer;
-import java.util.Arrays;
-import java.util.LinkedList;
-import java.util.List;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
-import com.google.appengine.api.blobstore.BlobInfoFactory;
 import com.google.appengine.api.blobstore.BlobKey;
-import com.google.appengine.api.blobstore.BlobstoreInputStream;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 import com.google.appengine.api.blobstore.UploadOptions;
 import com.google.appengine.tools.cloudstorage.GcsFileOptions;
@@ -18,18 +17,84 @@ import com.google.appengine.tools.cloudstorage.GcsOutputChannel;
 import com.google.appengine.tools.cloudstorage.GcsServiceFactory;
 import com.google.appengine.tools.cloudstorage.RetryParams;
 
+import teammates.common.exception.TeammatesException;
+
 /**
  * Holds functions for operations related to Google Cloud Storage.
  */
 public final class GoogleCloudStorageHelper {
 
-    private static final int MAX_READING_LENGTH = 900000;
     private static final Logger log = Logger.getLogger();
 
+    private static final int MAX_IMAGES_CACHED = 100;
+
+    /** Maximum size of an image to be cached in memory, which is well above that of a profile picture. */
+    private static final int MAX_CACHED_IMAGE_SIZE = 256 * 1024;
+
+    /**
+     * Maximum time for which an image is cached in memory. Files are deleted through other instances
+     * of the app too, which cannot remove the image from the cache of this instance.
+     */
+    private static final Duration MAX_CACHED_IMAGE_AGE = Duration.ofMinutes(5);
+
+    /**
+     * Maximum time for which an image that cannot be read is remembered, which is shorter
+     * as the image may only have failed to be read for a while.
+     */
+    private static final Duration MAX_CACHED_MISSING_IMAGE_AGE = Duration.ofMinutes(1);
+
+    private static final byte[] MISSING_IMAGE = new byte[0];
+
+    /**
+     * Recently read images, including those found to be too large to be cached or missing,
+     * which are not read again.
+     */
+    private static final Map<String, CachedImage> cachedImages = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedImage>(MAX_IMAGES_CACHED, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedImage> eldest) {
+                    return size() > MAX_IMAGES_CACHED;
+                }
+            });
+
     private GoogleCloudStorageHelper() {
         // utility class
     }
 
+    /**
+     * Returns the content of the image with the specified {@link BlobKey} if it is small enough to be cached
+     * in memory, otherwise null. An empty array is returned if the image cannot be read, e.g. as it does not exist.
+     */
+    public static byte[] readSmallImage(BlobKey fileKey) {
+        String keyString = fileKey.getKeyString();
+        CachedImage cachedImage = cachedImages.get(keyString);
+        if (cachedImage != null && !cachedImage.isExpired()) {
+            return cachedImage.data;
+        }
+
+        byte[] image;
+        try {
+            // fetches one byte more than the maximum size, to tell whether the image is larger than that
+            image = BlobstoreServiceFactory.getBlobstoreService().fetchData(fileKey, 0, MAX_CACHED_IMAGE_SIZE);
+        } catch (RuntimeException e) {
+            log.warning("Failed to read image " + keyString + ": " + TeammatesException.toStringWithStackTrace(e));
+            image = MISSING_IMAGE;
+        }
+
+        // images which are too large or missing are remembered too, so that they are not read again on every request
+        if (image.length == 0) {
+            cachedImage = new CachedImage(MISSING_IMAGE, MAX_CACHED_MISSING_IMAGE_AGE);
+        } else if (image.length > MAX_CACHED_IMAGE_SIZE) {
+            cachedImage = new CachedImage(null, MAX_CACHED_IMAGE_AGE);
+        } else {
+            cachedImage = new CachedImage(image, MAX_CACHED_IMAGE_AGE);
+        }
+        cachedImages.put(keyString, cachedImage);
+        return cachedImage.data;
+    }
+
     /**
      * Returns true if a file with the specified {@link BlobKey} exists in the
      *         Google Cloud Storage.
@@ -47,6 +112,7 @@ public final class GoogleCloudStorageHelper {
      * Deletes the file with the specified {@link BlobKey} in the Google Cloud Storage.
      */
     public static void deleteFile(BlobKey fileKey) {
+        cachedImages.remove(fileKey.getKeyString());
         try {
             BlobstoreServiceFactory.getBlobstoreService().delete(fileKey);
         } catch (Exception e) {
@@ -56,12 +122,16 @@ public final class GoogleCloudStorageHelper {
 
     /**
      * Writes a byte array {@code imageData} as image to the Google Cloud Storage,
-     * with the {@code googleId} as the identifier name for the image.
+     * with the {@code googleId} and the digest of the image as the identifier name for the image.
+     *
+     * <p>Different images are written to different files, so the content under a {@link BlobKey} never changes
+     * and can be cached. The file of an image being replaced is to be deleted by the caller.
      *
      * @return the {@link BlobKey} used as the image's identifier in Google Cloud Storage
      */
     public static String writeImageDataToGcs(String googleId, byte[] imageData) throws IOException {
-        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, googleId);
+        String fileName = googleId + "_" + StringHelper.toSha256Digest(imageData);
+        GcsFilename gcsFilename = new GcsFilename(Config.GCS_BUCKETNAME, fileName);
         try (GcsOutputChannel outputChannel =
                 GcsServiceFactory.createGcsService(RetryParams.getDefaultInstance())
                 .createOrReplace(gcsFilename, new GcsFileOptions.Builder().mimeType("image/png").build())) {
@@ -69,8 +139,11 @@ public final class GoogleCloudStorageHelper {
             outputChannel.write(ByteBuffer.wrap(imageData));
         }
 
-        return BlobstoreServiceFactory.getBlobstoreService()
-                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + googleId).getKeyString();
+        String keyString = BlobstoreServiceFactory.getBlobstoreService()
+                .createGsBlobKey("/gs/" + Config.GCS_BUCKETNAME + "/" + fileName).getKeyString();
+        // the image may have been found missing before it was written
+        cachedImages.remove(keyString);
+        return keyString;
     }
 
     /**
@@ -89,95 +162,23 @@ public final class GoogleCloudStorageHelper {
     }
 
     /**
-     * Gets the file with the specified {@link BlobKey} in the Google Cloud Storage,
-     * parses it and returns it as a list of list.<br>
-     * Assumption: the file represented by {@code blobKey} is a valid txt file
-     *             that can be parsed into a comma-separated list
+     * An image read into memory, or the record of one which is too large to be kept in memory or missing.
      */
-    public static List<List<String>> getGroupReceiverList(BlobKey blobKey) throws IOException {
-        Assumption.assertNotNull(blobKey);
-
-        // It turns out that error will occur if we read more than around 900000 bytes of data per time
-        // from the blobstream, which also brings problems when this large number of emails are all stored in one
-        // list. As a result, to prevent unexpected errors, we read the txt file several times and each time
-        // at most 900000 bytes are read, after which a new list is created to store all the emails addresses that
-        // happen to be in the newly read bytes.
-
-        // For email address which happens to be broken according to two consecutive reading, a check will be done
-        // before storing all emails separated from the second reading into a new list.
-        // Broken email will be fixed by deleting the first item of the email list from current reading
-        // AND appending it to the last item of the email list from last reading.
-
-        // The email list from each reading is inserted into an upper list (list of list).
-        // The structure is as below:
-
-        // ListOfList:
-        //       ListFromReading_1 :
-        //                     [example@email.com]
-        //                            ...
-        //       ListFromReading_2 :
-        //                     [example@email.com]
-        //                            ...
-
-        // This is the list of list
-        List<List<String>> listOfList = new LinkedList<>();
-
-        // Offset is needed for remembering where it stops from last reading
-        int offset = 0;
-
-        // File size is needed to track the number of unread bytes
-        int size = (int) getFileSize(blobKey);
-
-        while (size > 0) {
-            // Make sure not to over-read
-            int bytesToRead = Math.min(size, MAX_READING_LENGTH);
-            byte[] array = new byte[bytesToRead];
-            try (InputStream blobStream = new BlobstoreInputStream(blobKey, offset)) {
-
-                blobStream.read(array);
-            }
-            // Remember where it stops reading
-            offset += MAX_READING_LENGTH;
-            // Decrease unread bytes
-            size -= MAX_READING_LENGTH;
-
-            // Get the read bytes into string and split it by ","
-            String readString = new String(array);
-            List<String> newList = Arrays.asList(readString.split(","));
-
-            if (listOfList.isEmpty()) {
-                // This is the first time reading
-                listOfList.add(newList);
-            } else {
-                // Check if the last reading stopped in the middle of a email address string
-                List<String> lastAddedList = listOfList.get(listOfList.size() - 1);
-                // Get the last item of the list from last reading
-                String lastStringOfLastAddedList = lastAddedList.get(lastAddedList.size() - 1);
-                // Get the first item of the list from current reading
-                String firstStringOfNewList = newList.get(0);
-
-                if (lastStringOfLastAddedList.contains("@") && firstStringOfNewList.contains("@")) {
-                    // No broken email from last reading found, simply add the list
-                    // from current reading into the upper list.
-                    listOfList.add(newList);
-                } else {
-                    // Either the left part or the right part of the broken email string does not contains a "@".
-                    // Simply append the right part to the left part (last item of the list from last reading).
-                    listOfList.get(listOfList.size() - 1)
-                            .set(lastAddedList.size() - 1, lastStringOfLastAddedList + firstStringOfNewList);
-
-                    // And also needs to delete the right part which is the first item of the list from current reading
-                    listOfList.add(newList.subList(1, newList.size() - 1));
-                }
-            }
-        }
+    private static final class CachedImage {
 
-        return listOfList;
-    }
+        /** The content of the image, null if it is too large to be cached, or empty if it is missing. */
+        final byte[] data;
 
-    private static long getFileSize(BlobKey blobKey) {
-        BlobInfoFactory blobInfoFactory = new BlobInfoFactory();
-        return blobInfoFactory.loadBlobInfo(blobKey).getSize();
+        final Instant expiresAt;
+
+        CachedImage(byte[] data, Duration maxAge) {
+            this.data = data;
+            this.expiresAt = Instant.now().plus(maxAge);
+        }
+
+        boolean isExpired() {
+            return expiresAt.isBefore(Instant.now());
+        }
     }
 
 }
@@ -0,0 +1,97 @@
+package teammates.common.util;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.appengine.api.blobstore.BlobKey;
+import com.google.appengine.api.blobstore.BlobstoreInputStream;
+
+/**
+ * Reads the email addresses in a group receiver list file stored in the Google Cloud Storage.
+ *
+ * <p>The file is a comma-separated list of email addresses. It is streamed rather than read whole,
+ * and the reader keeps the byte offset of the first address not yet read, so that a later reader
+ * can resume exactly where this one stopped.
+ */
+public class GroupReceiverListReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final char SEPARATOR = ',';
+
+    private final InputStream inputStream;
+
+    private long offset;
+
+    /**
+     * Creates a reader for the file with the specified {@link BlobKey}, starting at byte {@code offset}.
+     * The offset must be 0 or a value returned by {@link #getOffset()} of an earlier reader of the same file.
+     */
+    public GroupReceiverListReader(BlobKey blobKey, long offset) throws IOException {
+        Assumption.assertNotNull(blobKey);
+        Assumption.assertTrue(offset >= 0);
+
+        this.inputStream = new BufferedInputStream(new BlobstoreInputStream(blobKey, offset), BUFFER_SIZE);
+        this.offset = offset;
+    }
+
+    /**
+     * Reads the next at most {@code maxSize} email addresses.
+     * Blank entries are skipped and surrounding whitespace is removed.
+     *
+     * @return the email addresses read, which is empty only if the end of the file is reached
+     */
+    public List<String> readBatch(int maxSize) throws IOException {
+        Assumption.assertTrue(maxSize > 0);
+
+        List<String> emails = new ArrayList<>();
+        ByteArrayOutputStream currentEmail = new ByteArrayOutputStream();
+        long bytesInCurrentEmail = 0;
+        while (emails.size() < maxSize) {
+            int nextByte = inputStream.read();
+            if (nextByte == -1) {
+                addIfNotBlank(emails, currentEmail);
+                offset += bytesInCurrentEmail;
+                break;
+            }
+
+            bytesInCurrentEmail++;
+            if (nextByte == SEPARATOR) {
+                addIfNotBlank(emails, currentEmail);
+                currentEmail.reset();
+                // the offset only moves past complete entries, so that a resumed reader never starts mid-address
+                offset += bytesInCurrentEmail;
+                bytesInCurrentEmail = 0;
+            } else {
+                currentEmail.write(nextByte);
+            }
+        }
+        return emails;
+    }
+
+    /**
+     * Returns the byte offset in the file of the first email address which has not been read.
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        inputStream.close();
+    }
+
+    private static void addIfNotBlank(List<String> emails, ByteArrayOutputStream email) {
+        String trimmedEmail = new String(email.toByteArray(), StandardCharsets.UTF_8).trim();
+        if (!trimmedEmail.isEmpty()) {
+            emails.add(trimmedEmail);
+        }
+    }
+
+}
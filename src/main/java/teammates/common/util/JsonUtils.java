@@ -16,11 +16,21 @@ import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSerializationContext;
 import com.google.gson.JsonSerializer;
 
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+
 /**
  * Provides means to handle, manipulate, and convert JSON objects to/from strings.
  */
 public final class JsonUtils {
 
+    /**
+     * Shared by all threads as {@link Gson} instances are thread-safe and cache the type adapters
+     * they create, which would be lost if a new instance was built for every conversion.
+     */
+    private static final Gson TEAMMATES_GSON = createTeammatesGson();
+
+    private static final JsonParser JSON_PARSER = new JsonParser();
+
     private JsonUtils() {
         // utility class
     }
@@ -28,15 +38,29 @@ public final class JsonUtils {
     /**
      * This creates a Gson object that can handle the Date format we use in the
      * Json file and also reformat the Json string in pretty-print format.
+     *
+     * <p>The adapters of the question and response details classes are created up front
+     * as they are the most frequently converted types.
      */
-    private static Gson getTeammatesGson() {
-        return new GsonBuilder()
+    private static Gson createTeammatesGson() {
+        Gson gson = new GsonBuilder()
                 .registerTypeAdapter(Instant.class, new TeammatesInstantAdapter())
                 .registerTypeAdapter(ZoneId.class, new TeammatesZoneIdAdapter())
                 .registerTypeAdapter(Duration.class, new TeammatesDurationMinutesAdapter())
                 .setPrettyPrinting()
                 .disableHtmlEscaping()
                 .create();
+
+        for (FeedbackQuestionType questionType : FeedbackQuestionType.values()) {
+            gson.getAdapter(questionType.getQuestionDetailsClass());
+            gson.getAdapter(questionType.getResponseDetailsClass());
+        }
+
+        return gson;
+    }
+
+    private static Gson getTeammatesGson() {
+        return TEAMMATES_GSON;
     }
 
     /**
@@ -72,19 +96,18 @@ public final class JsonUtils {
      * @see JsonParser#parse(String)
      */
     public static JsonElement parse(String json) {
-        JsonParser parser = new JsonParser();
-        return parser.parse(json);
+        return JSON_PARSER.parse(json);
     }
 
     private static class TeammatesInstantAdapter implements JsonSerializer<Instant>, JsonDeserializer<Instant> {
 
         @Override
-        public synchronized JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(Instant instant, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(DateTimeFormatter.ISO_INSTANT.format(instant));
         }
 
         @Override
-        public synchronized Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public Instant deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return Instant.parse(element.getAsString());
         }
     }
@@ -92,12 +115,12 @@ public final class JsonUtils {
     private static class TeammatesZoneIdAdapter implements JsonSerializer<ZoneId>, JsonDeserializer<ZoneId> {
 
         @Override
-        public synchronized JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(ZoneId zoneId, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(zoneId.getId());
         }
 
         @Override
-        public synchronized ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public ZoneId deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return ZoneId.of(element.getAsString());
         }
     }
@@ -105,12 +128,12 @@ public final class JsonUtils {
     private static class TeammatesDurationMinutesAdapter implements JsonSerializer<Duration>, JsonDeserializer<Duration> {
 
         @Override
-        public synchronized JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
+        public JsonElement serialize(Duration duration, Type type, JsonSerializationContext context) {
             return new JsonPrimitive(duration.toMinutes());
         }
 
         @Override
-        public synchronized Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
+        public Duration deserialize(JsonElement element, Type type, JsonDeserializationContext context) {
             return Duration.ofMinutes(element.getAsLong());
         }
     }
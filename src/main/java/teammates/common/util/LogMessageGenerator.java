@@ -34,6 +34,19 @@ public class LogMessageGenerator {
      */
     public String generatePageActionLogMessage(String url, Map<String, String[]> params, UserType currUser,
             AccountAttributes userAccount, StudentAttributes unregisteredStudent, String logMessage) {
+        return generatePageActionLogEntry(url, params, currUser, userAccount, unregisteredStudent, logMessage, 0)
+                .generateLogMessage();
+    }
+
+    /**
+     * Generates the log entry for an *Action, to be stored for the admin activity log page.
+     *
+     * @param actionTimeTaken time taken by the action in milliseconds
+     * @see #generatePageActionLogMessage(String, Map, UserType, AccountAttributes, StudentAttributes, String)
+     */
+    public ActivityLogEntry generatePageActionLogEntry(String url, Map<String, String[]> params, UserType currUser,
+            AccountAttributes userAccount, StudentAttributes unregisteredStudent, String logMessage,
+            long actionTimeTaken) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         boolean isUnregisteredStudent = unregisteredStudent != null;
@@ -44,8 +57,9 @@ public class LogMessageGenerator {
             updateInfoForNormalUser(builder, currUser, userAccount);
         }
 
-        builder.withLogMessage(logMessage);
-        return builder.build().generateLogMessage();
+        builder.withLogMessage(logMessage)
+               .withActionTimeTaken(actionTimeTaken);
+        return builder.build();
     }
 
     private void updateInfoForUnregisteredStudent(Builder builder, StudentAttributes unregisteredStudent) {
@@ -83,6 +97,16 @@ public class LogMessageGenerator {
      */
     public String generateActionFailureLogMessage(String url, Map<String, String[]> params,
             Exception e, UserType currUser) {
+        return generateActionFailureLogEntry(url, params, e, currUser).generateLogMessage();
+    }
+
+    /**
+     * Generates the log entry for servlet action failure, to be stored for the admin activity log page.
+     *
+     * @see #generateActionFailureLogMessage(String, Map, Exception, UserType)
+     */
+    public ActivityLogEntry generateActionFailureLogEntry(String url, Map<String, String[]> params,
+            Exception e, UserType currUser) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         String message = "<span class=\"text-danger\">Servlet Action failure in "
@@ -93,7 +117,7 @@ public class LogMessageGenerator {
 
         builder.withActionResponse(Const.ACTION_RESULT_FAILURE);
 
-        return builder.build().generateLogMessage();
+        return builder.build();
     }
 
     /**
@@ -107,11 +131,21 @@ public class LogMessageGenerator {
      */
     public String generateBasicActivityLogMessage(String url, Map<String, String[]> params, String message,
             UserType currUser) {
+        return generateBasicActivityLogEntry(url, params, message, currUser).generateLogMessage();
+    }
+
+    /**
+     * Generates the log entry with basic information, to be stored for the admin activity log page.
+     *
+     * @see #generateBasicActivityLogMessage(String, Map, String, UserType)
+     */
+    public ActivityLogEntry generateBasicActivityLogEntry(String url, Map<String, String[]> params, String message,
+            UserType currUser) {
         Builder builder = generateBasicLogEntryBuilder(url, params, currUser);
 
         builder.withLogMessage(message);
 
-        return builder.build().generateLogMessage();
+        return builder.build();
     }
 
     /**
@@ -1,5 +1,7 @@
 package teammates.common.util;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +30,12 @@ import teammates.common.exception.TeammatesException;
 public final class StringHelper {
     private static final Logger log = Logger.getLogger();
 
+    // Cipher objects are costly to create but not thread-safe, so each thread keeps its own initialized ones
+    private static final ThreadLocal<Cipher> ENCRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.ENCRYPT_MODE));
+    private static final ThreadLocal<Cipher> DECRYPTION_CIPHER =
+            ThreadLocal.withInitial(() -> createCipher(Cipher.DECRYPT_MODE));
+
     private StringHelper() {
         // utility class
     }
@@ -125,12 +133,23 @@ public final class StringHelper {
 
     public static String encrypt(String value) {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.ENCRYPT_MODE, sks, cipher.getParameters());
-            byte[] encrypted = cipher.doFinal(value.getBytes());
+            byte[] encrypted = ENCRYPTION_CIPHER.get().doFinal(value.getBytes());
             return byteArrayToHexString(encrypted);
         } catch (Exception e) {
+            ENCRYPTION_CIPHER.remove();
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    /**
+     * Returns the SHA-256 digest of the supplied bytes as a hexadecimal string.
+     */
+    public static String toSha256Digest(byte[] value) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return byteArrayToHexString(messageDigest.digest(value));
+        } catch (NoSuchAlgorithmException e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
         }
@@ -146,14 +165,26 @@ public final class StringHelper {
      */
     public static String decrypt(String message) throws InvalidParametersException {
         try {
-            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
-            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
-            cipher.init(Cipher.DECRYPT_MODE, sks);
-            byte[] decrypted = cipher.doFinal(hexStringToByteArray(message));
+            byte[] decrypted = DECRYPTION_CIPHER.get().doFinal(hexStringToByteArray(message));
             return new String(decrypted);
         } catch (NumberFormatException | IllegalBlockSizeException | BadPaddingException e) {
+            // the cipher may be left in an unusable state by a failed decryption
+            DECRYPTION_CIPHER.remove();
             log.warning("Attempted to decrypt invalid ciphertext: " + message);
             throw new InvalidParametersException(e);
+        } catch (Exception e) {
+            DECRYPTION_CIPHER.remove();
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+            return null;
+        }
+    }
+
+    private static Cipher createCipher(int mode) {
+        try {
+            SecretKeySpec sks = new SecretKeySpec(hexStringToByteArray(Config.ENCRYPTION_KEY), "AES");
+            Cipher cipher = Cipher.getInstance("AES/ECB/PKCS5Padding");
+            cipher.init(mode, sks, cipher.getParameters());
+            return cipher;
         } catch (Exception e) {
             Assumption.fail(TeammatesException.toStringWithStackTrace(e));
             return null;
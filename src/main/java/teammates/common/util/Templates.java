@@ -1,5 +1,8 @@
 package teammates.common.util;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public final class Templates {
 
     public static final String INSTRUCTOR_SAMPLE_DATA = FileHelper.readResourceFile("InstructorSampleData.json");
@@ -19,6 +22,13 @@ public final class Templates {
     public static String populateTemplate(String template, String... keyValuePairs) {
         Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
                 keyValuePairs.length % 2 == 0);
+
+        // the template is populated in one pass unless a key is not a slot, or a value may itself contain
+        // a slot to be replaced by a later key, in which case the replacements are done one after another
+        if (canPopulateInOnePass(keyValuePairs)) {
+            return CompiledTemplate.compile(template).render(toSlotValues(keyValuePairs));
+        }
+
         String populatedTemplate = template;
         for (int i = 0; i < keyValuePairs.length; i += 2) {
             populatedTemplate = populatedTemplate.replace(keyValuePairs[i], keyValuePairs[i + 1]);
@@ -26,6 +36,40 @@ public final class Templates {
         return populatedTemplate;
     }
 
+    /**
+     * Appends the template populated as in {@link #populateTemplate(String, String...)} to {@code out},
+     * without creating the populated template as a separate string where possible.
+     */
+    public static void appendPopulatedTemplate(StringBuilder out, String template, String... keyValuePairs) {
+        Assumption.assertTrue("The number of elements in keyValuePairs passed in must be even",
+                keyValuePairs.length % 2 == 0);
+
+        if (canPopulateInOnePass(keyValuePairs)) {
+            CompiledTemplate.compile(template).renderTo(out, toSlotValues(keyValuePairs));
+        } else {
+            out.append(populateTemplate(template, keyValuePairs));
+        }
+    }
+
+    private static Map<String, String> toSlotValues(String... keyValuePairs) {
+        Map<String, String> slotValues = new HashMap<>();
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            slotValues.putIfAbsent(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        return slotValues;
+    }
+
+    private static boolean canPopulateInOnePass(String... keyValuePairs) {
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            String key = keyValuePairs[i];
+            String value = keyValuePairs[i + 1];
+            if (!CompiledTemplate.isSlot(key) || value == null || value.contains("${")) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     /**
      * Collection of templates of emails to be sent by the system.
      */
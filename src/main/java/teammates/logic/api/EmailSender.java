@@ -1,5 +1,6 @@
 package teammates.logic.api;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.exception.EmailSendingException;
@@ -46,6 +47,24 @@ public class EmailSender {
         log.info(emailLogInfo);
     }
 
+    /**
+     * Sends the given {@code messages}, in batches where possible, and generates a log report for each of them
+     * which has been sent.
+     *
+     * @return the messages which failed to be sent
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> messages) {
+        List<EmailWrapper> unsentMessages = service.sendEmails(messages);
+
+        List<EmailWrapper> sentMessages = new ArrayList<>(messages);
+        sentMessages.removeAll(unsentMessages);
+        for (EmailWrapper message : sentMessages) {
+            EmailLogEntry newEntry = new EmailLogEntry(message);
+            log.info(newEntry.generateLogMessage());
+        }
+        return unsentMessages;
+    }
+
     /**
      * Sends the given {@code message} with Javamail service regardless of configuration.
      */
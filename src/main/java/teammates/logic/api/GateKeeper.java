@@ -1,5 +1,7 @@
 package teammates.logic.api;
 
+import java.util.List;
+
 import com.google.appengine.api.users.User;
 import com.google.appengine.api.users.UserService;
 import com.google.appengine.api.users.UserServiceFactory;
@@ -362,6 +364,39 @@ public class GateKeeper {
         throw new UnauthorizedAccessException("User is not in the course that student belongs to");
     }
 
+    /**
+     * Verifies that the current user can view the photos of all the {@code students} of the course {@code courseId}.
+     * This is the same check as
+     * {@link #verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(AccountAttributes, String, String, String)}
+     * for each of the students, with the current user looked up only once.
+     */
+    public void verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(AccountAttributes account, String courseId,
+            List<StudentAttributes> students) {
+        if (isAdministrator()) {
+            return;
+        }
+
+        InstructorAttributes instructor = instructorsLogic.getInstructorForGoogleId(courseId, account.googleId);
+        if (instructor != null) {
+            for (StudentAttributes student : students) {
+                verifyInstructorCanViewPhoto(instructor, student.section);
+            }
+            return;
+        }
+
+        StudentAttributes currentStudent = studentsLogic.getStudentForCourseIdAndGoogleId(courseId, account.googleId);
+        if (currentStudent != null) {
+            for (StudentAttributes student : students) {
+                if (!currentStudent.team.equals(student.team)) {
+                    throw new UnauthorizedAccessException("Student does not have enough privileges to view the photo");
+                }
+            }
+            return;
+        }
+
+        throw new UnauthorizedAccessException("User is not in the course that student belongs to");
+    }
+
     private void verifyInstructorCanViewPhoto(InstructorAttributes instructor, String section) {
         if (!instructor.isAllowedForPrivilege(section, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_STUDENT_IN_SECTIONS)) {
             throw new UnauthorizedAccessException("Instructor does not have enough privileges to view the photo");
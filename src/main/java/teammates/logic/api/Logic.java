@@ -1,7 +1,9 @@
 package teammates.logic.api;
 
+import java.io.PrintWriter;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -38,10 +40,13 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.ExceedingRangeException;
 import teammates.common.exception.InvalidParametersException;
 import teammates.common.exception.JoinCourseException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Assumption;
 import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.logic.core.AccountsLogic;
+import teammates.logic.core.ActivityLogsLogic;
 import teammates.logic.core.AdminEmailsLogic;
+import teammates.logic.core.CourseRosterCache;
 import teammates.logic.core.CoursesLogic;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
@@ -49,6 +54,7 @@ import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
 import teammates.logic.core.InstructorsLogic;
 import teammates.logic.core.ProfilesLogic;
+import teammates.logic.core.SearchDocumentWriteBuffer;
 import teammates.logic.core.StudentsLogic;
 
 /**
@@ -69,6 +75,7 @@ public class Logic {
             FeedbackResponseCommentsLogic.inst();
     protected static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
     protected static final ProfilesLogic profilesLogic = ProfilesLogic.inst();
+    protected static final ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
 
     /**
      * Creates a new Account based on given values. If a profile is not given,
@@ -566,6 +573,18 @@ public class Logic {
         return coursesLogic.getCourseSummary(courseId);
     }
 
+    /**
+     * Returns course data with its statistics, but without its sections and their students. <br>
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see CoursesLogic#getCourseSummaryWithoutSections(String)
+     */
+    public CourseDetailsBundle getCourseDetailsWithoutSections(String courseId) throws EntityDoesNotExistException {
+        Assumption.assertNotNull(courseId);
+        return coursesLogic.getCourseSummaryWithoutSections(courseId);
+    }
+
     /**
      * Returns a course data, including its feedback sessions, according to the instructor passed in.<br>
      * Preconditions: <br>
@@ -865,6 +884,17 @@ public class Logic {
         return profilesLogic.getStudentProfile(googleId);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the profiles found, which may be fewer than the googleIds given.
+     */
+    public List<StudentProfileAttributes> getStudentProfiles(Collection<String> googleIds) {
+        Assumption.assertNotNull(googleIds);
+        return profilesLogic.getStudentProfiles(googleIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -1069,6 +1099,34 @@ public class Logic {
         return feedbackSessionsLogic.isFeedbackSessionCompletedByStudent(fsa, userEmail);
     }
 
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the students in {@code students} who have not responded to the session
+     * @see FeedbackSessionsLogic#getNonRespondentStudents(FeedbackSessionAttributes, List)
+     */
+    public List<StudentAttributes> getNonRespondentStudents(FeedbackSessionAttributes fsa,
+                                                            List<StudentAttributes> students) {
+        Assumption.assertNotNull(fsa);
+        Assumption.assertNotNull(students);
+        return feedbackSessionsLogic.getNonRespondentStudents(fsa, students);
+    }
+
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return the instructors in {@code instructors} who have not responded to the session
+     * @see FeedbackSessionsLogic#getNonRespondentInstructors(FeedbackSessionAttributes, List)
+     */
+    public List<InstructorAttributes> getNonRespondentInstructors(FeedbackSessionAttributes fsa,
+                                                                  List<InstructorAttributes> instructors) {
+        Assumption.assertNotNull(fsa);
+        Assumption.assertNotNull(instructors);
+        return feedbackSessionsLogic.getNonRespondentInstructors(fsa, instructors);
+    }
+
     /**
      * Deletes the student from the course including any submissions to/from
      * for this student in this course.
@@ -1399,6 +1457,28 @@ public class Logic {
                 questionId, isMissingResponsesShown, isStatsShown);
     }
 
+    /**
+     * Writes summary results (without comments) in CSV format to {@code writer}, one question at a time. <br>
+     * Preconditions: <br>
+     * * All parameters(except section and questionId) are non-null. <br>
+     * @see FeedbackSessionsLogic#writeFeedbackSessionResultsSummaryInSectionAsCsv(String, String, String,
+     *      String, String, boolean, boolean, PrintWriter)
+     */
+    public void writeFeedbackSessionResultSummaryInSectionAsCsv(
+            String courseId, String feedbackSessionName, String instructorEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            PrintWriter writer)
+            throws EntityDoesNotExistException {
+
+        Assumption.assertNotNull(courseId);
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(writer);
+
+        feedbackSessionsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                feedbackSessionName, courseId, instructorEmail, section,
+                questionId, isMissingResponsesShown, isStatsShown, writer);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -2286,12 +2366,19 @@ public class Logic {
         return feedbackResponsesLogic.getFeedbackResponsesForSession(feedbackSessionName, courseId);
     }
 
-    public void adjustFeedbackResponseForEnrollments(List<StudentEnrollDetails> enrollmentList,
-                                                     FeedbackResponseAttributes response)
+    /**
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @see FeedbackResponsesLogic#adjustFeedbackResponsesForEnrollments(String, String, List)
+     */
+    public void adjustFeedbackResponsesForEnrollments(String feedbackSessionName, String courseId,
+                                                      List<StudentEnrollDetails> enrollmentList)
             throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(feedbackSessionName);
+        Assumption.assertNotNull(courseId);
         Assumption.assertNotNull(enrollmentList);
-        Assumption.assertNotNull(response);
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
+        feedbackResponsesLogic.adjustFeedbackResponsesForEnrollments(feedbackSessionName, courseId, enrollmentList);
     }
 
     /**
@@ -2334,4 +2421,113 @@ public class Logic {
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForResponse(String feedbackResponseId) {
         return feedbackResponseCommentsLogic.getFeedbackResponseCommentForResponse(feedbackResponseId);
     }
+
+    /**
+     * Starts caching course rosters for the current request, so that the students and instructors
+     * of each course are loaded at most once until {@link #stopCachingCourseRosters()} is called.
+     *
+     * @see CourseRosterCache#start()
+     */
+    public void startCachingCourseRosters() {
+        CourseRosterCache.start();
+    }
+
+    /**
+     * Stops caching course rosters for the current request and discards the cached rosters.
+     *
+     * @see CourseRosterCache#stop()
+     */
+    public void stopCachingCourseRosters() {
+        CourseRosterCache.stop();
+    }
+
+    /**
+     * Returns the number of roster lookups in the current request that were served from the cache.
+     */
+    public int getCourseRosterCacheHitCount() {
+        return CourseRosterCache.getHitCount();
+    }
+
+    /**
+     * Returns the number of rosters in the current request that had to be loaded from the datastore.
+     */
+    public int getCourseRosterCacheMissCount() {
+        return CourseRosterCache.getMissCount();
+    }
+
+    /**
+     * Starts buffering the search document writes of the current request, so that they are written
+     * together when {@link #flushSearchDocumentWrites()} is called.
+     *
+     * @see SearchDocumentWriteBuffer#start()
+     */
+    public void startBufferingSearchDocumentWrites() {
+        SearchDocumentWriteBuffer.start();
+    }
+
+    /**
+     * Writes the search documents buffered in the current request.
+     *
+     * @return table of index name to the IDs of the documents which are to be re-indexed later
+     * @see SearchDocumentWriteBuffer#flush()
+     */
+    public Map<String, List<String>> flushSearchDocumentWrites() {
+        return SearchDocumentWriteBuffer.flush();
+    }
+
+    /**
+     * Stops buffering the search document writes of the current request.
+     *
+     * @see SearchDocumentWriteBuffer#stop()
+     */
+    public void stopBufferingSearchDocumentWrites() {
+        SearchDocumentWriteBuffer.stop();
+    }
+
+    /**
+     * Puts the search documents with the given IDs again, based on the current state of the datastore.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return IDs of the documents which failed to be put
+     * @see SearchDocumentWriteBuffer#reindexDocuments(String, List)
+     */
+    public List<String> reindexSearchDocuments(String indexName, List<String> documentIds) {
+        Assumption.assertNotNull(indexName);
+        Assumption.assertNotNull(documentIds);
+
+        return SearchDocumentWriteBuffer.reindexDocuments(indexName, documentIds);
+    }
+
+    /**
+     * Stores an activity log entry, to be shown in the admin activity log page,
+     * unless it is of a successful request to a frequently requested action.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void putActivityLog(ActivityLogEntry entry) {
+        Assumption.assertNotNull(entry);
+        activityLogsLogic.putActivityLog(entry);
+    }
+
+    /**
+     * Returns the stored activity logs from {@code startTime} to {@code endTime} inclusive, latest first.
+     * The logs are read lazily as the result is iterated over.
+     *
+     * @see ActivityLogsLogic#getActivityLogs(long, long, String, List, List)
+     */
+    public Iterable<ActivityLogEntry> getActivityLogs(long startTime, long endTime, String person,
+            List<String> roles, List<String> actionNames) {
+        return activityLogsLogic.getActivityLogs(startTime, endTime, person, roles, actionNames);
+    }
+
+    /**
+     * Deletes up to {@code maxLogsToDelete} of the stored activity logs with time before {@code time}, oldest first.
+     *
+     * @return the number of logs deleted
+     * @see ActivityLogsLogic#deleteActivityLogsBefore(long, int)
+     */
+    public int deleteActivityLogsBefore(long time, int maxLogsToDelete) {
+        return activityLogsLogic.deleteActivityLogsBefore(time, maxLogsToDelete);
+    }
 }
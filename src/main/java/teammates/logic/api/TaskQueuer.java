@@ -1,16 +1,21 @@
 package teammates.logic.api;
 
+import java.time.Instant;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import com.google.common.collect.Lists;
+
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.Const.TaskQueue;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 import teammates.common.util.TaskWrapper;
+import teammates.logic.core.EmailSendScheduler;
 import teammates.logic.core.TaskQueuesLogic;
 
 /**
@@ -20,6 +25,10 @@ public class TaskQueuer {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int SEARCH_DOCUMENTS_PER_REINDEX_TASK = 200;
+
+    private static final int ADMIN_EMAIL_RECEIVERS_PER_SEND_TASK = 50;
+
     // The following methods are facades to the actual logic for adding tasks to the queue.
     // Using this method, the actual logic can still be black-boxed
     // while at the same time allowing this API to be mocked during test.
@@ -44,6 +53,12 @@ public class TaskQueuer {
         new TaskQueuesLogic().addTask(task);
     }
 
+    protected void addDeferredTaskMultisetParam(String queueName, String workerUrl, Map<String, String[]> paramMap,
+                                                long countdownTime) {
+        TaskWrapper task = new TaskWrapper(queueName, workerUrl, paramMap);
+        new TaskQueuesLogic().addDeferredTask(task, countdownTime);
+    }
+
     /**
      * Gets the tasks added to the queue.
      * This method is used only for testing, where it is overridden.
@@ -84,54 +99,40 @@ public class TaskQueuer {
     /**
      * Schedules an admin email preparation in group mode, i.e. using the group receiver list
      * retrieved from the Google Cloud Storage (GCS).
-     * <p>
-     * This group receiver list is in the form of {@code List<List<String>>} accessed by two indices,
-     * namely "email list index" for accessing the {@code List<String>} inside the {@code List<List<String>>}
-     * and "email index" for accessing the email {@code String} inside the {@code List<String>}.
-     * </p>
      *
      * @param emailId the ID of admin email to be retrieved from the database
      * @param groupReceiverListFileKey the file key for the group receiver list in GCS
-     * @param emailListIndex see method description
-     * @param emailIndex see method description
+     * @param emailOffset the byte offset in the group receiver list of the first receiver to prepare the email for;
+     *                    see {@link teammates.common.util.GroupReceiverListReader#getOffset()}
      */
     public void scheduleAdminEmailPreparationInGroupMode(String emailId, String groupReceiverListFileKey,
-                                                         int emailListIndex, int emailIndex) {
+                                                         long emailOffset) {
         Map<String, String> paramMap = new HashMap<>();
         paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
         paramMap.put(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX, Integer.toString(emailListIndex));
-        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX, Integer.toString(emailIndex));
+        paramMap.put(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_OFFSET, Long.toString(emailOffset));
 
         addTask(TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_QUEUE_NAME,
                 TaskQueue.ADMIN_PREPARE_EMAIL_GROUP_MODE_WORKER_URL, paramMap);
     }
 
     /**
-     * Schedules an admin email to be sent.
+     * Schedules an admin email to be sent to the given receivers, in tasks of at most
+     * {@value #ADMIN_EMAIL_RECEIVERS_PER_SEND_TASK} receivers each.
+     *
+     * <p>The tasks carry only the ID of the email instead of its content, so that the content, which can be large,
+     * is not copied into every task.
      *
-     * @param emailId the ID of admin email to be retrieved from the database (if needed)
-     * @param emailReceiver the email address of the email receiver
-     * @param emailSubject the subject of the email
-     * @param emailContent the content of the email
+     * @param adminEmail the admin email to be sent
+     * @param emailReceivers the email addresses of the email receivers
      */
-    public void scheduleAdminEmailForSending(String emailId, String emailReceiver, String emailSubject,
-                                             String emailContent) {
-        Map<String, String> paramMap = new HashMap<>();
-        paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, emailReceiver);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_SUBJECT, emailSubject);
-        paramMap.put(ParamsNames.ADMIN_EMAIL_CONTENT, emailContent);
+    public void scheduleAdminEmailForSending(AdminEmailAttributes adminEmail, List<String> emailReceivers) {
+        for (List<String> batch : Lists.partition(emailReceivers, ADMIN_EMAIL_RECEIVERS_PER_SEND_TASK)) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.ADMIN_EMAIL_ID, new String[] { adminEmail.getEmailId() });
+            paramMap.put(ParamsNames.ADMIN_EMAIL_RECEIVER, batch.toArray(new String[0]));
 
-        try {
-            addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-        } catch (IllegalArgumentException e) {
-            if (e.getMessage().toLowerCase().contains("task size too large")) {
-                log.info("Email task size exceeds max limit. Switching to large email task mode.");
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_SUBJECT);
-                paramMap.remove(ParamsNames.ADMIN_EMAIL_CONTENT);
-                paramMap.put(ParamsNames.ADMIN_EMAIL_ID, emailId);
-                addTask(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
-            }
+            addTaskMultisetParam(TaskQueue.ADMIN_SEND_EMAIL_QUEUE_NAME, TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL, paramMap);
         }
     }
 
@@ -294,6 +295,30 @@ public class TaskQueuer {
                 TaskQueue.FEEDBACK_SESSION_UPDATE_RESPONDENT_WORKER_URL, paramMap);
     }
 
+    /**
+     * Schedules for the search documents with the given IDs to be re-indexed from the datastore,
+     * e.g. after they failed to be written due to a transient error.
+     *
+     * @param indexName the search index of the documents
+     * @param documentIds the IDs of the documents to be re-indexed, which are split into tasks of at most
+     *                    {@value #SEARCH_DOCUMENTS_PER_REINDEX_TASK} documents each
+     */
+    public void scheduleSearchDocumentsReindex(String indexName, List<String> documentIds) {
+        if (documentIds.isEmpty()) {
+            return;
+        }
+
+        // keeps each task well within the task payload limit
+        for (List<String> batch : Lists.partition(documentIds, SEARCH_DOCUMENTS_PER_REINDEX_TASK)) {
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.SEARCH_INDEX_NAME, new String[] { indexName });
+            paramMap.put(ParamsNames.SEARCH_DOCUMENT_IDS, batch.toArray(new String[0]));
+
+            addTaskMultisetParam(TaskQueue.SEARCH_DOCUMENTS_REINDEX_QUEUE_NAME,
+                    TaskQueue.SEARCH_DOCUMENTS_REINDEX_WORKER_URL, paramMap);
+        }
+    }
+
     /**
      * Schedules for the given list of emails to be sent.
      *
@@ -304,43 +329,75 @@ public class TaskQueuer {
             return;
         }
 
-        // Equally spread out the emails to be sent over 1 hour
-        // Sets interval to a maximum of 5 seconds if the interval is too large
-        int oneHourInMillis = 60 * 60 * 1000;
-        int emailIntervalMillis = Math.min(5000, oneHourInMillis / emails.size());
+        // A few emails are sent right away through their own queue, instead of waiting behind large fan-outs
+        if (emails.size() <= EmailSendScheduler.MAX_EMAILS_PER_PRIORITY_SEND) {
+            for (List<EmailWrapper> batch : EmailWrapper.groupIntoBatches(emails, emails.size())) {
+                scheduleEmailBatchForSending(TaskQueue.SEND_PRIORITY_EMAIL_QUEUE_NAME, batch,
+                                             Instant.now().toEpochMilli(), 0);
+            }
+            return;
+        }
 
-        int numberOfEmailsSent = 0;
-        for (EmailWrapper email : emails) {
-            long emailDelayTimer = numberOfEmailsSent * emailIntervalMillis;
-            scheduleEmailForSending(email, emailDelayTimer);
-            numberOfEmailsSent++;
+        // Emails generated from the same template are sent together, one task per batch of emails
+        List<List<EmailWrapper>> batches =
+                EmailWrapper.groupIntoBatches(emails, EmailSendScheduler.EMAILS_PER_SEND_TASK);
+
+        // Each batch is sent as soon as the send email queue and the sending quota allow
+        EmailSendScheduler scheduler = EmailSendScheduler.inst();
+        long currentTime = Instant.now().toEpochMilli();
+        long batchDelayTimer = 0;
+        for (List<EmailWrapper> batch : batches) {
+            batchDelayTimer = scheduler.reserve(batch.size(), currentTime);
+            scheduleEmailBatchForSending(TaskQueue.SEND_EMAIL_QUEUE_NAME, batch, currentTime, batchDelayTimer);
         }
+
+        log.info("Scheduled " + emails.size() + " emails in " + batches.size() + " tasks, the last of which "
+                 + "is to be sent in " + batchDelayTimer + " ms; " + scheduler.getBacklog(currentTime)
+                 + " emails are waiting for sending quota");
     }
 
-    private void scheduleEmailForSending(EmailWrapper email, long emailDelayTimer) {
-        String emailSubject = email.getSubject();
-        String emailSenderName = email.getSenderName();
-        String emailSender = email.getSenderEmail();
-        String emailReceiver = email.getRecipient();
-        String emailReplyToAddress = email.getReplyTo();
+    private void scheduleEmailBatchForSending(String queueName, List<EmailWrapper> batch, long currentTime,
+                                              long batchDelayTimer) {
+        EmailWrapper firstEmail = batch.get(0);
+        String emailSubject = firstEmail.getSubject();
+        String emailSenderName = firstEmail.getSenderName();
+        String emailSender = firstEmail.getSenderEmail();
+        String emailReplyToAddress = firstEmail.getReplyTo();
+        boolean isFromTemplate = firstEmail.getContentTemplate() != null;
+
+        String[] emailReceivers = new String[batch.size()];
+        String[] emailSubstitutions = new String[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            emailReceivers[i] = batch.get(i).getRecipient();
+            if (isFromTemplate) {
+                emailSubstitutions[i] = JsonUtils.toJson(batch.get(i).getSubstitutions());
+            }
+        }
+
         try {
-            Map<String, String> paramMap = new HashMap<>();
-            paramMap.put(ParamsNames.EMAIL_SUBJECT, emailSubject);
-            paramMap.put(ParamsNames.EMAIL_CONTENT, email.getContent());
-            paramMap.put(ParamsNames.EMAIL_SENDER, emailSender);
+            Map<String, String[]> paramMap = new HashMap<>();
+            paramMap.put(ParamsNames.EMAIL_SUBJECT, new String[] { emailSubject });
+            paramMap.put(ParamsNames.EMAIL_SENDER, new String[] { emailSender });
             if (emailSenderName != null && !emailSenderName.isEmpty()) {
-                paramMap.put(ParamsNames.EMAIL_SENDERNAME, emailSenderName);
+                paramMap.put(ParamsNames.EMAIL_SENDERNAME, new String[] { emailSenderName });
+            }
+            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, new String[] { emailReplyToAddress });
+            paramMap.put(ParamsNames.EMAIL_SCHEDULED_SEND_TIME,
+                         new String[] { String.valueOf(currentTime + batchDelayTimer) });
+            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceivers);
+            if (isFromTemplate) {
+                paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { firstEmail.getContentTemplate() });
+                paramMap.put(ParamsNames.EMAIL_SUBSTITUTIONS, emailSubstitutions);
+            } else {
+                paramMap.put(ParamsNames.EMAIL_CONTENT, new String[] { firstEmail.getContent() });
             }
-            paramMap.put(ParamsNames.EMAIL_RECEIVER, emailReceiver);
-            paramMap.put(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReplyToAddress);
 
-            addDeferredTask(TaskQueue.SEND_EMAIL_QUEUE_NAME, TaskQueue.SEND_EMAIL_WORKER_URL,
-                            paramMap, emailDelayTimer);
+            addDeferredTaskMultisetParam(queueName, TaskQueue.SEND_EMAIL_WORKER_URL, paramMap, batchDelayTimer);
         } catch (Exception e) {
             log.severe("Error when adding email to task queue: " + e.getMessage() + "\n"
                        + "Email sender: " + emailSender + "\n"
                        + "Email sender name: " + emailSenderName + "\n"
-                       + "Email receiver: " + emailReceiver + "\n"
+                       + "Email receivers: " + String.join(", ", emailReceivers) + "\n"
                        + "Email subject: " + emailSubject + "\n"
                        + "Email reply-to address: " + emailReplyToAddress);
         }
@@ -0,0 +1,87 @@
+package teammates.logic.core;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.storage.api.ActivityLogsDb;
+
+/**
+ * Handles operations related to the activity logs shown in the admin activity log page.
+ *
+ * @see ActivityLogEntry
+ * @see ActivityLogsDb
+ */
+public final class ActivityLogsLogic {
+
+    private static ActivityLogsLogic instance = new ActivityLogsLogic();
+
+    private static final ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    /**
+     * Actions requested far more often than the others, e.g. once for every picture or session in a page,
+     * whose successful requests are not stored, as each stored log is a datastore write at the end of the request.
+     * Their logs remain in the application log, where the admin activity log page finds them
+     * when searching specific versions.
+     */
+    private static final String[] UNSTORED_ACTION_URIS = {
+            Const.ActionURIs.STUDENT_PROFILE_PICTURE,
+            Const.ActionURIs.PUBLIC_IMAGE_SERVE,
+            Const.ActionURIs.INSTRUCTOR_FEEDBACK_STATS_PAGE,
+            Const.ActionURIs.AUTOMATED_LOG_COMPILATION
+    };
+
+    private static final Set<String> UNSTORED_ACTION_NAMES = new HashSet<>();
+
+    static {
+        for (String actionUri : UNSTORED_ACTION_URIS) {
+            UNSTORED_ACTION_NAMES.add(actionUri.substring(actionUri.lastIndexOf('/') + 1));
+        }
+    }
+
+    private ActivityLogsLogic() {
+        // prevent initialization
+    }
+
+    public static ActivityLogsLogic inst() {
+        return instance;
+    }
+
+    /**
+     * Stores an activity log entry, unless it is of a successful request to one of the frequently requested
+     * actions in {@link #UNSTORED_ACTION_URIS}. The entry is written at the end of the current request.
+     */
+    public void putActivityLog(ActivityLogEntry entry) {
+        Assumption.assertNotNull(entry);
+        if (UNSTORED_ACTION_NAMES.contains(entry.getActionName())
+                && !Const.ACTION_RESULT_FAILURE.equals(entry.getActionResponse())) {
+            return;
+        }
+        activityLogsDb.putActivityLog(entry);
+    }
+
+    /**
+     * Gets the activity logs from {@code startTime} to {@code endTime} inclusive, latest first.
+     *
+     * @see ActivityLogsDb#getActivityLogs(long, long, String, List, List)
+     */
+    public Iterable<ActivityLogEntry> getActivityLogs(long startTime, long endTime, String person,
+            List<String> roles, List<String> actionNames) {
+        Assumption.assertTrue(startTime <= endTime);
+        return activityLogsDb.getActivityLogs(startTime, endTime, person, roles, actionNames);
+    }
+
+    /**
+     * Deletes up to {@code maxLogsToDelete} of the activity logs with time before {@code time}, oldest first.
+     *
+     * @return the number of logs deleted
+     * @see ActivityLogsDb#deleteActivityLogsBefore(long, int)
+     */
+    public int deleteActivityLogsBefore(long time, int maxLogsToDelete) {
+        return activityLogsDb.deleteActivityLogsBefore(time, maxLogsToDelete);
+    }
+
+}
@@ -0,0 +1,183 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+
+/**
+ * Caches the students and instructors of courses for the duration of a single request,
+ * so that the roster of a course is loaded from the datastore at most once per request.
+ *
+ * <p>Caching is only active on the current thread between {@link #start()} and {@link #stop()};
+ * outside of that, every lookup goes straight to the loader. Any write to the students or
+ * instructors through {@link StudentsLogic} or {@link InstructorsLogic} invalidates the cache.
+ *
+ * <p>Every lookup returns copies of the cached attributes, so that callers may modify what they get
+ * without affecting the cache or each other.
+ */
+public final class CourseRosterCache {
+
+    private static final ThreadLocal<CourseRosterCache> CURRENT = new ThreadLocal<>();
+
+    private final Map<String, Map<String, StudentAttributes>> studentsByCourse = new HashMap<>();
+    private final Map<String, List<InstructorAttributes>> instructorsByCourse = new HashMap<>();
+    private final Map<String, Map<String, InstructorAttributes>> instructorsByEmailByCourse = new HashMap<>();
+
+    private int hitCount;
+    private int missCount;
+
+    private CourseRosterCache() {
+        // only instantiated through start()
+    }
+
+    /**
+     * Starts caching course rosters on the current thread, discarding anything cached before.
+     */
+    public static void start() {
+        CURRENT.set(new CourseRosterCache());
+    }
+
+    /**
+     * Stops caching course rosters on the current thread and discards the cached rosters.
+     */
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Returns the number of lookups served from the cache since {@link #start()} was called on the current thread.
+     */
+    public static int getHitCount() {
+        CourseRosterCache cache = CURRENT.get();
+        return cache == null ? 0 : cache.hitCount;
+    }
+
+    /**
+     * Returns the number of rosters loaded from the datastore since {@link #start()} was called on the current thread.
+     */
+    public static int getMissCount() {
+        CourseRosterCache cache = CURRENT.get();
+        return cache == null ? 0 : cache.missCount;
+    }
+
+    /**
+     * Discards the cached rosters of all courses, e.g. after a write that may span several courses.
+     */
+    static void invalidate() {
+        CourseRosterCache cache = CURRENT.get();
+        if (cache != null) {
+            cache.studentsByCourse.clear();
+            cache.instructorsByCourse.clear();
+            cache.instructorsByEmailByCourse.clear();
+        }
+    }
+
+    /**
+     * Discards the cached roster of the course {@code courseId}.
+     */
+    static void invalidate(String courseId) {
+        CourseRosterCache cache = CURRENT.get();
+        if (cache != null) {
+            cache.studentsByCourse.remove(courseId);
+            cache.instructorsByCourse.remove(courseId);
+            cache.instructorsByEmailByCourse.remove(courseId);
+        }
+    }
+
+    /**
+     * Returns the students of the course, using {@code loader} only if they are not cached yet.
+     * The returned list and students are copies which the caller is free to modify.
+     */
+    static List<StudentAttributes> getStudentsForCourse(
+            String courseId, Function<String, List<StudentAttributes>> loader) {
+        CourseRosterCache cache = CURRENT.get();
+        if (cache == null) {
+            return loader.apply(courseId);
+        }
+
+        Map<String, StudentAttributes> students = cache.studentsByCourse.get(courseId);
+        if (students == null) {
+            cache.missCount++;
+            students = new LinkedHashMap<>();
+            for (StudentAttributes student : loader.apply(courseId)) {
+                students.put(student.email, student);
+            }
+            cache.studentsByCourse.put(courseId, students);
+        } else {
+            cache.hitCount++;
+        }
+        List<StudentAttributes> copies = new ArrayList<>();
+        students.values().forEach(student -> copies.add(student.getCopy()));
+        return copies;
+    }
+
+    /**
+     * Returns the instructors of the course, using {@code loader} only if they are not cached yet.
+     * The returned list and instructors are copies which the caller is free to modify.
+     */
+    static List<InstructorAttributes> getInstructorsForCourse(
+            String courseId, Function<String, List<InstructorAttributes>> loader) {
+        CourseRosterCache cache = CURRENT.get();
+        if (cache == null) {
+            return loader.apply(courseId);
+        }
+
+        List<InstructorAttributes> instructors = cache.instructorsByCourse.get(courseId);
+        if (instructors == null) {
+            cache.missCount++;
+            instructors = loader.apply(courseId);
+            Map<String, InstructorAttributes> instructorsByEmail = new HashMap<>();
+            for (InstructorAttributes instructor : instructors) {
+                instructorsByEmail.put(instructor.email, instructor);
+            }
+            cache.instructorsByCourse.put(courseId, instructors);
+            cache.instructorsByEmailByCourse.put(courseId, instructorsByEmail);
+        } else {
+            cache.hitCount++;
+        }
+        List<InstructorAttributes> copies = new ArrayList<>();
+        instructors.forEach(instructor -> copies.add(instructor.getCopy()));
+        return copies;
+    }
+
+    /**
+     * Returns a copy of the student of the course with the given email, using {@code loader} if the
+     * roster of the course is not cached.
+     */
+    static StudentAttributes getStudentForEmail(
+            String courseId, String email, BiFunction<String, String, StudentAttributes> loader) {
+        CourseRosterCache cache = CURRENT.get();
+        Map<String, StudentAttributes> students = cache == null ? null : cache.studentsByCourse.get(courseId);
+        if (students == null) {
+            return loader.apply(courseId, email);
+        }
+        cache.hitCount++;
+        StudentAttributes student = students.get(email);
+        return student == null ? null : student.getCopy();
+    }
+
+    /**
+     * Returns a copy of the instructor of the course with the given email, using {@code loader} if the
+     * roster of the course is not cached.
+     */
+    static InstructorAttributes getInstructorForEmail(
+            String courseId, String email, BiFunction<String, String, InstructorAttributes> loader) {
+        CourseRosterCache cache = CURRENT.get();
+        Map<String, InstructorAttributes> instructors =
+                cache == null ? null : cache.instructorsByEmailByCourse.get(courseId);
+        if (instructors == null) {
+            return loader.apply(courseId, email);
+        }
+        cache.hitCount++;
+        InstructorAttributes instructor = instructors.get(email);
+        return instructor == null ? null : instructor.getCopy();
+    }
+
+}
@@ -4,10 +4,8 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.stream.Collectors;
 
 import teammates.common.datatransfer.CourseDetailsBundle;
@@ -220,17 +218,8 @@ public final class CoursesLogic {
         if (!isCourseVerified) {
             verifyCourseIsPresent(courseId);
         }
-        List<StudentAttributes> studentDataList = studentsLogic.getStudentsForCourse(courseId);
-
-        Set<String> sectionNameSet = new HashSet<>();
-        for (StudentAttributes sd : studentDataList) {
-            if (!sd.section.equals(Const.DEFAULT_SECTION)) {
-                sectionNameSet.add(sd.section);
-            }
-        }
-
-        List<String> sectionNameList = new ArrayList<>(sectionNameSet);
-        sectionNameList.sort(null);
+        List<String> sectionNameList = studentsLogic.getCourseStatistics(courseId).getSectionNames();
+        sectionNameList.remove(Const.DEFAULT_SECTION);
 
         return sectionNameList;
     }
@@ -404,6 +393,16 @@ public final class CoursesLogic {
         return teams;
     }
 
+    /**
+     * Returns the names of all teams in the course with ID courseId, in sorted order.
+     * Unlike {@link #getTeamsForCourse(String)}, the students of the course are not read.
+     */
+    public List<String> getTeamNamesForCourse(String courseId) throws EntityDoesNotExistException {
+        verifyCourseIsPresent(courseId);
+
+        return studentsLogic.getCourseStatistics(courseId).getTeamNames();
+    }
+
     /**
      * Returns the {@link CourseDetailsBundle} course details for a course using {@link CourseAttributes}.
      */
@@ -430,6 +429,36 @@ public final class CoursesLogic {
         return getCourseSummary(cd);
     }
 
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course using {@link CourseAttributes},
+     * with its statistics but without its sections, so that the students of the course are not read.
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(CourseAttributes cd) {
+        Assumption.assertNotNull("Supplied parameter was null", cd);
+
+        CourseDetailsBundle cdd = new CourseDetailsBundle(cd);
+        cdd.stats = studentsLogic.getCourseStatistics(cd.getId())
+                .toCourseStats(studentsLogic.getNumberOfUnregisteredStudentsForCourse(cd.getId()));
+
+        return cdd;
+    }
+
+    /**
+     * Returns the {@link CourseDetailsBundle} course details for a course using courseId,
+     * with its statistics but without its sections.
+     *
+     * @see #getCourseSummaryWithoutSections(CourseAttributes)
+     */
+    public CourseDetailsBundle getCourseSummaryWithoutSections(String courseId) throws EntityDoesNotExistException {
+        CourseAttributes cd = coursesDb.getCourse(courseId);
+
+        if (cd == null) {
+            throw new EntityDoesNotExistException("The course does not exist: " + courseId);
+        }
+
+        return getCourseSummaryWithoutSections(cd);
+    }
+
     /**
      * Returns the {@link CourseSummaryBundle course summary}, including its
      * feedback sessions using the given {@link InstructorAttributes}.
@@ -589,7 +618,7 @@ public final class CoursesLogic {
      * Returns course summaries for instructors.<br>
      *
      * @return Map with courseId as key, and CourseDetailsBundle as value.
-     *         Does not include details within the course, such as feedback sessions.
+     *         Does not include details within the course, such as feedback sessions and sections.
      */
     public Map<String, CourseDetailsBundle> getCourseSummariesForInstructor(
             List<InstructorAttributes> instructorAttributesList) {
@@ -613,7 +642,7 @@ public final class CoursesLogic {
         }
 
         for (CourseAttributes ca : courseList) {
-            courseSummaryList.put(ca.getId(), getCourseSummary(ca));
+            courseSummaryList.put(ca.getId(), getCourseSummaryWithoutSections(ca));
         }
 
         return courseSummaryList;
@@ -755,8 +784,9 @@ public final class CoursesLogic {
      */
     public String getCourseStudentListAsCsv(String courseId, String googleId) throws EntityDoesNotExistException {
 
-        Map<String, CourseDetailsBundle> courses = getCourseSummariesForInstructor(googleId, false);
-        CourseDetailsBundle course = courses.get(courseId);
+        instructorsLogic.verifyInstructorExists(googleId);
+
+        CourseDetailsBundle course = getCourseSummary(courseId);
         boolean hasSection = hasIndicatedSections(courseId);
 
         StringBuilder export = new StringBuilder(100);
@@ -796,13 +826,7 @@ public final class CoursesLogic {
     public boolean hasIndicatedSections(String courseId) throws EntityDoesNotExistException {
         verifyCourseIsPresent(courseId);
 
-        List<StudentAttributes> studentList = studentsLogic.getStudentsForCourse(courseId);
-        for (StudentAttributes student : studentList) {
-            if (!student.section.equals(Const.DEFAULT_SECTION)) {
-                return true;
-            }
-        }
-        return false;
+        return studentsLogic.getCourseStatistics(courseId).hasIndicatedSections();
     }
 
     /**
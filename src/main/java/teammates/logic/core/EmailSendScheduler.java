@@ -0,0 +1,122 @@
+package teammates.logic.core;
+
+import teammates.common.util.Config;
+
+/**
+ * Decides when emails are to be sent so that neither the send email queue nor the sending quota
+ * of the email service is exceeded.
+ *
+ * <p>Each task taking emails to be sent takes tokens from a token bucket, one per email but at least as many as
+ * the emails sent in the time the send email queue takes to release one task, since the queue releases
+ * tasks at a fixed rate however few emails they have. The bucket holds up to {@code burstSize} tokens
+ * and is refilled at {@code emailsPerSecond}. Tasks are released as soon as there are tokens for them;
+ * after that, tasks are deferred until enough tokens would have been refilled, so that a small fan-out is sent
+ * immediately while a large one is spread out only as much as needed.
+ *
+ * <p>The rate and the burst size are those of the send email queue, unless the sending quota is lower.
+ * The bucket is kept in the memory of each instance, so it only spreads out the emails scheduled by one instance.
+ * The limit across instances is the rate of the send email queue, which is sized so that its rate multiplied by
+ * {@link #EMAILS_PER_SEND_TASK}, together with the rate of the priority send email queue multiplied by
+ * {@link #MAX_EMAILS_PER_PRIORITY_SEND}, is within the lowest of these quotas.
+ */
+public class EmailSendScheduler {
+
+    /**
+     * Maximum number of emails sent by one task of the send email queue.
+     */
+    public static final int EMAILS_PER_SEND_TASK = 40;
+
+    /**
+     * Maximum number of emails scheduled at once to be sent through the priority send email queue,
+     * e.g. a reminder to a few students, rather than queued behind large fan-outs.
+     */
+    public static final int MAX_EMAILS_PER_PRIORITY_SEND = 10;
+
+    // Rate and bucket size of the send email queue in queue.xml, in tasks; change both together
+    private static final int SEND_TASKS_PER_SECOND = 1;
+    private static final int SEND_TASK_BUCKET_SIZE = 1;
+
+    // Sending quotas of the email services, in emails per second
+    private static final int SENDGRID_EMAILS_PER_SECOND = 100;
+    private static final int MAILGUN_EMAILS_PER_SECOND = 100;
+    private static final int MAILJET_EMAILS_PER_SECOND = 50;
+    private static final int JAVAMAIL_EMAILS_PER_SECOND = 1;
+
+    /**
+     * Number of seconds of quota that can be used at once.
+     */
+    private static final int BURST_SECONDS = 10;
+
+    private static EmailSendScheduler instance = createForConfiguredService();
+
+    private final int emailsPerSecond;
+    private final int burstSize;
+
+    /**
+     * Minimum number of tokens taken by a task, i.e. the number of emails sent in the time between two tasks.
+     */
+    private final double minTokensPerTask;
+
+    /**
+     * Number of tokens in the bucket, which is negative when emails are waiting for tokens to be refilled.
+     */
+    private double availableTokens;
+    private long lastRefillTime;
+
+    public EmailSendScheduler(int emailsPerSecond, int burstSize, int tasksPerSecond) {
+        this.emailsPerSecond = emailsPerSecond;
+        this.burstSize = burstSize;
+        this.minTokensPerTask = (double) emailsPerSecond / tasksPerSecond;
+        this.availableTokens = burstSize;
+    }
+
+    public static EmailSendScheduler inst() {
+        return instance;
+    }
+
+    private static EmailSendScheduler createForConfiguredService() {
+        int emailsPerSecond;
+        if (Config.isUsingSendgrid()) {
+            emailsPerSecond = SENDGRID_EMAILS_PER_SECOND;
+        } else if (Config.isUsingMailgun()) {
+            emailsPerSecond = MAILGUN_EMAILS_PER_SECOND;
+        } else if (Config.isUsingMailjet()) {
+            emailsPerSecond = MAILJET_EMAILS_PER_SECOND;
+        } else {
+            emailsPerSecond = JAVAMAIL_EMAILS_PER_SECOND;
+        }
+        int burstSize = Math.min(emailsPerSecond * BURST_SECONDS, SEND_TASK_BUCKET_SIZE * EMAILS_PER_SEND_TASK);
+        emailsPerSecond = Math.min(emailsPerSecond, SEND_TASKS_PER_SECOND * EMAILS_PER_SEND_TASK);
+        return new EmailSendScheduler(emailsPerSecond, burstSize, SEND_TASKS_PER_SECOND);
+    }
+
+    /**
+     * Takes the tokens for a task sending {@code numberOfEmails} emails.
+     *
+     * @param currentTime the current time in milliseconds since epoch
+     * @return the delay in milliseconds from {@code currentTime} after which the task can be run
+     */
+    public synchronized long reserve(int numberOfEmails, long currentTime) {
+        refill(currentTime);
+        availableTokens -= Math.max(numberOfEmails, minTokensPerTask);
+        return availableTokens >= 0 ? 0 : (long) Math.ceil(-availableTokens * 1000 / emailsPerSecond);
+    }
+
+    /**
+     * Returns the number of tokens that tasks scheduled are still waiting for to be refilled at {@code currentTime},
+     * i.e. roughly the number of emails waiting for their turn.
+     */
+    public synchronized int getBacklog(long currentTime) {
+        refill(currentTime);
+        return availableTokens >= 0 ? 0 : (int) Math.ceil(-availableTokens);
+    }
+
+    private void refill(long currentTime) {
+        if (currentTime > lastRefillTime) {
+            availableTokens = Math.min(burstSize,
+                    availableTokens + (currentTime - lastRefillTime) * emailsPerSecond / 1000.0);
+            lastRefillTime = currentTime;
+        }
+    }
+
+}
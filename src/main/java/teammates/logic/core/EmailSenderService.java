@@ -1,13 +1,40 @@
 package teammates.logic.core;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jsoup.Jsoup;
+
 import teammates.common.exception.EmailSendingException;
+import teammates.common.exception.TeammatesException;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.Logger;
 
 /**
  * An email sender interface used by services for sending emails.
  */
 public abstract class EmailSenderService {
 
+    private static final Logger log = Logger.getLogger();
+
+    private static final int MAX_PLAIN_TEXT_CONTENTS_CACHED = 20;
+
+    /**
+     * Plain text versions of recently sent HTML contents, mostly shared templates, as rendering them is costly.
+     */
+    private static final Map<String, String> plainTextContents = Collections.synchronizedMap(
+            new LinkedHashMap<String, String>(MAX_PLAIN_TEXT_CONTENTS_CACHED, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                    return size() > MAX_PLAIN_TEXT_CONTENTS_CACHED;
+                }
+            });
+
     /**
      * Parses the {@code wrapper} email object to specific implementations of email object
      * used by the service.
@@ -27,10 +54,84 @@ public abstract class EmailSenderService {
         }
     }
 
+    /**
+     * Sends the {@code wrappers}. Emails generated from the same template are sent together
+     * in batches of at most {@link #getMaxBatchSize()} emails, one request to the service per batch.
+     *
+     * <p>A batch is accepted or rejected by the service as a whole, e.g. for one invalid address,
+     * so the emails of a batch which fails to be sent are sent one by one instead.
+     * An email which fails to be sent does not stop the remaining emails from being sent.
+     *
+     * @return the emails which failed to be sent, so that only those are sent again
+     */
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> wrappers) {
+        List<EmailWrapper> unsentEmails = new ArrayList<>();
+        for (List<EmailWrapper> batch : EmailWrapper.groupIntoBatches(wrappers, getMaxBatchSize())) {
+            if (batch.size() > 1 && canSendAsBatch(batch) && isBatchSent(batch)) {
+                continue;
+            }
+            for (EmailWrapper wrapper : batch) {
+                try {
+                    sendEmailWithService(wrapper);
+                } catch (Exception e) {
+                    log.severe("Error while sending email to " + wrapper.getRecipient() + ": "
+                               + TeammatesException.toStringWithStackTrace(e));
+                    unsentEmails.add(wrapper);
+                }
+            }
+        }
+        return unsentEmails;
+    }
+
+    private boolean isBatchSent(List<EmailWrapper> batch) {
+        try {
+            sendEmailBatchWithService(batch);
+            return true;
+        } catch (Exception e) {
+            log.warning("Error while sending a batch of " + batch.size() + " emails, sending them one by one: "
+                        + TeammatesException.toStringWithStackTrace(e));
+            return false;
+        }
+    }
+
     @SuppressWarnings("PMD.SignatureDeclareThrowsException")
     // accounts for the many different Exceptions from different email services
     protected abstract void sendEmailWithService(EmailWrapper wrapper) throws Exception;
 
+    /**
+     * Returns the maximum number of emails the service can send in one request, with the substitutions
+     * for each recipient done by the service.
+     */
+    protected int getMaxBatchSize() {
+        return 1;
+    }
+
+    /**
+     * Returns true if the {@code batch} of emails can be sent in one request to the service.
+     */
+    protected boolean canSendAsBatch(List<EmailWrapper> batch) {
+        return true;
+    }
+
+    /**
+     * Sends the {@code batch} of emails, which share the same template, sender, reply-to address and subject.
+     * Throws an exception if the service does not accept the batch.
+     *
+     * <p>Services which can send batches override this together with {@link #getMaxBatchSize()}.
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    // accounts for the many different Exceptions from different email services
+    protected void sendEmailBatchWithService(List<EmailWrapper> batch) throws Exception {
+        throw new UnsupportedOperationException("Sending emails in batches is not supported by the service");
+    }
+
+    /**
+     * Returns the plain text version of the {@code htmlContent} of an email.
+     */
+    static String getPlainTextContent(String htmlContent) {
+        return plainTextContents.computeIfAbsent(htmlContent, content -> Jsoup.parse(content).text());
+    }
+
     static boolean isNotSuccessStatus(int statusCode) {
         return statusCode < 200 || statusCode > 299;
     }
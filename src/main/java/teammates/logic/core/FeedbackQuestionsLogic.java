@@ -2,6 +2,8 @@ package teammates.logic.core;
 
 import java.lang.reflect.Type;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -11,8 +13,8 @@ import java.util.Set;
 
 import com.google.gson.reflect.TypeToken;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.attributes.CourseAttributes;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -112,6 +114,14 @@ public final class FeedbackQuestionsLogic {
         return fqDb.getFeedbackQuestion(feedbackQuestionId);
     }
 
+    /**
+     * Gets the questions with the given IDs in a single batch, mapped by question ID.
+     * IDs of questions which do not exist are left out of the map.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        return fqDb.getFeedbackQuestions(feedbackQuestionIds);
+    }
+
     /**
      * Gets a single question corresponding to the given parameters.
      */
@@ -345,6 +355,44 @@ public final class FeedbackQuestionsLogic {
             InstructorAttributes instructorGiver, StudentAttributes studentGiver)
                     throws EntityDoesNotExistException {
 
+        // only the course members which can be recipients of the question are read
+        CourseRoster roster;
+        switch (question.recipientType) {
+        case STUDENTS:
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(question.courseId), null);
+            break;
+        case TEAMS:
+            if (coursesLogic.getCourse(question.courseId) == null) {
+                throw new EntityDoesNotExistException("The course " + question.courseId + " does not exist");
+            }
+            roster = new CourseRoster(studentsLogic.getStudentsForCourse(question.courseId), null);
+            break;
+        case INSTRUCTORS:
+            roster = new CourseRoster(null, instructorsLogic.getInstructorsForCourse(question.courseId));
+            break;
+        case OWN_TEAM_MEMBERS:
+        case OWN_TEAM_MEMBERS_INCLUDING_SELF:
+            String giverTeam = getGiverTeam(giver, instructorGiver, studentGiver);
+            roster = new CourseRoster(studentsLogic.getStudentsForTeam(giverTeam, question.courseId), null);
+            break;
+        default:
+            roster = new CourseRoster(null, null);
+            break;
+        }
+
+        return getRecipientsForQuestion(question, giver, instructorGiver, studentGiver, roster);
+    }
+
+    /**
+     * Gets the recipients of {@code question} for {@code giver}, resolved against {@code roster}
+     * instead of reading the course members from the database.
+     *
+     * @return a map of recipient identifier to recipient name
+     */
+    public Map<String, String> getRecipientsForQuestion(
+            FeedbackQuestionAttributes question, String giver,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster) {
+
         Map<String, String> recipients = new HashMap<>();
 
         FeedbackParticipantType recipientType = question.recipientType;
@@ -360,8 +408,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case STUDENTS:
-            List<StudentAttributes> studentsInCourse = studentsLogic.getStudentsForCourse(question.courseId);
-            for (StudentAttributes student : studentsInCourse) {
+            for (StudentAttributes student : roster.getStudents()) {
                 // Ensure student does not evaluate himself
                 if (!giver.equals(student.email)) {
                     recipients.put(student.email, student.name);
@@ -369,8 +416,7 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case INSTRUCTORS:
-            List<InstructorAttributes> instructorsInCourse = instructorsLogic.getInstructorsForCourse(question.courseId);
-            for (InstructorAttributes instr : instructorsInCourse) {
+            for (InstructorAttributes instr : roster.getInstructors()) {
                 // Ensure instructor does not evaluate himself
                 if (!giver.equals(instr.email)) {
                     recipients.put(instr.email, instr.name);
@@ -378,12 +424,11 @@ public final class FeedbackQuestionsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(question.courseId);
-            for (TeamDetailsBundle team : teams) {
+            for (String teamName : roster.getTeamNameToStudentEmailsTable().keySet()) {
                 // Ensure student('s team) does not evaluate own team.
-                if (!giverTeam.equals(team.name)) {
+                if (!giverTeam.equals(teamName)) {
                     // recipientEmail doubles as team name in this case.
-                    recipients.put(team.name, team.name);
+                    recipients.put(teamName, teamName);
                 }
             }
             break;
@@ -391,18 +436,16 @@ public final class FeedbackQuestionsLogic {
             recipients.put(giverTeam, giverTeam);
             break;
         case OWN_TEAM_MEMBERS:
-            List<StudentAttributes> students = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : students) {
-                if (!student.email.equals(giver)) {
-                    recipients.put(student.email, student.name);
+            for (String email : roster.getTeamNameToStudentEmailsTable().getOrDefault(giverTeam, Collections.emptySet())) {
+                if (!email.equals(giver)) {
+                    recipients.put(email, roster.getStudentForEmail(email).name);
                 }
             }
             break;
         case OWN_TEAM_MEMBERS_INCLUDING_SELF:
-            List<StudentAttributes> teamMembers = studentsLogic.getStudentsForTeam(giverTeam, question.courseId);
-            for (StudentAttributes student : teamMembers) {
+            for (String email : roster.getTeamNameToStudentEmailsTable().getOrDefault(giverTeam, Collections.emptySet())) {
                 // accepts self feedback too
-                recipients.put(student.email, student.name);
+                recipients.put(email, roster.getStudentForEmail(email).name);
             }
             break;
         case NONE:
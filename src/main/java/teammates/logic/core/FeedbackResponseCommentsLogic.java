@@ -1,13 +1,14 @@
 package teammates.logic.core;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
-import teammates.common.datatransfer.TeamDetailsBundle;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -86,6 +87,16 @@ public final class FeedbackResponseCommentsLogic {
         return frcDb.getFeedbackResponseComment(feedbackResponseCommentId);
     }
 
+    /**
+     * Gets the response comments with the given IDs in a single batch.
+     *
+     * @return a map of comment ID to comment, which contains no entry for IDs that are not found.
+     */
+    public Map<Long, FeedbackResponseCommentAttributes> getFeedbackResponseComments(
+            Collection<Long> feedbackResponseCommentIds) {
+        return frcDb.getFeedbackResponseComments(feedbackResponseCommentIds);
+    }
+
     public FeedbackResponseCommentAttributes getFeedbackResponseComment(
             String responseId, String giverEmail, Instant creationDate) {
         return frcDb.getFeedbackResponseComment(responseId, giverEmail, creationDate);
@@ -154,9 +165,11 @@ public final class FeedbackResponseCommentsLogic {
 
     /**
      * Creates or updates documents for the given comments.
+     *
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        frcDb.putDocuments(comments);
+    public List<String> putDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        return frcDb.putDocuments(comments);
     }
 
     public List<FeedbackResponseCommentAttributes> getFeedbackResponseCommentsForGiver(String courseId,
@@ -403,15 +416,7 @@ public final class FeedbackResponseCommentsLogic {
             }
             break;
         case TEAMS:
-            List<TeamDetailsBundle> teams = coursesLogic.getTeamsForCourse(courseId);
-            boolean isTeamPresentInCourse = false;
-            for (TeamDetailsBundle team : teams) {
-                if (team.name.equals(commentGiver)) {
-                    isTeamPresentInCourse = true;
-                    break;
-                }
-            }
-            if (!isTeamPresentInCourse) {
+            if (!coursesLogic.getTeamNamesForCourse(courseId).contains(commentGiver)) {
                 throw new EntityDoesNotExistException("User " + commentGiver + " is not a registered team for course "
                         + courseId + ".");
             }
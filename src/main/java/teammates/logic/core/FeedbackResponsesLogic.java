@@ -1,6 +1,7 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -10,6 +11,7 @@ import java.util.Set;
 import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.StudentEnrollDetails;
+import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.UserRole;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
@@ -73,6 +75,14 @@ public final class FeedbackResponsesLogic {
         return frDb.getFeedbackResponse(feedbackResponseId);
     }
 
+    /**
+     * Gets the responses with the given IDs in a single batch, mapped by response ID.
+     * IDs of responses which do not exist are left out of the map.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        return frDb.getFeedbackResponses(feedbackResponseIds);
+    }
+
     public FeedbackResponseAttributes getFeedbackResponse(
             String feedbackQuestionId, String giverEmail, String recipient) {
         return frDb.getFeedbackResponse(feedbackQuestionId, giverEmail, recipient);
@@ -513,12 +523,12 @@ public final class FeedbackResponsesLogic {
     }
 
     private void deleteResponsesFromTeamToUser(String courseId, String userEmail) {
-        FeedbackQuestionAttributes question;
         List<FeedbackResponseAttributes> responsesToUser =
                 getFeedbackResponsesForReceiverForCourse(courseId, userEmail);
+        Map<String, FeedbackQuestionAttributes> questions = getQuestionsOfResponses(responsesToUser);
 
         for (FeedbackResponseAttributes response : responsesToUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             if (isRecipientTypeTeamMembers(question)) {
                 frDb.deleteEntity(response);
             }
@@ -526,13 +536,12 @@ public final class FeedbackResponsesLogic {
     }
 
     private void deleteResponsesFromUserToTeam(String courseId, String userEmail) {
-        FeedbackQuestionAttributes question;
-
         List<FeedbackResponseAttributes> responsesFromUser =
                 getFeedbackResponsesFromGiverForCourse(courseId, userEmail);
+        Map<String, FeedbackQuestionAttributes> questions = getQuestionsOfResponses(responsesFromUser);
 
         for (FeedbackResponseAttributes response : responsesFromUser) {
-            question = fqLogic.getFeedbackQuestion(response.feedbackQuestionId);
+            FeedbackQuestionAttributes question = questions.get(response.feedbackQuestionId);
             if (question.giverType == FeedbackParticipantType.TEAMS
                     || isRecipientTypeTeamMembers(question)) {
                 frDb.deleteEntity(response);
@@ -540,6 +549,18 @@ public final class FeedbackResponsesLogic {
         }
     }
 
+    /**
+     * Gets the questions of the responses in a single batch, mapped by question ID.
+     */
+    private Map<String, FeedbackQuestionAttributes> getQuestionsOfResponses(
+            Collection<FeedbackResponseAttributes> responses) {
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackResponseAttributes response : responses) {
+            questionIds.add(response.feedbackQuestionId);
+        }
+        return fqLogic.getFeedbackQuestions(questionIds);
+    }
+
     /**
      * Updates responses for a student when his section changes.
      */
@@ -574,33 +595,88 @@ public final class FeedbackResponsesLogic {
         }
     }
 
-    public boolean updateFeedbackResponseForChangingTeam(StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackQuestionAttributes question = fqLogic
-                .getFeedbackQuestion(response.feedbackQuestionId);
+    /**
+     * Adjusts the responses of the session given by or to the students in {@code enrollments} whose team or
+     * section has been modified. Responses which are no longer valid for the new team are deleted, and the
+     * sections of the others are updated.
+     *
+     * <p>Only the responses of the affected students are loaded, and the changes are written in batches.
+     * Adjusting the same enrollments again has no further effect.
+     */
+    public void adjustFeedbackResponsesForEnrollments(String feedbackSessionName, String courseId,
+                                                      List<StudentEnrollDetails> enrollments)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Map<String, StudentEnrollDetails> enrollmentsByEmail = new HashMap<>();
+        for (StudentEnrollDetails enrollment : enrollments) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED
+                    && (isTeamChanged(enrollment) || isSectionChanged(enrollment))) {
+                enrollmentsByEmail.put(enrollment.email, enrollment);
+            }
+        }
+        if (enrollmentsByEmail.isEmpty()) {
+            return;
+        }
 
-        boolean isGiverSameForResponseAndEnrollment = response.giver
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = response.recipient
-                .equals(enrollment.email);
+        Collection<FeedbackResponse> responses = frDb.getFeedbackResponseEntitiesForSessionFromOrToUsers(
+                feedbackSessionName, courseId, enrollmentsByEmail.keySet());
+        Set<String> questionIds = new HashSet<>();
+        for (FeedbackResponse response : responses) {
+            questionIds.add(response.getFeedbackQuestionId());
+        }
+        Map<String, FeedbackQuestionAttributes> questions = fqLogic.getFeedbackQuestions(questionIds);
+
+        List<FeedbackResponse> responsesToDelete = new ArrayList<>();
+        List<FeedbackResponse> responsesToUpdate = new ArrayList<>();
+        Set<String> emailsWithDeletedResponses = new HashSet<>();
+        for (FeedbackResponse response : responses) {
+            FeedbackQuestionAttributes question = questions.get(response.getFeedbackQuestionId());
+            StudentEnrollDetails giverEnrollment = enrollmentsByEmail.get(response.getGiverEmail());
+            StudentEnrollDetails recipientEnrollment = enrollmentsByEmail.get(response.getRecipientEmail());
+
+            boolean shouldDeleteByChangeOfGiver = giverEnrollment != null && isTeamChanged(giverEnrollment)
+                    && question != null
+                    && (question.giverType == FeedbackParticipantType.TEAMS || isRecipientTypeTeamMembers(question));
+            boolean shouldDeleteByChangeOfRecipient = recipientEnrollment != null && isTeamChanged(recipientEnrollment)
+                    && question != null && isRecipientTypeTeamMembers(question);
+            if (shouldDeleteByChangeOfGiver || shouldDeleteByChangeOfRecipient) {
+                responsesToDelete.add(response);
+                emailsWithDeletedResponses.add(response.getGiverEmail());
+                continue;
+            }
 
-        boolean shouldDeleteByChangeOfGiver = isGiverSameForResponseAndEnrollment
-                                              && (question.giverType == FeedbackParticipantType.TEAMS
-                                                  || isRecipientTypeTeamMembers(question));
-        boolean shouldDeleteByChangeOfRecipient = isReceiverSameForResponseAndEnrollment
-                                                  && isRecipientTypeTeamMembers(question);
+            boolean isUpdated = false;
+            if (giverEnrollment != null && isSectionChanged(giverEnrollment)) {
+                response.setGiverSection(giverEnrollment.newSection);
+                isUpdated = true;
+            }
+            if (recipientEnrollment != null && isSectionChanged(recipientEnrollment)) {
+                response.setRecipientSection(recipientEnrollment.newSection);
+                isUpdated = true;
+            }
+            if (isUpdated) {
+                responsesToUpdate.add(response);
+            }
+        }
 
-        boolean shouldDeleteResponse = shouldDeleteByChangeOfGiver
-                || shouldDeleteByChangeOfRecipient;
+        frDb.deleteFeedbackResponseEntities(responsesToDelete);
+        frDb.saveFeedbackResponseEntities(responsesToUpdate);
 
-        if (shouldDeleteResponse) {
-            frDb.deleteEntity(response);
-            updateSessionResponseRateForDeletingStudentResponse(enrollment.email,
-                    response.feedbackSessionName, enrollment.course);
+        for (FeedbackResponse response : responsesToUpdate) {
+            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
         }
+        for (String email : emailsWithDeletedResponses) {
+            updateSessionResponseRateForDeletingStudentResponse(email, feedbackSessionName, courseId);
+        }
+    }
 
-        return shouldDeleteResponse;
+    private boolean isTeamChanged(StudentEnrollDetails enrollment) {
+        return enrollment.newTeam != null && enrollment.oldTeam != null
+                && !enrollment.oldTeam.equals(enrollment.newTeam);
+    }
+
+    private boolean isSectionChanged(StudentEnrollDetails enrollment) {
+        return enrollment.newSection != null && enrollment.oldSection != null
+                && !enrollment.oldSection.equals(enrollment.newSection);
     }
 
     private void updateSessionResponseRateForDeletingStudentResponse(String studentEmail, String sessionName,
@@ -615,31 +691,6 @@ public final class FeedbackResponsesLogic {
                || question.recipientType == FeedbackParticipantType.OWN_TEAM_MEMBERS_INCLUDING_SELF;
     }
 
-    public void updateFeedbackResponseForChangingSection(
-            StudentEnrollDetails enrollment,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-
-        FeedbackResponse feedbackResponse = frDb.getFeedbackResponseEntityOptimized(response);
-        boolean isGiverSameForResponseAndEnrollment = feedbackResponse.getGiverEmail()
-                .equals(enrollment.email);
-        boolean isReceiverSameForResponseAndEnrollment = feedbackResponse.getRecipientEmail()
-                .equals(enrollment.email);
-
-        if (isGiverSameForResponseAndEnrollment) {
-            feedbackResponse.setGiverSection(enrollment.newSection);
-        }
-
-        if (isReceiverSameForResponseAndEnrollment) {
-            feedbackResponse.setRecipientSection(enrollment.newSection);
-        }
-
-        frDb.saveEntity(feedbackResponse);
-
-        if (isGiverSameForResponseAndEnrollment || isReceiverSameForResponseAndEnrollment) {
-            frcLogic.updateFeedbackResponseCommentsForResponse(response.getId());
-        }
-    }
-
     /**
      * Updates responses for a student when his email changes.
      */
@@ -1,11 +1,15 @@
 package teammates.logic.core;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -72,6 +76,7 @@ public final class FeedbackSessionsLogic {
     private static final String ERROR_NON_EXISTENT_FS_UPDATE = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "update");
     private static final String ERROR_NON_EXISTENT_FS_CHECK = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "check");
     private static final String ERROR_NON_EXISTENT_FS_VIEW = String.format(ERROR_NON_EXISTENT_FS_STRING_FORMAT, "view");
+    private static final String ERROR_NON_EXISTENT_FQ_VIEW = "Trying to view a non-existent feedback question: ";
     private static final String ERROR_FS_ALREADY_PUBLISH = "Error publishing feedback session: "
                                                            + "Session has already been published.";
     private static final String ERROR_FS_ALREADY_UNPUBLISH = "Error unpublishing feedback session: "
@@ -343,12 +348,13 @@ public final class FeedbackSessionsLogic {
         Map<String, List<FeedbackResponseCommentAttributes>> commentsForResponses = new HashMap<>();
         CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
                 instructorsLogic.getInstructorsForCourse(courseId));
+        Map<String, Map<String, String>> recipientsByParticipantTypes = new HashMap<>();
 
         for (FeedbackQuestionAttributes question : questions) {
 
-            updateBundleAndRecipientListWithResponsesForInstructor(courseId,
+            updateBundleAndRecipientListWithResponsesForInstructor(
                     userEmail, fsa, instructor, bundle, recipientList,
-                    question, instructor, null);
+                    question, roster, recipientsByParticipantTypes);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
         }
 
@@ -356,24 +362,23 @@ public final class FeedbackSessionsLogic {
     }
 
     private void updateBundleAndRecipientListWithResponsesForInstructor(
-            String courseId,
             String userEmail,
             FeedbackSessionAttributes fsa,
             InstructorAttributes instructor,
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            InstructorAttributes instructorGiver, StudentAttributes studentGiver)
-            throws EntityDoesNotExistException {
+            CourseRoster roster,
+            Map<String, Map<String, String>> recipientsByParticipantTypes) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromGiverForQuestion(
                         question.getId(), userEmail);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, instructorGiver, studentGiver);
+        Map<String, String> recipients = getRecipientsForQuestion(
+                question, userEmail, instructor, null, roster, recipientsByParticipantTypes);
         // instructor can only see students in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.STUDENTS)) {
             recipients.entrySet().removeIf(studentEntry -> {
-                StudentAttributes student = studentsLogic.getStudentForEmail(courseId, studentEntry.getKey());
+                StudentAttributes student = roster.getStudentForEmail(studentEntry.getKey());
                 return !instructor.isAllowedForPrivilege(student.section,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -381,7 +386,7 @@ public final class FeedbackSessionsLogic {
         // instructor can only see teams in allowed sections for him/her
         if (question.recipientType.equals(FeedbackParticipantType.TEAMS)) {
             recipients.entrySet().removeIf(teamEntry -> {
-                String teamSection = studentsLogic.getSectionForTeam(courseId, teamEntry.getKey());
+                String teamSection = getSectionForTeam(roster, teamEntry.getKey());
                 return !instructor.isAllowedForPrivilege(teamSection,
                         fsa.getFeedbackSessionName(), Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS);
             });
@@ -392,6 +397,30 @@ public final class FeedbackSessionsLogic {
         recipientList.put(question.getId(), recipients);
     }
 
+    /**
+     * Gets the recipients of {@code question} for the giver from {@code roster}.
+     * Questions with the same giver and recipient types have the same recipients for the same giver,
+     * so the recipients are only worked out for the first of such questions in the session.
+     */
+    private Map<String, String> getRecipientsForQuestion(FeedbackQuestionAttributes question, String userEmail,
+            InstructorAttributes instructorGiver, StudentAttributes studentGiver, CourseRoster roster,
+            Map<String, Map<String, String>> recipientsByParticipantTypes) {
+        Map<String, String> recipients = recipientsByParticipantTypes.computeIfAbsent(
+                question.giverType + "%" + question.recipientType,
+                participantTypes -> fqLogic.getRecipientsForQuestion(
+                        question, userEmail, instructorGiver, studentGiver, roster));
+        // the recipients of each question are changed separately afterwards
+        return new HashMap<>(recipients);
+    }
+
+    private String getSectionForTeam(CourseRoster roster, String teamName) {
+        Set<String> teamMemberEmails = roster.getTeamNameToStudentEmailsTable().get(teamName);
+        if (teamMemberEmails == null) {
+            return Const.DEFAULT_SECTION;
+        }
+        return roster.getStudentForEmail(teamMemberEmails.iterator().next()).section;
+    }
+
     /**
      * Gets {@code FeedbackQuestions} and previously filled
      * {@code FeedbackResponses} that a student can view/submit as a
@@ -431,10 +460,11 @@ public final class FeedbackSessionsLogic {
             }
         }
 
+        Map<String, Map<String, String>> recipientsByParticipantTypes = new HashMap<>();
         for (FeedbackQuestionAttributes question : questions) {
 
             updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                    bundle, recipientList, question, hiddenInstructorEmails);
+                    bundle, recipientList, question, hiddenInstructorEmails, roster, recipientsByParticipantTypes);
             updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
 
         }
@@ -484,7 +514,7 @@ public final class FeedbackSessionsLogic {
                 instructorsLogic.getInstructorsForCourse(courseId));
 
         updateBundleAndRecipientListWithResponsesForStudent(userEmail, student,
-                bundle, recipientList, question, hiddenInstructorEmails);
+                bundle, recipientList, question, hiddenInstructorEmails, roster, new HashMap<>());
         updateBundleWithCommentsForResponses(bundle.get(question), commentsForResponses);
 
         return new FeedbackSessionQuestionsBundle(fsa, bundle, recipientList, commentsForResponses, roster);
@@ -496,13 +526,14 @@ public final class FeedbackSessionsLogic {
             Map<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> bundle,
             Map<String, Map<String, String>> recipientList,
             FeedbackQuestionAttributes question,
-            Set<String> hiddenInstructorEmails)
-            throws EntityDoesNotExistException {
+            Set<String> hiddenInstructorEmails,
+            CourseRoster roster,
+            Map<String, Map<String, String>> recipientsByParticipantTypes) {
         List<FeedbackResponseAttributes> responses =
                 frLogic.getFeedbackResponsesFromStudentOrTeamForQuestion(
                         question, student);
-        Map<String, String> recipients =
-                fqLogic.getRecipientsForQuestion(question, userEmail, null, student);
+        Map<String, String> recipients = getRecipientsForQuestion(
+                question, userEmail, null, student, roster, recipientsByParticipantTypes);
 
         removeHiddenInstructors(question, responses, recipients, hiddenInstructorEmails);
 
@@ -590,6 +621,7 @@ public final class FeedbackSessionsLogic {
 
         CourseRoster roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
                                                instructorsLogic.getInstructorsForCourse(courseId));
+        fsDb.loadRespondents(session);
         return getFeedbackSessionResponseStatus(session, roster, allQuestions);
     }
 
@@ -853,38 +885,120 @@ public final class FeedbackSessionsLogic {
         if (!results.isComplete) {
             throw new ExceedingRangeException(ERROR_NUMBER_OF_RESPONSES_EXCEEDS_RANGE);
         }
-        // sort responses by giver > recipient > qnNumber
-        results.responses.sort(results.compareByGiverRecipientQuestion);
 
-        StringBuilder exportBuilder = new StringBuilder(100);
+        StringWriter exportWriter = new StringWriter();
+        PrintWriter writer = new PrintWriter(exportWriter);
+
+        writeCsvHeader(writer, results.feedbackSession, section);
+        writeFeedbackSessionResultsInCsvFormat(writer, results, isMissingResponsesShown, isStatsShown, section);
+        writer.flush();
+
+        return exportWriter.toString();
+    }
+
+    /**
+     * Writes the summary results of a feedback session in CSV format to {@code writer}.
+     *
+     * <p>Unlike {@link #getFeedbackSessionResultsSummaryInSectionAsCsv}, the results are loaded and written
+     * one question at a time, so the size of the session does not affect the memory used and
+     * no {@link ExceedingRangeException} is thrown.
+     *
+     * @param questionId if not null, only the results of this question are written
+     */
+    public void writeFeedbackSessionResultsSummaryInSectionAsCsv(
+            String feedbackSessionName, String courseId, String userEmail,
+            String section, String questionId, boolean isMissingResponsesShown, boolean isStatsShown,
+            PrintWriter writer)
+            throws EntityDoesNotExistException {
+
+        FeedbackSessionAttributes session = fsDb.getFeedbackSession(courseId, feedbackSessionName);
+
+        if (session == null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> questions = new ArrayList<>();
+        for (FeedbackQuestionAttributes question
+                : fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId)) {
+            if (questionId == null || questionId.equals(question.getId())) {
+                questions.add(question);
+            }
+        }
+        // nothing is written before this check, so that the caller can still report the error
+        if (questions.isEmpty() && questionId != null) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FQ_VIEW + questionId);
+        }
+
+        // Load details of students and instructors, the instructor and the comments once
+        // and reuse them for every question
+        CourseRoster roster = new CourseRoster(
+                studentsLogic.getStudentsForCourse(courseId),
+                instructorsLogic.getInstructorsForCourse(courseId));
+        InstructorAttributes instructor = instructorsLogic.getInstructorForEmail(courseId, userEmail);
+        Map<String, List<FeedbackResponseCommentAttributes>> commentsForQuestions = new HashMap<>();
+        for (FeedbackResponseCommentAttributes comment
+                : frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section)) {
+            commentsForQuestions.computeIfAbsent(comment.feedbackQuestionId, key -> new ArrayList<>()).add(comment);
+        }
+        // as in getFeedbackSessionResultsSummaryInSectionAsCsv, the export of a whole session in a section
+        // only has the responses given from the section, while that of a question also has those received
+        boolean isFromSectionOnly = questionId == null && section != null;
+
+        writeCsvHeader(writer, session, section);
 
-        exportBuilder.append(String.format("Course,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getCourseId())))
-                     .append(System.lineSeparator())
-                     .append(String.format("Session Name,%s",
-                             SanitizationHelper.sanitizeForCsv(results.feedbackSession.getFeedbackSessionName())))
-                     .append(System.lineSeparator());
+        for (FeedbackQuestionAttributes question : questions) {
+            List<FeedbackResponseAttributes> responsesForQuestion =
+                    frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                            question, userEmail, UserRole.INSTRUCTOR, section);
+            if (isFromSectionOnly) {
+                responsesForQuestion.removeIf(response -> !section.equals(response.giverSection));
+            }
+
+            FeedbackSessionResultsBundle results = getFeedbackSessionResultsForQuestion(
+                    userEmail, UserRole.INSTRUCTOR, roster, session, question, new HashMap<>(),
+                    responsesForQuestion, commentsForQuestions.getOrDefault(question.getId(), new ArrayList<>()),
+                    instructor, null, new HashSet<>(), section);
+            writeFeedbackSessionResultsInCsvFormat(writer, results, isMissingResponsesShown, isStatsShown, section);
+
+            // send out the rows of this question before loading the next one
+            writer.flush();
+        }
+    }
+
+    private void writeCsvHeader(PrintWriter writer, FeedbackSessionAttributes session, String section) {
+        writer.append(String.format("Course,%s",
+                      SanitizationHelper.sanitizeForCsv(session.getCourseId())))
+              .append(System.lineSeparator())
+              .append(String.format("Session Name,%s",
+                      SanitizationHelper.sanitizeForCsv(session.getFeedbackSessionName())))
+              .append(System.lineSeparator());
 
         if (section != null) {
-            exportBuilder.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
-                         .append(System.lineSeparator());
+            writer.append(String.format("Section Name,%s", SanitizationHelper.sanitizeForCsv(section)))
+                  .append(System.lineSeparator());
         }
 
-        exportBuilder.append(System.lineSeparator()).append(System.lineSeparator());
+        writer.append(System.lineSeparator()).append(System.lineSeparator());
+    }
+
+    private void writeFeedbackSessionResultsInCsvFormat(
+            PrintWriter writer, FeedbackSessionResultsBundle results,
+            boolean isMissingResponsesShown, boolean isStatsShown, String section) {
+
+        // sort responses by giver > recipient > qnNumber
+        results.responses.sort(results.compareByGiverRecipientQuestion);
 
         Set<Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>>> entrySet =
                 results.getQuestionResponseMap().entrySet();
 
         for (Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry : entrySet) {
-            exportBuilder.append(getFeedbackSessionResultsForQuestionInCsvFormat(
-                    results, entry, isMissingResponsesShown, isStatsShown, section));
+            writeFeedbackSessionResultsForQuestionInCsvFormat(
+                    writer, results, entry, isMissingResponsesShown, isStatsShown, section);
         }
-
-        return exportBuilder.toString();
     }
 
-    private StringBuilder getFeedbackSessionResultsForQuestionInCsvFormat(
-            FeedbackSessionResultsBundle fsrBundle,
+    private void writeFeedbackSessionResultsForQuestionInCsvFormat(
+            PrintWriter writer, FeedbackSessionResultsBundle fsrBundle,
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
             boolean isMissingResponsesShown, boolean isStatsShown, String section) {
 
@@ -892,25 +1006,25 @@ public final class FeedbackSessionsLogic {
         FeedbackQuestionDetails questionDetails = question.getQuestionDetails();
         List<FeedbackResponseAttributes> allResponses = entry.getValue();
 
-        StringBuilder exportBuilder = new StringBuilder();
-
-        exportBuilder.append("Question " + Integer.toString(question.questionNumber) + ","
+        writer.append("Question " + Integer.toString(question.questionNumber) + ","
                 + SanitizationHelper.sanitizeForCsv(questionDetails.getQuestionText())
                 + System.lineSeparator() + System.lineSeparator());
 
         String statistics = questionDetails.getQuestionResultStatisticsCsv(allResponses,
                                     question, fsrBundle);
         if (!statistics.isEmpty() && isStatsShown) {
-            exportBuilder.append("Summary Statistics,").append(System.lineSeparator());
-            exportBuilder.append(statistics).append(System.lineSeparator());
+            writer.append("Summary Statistics,").append(System.lineSeparator());
+            writer.append(statistics).append(System.lineSeparator());
         }
 
-        List<String> possibleGiversWithoutResponses = fsrBundle.getPossibleGiversInSection(question, section);
-        List<String> possibleRecipientsForGiver = new ArrayList<>();
+        // ordered sets, so that crossing out a participant seen in a response takes constant time
+        Set<String> possibleGiversWithoutResponses =
+                new LinkedHashSet<>(fsrBundle.getPossibleGiversInSection(question, section));
+        Set<String> possibleRecipientsForGiver = new LinkedHashSet<>();
         String prevGiver = "";
 
         int maxNumOfInstructorComments = getMaxNumberOfInstructorComments(allResponses, fsrBundle.getResponseComments());
-        exportBuilder.append(questionDetails.getCsvDetailedResponsesHeader(maxNumOfInstructorComments));
+        writer.append(questionDetails.getCsvDetailedResponsesHeader(maxNumOfInstructorComments));
 
         for (FeedbackResponseAttributes response : allResponses) {
 
@@ -920,39 +1034,38 @@ public final class FeedbackSessionsLogic {
             }
 
             // keep track of possible recipients with no responses
-            removeParticipantIdentifierFromList(question.giverType,
+            removeParticipantIdentifierFromSet(question.giverType,
                     possibleGiversWithoutResponses, response.giver, fsrBundle);
 
             boolean isNewGiver = !prevGiver.equals(response.giver);
             // print missing responses from the current giver
             if (isNewGiver && isMissingResponsesShown) {
-                exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(fsrBundle,
+                writeRowsOfPossibleRecipientsInCsvFormat(writer, fsrBundle,
                         question, questionDetails,
-                        possibleRecipientsForGiver, prevGiver));
+                        possibleRecipientsForGiver, prevGiver);
                 String giverIdentifier = question.giverType == FeedbackParticipantType.TEAMS
                                              ? fsrBundle.getFullNameFromRoster(response.giver)
                                              : response.giver;
 
-                possibleRecipientsForGiver = fsrBundle.getPossibleRecipients(question, giverIdentifier);
+                possibleRecipientsForGiver =
+                        new LinkedHashSet<>(fsrBundle.getPossibleRecipients(question, giverIdentifier));
             }
 
-            removeParticipantIdentifierFromList(question.recipientType, possibleRecipientsForGiver,
+            removeParticipantIdentifierFromSet(question.recipientType, possibleRecipientsForGiver,
                                                 response.recipient, fsrBundle);
             prevGiver = response.giver;
 
-            exportBuilder.append(questionDetails.getCsvDetailedResponsesRow(fsrBundle, response, question));
+            writer.append(questionDetails.getCsvDetailedResponsesRow(fsrBundle, response, question));
         }
 
         // add the rows for the possible givers and recipients who have missing responses
         if (isMissingResponsesShown) {
-            exportBuilder.append(
-                    getRemainingRowsInCsvFormat(
-                            fsrBundle, entry, question, questionDetails,
-                            possibleGiversWithoutResponses, possibleRecipientsForGiver, prevGiver));
+            writeRemainingRowsInCsvFormat(
+                    writer, fsrBundle, entry, question, questionDetails,
+                    possibleGiversWithoutResponses, possibleRecipientsForGiver, prevGiver);
         }
 
-        exportBuilder.append(System.lineSeparator() + System.lineSeparator());
-        return exportBuilder;
+        writer.append(System.lineSeparator() + System.lineSeparator());
     }
 
     private int getMaxNumberOfInstructorComments(List<FeedbackResponseAttributes> allResponses,
@@ -979,69 +1092,64 @@ public final class FeedbackSessionsLogic {
     }
 
     /**
-     * Given a participantIdentifier, remove it from participantIdentifierList.
+     * Given a participantIdentifier, remove it from participantIdentifierSet.
      *
      * <p>Before removal, {@link FeedbackSessionResultsBundle#getFullNameFromRoster} is used to
      * convert the identifier into a canonical form if the participantIdentifierType is TEAMS.
      */
-    private void removeParticipantIdentifierFromList(
+    private void removeParticipantIdentifierFromSet(
             FeedbackParticipantType participantIdentifierType,
-            List<String> participantIdentifierList, String participantIdentifier,
+            Set<String> participantIdentifierSet, String participantIdentifier,
             FeedbackSessionResultsBundle bundle) {
         if (participantIdentifierType == FeedbackParticipantType.TEAMS) {
-            participantIdentifierList.remove(bundle.getFullNameFromRoster(participantIdentifier));
+            participantIdentifierSet.remove(bundle.getFullNameFromRoster(participantIdentifier));
         } else {
-            participantIdentifierList.remove(participantIdentifier);
+            participantIdentifierSet.remove(participantIdentifier);
         }
     }
 
     /**
-     * Generate rows of missing responses for the remaining possible givers and recipients.
+     * Writes rows of missing responses for the remaining possible givers and recipients.
      *
      * <p>If for the prevGiver, possibleRecipientsForGiver is not empty,
      * the remaining missing responses for the prevGiver will be generated first.
-     * @return the remaining rows of missing responses in csv format
      */
-    private StringBuilder getRemainingRowsInCsvFormat(
-            FeedbackSessionResultsBundle results,
+    private void writeRemainingRowsInCsvFormat(
+            PrintWriter writer, FeedbackSessionResultsBundle results,
             Map.Entry<FeedbackQuestionAttributes, List<FeedbackResponseAttributes>> entry,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
-        StringBuilder exportBuilder = new StringBuilder();
+            Set<String> remainingPossibleGivers,
+            Set<String> possibleRecipientsForGiver, String prevGiver) {
 
         if (possibleRecipientsForGiver != null) {
-            exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
+            writeRowsOfPossibleRecipientsInCsvFormat(writer, results,
                     question, questionDetails, possibleRecipientsForGiver,
-                    prevGiver));
+                    prevGiver);
 
         }
 
-        removeParticipantIdentifierFromList(question.giverType, remainingPossibleGivers, prevGiver, results);
+        removeParticipantIdentifierFromSet(question.giverType, remainingPossibleGivers, prevGiver, results);
 
         for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
             List<String> possibleRecipientsForRemainingGiver =
                     results.getPossibleRecipients(entry.getKey(), possibleGiverWithNoResponses);
 
-            exportBuilder.append(getRowsOfPossibleRecipientsInCsvFormat(results,
+            writeRowsOfPossibleRecipientsInCsvFormat(writer, results,
                     question, questionDetails, possibleRecipientsForRemainingGiver,
-                    possibleGiverWithNoResponses));
+                    possibleGiverWithNoResponses);
         }
-
-        return exportBuilder;
     }
 
     /**
-     * For a giver and a list of possibleRecipientsForGiver, generate rows
+     * For a giver and a list of possibleRecipientsForGiver, writes rows
      * of missing responses between the giver and the possible recipients.
      */
-    private StringBuilder getRowsOfPossibleRecipientsInCsvFormat(
-            FeedbackSessionResultsBundle results,
+    private void writeRowsOfPossibleRecipientsInCsvFormat(
+            PrintWriter writer, FeedbackSessionResultsBundle results,
             FeedbackQuestionAttributes question,
             FeedbackQuestionDetails questionDetails,
-            List<String> possibleRecipientsForGiver, String giver) {
-        StringBuilder exportBuilder = new StringBuilder();
+            Collection<String> possibleRecipientsForGiver, String giver) {
         for (String possibleRecipient : possibleRecipientsForGiver) {
             String giverName = results.getFullNameFromRoster(giver);
             String giverLastName = results.getLastNameFromRoster(giver);
@@ -1051,7 +1159,7 @@ public final class FeedbackSessionsLogic {
             String possibleRecipientEmail = results.getDisplayableEmailFromRoster(possibleRecipient);
 
             if (questionDetails.shouldShowNoResponseText(question)) {
-                exportBuilder.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
+                writer.append(SanitizationHelper.sanitizeForCsv(results.getTeamNameFromRoster(giver))
                         + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverName))
                         + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverLastName))
                         + "," + SanitizationHelper.sanitizeForCsv(StringHelper.removeExtraSpace(giverEmail))
@@ -1063,7 +1171,6 @@ public final class FeedbackSessionsLogic {
                         + System.lineSeparator());
             }
         }
-        return exportBuilder;
     }
 
     /**
@@ -1124,7 +1231,7 @@ public final class FeedbackSessionsLogic {
     }
 
     public boolean isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes fsa, String userEmail) {
-        if (fsa.getRespondingStudentList().contains(userEmail)) {
+        if (fsDb.isStudentRespondent(userEmail, fsa)) {
             return true;
         }
 
@@ -1138,7 +1245,7 @@ public final class FeedbackSessionsLogic {
 
     public boolean isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes fsa, String userEmail)
             throws EntityDoesNotExistException {
-        if (fsa.getRespondingInstructorList().contains(userEmail)) {
+        if (fsDb.isInstructorRespondent(userEmail, fsa)) {
             return true;
         }
 
@@ -1150,6 +1257,112 @@ public final class FeedbackSessionsLogic {
         return allQuestions.isEmpty();
     }
 
+    /**
+     * Returns the students in {@code students} who have not responded to the session, in the same order.
+     * The questions of the session are loaded once for all the students, and none of the students is returned
+     * if the session has no question for students.
+     *
+     * @see #isFeedbackSessionCompletedByStudent(FeedbackSessionAttributes, String)
+     */
+    public List<StudentAttributes> getNonRespondentStudents(FeedbackSessionAttributes session,
+                                                            List<StudentAttributes> students) {
+        List<StudentAttributes> nonRespondents = new ArrayList<>();
+        List<FeedbackQuestionAttributes> questionsForStudents =
+                fqLogic.getFeedbackQuestionsForStudents(session.getFeedbackSessionName(), session.getCourseId());
+        if (questionsForStudents.isEmpty()) {
+            return nonRespondents;
+        }
+
+        fsDb.loadRespondents(session);
+        Set<String> respondents = session.getRespondingStudentList();
+        for (StudentAttributes student : students) {
+            if (!respondents.contains(student.email)) {
+                nonRespondents.add(student);
+            }
+        }
+        return nonRespondents;
+    }
+
+    /**
+     * Returns the instructors in {@code instructors} who have not responded to the session, in the same order.
+     * The questions of the session are loaded once for all the instructors, and an instructor is not returned
+     * if the session has no question for that instructor.
+     *
+     * @see #isFeedbackSessionCompletedByInstructor(FeedbackSessionAttributes, String)
+     */
+    public List<InstructorAttributes> getNonRespondentInstructors(FeedbackSessionAttributes session,
+                                                                  List<InstructorAttributes> instructors) {
+        List<FeedbackQuestionAttributes> questionsForCreator =
+                fqLogic.getFeedbackQuestionsForCreatorInstructor(session);
+        boolean hasQuestionsForCreator = !questionsForCreator.isEmpty();
+        boolean hasQuestionsForOtherInstructors =
+                !fqLogic.getFeedbackQuestionsForInstructor(questionsForCreator, false).isEmpty();
+
+        List<InstructorAttributes> nonRespondents = new ArrayList<>();
+        fsDb.loadRespondents(session);
+        Set<String> respondents = session.getRespondingInstructorList();
+        for (InstructorAttributes instructor : instructors) {
+            boolean hasQuestions = session.getCreatorEmail().equals(instructor.email)
+                                   ? hasQuestionsForCreator
+                                   : hasQuestionsForOtherInstructors;
+            if (hasQuestions && !respondents.contains(instructor.email)) {
+                nonRespondents.add(instructor);
+            }
+        }
+        return nonRespondents;
+    }
+
+    /**
+     * Returns the students in {@code students} who have not given all the responses needed for every question
+     * for students in the session, in the same order. The questions and their responses are loaded once
+     * for all the students, and the course roster at most once to resolve their recipients.
+     *
+     * @see #isFeedbackSessionFullyCompletedByStudent(String, String, String)
+     */
+    public List<StudentAttributes> getStudentsYetToFullyCompleteSession(FeedbackSessionAttributes session,
+                                                                        List<StudentAttributes> students)
+            throws EntityDoesNotExistException {
+        String feedbackSessionName = session.getFeedbackSessionName();
+        String courseId = session.getCourseId();
+        if (!isFeedbackSessionExists(feedbackSessionName, courseId)) {
+            throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_CHECK + courseId + "/" + feedbackSessionName);
+        }
+
+        List<FeedbackQuestionAttributes> questions =
+                fqLogic.getFeedbackQuestionsForStudents(feedbackSessionName, courseId);
+        Map<String, Map<String, Integer>> numberOfResponsesByGiverByQuestion = new HashMap<>();
+        for (FeedbackQuestionAttributes question : questions) {
+            Map<String, Integer> numberOfResponsesByGiver = new HashMap<>();
+            for (FeedbackResponseAttributes response : frLogic.getFeedbackResponsesForQuestion(question.getId())) {
+                numberOfResponsesByGiver.merge(response.giver, 1, Integer::sum);
+            }
+            numberOfResponsesByGiverByQuestion.put(question.getId(), numberOfResponsesByGiver);
+        }
+
+        CourseRoster roster = null;
+        List<StudentAttributes> studentsYetToComplete = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            for (FeedbackQuestionAttributes question : questions) {
+                int numberOfResponsesGiven =
+                        numberOfResponsesByGiverByQuestion.get(question.getId()).getOrDefault(student.email, 0);
+                int numberOfResponsesNeeded = question.numberOfEntitiesToGiveFeedbackTo;
+                if (numberOfResponsesNeeded == Const.MAX_POSSIBLE_RECIPIENTS) {
+                    if (roster == null) {
+                        roster = new CourseRoster(studentsLogic.getStudentsForCourse(courseId),
+                                instructorsLogic.getInstructorsForCourse(courseId));
+                    }
+                    numberOfResponsesNeeded = fqLogic.getRecipientsForQuestion(question, student.email,
+                            roster.getInstructorForEmail(student.email), student, roster).size();
+                }
+                if (numberOfResponsesGiven < numberOfResponsesNeeded) {
+                    studentsYetToComplete.add(student);
+                    break;
+                }
+            }
+        }
+        return studentsYetToComplete;
+    }
+
     public void updateFeedbackSession(FeedbackSessionAttributes newSession)
             throws InvalidParametersException, EntityDoesNotExistException {
 
@@ -1588,6 +1801,7 @@ public final class FeedbackSessionsLogic {
             }
         }
 
+        fsDb.loadRespondents(fsa);
         details.stats.submittedTotal += fsa.getRespondingStudentList().size() + fsa.getRespondingInstructorList().size();
 
         return details;
@@ -1717,6 +1931,8 @@ public final class FeedbackSessionsLogic {
         if (session == null) {
             throw new EntityDoesNotExistException(ERROR_NON_EXISTENT_FS_VIEW + courseId + "/" + feedbackSessionName);
         }
+        // the number of respondents is used to decide how the results are shown
+        fsDb.loadRespondents(session);
 
         List<FeedbackQuestionAttributes> allQuestions =
                 fqLogic.getFeedbackQuestionsForSession(feedbackSessionName, courseId);
@@ -1795,10 +2011,21 @@ public final class FeedbackSessionsLogic {
             String feedbackSessionName, String courseId, String userEmail, UserRole role, CourseRoster roster,
             Map<String, FeedbackQuestionAttributes> relevantQuestions, String section, StudentAttributes student,
             Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse) {
+        return getResponseComments(userEmail, role, roster, relevantQuestions, student, studentsEmailInTeam,
+                relevantResponse,
+                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section));
+    }
+
+    /**
+     * Returns the comments in {@code allResponseComments} that are visible to the user, grouped by response.
+     */
+    private Map<String, List<FeedbackResponseCommentAttributes>> getResponseComments(
+            String userEmail, UserRole role, CourseRoster roster,
+            Map<String, FeedbackQuestionAttributes> relevantQuestions, StudentAttributes student,
+            Set<String> studentsEmailInTeam, Map<String, FeedbackResponseAttributes> relevantResponse,
+            List<FeedbackResponseCommentAttributes> allResponseComments) {
 
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        List<FeedbackResponseCommentAttributes> allResponseComments =
-                frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
         for (FeedbackResponseCommentAttributes frc : allResponseComments) {
             FeedbackResponseAttributes relatedResponse = relevantResponse.get(frc.feedbackResponseId);
             FeedbackQuestionAttributes relatedQuestion = relevantQuestions.get(frc.feedbackQuestionId);
@@ -1865,6 +2092,55 @@ public final class FeedbackSessionsLogic {
                 List<FeedbackQuestionAttributes> allQuestions, Map<String, FeedbackQuestionAttributes> relevantQuestions,
                 boolean isIncludeResponseStatus, String section, String questionId) {
 
+        boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
+        // the question is one of the questions of the session, which are already loaded
+        FeedbackQuestionAttributes question = isQueryingResponseRateStatus
+                                            ? null
+                                            : allQuestions.stream()
+                                                    .filter(q -> q.getId().equals(questionId))
+                                                    .findFirst()
+                                                    .orElse(null);
+        if (question != null) {
+            List<FeedbackResponseAttributes> responsesForThisQn =
+                    frLogic.getViewableFeedbackResponsesForQuestionInSection(
+                            question, userEmail, UserRole.INSTRUCTOR, section);
+            List<FeedbackResponseCommentAttributes> commentsForThisQn = responsesForThisQn.isEmpty()
+                    ? new ArrayList<>()
+                    : frcLogic.getFeedbackResponseCommentForSessionInSection(courseId, feedbackSessionName, section);
+            StudentAttributes student = getStudent(courseId, userEmail, role);
+            return getFeedbackSessionResultsForQuestion(
+                    userEmail, role, roster, session, question, relevantQuestions, responsesForThisQn,
+                    commentsForThisQn, getInstructor(courseId, userEmail, role), student,
+                    getTeammateEmails(courseId, student), section);
+        }
+
+        FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
+        if (isQueryingResponseRateStatus) {
+            responseStatus = section == null && isIncludeResponseStatus
+                           ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
+                           : null;
+        }
+        Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
+        addSectionTeamNamesToTable(
+                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+
+        return new FeedbackSessionResultsBundle(
+                session, new ArrayList<>(), relevantQuestions, new HashMap<>(),
+                new HashMap<>(), new HashMap<>(), sectionTeamNameTable,
+                new HashMap<>(), responseStatus, roster, new HashMap<>(), true);
+    }
+
+    /**
+     * Gets the results of {@code question} that are visible to the user,
+     * from responses and comments of the question that are already loaded.
+     */
+    private FeedbackSessionResultsBundle getFeedbackSessionResultsForQuestion(
+            String userEmail, UserRole role, CourseRoster roster, FeedbackSessionAttributes session,
+            FeedbackQuestionAttributes question, Map<String, FeedbackQuestionAttributes> relevantQuestions,
+            List<FeedbackResponseAttributes> responsesForQuestion,
+            List<FeedbackResponseCommentAttributes> commentsForQuestion, InstructorAttributes instructor,
+            StudentAttributes student, Set<String> studentsEmailInTeam, String section) {
+
         List<FeedbackResponseAttributes> responses = new ArrayList<>();
         Map<String, String> emailNameTable = new HashMap<>();
         Map<String, String> emailLastNameTable = new HashMap<>();
@@ -1872,54 +2148,32 @@ public final class FeedbackSessionsLogic {
         Map<String, Set<String>> sectionTeamNameTable = new HashMap<>();
         Map<String, boolean[]> visibilityTable = new HashMap<>();
         Map<String, List<FeedbackResponseCommentAttributes>> responseComments = new HashMap<>();
-        FeedbackSessionResponseStatus responseStatus = new FeedbackSessionResponseStatus();
-        boolean isQueryingResponseRateStatus = questionId.equals(QUESTION_ID_FOR_RESPONSE_RATE);
 
-        if (isQueryingResponseRateStatus) {
-            responseStatus = section == null && isIncludeResponseStatus
-                           ? getFeedbackSessionResponseStatus(session, roster, allQuestions)
-                           : null;
-        } else {
-            FeedbackQuestionAttributes question = fqLogic.getFeedbackQuestion(questionId);
-            if (question != null) {
-                relevantQuestions.put(question.getId(), question);
-
-                List<FeedbackResponseAttributes> responsesForThisQn;
-
-                responsesForThisQn = frLogic.getViewableFeedbackResponsesForQuestionInSection(
-                                                question, userEmail, UserRole.INSTRUCTOR, section);
-                StudentAttributes student = getStudent(courseId, userEmail, role);
-                Set<String> studentsEmailInTeam = getTeammateEmails(courseId, student);
-                boolean hasResponses = !responsesForThisQn.isEmpty();
-                if (hasResponses) {
-                    Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
-                    for (FeedbackResponseAttributes response : responsesForThisQn) {
-                        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
-                        boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
-                                                                             question, instructor);
-                        if (isVisibleResponse) {
-                            relevantResponse.put(response.getId(), response);
-                            relevantQuestions.put(question.getId(), question);
-                            responses.add(response);
-                            addEmailNamePairsToTable(emailNameTable, response, question, roster);
-                            addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
-                            addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
-                            addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
-                        }
-                    }
-                    responseComments = getResponseComments(
-                            feedbackSessionName, courseId, userEmail, role, roster, relevantQuestions, section, student,
-                            studentsEmailInTeam, relevantResponse);
-                }
+        relevantQuestions.put(question.getId(), question);
+        Map<String, FeedbackResponseAttributes> relevantResponse = new HashMap<>();
+        for (FeedbackResponseAttributes response : responsesForQuestion) {
+            boolean isVisibleResponse = isResponseVisibleForUser(userEmail, role, null, null, response,
+                                                                 question, instructor);
+            if (isVisibleResponse) {
+                relevantResponse.put(response.getId(), response);
+                responses.add(response);
+                addEmailNamePairsToTable(emailNameTable, response, question, roster);
+                addEmailLastNamePairsToTable(emailLastNameTable, response, question, roster);
+                addEmailTeamNamePairsToTable(emailTeamNameTable, response, question, roster);
+                addVisibilityToTable(visibilityTable, question, response, userEmail, role, roster);
             }
         }
+        if (!responsesForQuestion.isEmpty()) {
+            responseComments = getResponseComments(userEmail, role, roster, relevantQuestions, student,
+                    studentsEmailInTeam, relevantResponse, commentsForQuestion);
+        }
         addSectionTeamNamesToTable(
-                sectionTeamNameTable, roster, courseId, userEmail, role, feedbackSessionName, section);
+                sectionTeamNameTable, roster, instructor, session.getFeedbackSessionName(), section);
 
         return new FeedbackSessionResultsBundle(
                 session, responses, relevantQuestions, emailNameTable,
                 emailLastNameTable, emailTeamNameTable, sectionTeamNameTable,
-                visibilityTable, responseStatus, roster, responseComments, true);
+                visibilityTable, new FeedbackSessionResponseStatus(), roster, responseComments, true);
     }
 
     private Map<String, FeedbackQuestionAttributes> getAllQuestions(
@@ -1977,7 +2231,13 @@ public final class FeedbackSessionsLogic {
     private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
                                     CourseRoster roster, String courseId, String userEmail, UserRole role,
                                     String feedbackSessionName, String sectionToView) {
-        InstructorAttributes instructor = getInstructor(courseId, userEmail, role);
+        addSectionTeamNamesToTable(sectionTeamNameTable, roster, getInstructor(courseId, userEmail, role),
+                                   feedbackSessionName, sectionToView);
+    }
+
+    private void addSectionTeamNamesToTable(Map<String, Set<String>> sectionTeamNameTable,
+                                    CourseRoster roster, InstructorAttributes instructor,
+                                    String feedbackSessionName, String sectionToView) {
         if (instructor != null) {
             for (StudentAttributes student : roster.getStudents()) {
                 boolean isVisibleResponse =
@@ -49,9 +49,10 @@ public final class InstructorsLogic {
     /**
      * Batch creates or updates documents for the given Instructors.
      * @param instructors a list of instructors to be put into documents
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<InstructorAttributes> instructors) {
-        instructorsDb.putDocuments(instructors);
+    public List<String> putDocuments(List<InstructorAttributes> instructors) {
+        return instructorsDb.putDocuments(instructors);
     }
 
     /**
@@ -83,7 +84,9 @@ public final class InstructorsLogic {
 
         log.info("going to create instructor :\n" + instructorToAdd.toString());
 
-        return instructorsDb.createInstructor(instructorToAdd);
+        InstructorAttributes createdInstructor = instructorsDb.createInstructor(instructorToAdd);
+        CourseRosterCache.invalidate(instructorToAdd.courseId);
+        return createdInstructor;
     }
 
     public void setArchiveStatusOfInstructor(String googleId, String courseId, boolean archiveStatus)
@@ -92,11 +95,12 @@ public final class InstructorsLogic {
         InstructorAttributes instructor = instructorsDb.getInstructorForGoogleId(courseId, googleId);
         instructor.isArchived = archiveStatus;
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public InstructorAttributes getInstructorForEmail(String courseId, String email) {
 
-        return instructorsDb.getInstructorForEmail(courseId, email);
+        return CourseRosterCache.getInstructorForEmail(courseId, email, instructorsDb::getInstructorForEmail);
     }
 
     public InstructorAttributes getInstructorById(String courseId, String email) {
@@ -115,10 +119,11 @@ public final class InstructorsLogic {
     }
 
     public List<InstructorAttributes> getInstructorsForCourse(String courseId) {
-        List<InstructorAttributes> instructorReturnList = instructorsDb.getInstructorsForCourse(courseId);
-        instructorReturnList.sort(InstructorAttributes.compareByName);
-
-        return instructorReturnList;
+        return CourseRosterCache.getInstructorsForCourse(courseId, id -> {
+            List<InstructorAttributes> instructorReturnList = instructorsDb.getInstructorsForCourse(id);
+            instructorReturnList.sort(InstructorAttributes.compareByName);
+            return instructorReturnList;
+        });
     }
 
     public List<InstructorAttributes> getInstructorsForGoogleId(String googleId) {
@@ -197,6 +202,7 @@ public final class InstructorsLogic {
         checkForUpdatingRespondents(instructor);
 
         instructorsDb.updateInstructorByGoogleId(instructor);
+        CourseRosterCache.invalidate(instructor.courseId);
     }
 
     private void checkForUpdatingRespondents(InstructorAttributes instructor)
@@ -235,6 +241,7 @@ public final class InstructorsLogic {
         verifyIsEmailOfInstructorOfCourse(email, instructor.courseId);
 
         instructorsDb.updateInstructorByEmail(instructor);
+        CourseRosterCache.invalidate(instructor.courseId);
     }
 
     public List<String> getInvalidityInfoForNewInstructorData(String name,
@@ -266,6 +273,7 @@ public final class InstructorsLogic {
     public void deleteInstructorCascade(String courseId, String email) {
         fsLogic.deleteInstructorFromRespondentsList(getInstructorForEmail(courseId, email));
         instructorsDb.deleteInstructor(courseId, email);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public void deleteInstructorsForGoogleIdAndCascade(String googleId) {
@@ -282,6 +290,7 @@ public final class InstructorsLogic {
     public void deleteInstructorsForCourse(String courseId) {
 
         instructorsDb.deleteInstructorsForCourse(courseId);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public List<InstructorAttributes> getCoOwnersForCourse(String courseId) {
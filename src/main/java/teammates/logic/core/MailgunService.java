@@ -1,15 +1,20 @@
 package teammates.logic.core;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Map;
 
 import javax.ws.rs.core.MediaType;
 
+import org.json.JSONObject;
+
 import com.sun.jersey.api.client.Client;
 import com.sun.jersey.api.client.ClientResponse;
 import com.sun.jersey.api.client.WebResource;
 import com.sun.jersey.api.client.filter.HTTPBasicAuthFilter;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
@@ -25,6 +30,11 @@ public class MailgunService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of recipients in one request, as specified by Mailgun.
+     */
+    private static final int MAX_RECIPIENTS = 1000;
+
     /**
      * {@inheritDoc}
      */
@@ -50,9 +60,67 @@ public class MailgunService extends EmailSenderService {
         return formData;
     }
 
+    /**
+     * Parses the {@code batch} of emails sharing the same template into one email to all the recipients.
+     * The substitutions in the template are replaced by recipient variables, so that each recipient
+     * receives a separate email with their own substitutions.
+     */
+    public FormDataMultiPart parseToEmail(List<EmailWrapper> batch) {
+        EmailWrapper firstWrapper = batch.get(0);
+        FormDataMultiPart formData = new FormDataMultiPart();
+
+        String sender = firstWrapper.getSenderName() == null || firstWrapper.getSenderName().isEmpty()
+                        ? firstWrapper.getSenderEmail()
+                        : firstWrapper.getSenderName() + " <" + firstWrapper.getSenderEmail() + ">";
+        formData.field("from", sender);
+
+        String content = firstWrapper.getContentTemplate();
+        for (String key : firstWrapper.getSubstitutions().keySet()) {
+            content = content.replace(key, "%recipient." + toRecipientVariableName(key) + "%");
+        }
+
+        JSONObject recipientVariables = new JSONObject();
+        for (EmailWrapper wrapper : batch) {
+            formData.field("to", wrapper.getRecipient());
+            JSONObject variables = new JSONObject();
+            for (Map.Entry<String, String> substitution : wrapper.getSubstitutions().entrySet()) {
+                variables.put(toRecipientVariableName(substitution.getKey()), substitution.getValue());
+            }
+            recipientVariables.put(wrapper.getRecipient(), variables);
+        }
+        formData.field("recipient-variables", recipientVariables.toString());
+
+        formData.field("h:Reply-To", firstWrapper.getReplyTo());
+        formData.field("subject", firstWrapper.getSubject());
+        formData.field("html", content);
+
+        return formData;
+    }
+
+    private static String toRecipientVariableName(String substitutionKey) {
+        return substitutionKey.replaceAll("[^A-Za-z0-9_]", "");
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) {
-        try (FormDataMultiPart email = parseToEmail(wrapper)) {
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_RECIPIENTS;
+    }
+
+    @Override
+    protected void sendEmailBatchWithService(List<EmailWrapper> batch) throws EmailSendingException {
+        if (!send(parseToEmail(batch))) {
+            throw new EmailSendingException("Mailgun did not accept the batch of " + batch.size() + " emails");
+        }
+    }
+
+    private boolean send(FormDataMultiPart formData) {
+        boolean isSent = true;
+        try (FormDataMultiPart email = formData) {
             Client client = Client.create();
             client.addFilter(new HTTPBasicAuthFilter("api", Config.MAILGUN_APIKEY));
             WebResource webResource =
@@ -63,10 +131,12 @@ public class MailgunService extends EmailSenderService {
 
             if (isNotSuccessStatus(response.getStatus())) {
                 log.severe("Email failed to send: " + response.getStatusInfo().getReasonPhrase());
+                isSent = false;
             }
         } catch (IOException e) {
             log.warning("Could not clean up resources after sending email: " + TeammatesException.toStringWithStackTrace(e));
         }
+        return isSent;
     }
 
 }
@@ -1,8 +1,11 @@
 package teammates.logic.core;
 
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
 import org.json.JSONArray;
 import org.json.JSONObject;
-import org.jsoup.Jsoup;
 
 import com.mailjet.client.MailjetClient;
 import com.mailjet.client.MailjetRequest;
@@ -11,6 +14,7 @@ import com.mailjet.client.errors.MailjetException;
 import com.mailjet.client.errors.MailjetSocketTimeoutException;
 import com.mailjet.client.resource.Email;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -27,6 +31,17 @@ public class MailjetService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of recipients in one request, as specified by Mailjet.
+     */
+    private static final int MAX_RECIPIENTS = 50;
+
+    /**
+     * Opening delimiters of the template language of Mailjet,
+     * i.e. <code>[[</code>, <code>&#123;&#123;</code> and <code>&#123;%</code>.
+     */
+    private static final Pattern TEMPLATE_LANGUAGE_DELIMITER = Pattern.compile("\\[\\[|\\{\\{|\\{%");
+
     /**
      * {@inheritDoc}
      */
@@ -46,18 +61,101 @@ public class MailjetService extends EmailSenderService {
         request.property(Email.HEADERS, new JSONObject().put("Reply-To", wrapper.getReplyTo()));
         request.property(Email.SUBJECT, wrapper.getSubject());
         request.property(Email.HTMLPART, wrapper.getContent());
-        request.property(Email.TEXTPART, Jsoup.parse(wrapper.getContent()).text());
+        request.property(Email.TEXTPART, getPlainTextContent(wrapper.getContent()));
+        return request;
+    }
+
+    /**
+     * Parses the {@code batch} of emails sharing the same template into one request to all the recipients.
+     * The substitutions in the template are replaced by template variables, so that each recipient
+     * receives a separate email with their own substitutions.
+     */
+    public MailjetRequest parseToEmail(List<EmailWrapper> batch) {
+        EmailWrapper firstWrapper = batch.get(0);
+        MailjetRequest request = new MailjetRequest(Email.resource);
+        request.property(Email.FROMEMAIL, firstWrapper.getSenderEmail());
+        if (firstWrapper.getSenderName() != null && !firstWrapper.getSenderName().isEmpty()) {
+            request.property(Email.FROMNAME, firstWrapper.getSenderName());
+        }
+
+        JSONArray recipients = new JSONArray();
+        for (EmailWrapper wrapper : batch) {
+            JSONObject vars = new JSONObject();
+            for (Map.Entry<String, String> substitution : wrapper.getSubstitutions().entrySet()) {
+                vars.put(toTemplateVariableName(substitution.getKey()), substitution.getValue());
+            }
+            recipients.put(new JSONObject().put("Email", wrapper.getRecipient()).put("Vars", vars));
+        }
+        request.property(Email.RECIPIENTS, recipients);
+
+        String content = firstWrapper.getContentTemplate();
+        for (String key : firstWrapper.getSubstitutions().keySet()) {
+            content = content.replace(key, "[[var:" + toTemplateVariableName(key) + "]]");
+        }
+
+        request.property(Email.HEADERS, new JSONObject().put("Reply-To", firstWrapper.getReplyTo()));
+        request.property(Email.SUBJECT, firstWrapper.getSubject());
+        request.property(Email.HTMLPART, content);
+        request.property(Email.TEXTPART, getPlainTextContent(content));
+        request.property("Mj-TemplateLanguage", true);
         return request;
     }
 
+    private static String toTemplateVariableName(String substitutionKey) {
+        return substitutionKey.replaceAll("[^A-Za-z0-9_]", "");
+    }
+
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws MailjetException, MailjetSocketTimeoutException {
-        MailjetRequest email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_RECIPIENTS;
+    }
+
+    /**
+     * {@inheritDoc} The template language of Mailjet is enabled for a batch, so a batch is not sent
+     * if its contents contain delimiters of the template language, e.g. written by an instructor.
+     */
+    @Override
+    public boolean canSendAsBatch(List<EmailWrapper> batch) {
+        EmailWrapper firstWrapper = batch.get(0);
+        if (hasTemplateLanguageDelimiter(firstWrapper.getContentTemplate())
+                || hasTemplateLanguageDelimiter(firstWrapper.getSubject())) {
+            return false;
+        }
+        for (EmailWrapper wrapper : batch) {
+            for (String value : wrapper.getSubstitutions().values()) {
+                if (hasTemplateLanguageDelimiter(value)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean hasTemplateLanguageDelimiter(String text) {
+        return text != null && TEMPLATE_LANGUAGE_DELIMITER.matcher(text).find();
+    }
+
+    @Override
+    protected void sendEmailBatchWithService(List<EmailWrapper> batch)
+            throws EmailSendingException, MailjetException, MailjetSocketTimeoutException {
+        if (!send(parseToEmail(batch))) {
+            throw new EmailSendingException("Mailjet did not accept the batch of " + batch.size() + " emails");
+        }
+    }
+
+    private boolean send(MailjetRequest email) throws MailjetException, MailjetSocketTimeoutException {
         MailjetClient mailjet = new MailjetClient(Config.MAILJET_APIKEY, Config.MAILJET_SECRETKEY);
         MailjetResponse response = mailjet.post(email);
         if (isNotSuccessStatus(response.getStatus())) {
             log.severe("Email failed to send: " + response.getData().toString());
+            return false;
         }
+        return true;
     }
 
 }
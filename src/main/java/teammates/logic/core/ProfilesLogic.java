@@ -1,5 +1,8 @@
 package teammates.logic.core;
 
+import java.util.Collection;
+import java.util.List;
+
 import com.google.appengine.api.blobstore.BlobKey;
 
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -28,6 +31,10 @@ public final class ProfilesLogic {
         return profilesDb.getStudentProfile(googleId);
     }
 
+    public List<StudentProfileAttributes> getStudentProfiles(Collection<String> googleIds) {
+        return profilesDb.getStudentProfiles(googleIds);
+    }
+
     public void updateStudentProfile(StudentProfileAttributes newStudentProfileAttributes)
             throws InvalidParametersException, EntityDoesNotExistException {
         profilesDb.updateStudentProfile(newStudentProfileAttributes);
@@ -0,0 +1,108 @@
+package teammates.logic.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.storage.api.EntitiesDb;
+
+/**
+ * Buffers the search document writes of a single request, so that they are written together
+ * at the end of the request instead of one at a time while the request is being processed.
+ *
+ * <p>Buffering is only active on the current thread between {@link #start()} and {@link #stop()}.
+ * Documents which cannot be written when the buffer is {@link #flush() flushed} are re-indexed later
+ * from the datastore through {@link #reindexDocuments(String, List)}.
+ */
+public final class SearchDocumentWriteBuffer {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    private SearchDocumentWriteBuffer() {
+        // utility class
+    }
+
+    /**
+     * Starts buffering search document writes on the current thread, discarding any writes buffered before.
+     */
+    public static void start() {
+        EntitiesDb.startBufferingDocumentWrites();
+    }
+
+    /**
+     * Writes the search documents buffered on the current thread.
+     *
+     * @return table of index name to the IDs of the documents which failed to be written due to a
+     *         transient error and are to be re-indexed later
+     */
+    public static Map<String, List<String>> flush() {
+        return EntitiesDb.flushBufferedDocumentWrites();
+    }
+
+    /**
+     * Stops buffering search document writes on the current thread and discards the writes not yet flushed.
+     */
+    public static void stop() {
+        EntitiesDb.stopBufferingDocumentWrites();
+    }
+
+    /**
+     * Puts the search documents with the given IDs again, based on the current state of the datastore.
+     * Documents whose entities no longer exist are skipped.
+     *
+     * @param indexName one of the indexes in {@link Const.SearchIndex}
+     * @return IDs of the documents which failed to be put
+     */
+    public static List<String> reindexDocuments(String indexName, List<String> documentIds) {
+        List<String> failedDocumentIds = new ArrayList<>();
+        switch (indexName) {
+        case Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT:
+            List<Long> commentIds = new ArrayList<>();
+            for (String documentId : documentIds) {
+                commentIds.add(Long.valueOf(documentId));
+            }
+            failedDocumentIds =
+                    frcLogic.putDocuments(new ArrayList<>(frcLogic.getFeedbackResponseComments(commentIds).values()));
+            break;
+        case Const.SearchIndex.STUDENT:
+            // the ID of a student document is the registration key of the student
+            List<StudentAttributes> students = new ArrayList<>();
+            for (String documentId : documentIds) {
+                StudentAttributes student = studentsLogic.getStudentForRegistrationKey(StringHelper.encrypt(documentId));
+                if (student != null) {
+                    students.add(student);
+                }
+            }
+            failedDocumentIds = studentsLogic.putDocuments(students);
+            break;
+        case Const.SearchIndex.INSTRUCTOR:
+            // the ID of an instructor document is the encrypted registration key of the instructor
+            List<InstructorAttributes> instructors = new ArrayList<>();
+            for (String documentId : documentIds) {
+                InstructorAttributes instructor = instructorsLogic.getInstructorForRegistrationKey(documentId);
+                if (instructor != null) {
+                    instructors.add(instructor);
+                }
+            }
+            failedDocumentIds = instructorsLogic.putDocuments(instructors);
+            break;
+        default:
+            Assumption.fail("Unknown search index: " + indexName);
+            break;
+        }
+        log.info("Re-indexed " + (documentIds.size() - failedDocumentIds.size()) + " of " + documentIds.size()
+                 + " document(s) in search index " + indexName);
+        return failedDocumentIds;
+    }
+
+}
@@ -1,8 +1,7 @@
 package teammates.logic.core;
 
 import java.io.IOException;
-
-import org.jsoup.Jsoup;
+import java.util.List;
 
 import com.sendgrid.Content;
 import com.sendgrid.Email;
@@ -13,6 +12,7 @@ import com.sendgrid.Request;
 import com.sendgrid.Response;
 import com.sendgrid.SendGrid;
 
+import teammates.common.exception.EmailSendingException;
 import teammates.common.util.Config;
 import teammates.common.util.EmailWrapper;
 import teammates.common.util.Logger;
@@ -27,11 +27,42 @@ public class SendgridService extends EmailSenderService {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of personalizations in one request, as specified by SendGrid.
+     */
+    private static final int MAX_PERSONALIZATIONS = 1000;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Mail parseToEmail(EmailWrapper wrapper) {
+        Mail email = parseToEmailWithoutRecipients(wrapper, wrapper.getContent());
+        Personalization personalization = new Personalization();
+        personalization.addTo(new Email(wrapper.getRecipient()));
+        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
+            personalization.addBcc(new Email(wrapper.getBcc()));
+        }
+        email.addPersonalization(personalization);
+        return email;
+    }
+
+    /**
+     * Parses the {@code batch} of emails sharing the same template into one email
+     * with a personalization for each recipient, containing the substitutions for the recipient.
+     */
+    public Mail parseToEmail(List<EmailWrapper> batch) {
+        Mail email = parseToEmailWithoutRecipients(batch.get(0), batch.get(0).getContentTemplate());
+        for (EmailWrapper wrapper : batch) {
+            Personalization personalization = new Personalization();
+            personalization.addTo(new Email(wrapper.getRecipient()));
+            wrapper.getSubstitutions().forEach(personalization::addSubstitution);
+            email.addPersonalization(personalization);
+        }
+        return email;
+    }
+
+    private Mail parseToEmailWithoutRecipients(EmailWrapper wrapper, String content) {
         Mail email = new Mail();
         Email sender;
         if (wrapper.getSenderName() == null || wrapper.getSenderName().isEmpty()) {
@@ -41,21 +72,30 @@ public class SendgridService extends EmailSenderService {
         }
         email.setFrom(sender);
         email.setReplyTo(new Email(wrapper.getReplyTo()));
-        Personalization personalization = new Personalization();
-        personalization.addTo(new Email(wrapper.getRecipient()));
-        if (wrapper.getBcc() != null && !wrapper.getBcc().isEmpty()) {
-            personalization.addBcc(new Email(wrapper.getBcc()));
-        }
-        email.addPersonalization(personalization);
         email.setSubject(wrapper.getSubject());
-        email.addContent(new Content("text/plain", Jsoup.parse(wrapper.getContent()).text()));
-        email.addContent(new Content("text/html", wrapper.getContent()));
+        email.addContent(new Content("text/plain", getPlainTextContent(content)));
+        email.addContent(new Content("text/html", content));
         return email;
     }
 
     @Override
     protected void sendEmailWithService(EmailWrapper wrapper) throws IOException {
-        Mail email = parseToEmail(wrapper);
+        send(parseToEmail(wrapper));
+    }
+
+    @Override
+    protected int getMaxBatchSize() {
+        return MAX_PERSONALIZATIONS;
+    }
+
+    @Override
+    protected void sendEmailBatchWithService(List<EmailWrapper> batch) throws EmailSendingException, IOException {
+        if (!send(parseToEmail(batch))) {
+            throw new EmailSendingException("SendGrid did not accept the batch of " + batch.size() + " emails");
+        }
+    }
+
+    private boolean send(Mail email) throws IOException {
         SendGrid sendgrid = new SendGrid(Config.SENDGRID_APIKEY);
         Request request = new Request();
         request.setMethod(Method.POST);
@@ -64,7 +104,9 @@ public class SendgridService extends EmailSenderService {
         Response response = sendgrid.api(request);
         if (isNotSuccessStatus(response.getStatusCode())) {
             log.severe("Email failed to send: " + response.getBody());
+            return false;
         }
+        return true;
     }
 
 }
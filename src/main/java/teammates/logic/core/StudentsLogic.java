@@ -1,15 +1,18 @@
 package teammates.logic.core;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import teammates.common.datatransfer.CourseEnrollmentResult;
+import teammates.common.datatransfer.CourseStatisticsBundle;
 import teammates.common.datatransfer.StudentAttributesFactory;
 import teammates.common.datatransfer.StudentEnrollDetails;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.TeamDetailsBundle;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.attributes.StudentProfileAttributes;
@@ -66,6 +69,7 @@ public final class StudentsLogic {
     public void createStudentCascade(StudentAttributes studentData, boolean hasDocument)
             throws InvalidParametersException, EntityAlreadyExistsException, EntityDoesNotExistException {
         studentsDb.createStudent(studentData, hasDocument);
+        CourseRosterCache.invalidate(studentData.course);
 
         if (!coursesLogic.isCoursePresent(studentData.course)) {
             throw new EntityDoesNotExistException(
@@ -75,7 +79,7 @@ public final class StudentsLogic {
     }
 
     public StudentAttributes getStudentForEmail(String courseId, String email) {
-        return studentsDb.getStudentForEmail(courseId, email);
+        return CourseRosterCache.getStudentForEmail(courseId, email, studentsDb::getStudentForEmail);
     }
 
     public StudentAttributes getStudentForCourseIdAndGoogleId(String courseId, String googleId) {
@@ -91,7 +95,25 @@ public final class StudentsLogic {
     }
 
     public List<StudentAttributes> getStudentsForCourse(String courseId) {
-        return studentsDb.getStudentsForCourse(courseId);
+        return CourseRosterCache.getStudentsForCourse(courseId, studentsDb::getStudentsForCourse);
+    }
+
+    /**
+     * Returns the number of students in each team and section of the course {@code courseId}.
+     *
+     * @see StudentsDb#getCourseStatistics(String)
+     */
+    public CourseStatisticsBundle getCourseStatistics(String courseId) {
+        return studentsDb.getCourseStatistics(courseId);
+    }
+
+    /**
+     * Returns the number of unregistered students in the course {@code courseId}.
+     *
+     * @see StudentsDb#getNumberOfUnregisteredStudentsForCourse(String)
+     */
+    public int getNumberOfUnregisteredStudentsForCourse(String courseId) {
+        return studentsDb.getNumberOfUnregisteredStudentsForCourse(courseId);
     }
 
     public List<StudentAttributes> getStudentsForTeam(String teamName, String courseId) {
@@ -239,6 +261,7 @@ public final class StudentsLogic {
 
         studentsDb.updateStudent(student.course, originalEmail, student.name, student.team, student.section,
                                  student.email, student.googleId, student.comments, hasDocument, false);
+        CourseRosterCache.invalidate(student.course);
 
         // cascade email change, if any
         if (!originalEmail.equals(student.email)) {
@@ -264,6 +287,7 @@ public final class StudentsLogic {
         studentsDb.updateStudent(originalStudent.course, originalEmail, originalStudent.name,
                                  originalStudent.team, originalStudent.section, originalStudent.email,
                                  originalStudent.googleId, originalStudent.comments, hasDocument, false);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public CourseEnrollmentResult enrollStudents(String enrollLines, String courseId)
@@ -295,22 +319,38 @@ public final class StudentsLogic {
         verifyIsWithinSizeLimitPerEnrollment(studentList);
         validateSectionsAndTeams(studentList, courseId);
 
-        // TODO: can we use a batch persist operation here?
-        // enroll all students
+        // enroll all students in one go: the existing students are loaded together,
+        // compared with the enroll lines in memory, and the changes are written in batches
+        Set<String> enrolledEmails = new HashSet<>();
         for (StudentAttributes student : studentList) {
-            StudentEnrollDetails enrollmentDetails;
+            enrolledEmails.add(student.email);
+        }
+        Map<String, StudentAttributes> originalStudents = studentsDb.getStudentsForEmails(courseId, enrolledEmails);
 
-            enrollmentDetails = enrollStudent(student, hasDocument);
+        List<StudentAttributes> studentsToSave = new ArrayList<>();
+        for (StudentAttributes student : studentList) {
+            StudentEnrollDetails enrollmentDetails =
+                    prepareStudentForEnrollment(student, originalStudents.get(student.email));
             student.updateStatus = enrollmentDetails.updateStatus;
+            if (enrollmentDetails.updateStatus != StudentUpdateStatus.UNMODIFIED) {
+                studentsToSave.add(student);
+            }
 
             enrollmentList.add(enrollmentDetails);
             returnList.add(student);
         }
 
+        studentsDb.createOrUpdateStudents(courseId, studentsToSave, hasDocument);
+        CourseRosterCache.invalidate(courseId);
+
         // add to return list students not included in the enroll list.
+        Set<String> enrolledEmailsIgnoringCase = new HashSet<>();
+        for (StudentAttributes student : studentList) {
+            enrolledEmailsIgnoringCase.add(student.email.toLowerCase());
+        }
         List<StudentAttributes> studentsInCourse = getStudentsForCourse(courseId);
         for (StudentAttributes student : studentsInCourse) {
-            if (!isInEnrollList(student, returnList)) {
+            if (!enrolledEmailsIgnoringCase.contains(student.email.toLowerCase())) {
                 student.updateStatus = StudentUpdateStatus.NOT_IN_ENROLL_LIST;
                 returnList.add(student);
             }
@@ -468,6 +508,7 @@ public final class StudentsLogic {
         frLogic.deleteFeedbackResponsesForStudentAndCascade(courseId, studentEmail);
         fsLogic.deleteStudentFromRespondentsList(getStudentForEmail(courseId, studentEmail));
         studentsDb.deleteStudent(courseId, studentEmail, hasDocument);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public void deleteStudentsForGoogleId(String googleId) {
@@ -476,6 +517,7 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleId(googleId);
+        CourseRosterCache.invalidate();
     }
 
     public void deleteStudentsForGoogleIdWithoutDocument(String googleId) {
@@ -484,6 +526,7 @@ public final class StudentsLogic {
             fsLogic.deleteStudentFromRespondentsList(student);
         }
         studentsDb.deleteStudentsForGoogleIdWithoutDocument(googleId);
+        CourseRosterCache.invalidate();
     }
 
     public void deleteStudentsForGoogleIdAndCascade(String googleId) {
@@ -497,43 +540,30 @@ public final class StudentsLogic {
 
     public void deleteStudentsForCourse(String courseId) {
         studentsDb.deleteStudentsForCourse(courseId);
+        CourseRosterCache.invalidate(courseId);
     }
 
     public void deleteStudentsForCourseWithoutDocument(String courseId) {
         studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
-    }
-
-    public void adjustFeedbackResponseForEnrollments(
-            List<StudentEnrollDetails> enrollmentList,
-            FeedbackResponseAttributes response) throws InvalidParametersException, EntityDoesNotExistException {
-        for (StudentEnrollDetails enrollment : enrollmentList) {
-            if (enrollment.updateStatus != StudentUpdateStatus.MODIFIED) {
-                continue;
-            }
-
-            boolean isResponseDeleted = false;
-            if (isTeamChanged(enrollment.oldTeam, enrollment.newTeam)) {
-                isResponseDeleted = frLogic.updateFeedbackResponseForChangingTeam(enrollment, response);
-            }
-
-            if (!isResponseDeleted && isSectionChanged(enrollment.oldSection, enrollment.newSection)) {
-                frLogic.updateFeedbackResponseForChangingSection(enrollment, response);
-            }
-        }
+        CourseRosterCache.invalidate(courseId);
     }
 
     /**
      * Batch creates or updates documents for the given students.
+     *
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<StudentAttributes> students) {
-        studentsDb.putDocuments(students);
+    public List<String> putDocuments(List<StudentAttributes> students) {
+        return studentsDb.putDocuments(students);
     }
 
-    private StudentEnrollDetails enrollStudent(StudentAttributes validStudentAttributes, Boolean hasDocument)
-            throws InvalidParametersException, EntityDoesNotExistException, EntityAlreadyExistsException {
-        StudentAttributes originalStudentAttributes = getStudentForEmail(
-                validStudentAttributes.course, validStudentAttributes.email);
-
+    /**
+     * Works out how enrolling {@code validStudentAttributes} changes {@code originalStudentAttributes},
+     * the existing student with the same email if any, and fills in the details to keep for an existing student.
+     * Nothing is written to the datastore.
+     */
+    private StudentEnrollDetails prepareStudentForEnrollment(StudentAttributes validStudentAttributes,
+            StudentAttributes originalStudentAttributes) throws InvalidParametersException {
         StudentEnrollDetails enrollmentDetails = new StudentEnrollDetails();
         enrollmentDetails.course = validStudentAttributes.course;
         enrollmentDetails.email = validStudentAttributes.email;
@@ -544,8 +574,10 @@ public final class StudentsLogic {
         if (validStudentAttributes.isEnrollInfoSameAs(originalStudentAttributes)) {
             enrollmentDetails.updateStatus = StudentUpdateStatus.UNMODIFIED;
         } else if (isModifyingExistingStudent) {
-            updateStudentCascadeWithSubmissionAdjustmentScheduled(originalStudentAttributes.email,
-                                                                  validStudentAttributes, true);
+            validStudentAttributes.updateWithExistingRecord(originalStudentAttributes);
+            if (!validStudentAttributes.isValid()) {
+                throw new InvalidParametersException(validStudentAttributes.getInvalidityInfo());
+            }
             enrollmentDetails.updateStatus = StudentUpdateStatus.MODIFIED;
 
             if (!originalStudentAttributes.team.equals(validStudentAttributes.team)) {
@@ -555,7 +587,6 @@ public final class StudentsLogic {
                 enrollmentDetails.oldSection = originalStudentAttributes.section;
             }
         } else {
-            createStudentCascade(validStudentAttributes, hasDocument);
             enrollmentDetails.updateStatus = StudentUpdateStatus.NEW;
         }
 
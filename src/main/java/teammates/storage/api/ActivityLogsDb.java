@@ -0,0 +1,138 @@
+package teammates.storage.api;
+
+import static com.googlecode.objectify.ObjectifyService.ofy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Cursor;
+import com.google.appengine.api.datastore.QueryResultIterator;
+import com.google.common.collect.Iterables;
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.cmd.Query;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Assumption;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+import teammates.storage.entity.ActivityLog;
+
+/**
+ * Handles operations for activity logs, which are only ever appended and queried.
+ *
+ * @see ActivityLog
+ * @see ActivityLogEntry
+ */
+public class ActivityLogsDb {
+
+    /**
+     * Number of activity logs read from the datastore at a time while iterating over query results.
+     */
+    private static final int QUERY_BATCH_SIZE = 300;
+
+    /**
+     * Number of activity logs deleted at a time.
+     */
+    private static final int DELETE_BATCH_SIZE = 500;
+
+    /**
+     * Queues the {@code entry} to be written at the end of the request, together with the other deferred writes
+     * of the request. The request still waits for the write before it completes.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void putActivityLog(ActivityLogEntry entry) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entry);
+
+        ofy().defer().save().entity(new ActivityLog(entry));
+    }
+
+    /**
+     * Returns the activity logs with time from {@code startTime} to {@code endTime} inclusive, latest first.
+     * The logs are read in batches as the result is iterated over, so that iteration can stop as soon as
+     * enough logs are found.
+     *
+     * <p>At most one of the following filters is applied, in this order of preference, using the index on it;
+     * the other filters are left to the caller. All of them are case-insensitive and can be null.
+     * @param person the Google ID, email or name of the user
+     * @param roles the roles of the user, any of which matches
+     * @param actionNames the names of the actions, any of which matches
+     */
+    public Iterable<ActivityLogEntry> getActivityLogs(long startTime, long endTime, String person,
+            List<String> roles, List<String> actionNames) {
+        Query<ActivityLog> query = ofy().load().type(ActivityLog.class)
+                .filter("logTime >=", TimeHelper.convertInstantToDate(Instant.ofEpochMilli(startTime)))
+                .filter("logTime <=", TimeHelper.convertInstantToDate(Instant.ofEpochMilli(endTime)));
+
+        if (person != null) {
+            query = query.filter("userIdentities =", person.toLowerCase());
+        } else if (roles != null) {
+            query = query.filter("userRoleForSearch in", toLowerCase(roles));
+        } else if (actionNames != null) {
+            query = query.filter("actionNameForSearch in", toLowerCase(actionNames));
+        }
+
+        return Iterables.transform(query.order("-logTime").chunk(QUERY_BATCH_SIZE).iterable(),
+                ActivityLog::toActivityLogEntry);
+    }
+
+    /**
+     * Deletes all the activity logs with time before {@code time}.
+     *
+     * @see #deleteActivityLogsBefore(long, int)
+     */
+    public void deleteActivityLogsBefore(long time) {
+        deleteActivityLogsBefore(time, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Deletes up to {@code maxLogsToDelete} of the activity logs with time before {@code time}, oldest first,
+     * e.g. those older than the period of logs to keep.
+     *
+     * <p>The logs are deleted in batches of {@value #DELETE_BATCH_SIZE}, each read with a keys-only query
+     * continuing from the cursor of the previous batch, so that the keys are never all loaded at once
+     * and logs already deleted are not read again.
+     *
+     * @return the number of logs deleted, which is less than {@code maxLogsToDelete} only if no such logs remain
+     */
+    public int deleteActivityLogsBefore(long time, int maxLogsToDelete) {
+        Query<ActivityLog> query = ofy().load().type(ActivityLog.class)
+                .filter("logTime <", TimeHelper.convertInstantToDate(Instant.ofEpochMilli(time)))
+                .order("logTime");
+
+        int numberOfLogsDeleted = 0;
+        Cursor cursor = null;
+        while (numberOfLogsDeleted < maxLogsToDelete) {
+            Query<ActivityLog> batchQuery =
+                    query.limit(Math.min(DELETE_BATCH_SIZE, maxLogsToDelete - numberOfLogsDeleted));
+            if (cursor != null) {
+                batchQuery = batchQuery.startAt(cursor);
+            }
+
+            List<Key<ActivityLog>> keys = new ArrayList<>();
+            QueryResultIterator<Key<ActivityLog>> iterator = batchQuery.keys().iterator();
+            while (iterator.hasNext()) {
+                keys.add(iterator.next());
+            }
+            if (keys.isEmpty()) {
+                break;
+            }
+
+            ofy().delete().keys(keys).now();
+            numberOfLogsDeleted += keys.size();
+            cursor = iterator.getCursor();
+        }
+        return numberOfLogsDeleted;
+    }
+
+    private static List<String> toLowerCase(List<String> values) {
+        List<String> lowerCaseValues = new ArrayList<>();
+        for (String value : values) {
+            lowerCaseValues.add(value.toLowerCase());
+        }
+        return lowerCaseValues;
+    }
+
+}
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import com.google.appengine.api.blobstore.BlobKey;
 import com.google.appengine.api.search.Document;
@@ -323,15 +324,25 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
-    protected void putDocuments(String indexName, List<SearchDocument> documents) {
+    /**
+     * Batch creates or updates the given search documents.
+     *
+     * @return IDs of the documents which failed to be put
+     */
+    protected List<String> putDocuments(String indexName, List<SearchDocument> documents) {
         List<Document> searchDocuments = new ArrayList<>();
         for (SearchDocument document : documents) {
             searchDocuments.add(document.build());
         }
         try {
-            SearchManager.putDocuments(indexName, searchDocuments);
+            return SearchManager.putDocuments(indexName, searchDocuments);
         } catch (Exception e) {
             log.severe("Failed to batch put searchable documents in " + indexName + " for " + documents.toString());
+            List<String> documentIds = new ArrayList<>();
+            for (Document document : searchDocuments) {
+                documentIds.add(document.getId());
+            }
+            return documentIds;
         }
     }
 
@@ -355,4 +366,40 @@ public abstract class EntitiesDb<E extends BaseEntity, A extends EntityAttribute
         }
     }
 
+    protected void deleteDocuments(String indexName, List<String> documentIds) {
+        try {
+            SearchManager.deleteDocuments(indexName, documentIds);
+        } catch (Exception e) {
+            log.info("Unable to delete documents in the index: " + indexName + " with document ids " + documentIds);
+        }
+    }
+
+    /**
+     * Starts buffering the search document writes made on the current thread.
+     *
+     * @see SearchManager#startBufferingWrites()
+     */
+    public static void startBufferingDocumentWrites() {
+        SearchManager.startBufferingWrites();
+    }
+
+    /**
+     * Writes the search documents buffered on the current thread.
+     *
+     * @return table of index name to the IDs of the documents which are to be put again later
+     * @see SearchManager#flushBufferedWrites()
+     */
+    public static Map<String, List<String>> flushBufferedDocumentWrites() {
+        return SearchManager.flushBufferedWrites();
+    }
+
+    /**
+     * Stops buffering search document writes on the current thread.
+     *
+     * @see SearchManager#stopBufferingWrites()
+     */
+    public static void stopBufferingDocumentWrites() {
+        SearchManager.stopBufferingWrites();
+    }
+
 }
@@ -4,7 +4,11 @@ import static com.googlecode.objectify.ObjectifyService.ofy;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -53,6 +57,36 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
                 "Trying to get non-existent Question: " + feedbackQuestionId);
     }
 
+    /**
+     * Checks which of the questions with the given IDs exist, in a single batch.
+     * The questions are not converted to attributes, so that checking is cheap.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the IDs of the questions which exist.
+     */
+    public Set<String> getExistingFeedbackQuestionIds(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        return new HashSet<>(getFeedbackQuestionEntities(feedbackQuestionIds).keySet());
+    }
+
+    /**
+     * Gets the questions with the given IDs in a single batch.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return a map of question ID to question, which contains no entry for IDs that are not found.
+     */
+    public Map<String, FeedbackQuestionAttributes> getFeedbackQuestions(Collection<String> feedbackQuestionIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackQuestionIds);
+
+        Map<String, FeedbackQuestionAttributes> questions = new HashMap<>();
+        for (Map.Entry<String, FeedbackQuestion> entry
+                : getFeedbackQuestionEntities(feedbackQuestionIds).entrySet()) {
+            questions.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return questions;
+    }
+
     public FeedbackQuestionAttributes createFeedbackQuestionWithoutExistenceCheck(
             FeedbackQuestionAttributes entityToAdd) throws InvalidParametersException {
         return makeAttributes(createEntityWithoutExistenceCheck(entityToAdd));
@@ -183,6 +217,24 @@ public class FeedbackQuestionsDb extends EntitiesDb<FeedbackQuestion, FeedbackQu
         return ofy().load().key(key).now();
     }
 
+    // Gets the question entities whose Keys (feedbackQuestionIds) are known, mapped by feedbackQuestionId.
+    private Map<String, FeedbackQuestion> getFeedbackQuestionEntities(Collection<String> feedbackQuestionIds) {
+        Map<Key<FeedbackQuestion>, String> idsByKey = new HashMap<>();
+        for (String feedbackQuestionId : feedbackQuestionIds) {
+            Key<FeedbackQuestion> key = makeKeyOrNullFromWebSafeString(feedbackQuestionId);
+            if (key != null) {
+                idsByKey.put(key, feedbackQuestionId);
+            }
+        }
+
+        Map<String, FeedbackQuestion> questionsById = new HashMap<>();
+        for (Map.Entry<Key<FeedbackQuestion>, FeedbackQuestion> entry
+                : ofy().load().keys(idsByKey.keySet()).entrySet()) {
+            questionsById.put(idsByKey.get(entry.getKey()), entry.getValue());
+        }
+        return questionsById;
+    }
+
     // Gets a feedbackQuestion based on feedbackSessionName and questionNumber.
     private FeedbackQuestion getFeedbackQuestionEntity(
             String feedbackSessionName, String courseId, int questionNumber) {
@@ -30,7 +30,6 @@ import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.search.FeedbackResponseCommentSearchDocument;
 import teammates.storage.search.FeedbackResponseCommentSearchQuery;
-import teammates.storage.search.SearchDocument;
 
 /**
  * Handles CRUD operations for feedback response comments.
@@ -80,6 +79,19 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         deleteDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, String.valueOf(commentId));
     }
 
+    /**
+     * Removes search documents for the comments with given ids.
+     *
+     * @param commentIds IDs of comments
+     */
+    public void deleteDocumentsByCommentIds(Collection<Long> commentIds) {
+        List<String> documentIds = new ArrayList<>();
+        for (Long commentId : commentIds) {
+            documentIds.add(commentId.toString());
+        }
+        deleteDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, documentIds);
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -92,6 +104,23 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
                 "Trying to get non-existent response comment: " + feedbackResponseCommentId + ".");
     }
 
+    /**
+     * Gets the response comments with the given IDs in a single batch.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return a map of comment ID to comment, which contains no entry for IDs that are not found.
+     */
+    public Map<Long, FeedbackResponseCommentAttributes> getFeedbackResponseComments(
+            Collection<Long> feedbackResponseCommentIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseCommentIds);
+
+        Map<Long, FeedbackResponseCommentAttributes> comments = new HashMap<>();
+        for (Map.Entry<Long, FeedbackResponseComment> entry : load().ids(feedbackResponseCommentIds).entrySet()) {
+            comments.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return comments;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -290,15 +319,14 @@ public class FeedbackResponseCommentsDb extends EntitiesDb<FeedbackResponseComme
         putDocument(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, new FeedbackResponseCommentSearchDocument(comment));
     }
 
-    /*
-     * Batch creates or updates search documents for the given comments
+    /**
+     * Batch creates or updates search documents for the given comments.
+     *
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<FeedbackResponseCommentAttributes> comments) {
-        List<SearchDocument> frcSearchDocuments = new ArrayList<>();
-        for (FeedbackResponseCommentAttributes comment : comments) {
-            frcSearchDocuments.add(new FeedbackResponseCommentSearchDocument(comment));
-        }
-        putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT, frcSearchDocuments);
+    public List<String> putDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        return putDocuments(Const.SearchIndex.FEEDBACK_RESPONSE_COMMENT,
+                     FeedbackResponseCommentSearchDocument.createDocuments(comments));
     }
 
     /**
@@ -6,8 +6,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.googlecode.objectify.Key;
 import com.googlecode.objectify.cmd.LoadType;
@@ -55,6 +58,35 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return makeAttributesOrNull(getFeedbackResponseEntityWithCheck(feedbackResponseId));
     }
 
+    /**
+     * Checks which of the responses with the given IDs exist, in a single batch.
+     * The responses are not converted to attributes, so that checking is cheap.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the IDs of the responses which exist.
+     */
+    public Set<String> getExistingFeedbackResponseIds(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        return new HashSet<>(load().ids(feedbackResponseIds).keySet());
+    }
+
+    /**
+     * Gets the responses with the given IDs in a single batch.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return a map of response ID to response, which contains no entry for IDs that are not found.
+     */
+    public Map<String, FeedbackResponseAttributes> getFeedbackResponses(Collection<String> feedbackResponseIds) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackResponseIds);
+
+        Map<String, FeedbackResponseAttributes> responses = new HashMap<>();
+        for (Map.Entry<String, FeedbackResponse> entry : load().ids(feedbackResponseIds).entrySet()) {
+            responses.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return responses;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -110,6 +142,65 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
         return getEntity(response);
     }
 
+    /**
+     * Gets the responses of the session which are given by or to any of the users in {@code userEmails}.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the response entities without duplicates, or an empty collection if no such responses are found.
+     */
+    public Collection<FeedbackResponse> getFeedbackResponseEntitiesForSessionFromOrToUsers(
+            String feedbackSessionName, String courseId, Collection<String> userEmails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionName);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, userEmails);
+
+        // all the queries are issued before the results of any of them are read
+        List<List<FeedbackResponse>> queryResults = new ArrayList<>();
+        for (String userEmail : userEmails) {
+            queryResults.add(getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                    .filter("giverEmail =", userEmail)
+                    .list());
+            queryResults.add(getFeedbackResponseEntitiesForSessionQuery(feedbackSessionName, courseId)
+                    .filter("receiver =", userEmail)
+                    .list());
+        }
+
+        Map<String, FeedbackResponse> responses = new LinkedHashMap<>();
+        for (List<FeedbackResponse> queryResult : queryResults) {
+            for (FeedbackResponse response : queryResult) {
+                responses.put(response.getId(), response);
+            }
+        }
+        return responses.values();
+    }
+
+    /**
+     * Saves the given response entities in a single batch.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void saveFeedbackResponseEntities(Collection<FeedbackResponse> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        if (!responses.isEmpty()) {
+            saveEntities(responses);
+        }
+    }
+
+    /**
+     * Deletes the given response entities in a single batch.
+     * Note: This is a non-cascade delete.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public void deleteFeedbackResponseEntities(Collection<FeedbackResponse> responses) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, responses);
+
+        if (!responses.isEmpty()) {
+            deleteEntitiesDirect(responses);
+        }
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -660,6 +751,13 @@ public class FeedbackResponsesDb extends EntitiesDb<FeedbackResponse, FeedbackRe
                 .limit(range + 1).list();
     }
 
+    private Query<FeedbackResponse> getFeedbackResponseEntitiesForSessionQuery(
+            String feedbackSessionName, String courseId) {
+        return load()
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId);
+    }
+
     private List<FeedbackResponse> getFeedbackResponseEntitiesForReceiverForCourse(
             String courseId, String receiver) {
         return load()
@@ -7,8 +7,11 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import com.googlecode.objectify.Key;
@@ -23,6 +26,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.TimeHelper;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 
 /**
  * Handles CRUD operations for feedback sessions.
@@ -90,6 +94,29 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 "Trying to get non-existent Session: " + feedbackSessionName + "/" + courseId);
     }
 
+    /**
+     * Checks which of the sessions of the course with the given names exist, in a single batch.
+     * The sessions are not converted to attributes, so that checking is cheap.
+     * Preconditions: <br>
+     * * All parameters are non-null.
+     * @return the names of the sessions which exist.
+     */
+    public Set<String> getExistingFeedbackSessionNames(String courseId, Collection<String> feedbackSessionNames) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSessionNames);
+
+        List<String> feedbackSessionIds = new ArrayList<>();
+        for (String feedbackSessionName : feedbackSessionNames) {
+            feedbackSessionIds.add(feedbackSessionName + "%" + courseId);
+        }
+
+        Set<String> existingFeedbackSessionNames = new HashSet<>();
+        for (FeedbackSession session : load().ids(feedbackSessionIds).values()) {
+            existingFeedbackSessionNames.add(session.getFeedbackSessionName());
+        }
+        return existingFeedbackSessionNames;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -226,85 +253,24 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         addInstructorRespondents(emails, feedbackSession);
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
     public void addInstructorRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
-
-                    fs.getRespondingInstructorList().addAll(emails);
-
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
-        }
+        addRespondents(emails, feedbackSession, true);
     }
 
     public void updateInstructorRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
-
-        if (fs.getRespondingInstructorList().contains(oldEmail)) {
-            fs.getRespondingInstructorList().remove(oldEmail);
-            fs.getRespondingInstructorList().add(newEmail);
-        }
-
-        saveEntity(fs, feedbackSession);
+        updateRespondent(oldEmail, newEmail, feedbackSession, true);
     }
 
     public void clearInstructorRespondents(FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
-
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
-
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
-        }
-
-        fs.getRespondingInstructorList().clear();
+        clearRespondents(feedbackSession, true);
+    }
 
-        saveEntity(fs, feedbackSession);
+    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        deleteRespondent(email, feedbackSession, true);
     }
 
     public void addStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
@@ -314,136 +280,148 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         addStudentRespondents(emails, feedbackSession);
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession)
+    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
             throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+        addRespondents(emails, feedbackSession, false);
+    }
 
-        feedbackSession.sanitizeForSaving();
+    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        updateRespondent(oldEmail, newEmail, feedbackSession, false);
+    }
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        clearRespondents(feedbackSession, false);
+    }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
+            throws EntityDoesNotExistException, InvalidParametersException {
+        deleteRespondent(email, feedbackSession, false);
+    }
 
-                    fs.getRespondingInstructorList().remove(email);
+    /**
+     * Returns true if the instructor with the given {@code email} has responded to the session.
+     */
+    public boolean isInstructorRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        return isRespondent(email, feedbackSession, true);
+    }
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
+    /**
+     * Returns true if the student with the given {@code email} has responded to the session.
+     */
+    public boolean isStudentRespondent(String email, FeedbackSessionAttributes feedbackSession) {
+        return isRespondent(email, feedbackSession, false);
+    }
+
+    /**
+     * Adds the respondents stored in {@link FeedbackSessionRespondent} entities to the respondent lists
+     * of {@code feedbackSession}, which only hold the respondents stored in the session entity when read.
+     *
+     * <p>The respondents are listed with a query, so a respondent added just before may be missing.
+     * Use {@link #isStudentRespondent} or {@link #isInstructorRespondent} to check a single user.
+     */
+    public void loadRespondents(FeedbackSessionAttributes feedbackSession) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
+
+        String feedbackSessionName = feedbackSession.getFeedbackSessionName();
+        String courseId = feedbackSession.getCourseId();
+        for (Key<FeedbackSessionRespondent> key : getRespondentKeys(feedbackSessionName, courseId)) {
+            String instructorEmail =
+                    FeedbackSessionRespondent.getEmailFromId(key.getName(), feedbackSessionName, courseId, true);
+            if (instructorEmail == null) {
+                feedbackSession.getRespondingStudentList().add(
+                        FeedbackSessionRespondent.getEmailFromId(key.getName(), feedbackSessionName, courseId, false));
+            } else {
+                feedbackSession.getRespondingInstructorList().add(instructorEmail);
             }
-            throw e;
         }
     }
 
-    // The objectify library does not support throwing checked exceptions inside transactions
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void addStudentRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
-        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+    private boolean isRespondent(String email, FeedbackSessionAttributes feedbackSession, boolean isInstructor) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
-
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        Set<String> legacyRespondents = isInstructor
+                ? feedbackSession.getRespondingInstructorList()
+                : feedbackSession.getRespondingStudentList();
+        return legacyRespondents.contains(email)
+                || ofy().load().key(makeRespondentKey(feedbackSession, email, isInstructor)).now() != null;
+    }
 
-        try {
-            ofy().transact(new VoidWork() {
-                @Override
-                public void vrun() {
-                    FeedbackSession fs = getEntity(feedbackSession);
-                    if (fs == null) {
-                        throw new RuntimeException(new EntityDoesNotExistException(
-                                ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
-                    }
+    /**
+     * Adds the respondents as separate root entities, leaving the feedback session entity untouched
+     * so that concurrent submissions to the same session do not write to the same entity group.
+     */
+    private void addRespondents(List<String> emails, FeedbackSessionAttributes feedbackSession, boolean isInstructor)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-                    fs.getRespondingStudentList().addAll(emails);
+        verifySessionForRespondentUpdate(feedbackSession);
 
-                    saveEntity(fs, feedbackSession);
-                }
-            });
-        } catch (RuntimeException e) {
-            if (e.getCause() instanceof EntityDoesNotExistException) {
-                throw (EntityDoesNotExistException) e.getCause();
-            }
-            throw e;
+        List<FeedbackSessionRespondent> respondents = new ArrayList<>();
+        for (String email : emails) {
+            respondents.add(new FeedbackSessionRespondent(feedbackSession.getFeedbackSessionName(),
+                    feedbackSession.getCourseId(), email, isInstructor));
         }
+        ofy().save().entities(respondents).now();
+        log.info(feedbackSession.getBackupIdentifier());
     }
 
-    public void updateStudentRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession)
-            throws InvalidParametersException, EntityDoesNotExistException {
+    private void updateRespondent(String oldEmail, String newEmail, FeedbackSessionAttributes feedbackSession,
+            boolean isInstructor) throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, oldEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, newEmail);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        FeedbackSession fs = verifySessionForRespondentUpdate(feedbackSession);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        Key<FeedbackSessionRespondent> oldKey = makeRespondentKey(feedbackSession, oldEmail, isInstructor);
+        if (ofy().load().key(oldKey).now() != null) {
+            ofy().delete().key(oldKey).now();
+            ofy().save().entity(new FeedbackSessionRespondent(feedbackSession.getFeedbackSessionName(),
+                    feedbackSession.getCourseId(), newEmail, isInstructor)).now();
         }
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        Set<String> legacyRespondents = getLegacyRespondents(fs, isInstructor);
+        if (legacyRespondents.contains(oldEmail)) {
+            legacyRespondents.remove(oldEmail);
+            legacyRespondents.add(newEmail);
+            saveEntity(fs, feedbackSession);
         }
-
-        if (fs.getRespondingStudentList().contains(oldEmail)) {
-            fs.getRespondingStudentList().remove(oldEmail);
-            fs.getRespondingStudentList().add(newEmail);
-        }
-
-        saveEntity(fs, feedbackSession);
     }
 
-    public void clearStudentRespondents(FeedbackSessionAttributes feedbackSession)
+    private void clearRespondents(FeedbackSessionAttributes feedbackSession, boolean isInstructor)
             throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        FeedbackSession fs = verifySessionForRespondentUpdate(feedbackSession);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        ofy().delete().keys(getRespondentKeys(feedbackSession.getFeedbackSessionName(),
+                feedbackSession.getCourseId(), isInstructor)).now();
 
-        FeedbackSession fs = getEntity(feedbackSession);
-        if (fs == null) {
-            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        Set<String> legacyRespondents = getLegacyRespondents(fs, isInstructor);
+        if (!legacyRespondents.isEmpty()) {
+            legacyRespondents.clear();
+            saveEntity(fs, feedbackSession);
         }
-
-        fs.getRespondingStudentList().clear();
-
-        saveEntity(fs, feedbackSession);
     }
 
     // The objectify library does not support throwing checked exceptions inside transactions
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
-    public void deleteStudentRespondent(String email, FeedbackSessionAttributes feedbackSession)
-            throws EntityDoesNotExistException, InvalidParametersException {
+    private void deleteRespondent(String email, FeedbackSessionAttributes feedbackSession, boolean isInstructor)
+            throws InvalidParametersException, EntityDoesNotExistException {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, feedbackSession);
 
-        feedbackSession.sanitizeForSaving();
+        FeedbackSession session = verifySessionForRespondentUpdate(feedbackSession);
 
-        if (!feedbackSession.isValid()) {
-            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
-        }
+        ofy().delete().key(makeRespondentKey(feedbackSession, email, isInstructor)).now();
 
+        if (!getLegacyRespondents(session, isInstructor).contains(email)) {
+            return;
+        }
         try {
             ofy().transact(new VoidWork() {
                 @Override
@@ -454,7 +432,7 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                                 ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString()));
                     }
 
-                    fs.getRespondingStudentList().remove(email);
+                    getLegacyRespondents(fs, isInstructor).remove(email);
 
                     saveEntity(fs, feedbackSession);
                 }
@@ -467,6 +445,29 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         }
     }
 
+    private FeedbackSession verifySessionForRespondentUpdate(FeedbackSessionAttributes feedbackSession)
+            throws InvalidParametersException, EntityDoesNotExistException {
+        feedbackSession.sanitizeForSaving();
+
+        if (!feedbackSession.isValid()) {
+            throw new InvalidParametersException(feedbackSession.getInvalidityInfo());
+        }
+
+        FeedbackSession fs = getEntity(feedbackSession);
+        if (fs == null) {
+            throw new EntityDoesNotExistException(ERROR_UPDATE_NON_EXISTENT + feedbackSession.toString());
+        }
+        return fs;
+    }
+
+    /**
+     * Returns the respondents still stored in the feedback session entity itself, as done before
+     * respondents were moved to {@link FeedbackSessionRespondent} entities.
+     */
+    private static Set<String> getLegacyRespondents(FeedbackSession fs, boolean isInstructor) {
+        return isInstructor ? fs.getRespondingInstructorList() : fs.getRespondingStudentList();
+    }
+
     public void deleteFeedbackSessionsForCourse(String courseId) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
 
@@ -477,6 +478,21 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(load().filter("courseId in", courseIds).keys()).now();
+        ofy().delete().keys(ofy().load().type(FeedbackSessionRespondent.class)
+                .filter("courseId in", courseIds).keys()).now();
+    }
+
+    /**
+     * Deletes the feedback session together with its respondents.
+     *
+     * @see EntitiesDb#deleteEntity
+     */
+    @Override
+    public void deleteEntity(FeedbackSessionAttributes entityToDelete) {
+        super.deleteEntity(entityToDelete);
+
+        ofy().delete().keys(getRespondentKeys(
+                entityToDelete.getFeedbackSessionName(), entityToDelete.getCourseId())).now();
     }
 
     private List<FeedbackSession> getFeedbackSessionEntitiesForCourse(String courseId) {
@@ -538,10 +554,45 @@ public class FeedbackSessionsDb extends EntitiesDb<FeedbackSession, FeedbackSess
                 .filter("courseId =", attributes.getCourseId()).keys();
     }
 
+    private Key<FeedbackSessionRespondent> makeRespondentKey(FeedbackSessionAttributes feedbackSession,
+            String email, boolean isInstructor) {
+        return FeedbackSessionRespondent.makeKey(
+                feedbackSession.getFeedbackSessionName(), feedbackSession.getCourseId(), email, isInstructor);
+    }
+
+    private List<Key<FeedbackSessionRespondent>> getRespondentKeys(String feedbackSessionName, String courseId,
+            boolean isInstructor) {
+        return getRespondentKeys(feedbackSessionName, courseId)
+                .stream()
+                .filter(key -> FeedbackSessionRespondent.getEmailFromId(
+                        key.getName(), feedbackSessionName, courseId, isInstructor) != null)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Returns the keys of all respondents of the session.
+     * The respondent emails are encoded in the keys, so a keys-only query is enough to read them.
+     */
+    private List<Key<FeedbackSessionRespondent>> getRespondentKeys(String feedbackSessionName, String courseId) {
+        return ofy().load().type(FeedbackSessionRespondent.class)
+                .filter("feedbackSessionName =", feedbackSessionName)
+                .filter("courseId =", courseId)
+                .keys().list();
+    }
+
+    /**
+     * Makes the attributes of the session with the respondents stored in the session entity itself.
+     * The respondents stored in {@link FeedbackSessionRespondent} entities are not read;
+     * see {@link #loadRespondents(FeedbackSessionAttributes)}.
+     */
     @Override
     protected FeedbackSessionAttributes makeAttributes(FeedbackSession entity) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, entity);
 
-        return FeedbackSessionAttributes.valueOf(entity);
+        FeedbackSessionAttributes fs = FeedbackSessionAttributes.valueOf(entity);
+        // the entity may be cached by Objectify, so its sets are not to be changed
+        fs.setRespondingInstructorList(new HashSet<>(entity.getRespondingInstructorList()));
+        fs.setRespondingStudentList(new HashSet<>(entity.getRespondingStudentList()));
+        return fs;
     }
 }
@@ -50,8 +50,10 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
 
     /**
      * Batch creates or updates documents for the given instructors.
+     *
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<InstructorAttributes> instructorParams) {
+    public List<String> putDocuments(List<InstructorAttributes> instructorParams) {
         List<SearchDocument> instructorDocuments = new ArrayList<>();
         for (InstructorAttributes instructor : instructorParams) {
             if (instructor.key == null) {
@@ -62,7 +64,7 @@ public class InstructorsDb extends EntitiesDb<Instructor, InstructorAttributes>
                 instructorDocuments.add(new InstructorSearchDocument(instructor));
             }
         }
-        putDocuments(Const.SearchIndex.INSTRUCTOR, instructorDocuments);
+        return putDocuments(Const.SearchIndex.INSTRUCTOR, instructorDocuments);
     }
 
     public void deleteDocument(InstructorAttributes instructorToDelete) {
@@ -6,13 +6,16 @@ import javax.servlet.ServletContextListener;
 import com.googlecode.objectify.ObjectifyService;
 
 import teammates.storage.entity.Account;
+import teammates.storage.entity.ActivityLog;
 import teammates.storage.entity.AdminEmail;
 import teammates.storage.entity.Course;
+import teammates.storage.entity.CourseStatistics;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.entity.FeedbackQuestion;
 import teammates.storage.entity.FeedbackResponse;
 import teammates.storage.entity.FeedbackResponseComment;
 import teammates.storage.entity.FeedbackSession;
+import teammates.storage.entity.FeedbackSessionRespondent;
 import teammates.storage.entity.Instructor;
 import teammates.storage.entity.StudentProfile;
 
@@ -26,13 +29,16 @@ public class OfyHelper implements ServletContextListener {
      */
     public static void registerEntityClasses() {
         ObjectifyService.register(Account.class);
+        ObjectifyService.register(ActivityLog.class);
         ObjectifyService.register(AdminEmail.class);
         ObjectifyService.register(Course.class);
+        ObjectifyService.register(CourseStatistics.class);
         ObjectifyService.register(CourseStudent.class);
         ObjectifyService.register(FeedbackQuestion.class);
         ObjectifyService.register(FeedbackResponse.class);
         ObjectifyService.register(FeedbackResponseComment.class);
         ObjectifyService.register(FeedbackSession.class);
+        ObjectifyService.register(FeedbackSessionRespondent.class);
         ObjectifyService.register(Instructor.class);
         ObjectifyService.register(StudentProfile.class);
     }
@@ -42,6 +42,19 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
         return makeAttributesOrNull(getStudentProfileEntityFromDb(accountGoogleId));
     }
 
+    /**
+     * Gets the profiles corresponding to the googleIds given, read from the datastore in one batch.
+     * Profiles which are not found, including those of legacy data, are left out.
+     */
+    public List<StudentProfileAttributes> getStudentProfiles(Collection<String> accountGoogleIds) {
+        List<Key<StudentProfile>> keys = new ArrayList<>();
+        for (String googleId : accountGoogleIds) {
+            Key<Account> parentKey = Key.create(Account.class, googleId);
+            keys.add(Key.create(parentKey, StudentProfile.class, googleId));
+        }
+        return makeAttributes(ofy().load().keys(keys).values());
+    }
+
     /**
      * Updates the entire profile based on the given new profile attributes.
      * Assumes that the googleId remains the same and so updates the profile
@@ -109,14 +122,20 @@ public class ProfilesDb extends EntitiesDb<StudentProfile, StudentProfileAttribu
 
         StudentProfile profileToUpdate = getCurrentProfileFromDb(googleId);
 
+        BlobKey oldPictureKey = profileToUpdate.getPictureKey();
         boolean hasNewNonEmptyPictureKey = !newPictureKey.isEmpty()
-                && !newPictureKey.equals(profileToUpdate.getPictureKey().getKeyString());
+                && !newPictureKey.equals(oldPictureKey.getKeyString());
         if (hasNewNonEmptyPictureKey) {
             profileToUpdate.setPictureKey(new BlobKey(newPictureKey));
             profileToUpdate.setModifiedDate(Instant.now());
         }
 
         saveEntity(profileToUpdate);
+
+        // every new picture is written to a new file, so that of the replaced picture is no longer used
+        if (hasNewNonEmptyPictureKey && !oldPictureKey.equals(new BlobKey(""))) {
+            deletePicture(oldPictureKey);
+        }
     }
 
     @Override
@@ -2,17 +2,29 @@ package teammates.storage.api;
 
 import static com.googlecode.objectify.ObjectifyService.ofy;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
+import com.google.common.collect.Lists;
+import com.googlecode.objectify.VoidWork;
 import com.googlecode.objectify.cmd.LoadType;
 import com.googlecode.objectify.cmd.Query;
 import com.googlecode.objectify.cmd.QueryKeys;
 
+import teammates.common.datatransfer.CourseStatisticsBundle;
 import teammates.common.datatransfer.StudentSearchResultBundle;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
@@ -24,6 +36,7 @@ import teammates.common.util.Assumption;
 import teammates.common.util.Const;
 import teammates.common.util.Logger;
 import teammates.common.util.StringHelper;
+import teammates.storage.entity.CourseStatistics;
 import teammates.storage.entity.CourseStudent;
 import teammates.storage.search.SearchDocument;
 import teammates.storage.search.StudentSearchDocument;
@@ -32,6 +45,8 @@ import teammates.storage.search.StudentSearchQuery;
 /**
  * Handles CRUD operations for students.
  *
+ * <p>The {@link CourseStatistics} of a course are kept up to date as its students are created, updated and deleted.
+ *
  * @see CourseStudent
  * @see StudentAttributes
  */
@@ -39,21 +54,45 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
 
     public static final String ERROR_UPDATE_EMAIL_ALREADY_USED = "Trying to update to an email that is already used by: ";
 
+    /**
+     * Maximum number of students written to the datastore in a single batch.
+     */
+    public static final int STUDENTS_SAVE_BATCH_SIZE = 500;
+
+    /**
+     * Maximum number of student search documents put in a single batch.
+     */
+    public static final int DOCUMENTS_PUT_BATCH_SIZE = 200;
+
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Time after the last change to the statistics of a course within which the query for the students
+     * of the course may not reflect the change yet, so statistics rebuilt from it are not stored.
+     */
+    private static final Duration STATISTICS_SETTLING_TIME = Duration.ofMinutes(1);
+
+    /**
+     * Time after which statistics are rebuilt even if they are not stale, which bounds how long they can stay wrong
+     * after a failure between writing students and updating the statistics.
+     */
+    private static final Duration STATISTICS_MAX_AGE = Duration.ofDays(1);
+
     public void putDocument(StudentAttributes student) {
         putDocument(Const.SearchIndex.STUDENT, new StudentSearchDocument(student));
     }
 
     /**
      * Batch creates or updates search documents for the given students.
+     *
+     * @return IDs of the documents which failed to be put
      */
-    public void putDocuments(List<StudentAttributes> students) {
+    public List<String> putDocuments(List<StudentAttributes> students) {
         List<SearchDocument> studentDocuments = new ArrayList<>();
         for (StudentAttributes student : students) {
             studentDocuments.add(new StudentSearchDocument(student));
         }
-        putDocuments(Const.SearchIndex.STUDENT, studentDocuments);
+        return putDocuments(Const.SearchIndex.STUDENT, studentDocuments);
     }
 
     /**
@@ -114,6 +153,114 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    @Override
+    public CourseStudent createEntity(StudentAttributes student)
+            throws InvalidParametersException, EntityAlreadyExistsException {
+        CourseStudent createdStudent = super.createEntity(student);
+        updateCourseStatistics(createdStudent.getCourseId(), Collections.emptyList(),
+                Collections.singletonList(makeAttributes(createdStudent)));
+        return createdStudent;
+    }
+
+    /**
+     * Queues creation of the students, without updating the statistics of their courses.
+     * The statistics of those courses are instead marked as stale, to be rebuilt from their students.
+     *
+     * @see EntitiesDb#createEntitiesDeferred(Collection)
+     */
+    @Override
+    public List<CourseStudent> createEntitiesDeferred(Collection<StudentAttributes> studentsToAdd)
+            throws InvalidParametersException {
+        List<CourseStudent> createdStudents = super.createEntitiesDeferred(studentsToAdd);
+
+        Set<String> courseIds = new HashSet<>();
+        for (CourseStudent student : createdStudents) {
+            courseIds.add(student.getCourseId());
+        }
+        markCourseStatisticsStale(courseIds);
+
+        return createdStudents;
+    }
+
+    /**
+     * Creates the students in {@code students} which do not exist yet and overwrites the details of those
+     * which do, keeping their registration key and Google ID if none is given. All the students must be in the course
+     * {@code courseId}. The students are written in batches of {@value #STUDENTS_SAVE_BATCH_SIZE},
+     * and their search documents, if required, are put in batches of {@value #DOCUMENTS_PUT_BATCH_SIZE}.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @throws InvalidParametersException if any of the students is invalid, in which case nothing is written.
+     */
+    public void createOrUpdateStudents(String courseId, List<StudentAttributes> students, boolean hasDocument)
+            throws InvalidParametersException {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, students);
+
+        List<String> emails = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            Assumption.assertEquals(courseId, student.course);
+            emails.add(student.email);
+        }
+        Map<String, CourseStudent> existingStudents = getCourseStudentEntitiesForEmails(courseId, emails);
+
+        List<CourseStudent> studentsToSave = new ArrayList<>();
+        List<StudentAttributes> overwrittenStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            student.sanitizeForSaving();
+            if (!student.isValid()) {
+                throw new InvalidParametersException(student.getInvalidityInfo());
+            }
+
+            CourseStudent courseStudent = existingStudents.get(student.email);
+            if (courseStudent == null) {
+                studentsToSave.add(student.toEntity());
+            } else {
+                overwrittenStudents.add(makeAttributes(courseStudent));
+                courseStudent.setName(student.name);
+                courseStudent.setLastName(StringHelper.splitName(student.name)[1]);
+                courseStudent.setComments(student.comments);
+                courseStudent.setGoogleId(student.googleId == null ? courseStudent.getGoogleId() : student.googleId);
+                courseStudent.setTeamName(student.team);
+                courseStudent.setSectionName(student.section);
+                studentsToSave.add(courseStudent);
+            }
+        }
+
+        List<StudentAttributes> savedStudents = makeAttributes(studentsToSave);
+        for (List<CourseStudent> batch : Lists.partition(studentsToSave, STUDENTS_SAVE_BATCH_SIZE)) {
+            saveEntities(batch);
+        }
+        updateCourseStatistics(courseId, overwrittenStudents, savedStudents);
+
+        if (hasDocument) {
+            for (List<StudentAttributes> batch : Lists.partition(savedStudents, DOCUMENTS_PUT_BATCH_SIZE)) {
+                putDocuments(batch);
+            }
+        }
+    }
+
+    /**
+     * Returns the students of the course {@code courseId} with the given emails, loaded by key in a single batch.
+     * Emails which do not belong to any student of the course are left out.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     *
+     * @return a map of email to the student with that email
+     */
+    public Map<String, StudentAttributes> getStudentsForEmails(String courseId, Collection<String> emails) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, emails);
+
+        Map<String, StudentAttributes> students = new HashMap<>();
+        for (Map.Entry<String, CourseStudent> entry : getCourseStudentEntitiesForEmails(courseId, emails).entrySet()) {
+            students.put(entry.getKey(), makeAttributes(entry.getValue()));
+        }
+        return students;
+    }
+
     /**
      * Preconditions: <br>
      * * All parameters are non-null.
@@ -365,6 +512,7 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     private void updateStudentDetails(String newName, String newTeamName, String newSectionName,
             String newGoogleId, String newComments, boolean hasDocument,
             boolean keepUpdateTimestamp, CourseStudent courseStudent, String lastName) {
+        StudentAttributes originalAttributes = makeAttributes(courseStudent);
         courseStudent.setName(newName);
         courseStudent.setLastName(lastName);
         courseStudent.setComments(newComments);
@@ -381,6 +529,8 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         // Set true to prevent changes to last update timestamp
         courseStudent.keepUpdateTimestamp = keepUpdateTimestamp;
         saveEntity(courseStudent, attributes);
+        updateCourseStatistics(courseStudent.getCourseId(), Collections.singletonList(originalAttributes),
+                Collections.singletonList(attributes));
     }
 
     //TODO: add an updateStudent(StudentAttributes) version and make the above private
@@ -404,16 +554,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, email);
 
+        CourseStudent courseStudentToDelete = getCourseStudentEntityForEmail(courseId, email);
+        if (courseStudentToDelete == null) {
+            return;
+        }
+
+        StudentAttributes courseStudentToDeleteAttributes = makeAttributes(courseStudentToDelete);
         if (hasDocument) {
-            CourseStudent courseStudentToDelete = getCourseStudentEntityForEmail(courseId, email);
-            if (courseStudentToDelete != null) {
-                StudentAttributes courseStudentToDeleteAttributes = makeAttributes(courseStudentToDelete);
-                deleteDocument(courseStudentToDeleteAttributes);
-                deleteEntityDirect(courseStudentToDelete, courseStudentToDeleteAttributes);
-            }
+            deleteDocument(courseStudentToDeleteAttributes);
+            deleteEntityDirect(courseStudentToDelete, courseStudentToDeleteAttributes);
         } else {
-            ofy().delete().keys(getCourseStudentForEmailQuery(courseId, email).keys()).now();
+            ofy().delete().entity(courseStudentToDelete).now();
         }
+        updateCourseStatistics(courseId, Collections.singletonList(courseStudentToDeleteAttributes),
+                Collections.emptyList());
     }
 
     /**
@@ -434,10 +588,20 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
     public void deleteStudentsForGoogleId(String googleId, boolean hasDocument) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, googleId);
 
+        List<CourseStudent> studentsToDelete = getCourseStudentEntitiesForGoogleId(googleId);
         if (hasDocument) {
-            deleteStudentsCascadeDocuments(getCourseStudentEntitiesForGoogleId(googleId));
+            deleteStudentsCascadeDocuments(studentsToDelete);
         } else {
-            ofy().delete().keys(getCourseStudentsForGoogleIdQuery(googleId).keys());
+            ofy().delete().entities(studentsToDelete);
+        }
+
+        Map<String, List<StudentAttributes>> deletedStudentsByCourse = new HashMap<>();
+        for (CourseStudent student : studentsToDelete) {
+            deletedStudentsByCourse.computeIfAbsent(student.getCourseId(), courseId -> new ArrayList<>())
+                    .add(makeAttributes(student));
+        }
+        for (Map.Entry<String, List<StudentAttributes>> entry : deletedStudentsByCourse.entrySet()) {
+            updateCourseStatistics(entry.getKey(), entry.getValue(), Collections.emptyList());
         }
     }
 
@@ -464,12 +628,88 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         } else {
             ofy().delete().keys(getCourseStudentsForCourseQuery(courseId).keys());
         }
+        deleteCourseStatistics(Collections.singletonList(courseId));
     }
 
     public void deleteStudentsForCourses(List<String> courseIds) {
         Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseIds);
 
         ofy().delete().keys(getCourseStudentsForCoursesQuery(courseIds).keys());
+        deleteCourseStatistics(courseIds);
+    }
+
+    /**
+     * Returns the number of unregistered students in the course {@code courseId}, counted with keys-only queries
+     * rather than kept in the statistics of the course, so that students joining the course do not write to
+     * the statistics.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public int getNumberOfUnregisteredStudentsForCourse(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        // unregistered students have an empty Google ID, or none if created without one
+        return getCourseStudentsForCourseQuery(courseId).filter("googleId =", "").count()
+                + getCourseStudentsForCourseQuery(courseId).filter("googleId =", null).count();
+    }
+
+    /**
+     * Returns the number of students in each team and section of the course {@code courseId},
+     * read with a single key lookup. The statistics are rebuilt from the students of the course
+     * if they do not exist yet, e.g. for courses created before the statistics were kept, or if they are stale.
+     *
+     * <p>Preconditions: <br>
+     * * All parameters are non-null.
+     */
+    public CourseStatisticsBundle getCourseStatistics(String courseId) {
+        Assumption.assertNotNull(Const.StatusCodes.DBLEVEL_NULL_INPUT, courseId);
+
+        CourseStatistics courseStatistics = loadCourseStatistics().id(courseId).now();
+        Instant now = Instant.now();
+        if (courseStatistics != null && !courseStatistics.isStale()
+                && courseStatistics.getBuiltAt().isAfter(now.minus(STATISTICS_MAX_AGE))) {
+            return courseStatistics.getStatistics();
+        }
+
+        CourseStatisticsBundle statistics = new CourseStatisticsBundle();
+        for (StudentAttributes student : getStudentsForCourse(courseId)) {
+            statistics.addStudent(student);
+        }
+
+        // the query for the students may not reflect recent changes yet, in which case the rebuilt statistics
+        // are only returned and not stored; those of a course without students, e.g. a deleted course,
+        // are cheap to rebuild and not stored either
+        boolean isSettled = courseStatistics == null
+                || courseStatistics.getLastChangedAt().isBefore(now.minus(STATISTICS_SETTLING_TIME));
+        if (isSettled && !statistics.getSectionNames().isEmpty()) {
+            saveRebuiltCourseStatistics(courseId, courseStatistics == null ? null : courseStatistics.getChangeToken(),
+                                        statistics);
+        }
+        return statistics;
+    }
+
+    /**
+     * Stores the statistics rebuilt from the students of the course {@code courseId}, unless the statistics
+     * have been written since they were read with {@code changeToken}, which is null if they did not exist.
+     */
+    private void saveRebuiltCourseStatistics(String courseId, String changeToken, CourseStatisticsBundle statistics) {
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    CourseStatistics courseStatistics = loadCourseStatistics().id(courseId).now();
+                    String currentChangeToken = courseStatistics == null ? null : courseStatistics.getChangeToken();
+                    if (Objects.equals(changeToken, currentChangeToken)) {
+                        ofy().save().entity(new CourseStatistics(courseId, statistics)).now();
+                    }
+                }
+            });
+        } catch (RuntimeException e) {
+            // the statistics are rebuilt again when next read
+            log.warning("Failed to save the rebuilt statistics of course " + courseId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
     }
 
     /**
@@ -485,6 +725,86 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         }
     }
 
+    /**
+     * Removes {@code removedStudents} from and adds {@code addedStudents} to the statistics of the course
+     * {@code courseId} in a single transaction. Statistics which do not exist yet or are stale are marked as stale
+     * instead, so that a rebuild which started before the change is not stored.
+     *
+     * <p>Nothing is written if no student changes team or section, e.g. when students join the course,
+     * so that such frequent changes do not contend for the statistics of the course.
+     */
+    private void updateCourseStatistics(String courseId, List<StudentAttributes> removedStudents,
+            List<StudentAttributes> addedStudents) {
+        if (hasSameTeamsAndSections(removedStudents, addedStudents)) {
+            return;
+        }
+        try {
+            ofy().transact(new VoidWork() {
+                @Override
+                public void vrun() {
+                    CourseStatistics courseStatistics = loadCourseStatistics().id(courseId).now();
+                    if (courseStatistics == null) {
+                        courseStatistics = new CourseStatistics(courseId);
+                    } else if (courseStatistics.isStale()) {
+                        courseStatistics.markStale();
+                    } else {
+                        CourseStatisticsBundle statistics = courseStatistics.getStatistics();
+                        removedStudents.forEach(statistics::removeStudent);
+                        addedStudents.forEach(statistics::addStudent);
+                        courseStatistics.setStatistics(statistics);
+                    }
+                    ofy().save().entity(courseStatistics).now();
+                }
+            });
+        } catch (RuntimeException e) {
+            // the statistics are marked as stale rather than left out of date, and are rebuilt when next read
+            log.warning("Failed to update the statistics of course " + courseId + ": "
+                    + TeammatesException.toStringWithStackTrace(e));
+            markCourseStatisticsStale(Collections.singletonList(courseId));
+        }
+    }
+
+    /**
+     * Marks the statistics of the courses as stale without reading them, so that they are rebuilt when next read.
+     */
+    private void markCourseStatisticsStale(Collection<String> courseIds) {
+        List<CourseStatistics> staleStatistics = new ArrayList<>();
+        for (String courseId : courseIds) {
+            staleStatistics.add(new CourseStatistics(courseId));
+        }
+        try {
+            ofy().save().entities(staleStatistics).now();
+        } catch (RuntimeException e) {
+            // the statistics are rebuilt anyway once they are older than STATISTICS_MAX_AGE
+            log.severe("Failed to mark the statistics of courses " + courseIds + " as stale: "
+                    + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    private static boolean hasSameTeamsAndSections(List<StudentAttributes> removedStudents,
+            List<StudentAttributes> addedStudents) {
+        if (removedStudents.size() != addedStudents.size()) {
+            return false;
+        }
+        Map<List<String>, Integer> studentCountChanges = new HashMap<>();
+        removedStudents.forEach(student ->
+                studentCountChanges.merge(Arrays.asList(student.section, student.team), -1, Integer::sum));
+        addedStudents.forEach(student ->
+                studentCountChanges.merge(Arrays.asList(student.section, student.team), 1, Integer::sum));
+        return studentCountChanges.values().stream().allMatch(change -> change == 0);
+    }
+
+    /**
+     * Deletes the statistics of the courses whose students have all been deleted.
+     */
+    private void deleteCourseStatistics(Collection<String> courseIds) {
+        ofy().delete().type(CourseStatistics.class).ids(courseIds).now();
+    }
+
+    private LoadType<CourseStatistics> loadCourseStatistics() {
+        return ofy().load().type(CourseStatistics.class);
+    }
+
     private Query<CourseStudent> getCourseStudentForEmailQuery(String courseId, String email) {
         return load()
                 .filter("courseId =", courseId)
@@ -495,6 +815,19 @@ public class StudentsDb extends EntitiesDb<CourseStudent, StudentAttributes> {
         return load().id(email + '%' + courseId).now();
     }
 
+    private Map<String, CourseStudent> getCourseStudentEntitiesForEmails(String courseId, Collection<String> emails) {
+        List<String> ids = new ArrayList<>();
+        for (String email : emails) {
+            ids.add(email + '%' + courseId);
+        }
+
+        Map<String, CourseStudent> studentsByEmail = new HashMap<>();
+        for (CourseStudent student : load().ids(ids).values()) {
+            studentsByEmail.put(student.getEmail(), student);
+        }
+        return studentsByEmail;
+    }
+
     private CourseStudent getCourseStudentEntityForRegistrationKey(String registrationKey) {
         List<CourseStudent> studentList = load().filter("registrationKey =", registrationKey).list();
 
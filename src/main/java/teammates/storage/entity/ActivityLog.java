@@ -0,0 +1,118 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents an activity log entry of an action carried out by the app, as shown in the admin activity log page.
+ *
+ * <p>Activity logs are only ever appended. They are indexed by time and, for the filters of the admin
+ * activity log page, by user, role and action, all in lower case as the filters are case-insensitive.
+ *
+ * @see ActivityLogEntry
+ */
+@Entity
+@Unindex
+public class ActivityLog extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as id is persisted to the database
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private Long id;
+
+    @Index
+    private Date logTime;
+
+    /** The Google ID, email and name of the user, whichever are known, in lower case. */
+    @Index
+    private List<String> userIdentities;
+
+    /** The role of the user in lower case, without the masquerade mode postfix. */
+    @Index
+    private String userRoleForSearch;
+
+    /** The action name in lower case. */
+    @Index
+    private String actionNameForSearch;
+
+    private String logId;
+
+    private String actionUrl;
+
+    private String actionName;
+
+    private String actionResponse;
+
+    private String userRole;
+
+    private boolean isMasqueradeUserRole;
+
+    private String userName;
+
+    private String userEmail;
+
+    private String userGoogleId;
+
+    private Text logMessage;
+
+    private long actionTimeTaken;
+
+    @SuppressWarnings("unused")
+    private ActivityLog() {
+        // required by Objectify
+    }
+
+    public ActivityLog(ActivityLogEntry entry) {
+        this.logTime = TimeHelper.convertInstantToDate(Instant.ofEpochMilli(entry.getLogTime()));
+        this.logId = entry.getLogId();
+        this.actionUrl = entry.getActionUrl();
+        this.actionName = entry.getActionName();
+        this.actionResponse = entry.getActionResponse();
+        this.userRole = entry.getUserRole();
+        this.isMasqueradeUserRole = entry.isMasqueradeUserRole();
+        this.userName = entry.getUserName();
+        this.userEmail = entry.getUserEmail();
+        this.userGoogleId = entry.getUserGoogleId();
+        this.logMessage = new Text(entry.getLogMessage());
+        this.actionTimeTaken = entry.getActionTimeTaken();
+
+        this.userIdentities = new ArrayList<>();
+        for (String identity : new String[] {userGoogleId, userEmail, userName}) {
+            if (!Const.ActivityLog.UNKNOWN.equals(identity)) {
+                userIdentities.add(identity.toLowerCase());
+            }
+        }
+        this.userRoleForSearch = userRole.toLowerCase();
+        this.actionNameForSearch = actionName.toLowerCase();
+    }
+
+    /**
+     * Returns the activity log entry stored in this entity.
+     */
+    public ActivityLogEntry toActivityLogEntry() {
+        return new ActivityLogEntry.Builder(actionName, actionUrl, logTime.getTime())
+                .withActionResponse(actionResponse)
+                .withLogId(logId)
+                .withLogMessage(logMessage == null ? null : logMessage.getValue())
+                .withMasqueradeUserRole(isMasqueradeUserRole)
+                .withUserRole(userRole)
+                .withUserName(userName)
+                .withUserEmail(userEmail)
+                .withUserGoogleId(userGoogleId)
+                .withActionTimeTaken(actionTimeTaken)
+                .build();
+    }
+}
@@ -0,0 +1,103 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.UUID;
+
+import com.google.appengine.api.datastore.Text;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.datatransfer.CourseStatisticsBundle;
+import teammates.common.util.JsonUtils;
+import teammates.common.util.TimeHelper;
+
+/**
+ * Represents the number of students in each team and section of a course.
+ *
+ * <p>The statistics are updated along with the students of the course,
+ * so that they can be read with a single key lookup instead of a scan of all the students.
+ * Statistics which could not be updated are marked as stale, to be rebuilt from the students.
+ */
+@Entity
+@Unindex
+public class CourseStatistics extends BaseEntity {
+
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as courseId is persisted to the database
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private String courseId;
+
+    private Text statisticsAsText;
+
+    private boolean isStale;
+
+    /** Changed on every write, so that a rebuild can tell whether the statistics were written in the meantime. */
+    private String changeToken;
+
+    private Date lastChangedAt;
+
+    private Date builtAt;
+
+    @SuppressWarnings("unused")
+    private CourseStatistics() {
+        // required by Objectify
+    }
+
+    /**
+     * Instantiates statistics built from all the students of the course.
+     */
+    public CourseStatistics(String courseId, CourseStatisticsBundle statistics) {
+        this.courseId = courseId;
+        this.isStale = false;
+        this.builtAt = TimeHelper.convertInstantToDate(Instant.now());
+        setStatistics(statistics);
+    }
+
+    /**
+     * Instantiates stale statistics, which are to be rebuilt from the students of the course.
+     */
+    public CourseStatistics(String courseId) {
+        this.courseId = courseId;
+        this.builtAt = TimeHelper.convertInstantToDate(Instant.now());
+        setStatistics(new CourseStatisticsBundle());
+        markStale();
+    }
+
+    public CourseStatisticsBundle getStatistics() {
+        return JsonUtils.fromJson(statisticsAsText.getValue(), CourseStatisticsBundle.class);
+    }
+
+    public void setStatistics(CourseStatisticsBundle statistics) {
+        this.statisticsAsText = new Text(JsonUtils.toJson(statistics, CourseStatisticsBundle.class));
+        recordChange();
+    }
+
+    public boolean isStale() {
+        return isStale;
+    }
+
+    public void markStale() {
+        this.isStale = true;
+        recordChange();
+    }
+
+    public String getChangeToken() {
+        return changeToken;
+    }
+
+    public Instant getLastChangedAt() {
+        return TimeHelper.convertDateToInstant(lastChangedAt);
+    }
+
+    public Instant getBuiltAt() {
+        return TimeHelper.convertDateToInstant(builtAt);
+    }
+
+    private void recordChange() {
+        this.changeToken = UUID.randomUUID().toString();
+        this.lastChangedAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+}
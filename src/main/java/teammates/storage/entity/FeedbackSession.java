@@ -44,6 +44,8 @@ public class FeedbackSession extends BaseEntity {
 
     private String creatorEmail; //TODO: should this be googleId?
 
+    // Respondents added through submissions are stored as FeedbackSessionRespondent entities;
+    // these lists only hold the respondents given when the session is created and legacy data.
     @Unindex
     private Set<String> respondingInstructorList = new HashSet<>();
 
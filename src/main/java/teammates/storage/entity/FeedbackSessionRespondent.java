@@ -0,0 +1,118 @@
+package teammates.storage.entity;
+
+import java.time.Instant;
+import java.util.Date;
+
+import com.googlecode.objectify.Key;
+import com.googlecode.objectify.annotation.Entity;
+import com.googlecode.objectify.annotation.Id;
+import com.googlecode.objectify.annotation.Index;
+import com.googlecode.objectify.annotation.Unindex;
+
+import teammates.common.util.TimeHelper;
+
+/**
+ * Records that a student or an instructor has responded to a feedback session.
+ *
+ * <p>Each respondent is stored in its own root entity instead of in the {@link FeedbackSession} entity,
+ * so that concurrent submissions to the same session do not write to the same entity group.
+ * Whether a given user has responded is checked by key; all respondents of a session are listed
+ * with a query on the indexed session name and course ID.
+ */
+@Entity
+@Unindex
+public class FeedbackSessionRespondent extends BaseEntity {
+
+    private static final String INSTRUCTOR_TYPE = "instructor";
+
+    private static final String STUDENT_TYPE = "student";
+
+    /**
+     * ID of the respondent.
+     *
+     * @see #generateId(String, String, String, boolean)
+     */
+    // PMD.UnusedPrivateField and SingularField are suppressed
+    // as id is persisted to the database
+    @SuppressWarnings({"PMD.UnusedPrivateField", "PMD.SingularField"})
+    @Id
+    private transient String id;
+
+    @Index
+    private String feedbackSessionName;
+
+    @Index
+    private String courseId;
+
+    private String email;
+
+    private boolean isInstructor;
+
+    private Date createdAt;
+
+    @SuppressWarnings("unused")
+    private FeedbackSessionRespondent() {
+        // required by Objectify
+    }
+
+    public FeedbackSessionRespondent(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        this.id = generateId(feedbackSessionName, courseId, email, isInstructor);
+        this.feedbackSessionName = feedbackSessionName;
+        this.courseId = courseId;
+        this.email = email;
+        this.isInstructor = isInstructor;
+        this.createdAt = TimeHelper.convertInstantToDate(Instant.now());
+    }
+
+    /**
+     * Returns the key of the respondent with the given {@code email} and type in the given session.
+     */
+    public static Key<FeedbackSessionRespondent> makeKey(String feedbackSessionName, String courseId,
+                                                         String email, boolean isInstructor) {
+        return Key.create(FeedbackSessionRespondent.class,
+                          generateId(feedbackSessionName, courseId, email, isInstructor));
+    }
+
+    /**
+     * Returns the ID of the respondent, in the format
+     * {@code courseId%feedbackSessionName%[instructor|student]%email}.
+     *
+     * <p>The email is kept last so that it can be recovered from the ID alone; see {@link #getEmailFromId}.
+     */
+    public static String generateId(String feedbackSessionName, String courseId, String email, boolean isInstructor) {
+        return generateIdPrefix(feedbackSessionName, courseId, isInstructor) + email;
+    }
+
+    /**
+     * Returns the email encoded in {@code id} if it is the ID of a respondent of the given type
+     * in the given session, or null otherwise.
+     */
+    public static String getEmailFromId(String id, String feedbackSessionName, String courseId, boolean isInstructor) {
+        String prefix = generateIdPrefix(feedbackSessionName, courseId, isInstructor);
+        return id.startsWith(prefix) ? id.substring(prefix.length()) : null;
+    }
+
+    private static String generateIdPrefix(String feedbackSessionName, String courseId, boolean isInstructor) {
+        return courseId + "%" + feedbackSessionName + "%" + (isInstructor ? INSTRUCTOR_TYPE : STUDENT_TYPE) + "%";
+    }
+
+    public String getFeedbackSessionName() {
+        return feedbackSessionName;
+    }
+
+    public String getCourseId() {
+        return courseId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public boolean isInstructor() {
+        return isInstructor;
+    }
+
+    public Instant getCreatedAt() {
+        return TimeHelper.convertDateToInstant(createdAt);
+    }
+}
@@ -1,6 +1,7 @@
 package teammates.storage.search;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -44,20 +45,80 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private List<InstructorAttributes> relatedInstructors;
     private List<StudentAttributes> relatedStudents;
 
+    // null if the related entities are to be read from the database when the document is built
+    private RelatedPeopleLookup relatedPeople;
+
     public FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment) {
         this.comment = comment;
     }
 
+    private FeedbackResponseCommentSearchDocument(FeedbackResponseCommentAttributes comment,
+            FeedbackSessionAttributes relatedSession, FeedbackQuestionAttributes relatedQuestion,
+            FeedbackResponseAttributes relatedResponse, CourseAttributes course, RelatedPeopleLookup relatedPeople) {
+        this.comment = comment;
+        this.relatedSession = relatedSession;
+        this.relatedQuestion = relatedQuestion;
+        this.relatedResponse = relatedResponse;
+        this.course = course;
+        this.relatedPeople = relatedPeople;
+    }
+
+    /**
+     * Creates the search documents for {@code comments}.
+     *
+     * <p>The related sessions, questions, responses and courses are read once for the whole list.
+     * Only the students and instructors the comments refer to are read, each at most once per course,
+     * so that the documents of a few comments do not read the whole roster of their courses.
+     */
+    public static List<SearchDocument> createDocuments(List<FeedbackResponseCommentAttributes> comments) {
+        Set<String> questionIds = new HashSet<>();
+        Set<String> responseIds = new HashSet<>();
+        Set<String> courseIds = new HashSet<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            questionIds.add(comment.feedbackQuestionId);
+            responseIds.add(comment.feedbackResponseId);
+            courseIds.add(comment.courseId);
+        }
+
+        Map<String, FeedbackQuestionAttributes> questions = fqDb.getFeedbackQuestions(questionIds);
+        Map<String, FeedbackResponseAttributes> responses = frDb.getFeedbackResponses(responseIds);
+
+        Map<String, CourseAttributes> courses = new HashMap<>();
+        for (CourseAttributes course : coursesDb.getCourses(new ArrayList<>(courseIds))) {
+            courses.put(course.getId(), course);
+        }
+
+        Map<String, RelatedPeopleLookup> relatedPeople = new HashMap<>();
+        for (String courseId : courseIds) {
+            relatedPeople.put(courseId, new RelatedPeopleLookup(courseId));
+        }
+
+        Map<String, FeedbackSessionAttributes> sessions = new HashMap<>();
+        List<SearchDocument> documents = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : comments) {
+            FeedbackSessionAttributes session = sessions.computeIfAbsent(
+                    comment.courseId + "%" + comment.feedbackSessionName,
+                    key -> fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName));
+            documents.add(new FeedbackResponseCommentSearchDocument(comment, session,
+                    questions.get(comment.feedbackQuestionId), responses.get(comment.feedbackResponseId),
+                    courses.get(comment.courseId), relatedPeople.get(comment.courseId)));
+        }
+        return documents;
+    }
+
     @Override
     protected void prepareData() {
         if (comment == null) {
             return;
         }
 
-        relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
-        relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
-        relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
-        course = coursesDb.getCourse(comment.courseId);
+        if (relatedPeople == null) {
+            relatedPeople = new RelatedPeopleLookup(comment.courseId);
+            relatedSession = fsDb.getFeedbackSession(comment.courseId, comment.feedbackSessionName);
+            relatedQuestion = fqDb.getFeedbackQuestion(comment.feedbackQuestionId);
+            relatedResponse = frDb.getFeedbackResponse(comment.feedbackResponseId);
+            course = coursesDb.getCourse(comment.courseId);
+        }
         relatedInstructors = new ArrayList<>();
         relatedStudents = new ArrayList<>();
         setCommentGiverNameAndDisplayedName();
@@ -66,7 +127,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         Set<String> addedEmailSet = new HashSet<>();
         if (relatedQuestion.giverType == FeedbackParticipantType.INSTRUCTORS
                 || relatedQuestion.giverType == FeedbackParticipantType.SELF) {
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.giver);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.giver);
             if (ins == null || addedEmailSet.contains(ins.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -77,7 +138,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         } else if (relatedQuestion.giverType == FeedbackParticipantType.TEAMS) {
             responseGiverName = relatedResponse.giver;
         } else {
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.giver);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.giver);
             if (stu == null || addedEmailSet.contains(stu.email)) {
                 responseGiverName = Const.USER_UNKNOWN_TEXT;
             } else {
@@ -89,7 +150,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         switch (relatedQuestion.recipientType) {
         case INSTRUCTORS:
-            InstructorAttributes ins = instructorsDb.getInstructorForEmail(comment.courseId, relatedResponse.recipient);
+            InstructorAttributes ins = getInstructorForEmail(relatedResponse.recipient);
             if (ins != null && !addedEmailSet.contains(ins.email)) {
                 relatedInstructors.add(ins);
                 addedEmailSet.add(ins.email);
@@ -106,7 +167,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             responseRecipientName = relatedResponse.recipient;
             break;
         default:
-            StudentAttributes stu = studentsDb.getStudentForEmail(comment.courseId, relatedResponse.recipient);
+            StudentAttributes stu = getStudentForEmail(relatedResponse.recipient);
 
             if (stu != null && !addedEmailSet.contains(stu.email)) {
                 relatedStudents.add(stu);
@@ -114,7 +175,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseRecipientName = stu.name + " (" + stu.team + ")";
             }
 
-            List<StudentAttributes> team = studentsDb.getStudentsForTeam(relatedResponse.recipient, comment.courseId);
+            List<StudentAttributes> team = getStudentsForTeam(relatedResponse.recipient);
             if (team != null) {
                 responseRecipientName = relatedResponse.recipient; // it's actually a team name here
                 for (StudentAttributes studentInTeam : team) {
@@ -252,21 +313,54 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
 
         Set<String> isAdded = new HashSet<>();
 
-        List<ScoredDocument> filteredResults = filterOutCourseId(results, instructors);
-        for (ScoredDocument doc : filteredResults) {
-            // get FeedbackResponseComment from results
-            FeedbackResponseCommentAttributes comment = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_COMMENT_ATTRIBUTE).getText(),
-                    FeedbackResponseCommentAttributes.class);
-            FeedbackResponseCommentAttributes commentFromDb = frcDb.getFeedbackResponseComment(comment.getId());
-            if (commentFromDb == null) {
-                frcDb.deleteDocument(comment);
+        List<SearchHit> hits = new ArrayList<>();
+        Set<Long> commentIds = new HashSet<>();
+        Set<String> responseIds = new HashSet<>();
+        Set<String> questionIds = new HashSet<>();
+        Map<String, Set<String>> sessionNamesByCourseId = new HashMap<>();
+        for (ScoredDocument doc : filterOutCourseId(results, instructors)) {
+            SearchHit hit = new SearchHit(doc);
+            hits.add(hit);
+            commentIds.add(hit.comment.getId());
+            responseIds.add(hit.response.getId());
+            questionIds.add(hit.question.getId());
+            sessionNamesByCourseId.computeIfAbsent(hit.session.getCourseId(), courseId -> new HashSet<>())
+                    .add(hit.session.getFeedbackSessionName());
+        }
+
+        // check that the entities referred to by the results still exist with one batch read per kind,
+        // instead of reading them for each result
+        Map<Long, FeedbackResponseCommentAttributes> commentsFromDb = frcDb.getFeedbackResponseComments(commentIds);
+        Set<String> existingResponseIds = frDb.getExistingFeedbackResponseIds(responseIds);
+        Set<String> existingQuestionIds = fqDb.getExistingFeedbackQuestionIds(questionIds);
+        Map<String, Set<String>> existingSessionNamesByCourseId = new HashMap<>();
+        for (Map.Entry<String, Set<String>> sessionNames : sessionNamesByCourseId.entrySet()) {
+            existingSessionNamesByCourseId.put(sessionNames.getKey(),
+                    fsDb.getExistingFeedbackSessionNames(sessionNames.getKey(), sessionNames.getValue()));
+        }
+
+        List<Long> staleCommentIds = new ArrayList<>();
+        for (SearchHit hit : hits) {
+            ScoredDocument doc = hit.document;
+            FeedbackResponseCommentAttributes comment = hit.comment;
+            FeedbackResponseAttributes response = hit.response;
+            FeedbackQuestionAttributes question = hit.question;
+            FeedbackSessionAttributes session = hit.session;
+
+            FeedbackResponseCommentAttributes commentFromDb = commentsFromDb.get(comment.getId());
+            if (commentFromDb == null
+                    || !existingResponseIds.contains(response.getId())
+                    || !existingQuestionIds.contains(question.getId())
+                    || !existingSessionNamesByCourseId.get(session.getCourseId())
+                            .contains(session.getFeedbackSessionName())) {
+                staleCommentIds.add(comment.getId());
                 continue;
-            } else {
-                // TODO: Remove after Data Migration
-                comment.commentGiver = commentFromDb.commentGiver;
-                comment.commentGiverType = commentFromDb.commentGiverType;
             }
+
+            // TODO: Remove after Data Migration
+            comment.commentGiver = commentFromDb.commentGiver;
+            comment.commentGiverType = commentFromDb.commentGiverType;
+
             List<FeedbackResponseCommentAttributes> commentList = bundle.comments.get(comment.feedbackResponseId);
             if (commentList == null) {
                 commentList = new ArrayList<>();
@@ -274,14 +368,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             }
             commentList.add(comment);
 
-            // get related response from results
-            FeedbackResponseAttributes response = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_ATTRIBUTE).getText(),
-                    FeedbackResponseAttributes.class);
-            if (frDb.getFeedbackResponse(response.getId()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             List<FeedbackResponseAttributes> responseList = bundle.responses.get(response.feedbackQuestionId);
             if (responseList == null) {
                 responseList = new ArrayList<>();
@@ -292,14 +378,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 responseList.add(response);
             }
 
-            // get related question from results
-            FeedbackQuestionAttributes question = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_QUESTION_ATTRIBUTE).getText(),
-                    FeedbackQuestionAttributes.class);
-            if (fqDb.getFeedbackQuestion(question.getId()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             List<FeedbackQuestionAttributes> questionList = bundle.questions.get(question.feedbackSessionName);
             if (questionList == null) {
                 questionList = new ArrayList<>();
@@ -310,14 +388,6 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
                 questionList.add(question);
             }
 
-            // get related session from results
-            FeedbackSessionAttributes session = JsonUtils.fromJson(
-                    doc.getOnlyField(Const.SearchDocumentField.FEEDBACK_SESSION_ATTRIBUTE).getText(),
-                    FeedbackSessionAttributes.class);
-            if (fsDb.getFeedbackSession(session.getCourseId(), session.getSessionName()) == null) {
-                frcDb.deleteDocument(comment);
-                continue;
-            }
             if (!isAdded.contains(session.getFeedbackSessionName())) {
                 isAdded.add(session.getFeedbackSessionName());
                 bundle.sessions.put(session.getSessionName(), session);
@@ -349,6 +419,11 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             }
             bundle.numberOfResults++;
         }
+
+        // stale documents are deleted asynchronously, so that they do not hold up the search
+        if (!staleCommentIds.isEmpty()) {
+            frcDb.deleteDocumentsByCommentIds(staleCommentIds);
+        }
         for (List<FeedbackQuestionAttributes> questions : bundle.questions.values()) {
             questions.sort(null);
         }
@@ -379,8 +454,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
     private void setCommentGiverNameAndDisplayedName() {
         switch (comment.commentGiverType) {
         case INSTRUCTORS:
-            InstructorAttributes instructor =
-                    instructorsDb.getInstructorForEmail(comment.courseId, comment.commentGiver);
+            InstructorAttributes instructor = getInstructorForEmail(comment.commentGiver);
             if (instructor == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -390,7 +464,7 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
             commentGiverName = instructor.name;
             break;
         case STUDENTS:
-            StudentAttributes student = studentsDb.getStudentForEmail(comment.courseId, comment.commentGiver);
+            StudentAttributes student = getStudentForEmail(comment.commentGiver);
             if (student == null) {
                 commentGiverDisplayedName = comment.commentGiver;
                 commentGiverName = comment.commentGiver;
@@ -408,6 +482,18 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         }
     }
 
+    private InstructorAttributes getInstructorForEmail(String email) {
+        return relatedPeople.getInstructorForEmail(email);
+    }
+
+    private StudentAttributes getStudentForEmail(String email) {
+        return relatedPeople.getStudentForEmail(email);
+    }
+
+    private List<StudentAttributes> getStudentsForTeam(String teamName) {
+        return relatedPeople.getStudentsForTeam(teamName);
+    }
+
     private static String getFilteredGiverName(FeedbackResponseCommentSearchResultBundle bundle,
                                                Set<String> instructorCourseIdList,
                                                FeedbackResponseAttributes response, String name) {
@@ -586,4 +672,69 @@ public class FeedbackResponseCommentSearchDocument extends SearchDocument {
         frCommentSearchResults.questions.forEach((fsName, questionList) -> questionList.removeIf(fq ->
                 frCommentSearchResults.responses.get(fq.getId()).isEmpty()));
     }
+
+    /**
+     * The entities stored in a search result.
+     */
+    private static class SearchHit {
+
+        final ScoredDocument document;
+        final FeedbackResponseCommentAttributes comment;
+        final FeedbackResponseAttributes response;
+        final FeedbackQuestionAttributes question;
+        final FeedbackSessionAttributes session;
+
+        SearchHit(ScoredDocument document) {
+            this.document = document;
+            this.comment = JsonUtils.fromJson(
+                    document.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_COMMENT_ATTRIBUTE).getText(),
+                    FeedbackResponseCommentAttributes.class);
+            this.response = JsonUtils.fromJson(
+                    document.getOnlyField(Const.SearchDocumentField.FEEDBACK_RESPONSE_ATTRIBUTE).getText(),
+                    FeedbackResponseAttributes.class);
+            this.question = JsonUtils.fromJson(
+                    document.getOnlyField(Const.SearchDocumentField.FEEDBACK_QUESTION_ATTRIBUTE).getText(),
+                    FeedbackQuestionAttributes.class);
+            this.session = JsonUtils.fromJson(
+                    document.getOnlyField(Const.SearchDocumentField.FEEDBACK_SESSION_ATTRIBUTE).getText(),
+                    FeedbackSessionAttributes.class);
+        }
+    }
+
+    /**
+     * Reads the students and instructors of a course from the database when a document first refers to them,
+     * and keeps them for the other documents of the course.
+     */
+    private static final class RelatedPeopleLookup {
+
+        private final String courseId;
+        private final Map<String, InstructorAttributes> instructors = new HashMap<>();
+        private final Map<String, StudentAttributes> students = new HashMap<>();
+        private final Map<String, List<StudentAttributes>> teams = new HashMap<>();
+
+        RelatedPeopleLookup(String courseId) {
+            this.courseId = courseId;
+        }
+
+        InstructorAttributes getInstructorForEmail(String email) {
+            // the lookup is kept even if there is no such instructor
+            if (!instructors.containsKey(email)) {
+                instructors.put(email, instructorsDb.getInstructorForEmail(courseId, email));
+            }
+            return instructors.get(email);
+        }
+
+        StudentAttributes getStudentForEmail(String email) {
+            if (!students.containsKey(email)) {
+                students.put(email, studentsDb.getStudentForEmail(courseId, email));
+            }
+            return students.get(email);
+        }
+
+        List<StudentAttributes> getStudentsForTeam(String teamName) {
+            return teams.computeIfAbsent(teamName, name -> studentsDb.getStudentsForTeam(name, courseId));
+        }
+
+    }
+
 }
@@ -2,6 +2,7 @@ package teammates.storage.search;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -16,6 +17,7 @@ import com.google.appengine.api.search.Results;
 import com.google.appengine.api.search.ScoredDocument;
 import com.google.appengine.api.search.SearchServiceFactory;
 import com.google.appengine.api.search.StatusCode;
+import com.google.common.collect.Lists;
 
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Logger;
@@ -26,6 +28,10 @@ import teammates.common.util.retry.RetryableTaskThrows;
 /**
  * Manages {@link Document} and {@link Index} in the Datastore for use of search functions.
  *
+ * <p>Between {@link #startBufferingWrites()} and {@link #flushBufferedWrites()}, documents put and deleted
+ * on the current thread are not written immediately. Instead, only the last put or delete of each document
+ * is kept, and all of them are written together in batches when the buffer is flushed.
+ *
  * @see <a href="https://cloud.google.com/appengine/docs/java/search/">https://cloud.google.com/appengine/docs/java/search/</a>
  */
 public final class SearchManager {
@@ -37,6 +43,18 @@ public final class SearchManager {
     private static final Logger log = Logger.getLogger();
     private static final ThreadLocal<Map<String, Index>> PER_THREAD_INDICES_TABLE = new ThreadLocal<>();
 
+    /**
+     * Buffered writes of the current thread, as a table of index name to document ID to document.
+     * A {@code null} document stands for a deletion.
+     */
+    private static final ThreadLocal<Map<String, Map<String, Document>>> PER_THREAD_BUFFERED_WRITES =
+            new ThreadLocal<>();
+
+    /**
+     * Maximum number of documents that the Search API accepts in a single put or delete.
+     */
+    private static final int MAX_DOCUMENTS_PER_REQUEST = 200;
+
     private static final RetryManager RM = new RetryManager(8);
 
     private SearchManager() {
@@ -47,6 +65,9 @@ public final class SearchManager {
      * Creates or updates the search document for the given document and index.
      */
     public static void putDocument(String indexName, Document document) {
+        if (bufferWrite(indexName, document.getId(), document)) {
+            return;
+        }
         try {
             putDocumentWithRetry(indexName, document);
         } catch (PutException e) {
@@ -112,18 +133,44 @@ public final class SearchManager {
 
     /**
      * Batch creates or updates the search documents for the given documents and index.
+     * The documents are put in batches of at most {@value #MAX_DOCUMENTS_PER_REQUEST}.
+     *
+     * <p>A batch which fails to be put does not stop the remaining batches from being put.
+     *
+     * @return IDs of the documents which failed to be put, which is empty if the writes are buffered
      */
-    public static void putDocuments(String indexName, List<Document> documents) {
-        try {
-            putDocumentsWithRetry(indexName, documents);
-        } catch (PutException e) {
-            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, documents, indexName)
-                    + TeammatesException.toStringWithStackTrace(e));
-        } catch (MaximumRetriesExceededException e) {
-            Object failedDocuments = e.finalData;
-            log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
-                    + TeammatesException.toStringWithStackTrace(e));
+    public static List<String> putDocuments(String indexName, List<Document> documents) {
+        List<String> failedDocumentIds = new ArrayList<>();
+        if (PER_THREAD_BUFFERED_WRITES.get() != null) {
+            for (Document document : documents) {
+                bufferWrite(indexName, document.getId(), document);
+            }
+            return failedDocumentIds;
+        }
+        for (List<Document> batch : Lists.partition(documents, MAX_DOCUMENTS_PER_REQUEST)) {
+            try {
+                putDocumentsWithRetry(indexName, batch);
+            } catch (PutException e) {
+                log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, batch, indexName)
+                        + TeammatesException.toStringWithStackTrace(e));
+                failedDocumentIds.addAll(getDocumentIds(batch));
+            } catch (MaximumRetriesExceededException e) {
+                @SuppressWarnings("unchecked")
+                List<Document> failedDocuments = (List<Document>) e.finalData;
+                log.severe(String.format(ERROR_MAXIMUM_RETRIES_EXCEEDED, failedDocuments, indexName, e.finalMessage)
+                        + TeammatesException.toStringWithStackTrace(e));
+                failedDocumentIds.addAll(getDocumentIds(failedDocuments));
+            }
         }
+        return failedDocumentIds;
+    }
+
+    private static List<String> getDocumentIds(List<Document> documents) {
+        List<String> documentIds = new ArrayList<>();
+        for (Document document : documents) {
+            documentIds.add(document.getId());
+        }
+        return documentIds;
     }
 
     /**
@@ -210,9 +257,137 @@ public final class SearchManager {
      * Deletes document by documentId.
      */
     public static void deleteDocument(String indexName, String documentId) {
+        if (bufferWrite(indexName, documentId, null)) {
+            return;
+        }
         getIndex(indexName).deleteAsync(documentId);
     }
 
+    /**
+     * Deletes the documents with the given IDs asynchronously, in batches of at most
+     * {@value #MAX_DOCUMENTS_PER_REQUEST} documents.
+     */
+    public static void deleteDocuments(String indexName, List<String> documentIds) {
+        List<String> documentIdsToDelete = new ArrayList<>();
+        for (String documentId : documentIds) {
+            if (!bufferWrite(indexName, documentId, null)) {
+                documentIdsToDelete.add(documentId);
+            }
+        }
+        Index index = getIndex(indexName);
+        for (List<String> batch : Lists.partition(documentIdsToDelete, MAX_DOCUMENTS_PER_REQUEST)) {
+            index.deleteAsync(batch);
+        }
+    }
+
+    /**
+     * Starts buffering the document writes made on the current thread, discarding any writes buffered before.
+     */
+    public static void startBufferingWrites() {
+        PER_THREAD_BUFFERED_WRITES.set(new LinkedHashMap<>());
+    }
+
+    /**
+     * Stops buffering document writes on the current thread. Writes which have not been flushed are discarded.
+     */
+    public static void stopBufferingWrites() {
+        PER_THREAD_BUFFERED_WRITES.remove();
+    }
+
+    /**
+     * Writes the document puts and deletes buffered on the current thread, in batches of at most
+     * {@value #MAX_DOCUMENTS_PER_REQUEST} documents, and keeps buffering subsequent writes.
+     *
+     * <p>Each batch is put only once, so that retries do not hold up the caller.
+     * Documents which fail to be put with a non-transient error are logged and dropped.
+     *
+     * @return table of index name to the IDs of the documents which failed to be put due to a
+     *         transient error, which are for the caller to retry later
+     */
+    public static Map<String, List<String>> flushBufferedWrites() {
+        Map<String, Map<String, Document>> bufferedWrites = PER_THREAD_BUFFERED_WRITES.get();
+        Map<String, List<String>> failedDocumentIds = new HashMap<>();
+        if (bufferedWrites == null) {
+            return failedDocumentIds;
+        }
+        PER_THREAD_BUFFERED_WRITES.set(new LinkedHashMap<>());
+
+        for (Map.Entry<String, Map<String, Document>> bufferedWritesForIndex : bufferedWrites.entrySet()) {
+            String indexName = bufferedWritesForIndex.getKey();
+            List<String> documentIdsToDelete = new ArrayList<>();
+            List<Document> documentsToPut = new ArrayList<>();
+            for (Map.Entry<String, Document> write : bufferedWritesForIndex.getValue().entrySet()) {
+                if (write.getValue() == null) {
+                    documentIdsToDelete.add(write.getKey());
+                } else {
+                    documentsToPut.add(write.getValue());
+                }
+            }
+
+            Index index = getIndex(indexName);
+            for (List<String> batch : Lists.partition(documentIdsToDelete, MAX_DOCUMENTS_PER_REQUEST)) {
+                index.deleteAsync(batch);
+            }
+
+            List<String> failedIds = new ArrayList<>();
+            for (List<Document> batch : Lists.partition(documentsToPut, MAX_DOCUMENTS_PER_REQUEST)) {
+                failedIds.addAll(putDocumentsOnce(index, indexName, batch));
+            }
+            if (!failedIds.isEmpty()) {
+                failedDocumentIds.put(indexName, failedIds);
+            }
+        }
+        return failedDocumentIds;
+    }
+
+    /**
+     * Records the write in the buffer of the current thread, replacing any earlier write of the same document.
+     *
+     * @param document the document to put, or {@code null} to delete the document
+     * @return true if the write is buffered, false if writes are not being buffered on the current thread
+     */
+    private static boolean bufferWrite(String indexName, String documentId, Document document) {
+        Map<String, Map<String, Document>> bufferedWrites = PER_THREAD_BUFFERED_WRITES.get();
+        if (bufferedWrites == null) {
+            return false;
+        }
+        Map<String, Document> bufferedWritesForIndex =
+                bufferedWrites.computeIfAbsent(indexName, name -> new LinkedHashMap<>());
+        // re-insert so that the document is written in the order of its last write
+        bufferedWritesForIndex.remove(documentId);
+        bufferedWritesForIndex.put(documentId, document);
+        return true;
+    }
+
+    /**
+     * Puts the documents without retrying.
+     *
+     * @return IDs of the documents which failed to be put due to a transient error
+     */
+    private static List<String> putDocumentsOnce(Index index, String indexName, List<Document> documents) {
+        List<OperationResult> results;
+        try {
+            results = index.put(documents).getResults();
+        } catch (PutException e) {
+            results = e.getResults();
+        }
+
+        List<String> transientlyFailedIds = new ArrayList<>();
+        List<Document> permanentlyFailedDocuments = new ArrayList<>();
+        for (int i = 0; i < documents.size(); i++) {
+            StatusCode code = results.get(i).getCode();
+            if (StatusCode.TRANSIENT_ERROR.equals(code)) {
+                transientlyFailedIds.add(documents.get(i).getId());
+            } else if (!StatusCode.OK.equals(code)) {
+                permanentlyFailedDocuments.add(documents.get(i));
+            }
+        }
+        if (!permanentlyFailedDocuments.isEmpty()) {
+            log.severe(String.format(ERROR_NON_TRANSIENT_BACKEND_ISSUE, permanentlyFailedDocuments, indexName));
+        }
+        return transientlyFailedIds;
+    }
+
     private static Index getIndex(String indexName) {
         Map<String, Index> indicesTable = getIndicesTable();
         Index index = indicesTable.get(indexName);
@@ -0,0 +1,40 @@
+package teammates.ui.automated;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import teammates.common.util.Logger;
+
+/**
+ * Cron job: deletes the stored activity logs older than the retention period.
+ *
+ * <p>At most {@value #MAX_LOGS_DELETED_PER_RUN} logs are deleted per run, so that each run finishes well within
+ * the request deadline; any backlog is cleared by the following runs.
+ */
+public class ActivityLogsCleanupAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    private static final Duration RETENTION_PERIOD = Duration.ofDays(90);
+
+    private static final int MAX_LOGS_DELETED_PER_RUN = 50000;
+
+    @Override
+    protected String getActionDescription() {
+        return "delete old activity logs";
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return "Deleting activity logs older than " + RETENTION_PERIOD.toDays() + " days";
+    }
+
+    @Override
+    public void execute() {
+        long retentionStartTime = Instant.now().minus(RETENTION_PERIOD).toEpochMilli();
+        int numberOfLogsDeleted = logic.deleteActivityLogsBefore(retentionStartTime, MAX_LOGS_DELETED_PER_RUN);
+        log.info("Deleted " + numberOfLogsDeleted + " activity logs"
+                 + (numberOfLogsDeleted < MAX_LOGS_DELETED_PER_RUN ? "" : "; more remain to be deleted in the next run"));
+    }
+
+}
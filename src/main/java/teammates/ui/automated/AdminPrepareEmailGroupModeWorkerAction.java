@@ -10,7 +10,7 @@ import teammates.common.datatransfer.attributes.AdminEmailAttributes;
 import teammates.common.exception.TeammatesException;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
-import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 
 /**
@@ -21,6 +21,8 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int RECEIVERS_PER_BATCH = 100;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -41,22 +43,13 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         String groupReceiverListFileKey = getRequestParamValue(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY);
         Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_GROUP_RECEIVER_LIST_FILE_KEY, groupReceiverListFileKey);
 
-        String indexOfEmailListToResumeAsString =
-                getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_LIST_INDEX);
-        String indexOfEmailToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_INDEX);
-
-        int indexOfEmailListToResume = indexOfEmailListToResumeAsString == null
-                                       ? 0
-                                       : Integer.parseInt(indexOfEmailListToResumeAsString);
-        int indexOfEmailToResume = indexOfEmailToResumeAsString == null
+        String emailOffsetToResumeAsString = getRequestParamValue(ParamsNames.ADMIN_GROUP_RECEIVER_EMAIL_OFFSET);
+        long emailOffsetToResume = emailOffsetToResumeAsString == null
                                    ? 0
-                                   : Integer.parseInt(indexOfEmailToResumeAsString);
+                                   : Long.parseLong(emailOffsetToResumeAsString);
 
         try {
-            List<List<String>> processedReceiverEmails =
-                    GoogleCloudStorageHelper.getGroupReceiverList(new BlobKey(groupReceiverListFileKey));
-            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, processedReceiverEmails,
-                                     indexOfEmailListToResume, indexOfEmailToResume);
+            addAdminEmailToTaskQueue(emailId, groupReceiverListFileKey, emailOffsetToResume);
         } catch (IOException e) {
             log.severe("Unexpected error while adding admin email tasks: "
                        + TeammatesException.toStringWithStackTrace(e));
@@ -68,38 +61,37 @@ public class AdminPrepareEmailGroupModeWorkerAction extends AutomatedAction {
         return timeLeftInMillis / 1000 < 100;
     }
 
-    private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey,
-            List<List<String>> processedReceiverEmails,
-            int indexOfEmailListToResume, int indexOfEmailToResume) {
+    private void addAdminEmailToTaskQueue(String emailId, String groupReceiverListFileKey, long emailOffsetToResume)
+            throws IOException {
         AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
         Assumption.assertNotNull(adminEmail);
 
-        log.info("Resume adding group mail tasks for mail with id " + emailId + " from list index: "
-                 + indexOfEmailListToResume + " and email index: " + indexOfEmailToResume);
+        log.info("Resume adding group mail tasks for mail with id " + emailId + " from offset: " + emailOffsetToResume);
+
+        int numberOfEmailsAdded = 0;
 
-        int indexOfLastEmailList = 0;
-        int indexOfLastEmail = 0;
+        // the deadline is only checked between batches, so that the task is resumed at the start of the next batch
+        try (GroupReceiverListReader reader =
+                new GroupReceiverListReader(new BlobKey(groupReceiverListFileKey), emailOffsetToResume)) {
+            List<String> receiverEmails = reader.readBatch(RECEIVERS_PER_BATCH);
+            while (!receiverEmails.isEmpty()) {
+                taskQueuer.scheduleAdminEmailForSending(adminEmail, receiverEmails);
+                numberOfEmailsAdded += receiverEmails.size();
 
-        for (int i = indexOfEmailListToResume; i < processedReceiverEmails.size(); i++) {
-            List<String> currentEmailList = processedReceiverEmails.get(i);
-            for (int j = indexOfEmailToResume; j < currentEmailList.size(); j++) {
-                String receiverEmail = currentEmailList.get(j);
-                taskQueuer.scheduleAdminEmailForSending(emailId, receiverEmail, adminEmail.getSubject(),
-                                                        adminEmail.getContentValue());
                 if (isNearDeadline()) {
-                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(emailId, groupReceiverListFileKey, i, j);
+                    taskQueuer.scheduleAdminEmailPreparationInGroupMode(
+                            emailId, groupReceiverListFileKey, reader.getOffset());
                     log.info("Adding group mail tasks for mail with id " + emailId
-                             + " have been paused with list index: " + i + " and email index: " + j);
+                             + " have been paused with offset: " + reader.getOffset()
+                             + " after adding " + numberOfEmailsAdded + " receivers");
                     return;
                 }
-                indexOfLastEmail = j;
+                receiverEmails = reader.readBatch(RECEIVERS_PER_BATCH);
             }
-            indexOfLastEmailList = i;
         }
 
         log.info("Adding group mail tasks for mail with id " + emailId
-                 + "was complete with last reached list index: " + indexOfLastEmailList
-                 + " and last reached email index: " + indexOfLastEmail);
+                 + " was complete after adding " + numberOfEmailsAdded + " receivers");
     }
 
 }
@@ -27,34 +27,29 @@ public class AdminSendEmailWorkerAction extends AutomatedAction {
 
     @Override
     public void execute() {
-        String receiverEmail = getRequestParamValue(ParamsNames.ADMIN_EMAIL_RECEIVER);
-        Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_RECEIVER, receiverEmail);
-
-        String emailContent = getRequestParamValue(ParamsNames.ADMIN_EMAIL_CONTENT);
-        String emailSubject = getRequestParamValue(ParamsNames.ADMIN_EMAIL_SUBJECT);
-
-        if (emailContent == null || emailSubject == null) {
-            String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
-            Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
-
-            log.info("Sending large email. Going to retrieve email content and subject from datastore.");
-            AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
-            Assumption.assertNotNull(adminEmail);
-
-            emailContent = adminEmail.getContentValue();
-            emailSubject = adminEmail.getSubject();
-        }
-
-        Assumption.assertNotNull(emailContent);
-        Assumption.assertNotNull(emailSubject);
-
-        try {
-            EmailWrapper email =
-                    new EmailGenerator().generateAdminEmail(emailContent, emailSubject, receiverEmail);
-            emailSender.sendEmail(email);
-            log.info("Email sent to " + receiverEmail);
-        } catch (Exception e) {
-            log.severe("Unexpected error while sending admin emails: " + TeammatesException.toStringWithStackTrace(e));
+        String[] receiverEmails = getRequestParamValues(ParamsNames.ADMIN_EMAIL_RECEIVER);
+        Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_RECEIVER, receiverEmails);
+
+        String emailId = getRequestParamValue(ParamsNames.ADMIN_EMAIL_ID);
+        Assumption.assertPostParamNotNull(ParamsNames.ADMIN_EMAIL_ID, emailId);
+
+        // the email is read for every task, so that the current version is sent even if it was changed
+        // after it was scheduled; as each task carries a batch of receivers, this is one read per batch
+        AdminEmailAttributes adminEmail = logic.getAdminEmailById(emailId);
+        Assumption.assertNotNull(adminEmail);
+
+        String emailContent = adminEmail.getContentValue();
+        String emailSubject = adminEmail.getSubject();
+        EmailGenerator emailGenerator = new EmailGenerator();
+        for (String receiverEmail : receiverEmails) {
+            try {
+                EmailWrapper email = emailGenerator.generateAdminEmail(emailContent, emailSubject, receiverEmail);
+                emailSender.sendEmail(email);
+                log.info("Email sent to " + receiverEmail);
+            } catch (Exception e) {
+                log.severe("Unexpected error while sending admin emails: "
+                           + TeammatesException.toStringWithStackTrace(e));
+            }
         }
     }
 
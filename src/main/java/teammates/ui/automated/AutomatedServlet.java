@@ -7,9 +7,11 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.exception.TeammatesException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
 import teammates.common.util.Logger;
+import teammates.logic.api.Logic;
 
 /**
  * Receives automated requests from the App Engine server and executes the matching automated action.
@@ -27,6 +29,8 @@ public class AutomatedServlet extends HttpServlet {
     @Override
     @SuppressWarnings("PMD.AvoidCatchingThrowable") // used as fallback
     public void doPost(HttpServletRequest req, HttpServletResponse resp) {
+        Logic logic = new Logic();
+        logic.startCachingCourseRosters();
         try {
             if (req.getParameterNames().hasMoreElements()) {
                 log.info(HttpRequestHelper.printRequestParameters(req));
@@ -40,7 +44,10 @@ public class AutomatedServlet extends HttpServlet {
                 Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
                 // no logged-in user for automated servlet
                 LogMessageGenerator logGenerator = new LogMessageGenerator();
-                log.info(logGenerator.generateBasicActivityLogMessage(url, params, action.getActionMessage(), null));
+                ActivityLogEntry logEntry =
+                        logGenerator.generateBasicActivityLogEntry(url, params, action.getActionMessage(), null);
+                log.info(logEntry.generateLogMessage());
+                logic.putActivityLog(logEntry);
             }
 
             action.execute();
@@ -49,6 +56,17 @@ public class AutomatedServlet extends HttpServlet {
             log.severe("Exception occured while performing " + requestUrl + "|||"
                        + TeammatesException.toStringWithStackTrace(t));
             resp.setStatus(500); // so task will be recognised as failed and GAE retry mechanism can kick in
+        } finally {
+            logCourseRosterCacheUsage(logic);
+            logic.stopCachingCourseRosters();
+        }
+    }
+
+    private void logCourseRosterCacheUsage(Logic logic) {
+        int missCount = logic.getCourseRosterCacheMissCount();
+        if (missCount > 0) {
+            log.info("Course roster cache : " + logic.getCourseRosterCacheHitCount() + " hit(s), "
+                    + missCount + " miss(es)");
         }
     }
 
@@ -1,12 +1,13 @@
 package teammates.ui.automated;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.datatransfer.StudentEnrollDetails;
-import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.StudentUpdateStatus;
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
@@ -23,6 +24,11 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
 
     private static final Logger log = Logger.getLogger();
 
+    /**
+     * Maximum number of modified students whose responses are adjusted in a single task.
+     */
+    private static final int ENROLLMENTS_PER_TASK = 50;
+
     @Override
     protected String getActionDescription() {
         return null;
@@ -56,24 +62,37 @@ public class FeedbackResponseAdjustmentWorkerAction extends AutomatedAction {
             return;
         }
 
-        List<FeedbackResponseAttributes> allResponses =
-                logic.getFeedbackResponsesForSession(feedbackSession.getFeedbackSessionName(),
-                                                     feedbackSession.getCourseId());
         List<StudentEnrollDetails> enrollmentList =
                 JsonUtils.fromJson(enrollmentDetails, new TypeToken<List<StudentEnrollDetails>>(){}.getType());
-        for (FeedbackResponseAttributes response : allResponses) {
-            try {
-                logic.adjustFeedbackResponseForEnrollments(enrollmentList, response);
-            } catch (Exception e) {
-                String url = HttpRequestHelper.getRequestedUrl(request);
-                Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
-                // no logged-in user for worker
-                String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
-                log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
-                setForRetry();
-                return;
+        List<StudentEnrollDetails> modifiedEnrollments = new ArrayList<>();
+        for (StudentEnrollDetails enrollment : enrollmentList) {
+            if (enrollment.updateStatus == StudentUpdateStatus.MODIFIED) {
+                modifiedEnrollments.add(enrollment);
             }
         }
+
+        // Each task adjusts a limited number of students and hands the rest over to a new task,
+        // so that a retry only repeats the adjustments of its own students
+        List<StudentEnrollDetails> enrollmentsToAdjust =
+                modifiedEnrollments.subList(0, Math.min(ENROLLMENTS_PER_TASK, modifiedEnrollments.size()));
+        try {
+            logic.adjustFeedbackResponsesForEnrollments(feedbackSession.getFeedbackSessionName(),
+                                                        feedbackSession.getCourseId(), enrollmentsToAdjust);
+        } catch (Exception e) {
+            String url = HttpRequestHelper.getRequestedUrl(request);
+            Map<String, String[]> params = HttpRequestHelper.getParameterMap(request);
+            // no logged-in user for worker
+            String logMessage = new LogMessageGenerator().generateActionFailureLogMessage(url, params, e, null);
+            log.severe(String.format(errorString, sessionName, courseId, e.getMessage(), logMessage));
+            setForRetry();
+            return;
+        }
+
+        if (modifiedEnrollments.size() > ENROLLMENTS_PER_TASK) {
+            List<StudentEnrollDetails> remainingEnrollments =
+                    new ArrayList<>(modifiedEnrollments.subList(ENROLLMENTS_PER_TASK, modifiedEnrollments.size()));
+            taskQueuer.scheduleFeedbackResponseAdjustmentForCourse(courseId, sessionName, remainingEnrollments);
+        }
     }
 
 }
@@ -1,6 +1,5 @@
 package teammates.ui.automated;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
@@ -48,20 +47,9 @@ public class FeedbackSessionRemindEmailWorkerAction extends AutomatedAction {
 
             InstructorAttributes instructorToNotify = logic.getInstructorForGoogleId(courseId, instructorId);
 
-            List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            for (StudentAttributes student : studentList) {
-                if (!logic.isFeedbackSessionCompletedByStudent(session, student.email)) {
-                    studentsToRemindList.add(student);
-                }
-            }
-
-            // Filter out instructors who have submitted the feedback session
-            List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
-            for (InstructorAttributes instructor : instructorList) {
-                if (!logic.isFeedbackSessionCompletedByInstructor(session, instructor.email)) {
-                    instructorsToRemindList.add(instructor);
-                }
-            }
+            List<StudentAttributes> studentsToRemindList = logic.getNonRespondentStudents(session, studentList);
+            List<InstructorAttributes> instructorsToRemindList =
+                    logic.getNonRespondentInstructors(session, instructorList);
 
             List<EmailWrapper> emails = new EmailGenerator().generateFeedbackSessionReminderEmails(
                     session, studentsToRemindList, instructorsToRemindList, instructorToNotify);
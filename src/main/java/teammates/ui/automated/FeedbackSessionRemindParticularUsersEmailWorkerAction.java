@@ -1,7 +1,10 @@
 package teammates.ui.automated;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
@@ -38,19 +41,20 @@ public class FeedbackSessionRemindParticularUsersEmailWorkerAction extends Autom
 
         try {
             FeedbackSessionAttributes session = logic.getFeedbackSession(feedbackSessionName, courseId);
-            List<StudentAttributes> studentsToRemindList = new ArrayList<>();
-            List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
             InstructorAttributes instructorToNotify =
                     logic.getInstructorForGoogleId(courseId, googleIdOfInstructorToNotify);
 
-            for (String userEmail : usersToRemind) {
-                StudentAttributes student = logic.getStudentForEmail(courseId, userEmail);
-                if (student != null) {
+            // the users are chosen by the instructor, so they are reminded whether or not they have responded
+            Set<String> emailsToRemind = new HashSet<>(Arrays.asList(usersToRemind));
+            List<StudentAttributes> studentsToRemindList = new ArrayList<>();
+            for (StudentAttributes student : logic.getStudentsForCourse(courseId)) {
+                if (emailsToRemind.contains(student.email)) {
                     studentsToRemindList.add(student);
                 }
-
-                InstructorAttributes instructor = logic.getInstructorForEmail(courseId, userEmail);
-                if (instructor != null) {
+            }
+            List<InstructorAttributes> instructorsToRemindList = new ArrayList<>();
+            for (InstructorAttributes instructor : logic.getInstructorsForCourse(courseId)) {
+                if (emailsToRemind.contains(instructor.email)) {
                     instructorsToRemindList.add(instructor);
                 }
             }
@@ -0,0 +1,41 @@
+package teammates.ui.automated;
+
+import java.util.Arrays;
+import java.util.List;
+
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.Logger;
+
+/**
+ * Task queue worker action: re-indexes search documents from the datastore,
+ * e.g. after they failed to be written at the end of a request.
+ */
+public class SearchDocumentsReindexWorkerAction extends AutomatedAction {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected String getActionDescription() {
+        return null;
+    }
+
+    @Override
+    protected String getActionMessage() {
+        return null;
+    }
+
+    @Override
+    public void execute() {
+        String indexName = getNonNullRequestParamValue(ParamsNames.SEARCH_INDEX_NAME);
+        String[] documentIds = getNonNullRequestParamValues(ParamsNames.SEARCH_DOCUMENT_IDS);
+
+        List<String> failedDocumentIds = logic.reindexSearchDocuments(indexName, Arrays.asList(documentIds));
+        if (!failedDocumentIds.isEmpty()) {
+            // putting a document again is harmless, so the whole task can be retried
+            log.warning("Retrying re-indexing as document(s) " + failedDocumentIds + " in search index " + indexName
+                        + " failed to be put");
+            setForRetry();
+        }
+    }
+
+}
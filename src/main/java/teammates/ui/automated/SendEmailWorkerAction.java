@@ -1,13 +1,21 @@
 package teammates.ui.automated;
 
-import teammates.common.exception.TeammatesException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.reflect.TypeToken;
+
 import teammates.common.util.Assumption;
 import teammates.common.util.Const.ParamsNames;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.JsonUtils;
 import teammates.common.util.Logger;
 
 /**
- * Task queue worker action: sends queued email.
+ * Task queue worker action: sends queued emails, which are either a single email or a batch of emails
+ * generated from the same template.
  */
 public class SendEmailWorkerAction extends AutomatedAction {
 
@@ -36,27 +44,57 @@ public class SendEmailWorkerAction extends AutomatedAction {
 
         String emailSenderName = getRequestParamValue(ParamsNames.EMAIL_SENDERNAME);
 
-        String emailReceiver = getRequestParamValue(ParamsNames.EMAIL_RECEIVER);
-        Assumption.assertPostParamNotNull(ParamsNames.EMAIL_RECEIVER, emailReceiver);
+        String[] emailReceivers = getNonNullRequestParamValues(ParamsNames.EMAIL_RECEIVER);
 
         String emailReply = getRequestParamValue(ParamsNames.EMAIL_REPLY_TO_ADDRESS);
         Assumption.assertPostParamNotNull(ParamsNames.EMAIL_REPLY_TO_ADDRESS, emailReply);
 
-        EmailWrapper message = new EmailWrapper();
-        message.setRecipient(emailReceiver);
-        message.setSenderEmail(emailSenderEmail);
-        if (emailSenderName != null) {
-            message.setSenderName(emailSenderName);
+        // if present, the content is a template shared by all the receivers, with a set of substitutions for each
+        String[] emailSubstitutions = getRequestParamValues(ParamsNames.EMAIL_SUBSTITUTIONS);
+
+        List<EmailWrapper> messages = new ArrayList<>();
+        for (int i = 0; i < emailReceivers.length; i++) {
+            EmailWrapper message = new EmailWrapper();
+            message.setRecipient(emailReceivers[i]);
+            message.setSenderEmail(emailSenderEmail);
+            if (emailSenderName != null) {
+                message.setSenderName(emailSenderName);
+            }
+            if (emailSubstitutions == null) {
+                message.setContent(emailContent);
+            } else {
+                Map<String, String> substitutions =
+                        JsonUtils.fromJson(emailSubstitutions[i], new TypeToken<Map<String, String>>(){}.getType());
+                message.setContentFromTemplate(emailContent, substitutions);
+            }
+            message.setSubject(emailSubject);
+            message.setReplyTo(emailReply);
+            messages.add(message);
+        }
+
+        // the time the emails are scheduled to be sent, absent for tasks queued by earlier versions
+        String scheduledSendTime = getRequestParamValue(ParamsNames.EMAIL_SCHEDULED_SEND_TIME);
+
+        long sendStartTime = Instant.now().toEpochMilli();
+        List<EmailWrapper> unsentMessages = emailSender.sendEmails(messages);
+        long sendEndTime = Instant.now().toEpochMilli();
+
+        log.info("Sent " + (messages.size() - unsentMessages.size()) + " of " + messages.size() + " emails in "
+                 + (sendEndTime - sendStartTime) + " ms"
+                 + (scheduledSendTime == null
+                    ? ""
+                    : ", " + (sendStartTime - Long.parseLong(scheduledSendTime)) + " ms after the scheduled time"));
+
+        if (unsentMessages.isEmpty()) {
+            return;
         }
-        message.setContent(emailContent);
-        message.setSubject(emailSubject);
-        message.setReplyTo(emailReply);
-
-        try {
-            emailSender.sendEmail(message);
-        } catch (Exception e) {
-            log.severe("Error while sending email via servlet: " + TeammatesException.toStringWithStackTrace(e));
+        if (unsentMessages.size() == messages.size()) {
+            // nothing has been sent, so retrying the whole task does not send any email twice
             setForRetry();
+        } else {
+            // only the emails which failed to be sent are sent again, in new tasks
+            log.warning("Scheduling " + unsentMessages.size() + " emails which failed to be sent to be sent again");
+            taskQueuer.scheduleEmailsForSending(unsentMessages);
         }
     }
 
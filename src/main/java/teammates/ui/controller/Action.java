@@ -14,6 +14,7 @@ import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.InvalidOriginException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Assumption;
 import teammates.common.util.Config;
 import teammates.common.util.Const;
@@ -547,6 +548,17 @@ public abstract class Action {
                                                                       account, student, statusToAdmin);
     }
 
+    /**
+     * Returns the entry of the 'activity log' for the Admin, as logged by {@link #getLogMessage()}.
+     *
+     * @param timeTaken time taken to process the request in milliseconds
+     */
+    public ActivityLogEntry getActivityLogEntry(long timeTaken) {
+        UserType currUser = gateKeeper.getCurrentUser();
+        return new LogMessageGenerator().generatePageActionLogEntry(requestUrl, requestParameters, currUser,
+                                                                    account, student, statusToAdmin, timeTaken);
+    }
+
     /**
      * Returns null if the specified parameter was not found in the request.
      */
@@ -647,6 +659,19 @@ public abstract class Action {
                                       fileContent);
     }
 
+    /**
+     * Generates a {@link FileDownloadResult} whose content is written by {@code fileContentWriter}
+     * while the result is being sent.
+     */
+    public FileDownloadResult createFileDownloadResult(String fileName,
+            FileDownloadResult.FileContentWriter fileContentWriter) {
+        return new FileDownloadResult("filedownload",
+                                      account,
+                                      statusToUser,
+                                      fileName,
+                                      fileContentWriter);
+    }
+
     protected ActionResult createPleaseJoinCourseResponse(String courseId) {
         String errorMessage = "You are not registered in the course " + SanitizationHelper.sanitizeForHtml(courseId);
         statusToUser.add(new StatusMessage(errorMessage, StatusMessageColor.DANGER));
@@ -656,10 +681,19 @@ public abstract class Action {
     }
 
     protected ActionResult createImageResult(String blobKey) {
+        return createImageResult(blobKey, false);
+    }
+
+    /**
+     * Creates an image result for the image with the {@code blobKey}, which can be cached by the browser
+     * without revalidation if {@code isRequestedByBlobKey}.
+     */
+    protected ActionResult createImageResult(String blobKey, boolean isRequestedByBlobKey) {
         return new ImageResult("imagedisplay",
                                blobKey,
                                account,
-                               statusToUser);
+                               statusToUser,
+                               isRequestedByBlobKey);
     }
 
     /**
@@ -24,6 +24,7 @@ import teammates.ui.pagedata.AdminActivityLogPageData;
 
 public class AdminActivityLogPageAction extends Action {
     private static final int RELEVANT_LOGS_PER_PAGE = 50;
+    private static final String ADMIN_ACTIVITY_LOG_PAGE_ACTION_NAME = "adminActivityLogPage";
     /**
      * The maximum time period to retrieve logs with time increment.
      */
@@ -33,14 +34,17 @@ public class AdminActivityLogPageAction extends Action {
      * The maximum number of times to retrieve logs with time increment.
      */
     private static final int MAX_SEARCH_TIMES = MAX_SEARCH_PERIOD / SEARCH_TIME_INCREMENT;
-    /**
-     * Maximum number of versions to query.
-     */
-    private static final int MAX_VERSIONS_TO_QUERY = 1 + 5; //the current version and its 5 preceding versions
 
     private int totalLogsSearched;
     private Long nextEndTimeToSearch;
 
+    /**
+     * Number of stored logs with time {@code nextEndTimeToSearch} already checked, which the next search skips.
+     * Stored logs with the same time are always read in the same order, so together with the end time
+     * this is the position in the logs at which the next search continues.
+     */
+    private int nextLogsToSkip;
+
     @Override
     protected ActionResult execute() {
         gateKeeper.verifyAdminPrivileges(account);
@@ -90,18 +94,35 @@ public class AdminActivityLogPageAction extends Action {
         data.generateQueryParameters(filterQuery);
 
         boolean isContinueFromPreviousSearch = !data.isFromDateSpecifiedInQuery() && !searchTimeOffset.isEmpty();
+        int logsToSkip = 0;
         if (isContinueFromPreviousSearch) {
             data.setToDate(Long.parseLong(searchTimeOffset));
+            String searchLogsToSkip = getRequestParamValue("searchLogsToSkip");
+            if (searchLogsToSkip != null && !searchLogsToSkip.isEmpty()) {
+                logsToSkip = Integer.parseInt(searchLogsToSkip);
+            }
         }
 
-        List<String> versionToQuery = getVersionsForQuery(data.getVersions());
-        AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
+        // Logs of specific versions are only available from the log service;
+        // otherwise the activity log store is searched, which has the logs of all versions
+        List<String> versionToQuery = data.getVersions();
+        boolean isVersionSpecifiedInQuery = versionToQuery != null && !versionToQuery.isEmpty();
 
         List<ActivityLogEntry> logs = null;
-        if (data.isFromDateSpecifiedInQuery()) {
-            logs = searchLogsWithExactTimePeriod(query, data);
+        if (isVersionSpecifiedInQuery) {
+            AdminLogQuery query = new AdminLogQuery(versionToQuery, data.getFromDate(), data.getToDate());
+            if (data.isFromDateSpecifiedInQuery()) {
+                logs = searchLogsWithExactTimePeriod(query, data);
+            } else {
+                logs = searchLogsWithTimeIncrement(query, data);
+            }
         } else {
-            logs = searchLogsWithTimeIncrement(query, data);
+            versionToQuery = null;
+            if (data.isFromDateSpecifiedInQuery()) {
+                logs = searchStoredLogsWithExactTimePeriod(data);
+            } else {
+                logs = searchStoredLogsWithTimeIncrement(data, logsToSkip);
+            }
         }
 
         String courseIdFromSearchPage = getRequestParamValue("courseId");
@@ -115,19 +136,6 @@ public class AdminActivityLogPageAction extends Action {
         return createShowPageResult(Const.ViewURIs.ADMIN_ACTIVITY_LOG_AJAX, data);
     }
 
-    /**
-     * Selects versions for query. If versions are not specified, it will return
-     * MAX_VERSIONS_TO_QUERY most recent versions used for query.
-     */
-    private List<String> getVersionsForQuery(List<String> versions) {
-        boolean isVersionSpecifiedInRequest = versions != null && !versions.isEmpty();
-        if (isVersionSpecifiedInRequest) {
-            return versions;
-        }
-        GaeVersionApi versionApi = new GaeVersionApi();
-        return versionApi.getMostRecentVersions(MAX_VERSIONS_TO_QUERY);
-    }
-
     private void generateStatusMessage(List<String> versionToQuery,
                                        AdminActivityLogPageData data,
                                        List<ActivityLogEntry> logs, String courseId) {
@@ -172,13 +180,17 @@ public class AdminActivityLogPageAction extends Action {
             status.append("on <b>" + timeInUserTimeZone + "</b> in Local Time Zone (" + targetTimeZone + ").<br>");
         }
 
-        status.append("Logs are from following version(s): ");
-        for (int i = 0; i < versionToQuery.size(); i++) {
-            String version = versionToQuery.get(i).replace('-', '.');
-            if (i < versionToQuery.size() - 1) {
-                status.append(version).append(", ");
-            } else {
-                status.append(version).append("<br>");
+        if (versionToQuery == null) {
+            status.append("Logs are from all version(s)<br>");
+        } else {
+            status.append("Logs are from following version(s): ");
+            for (int i = 0; i < versionToQuery.size(); i++) {
+                String version = versionToQuery.get(i).replace('-', '.');
+                if (i < versionToQuery.size() - 1) {
+                    status.append(version).append(", ");
+                } else {
+                    status.append(version).append("<br>");
+                }
             }
         }
 
@@ -197,6 +209,7 @@ public class AdminActivityLogPageAction extends Action {
         // the "Search More" button to continue searching from the previous fromDate
         status.append("<button class=\"btn-link\" id=\"button_older\" data-next-end-time-to-search=\""
                       + nextEndTimeToSearch
+                      + "\" data-logs-to-skip=\"" + nextLogsToSkip
                       + "\">Search More</button><input id=\"ifShowAll\" type=\"hidden\" value=\""
                       + data.getShouldShowAllLogs()
                       + "\"/><input id=\"ifShowTestData\" type=\"hidden\" value=\""
@@ -246,6 +259,84 @@ public class AdminActivityLogPageAction extends Action {
         return filterLogsForActivityLogPage(searchResult, data);
     }
 
+    /**
+     * Retrieves enough stored logs within MAX_SEARCH_PERIOD hours, skipping the first {@code logsToSkip} logs
+     * with the end time of the search, which were checked by the previous search.
+     * As the stored logs are read latest first, the search stops as soon as enough relevant logs are found.
+     */
+    private List<ActivityLogEntry> searchStoredLogsWithTimeIncrement(AdminActivityLogPageData data, int logsToSkip) {
+        List<ActivityLogEntry> logs = new LinkedList<>();
+
+        totalLogsSearched = 0;
+        long endTime = data.getToDate();
+        long earliestTimeSearched = endTime - MAX_SEARCH_PERIOD;
+
+        // the time of the last log checked, and the number of logs checked with that time
+        long lastLogTimeChecked = endTime;
+        int logsCheckedWithLastLogTime = 0;
+        boolean isStoppedEarly = false;
+
+        for (ActivityLogEntry entry : getStoredLogs(earliestTimeSearched, endTime, data)) {
+            if (entry.getLogTime() == endTime && logsCheckedWithLastLogTime < logsToSkip) {
+                logsCheckedWithLastLogTime++;
+                continue;
+            }
+            if (logs.size() >= RELEVANT_LOGS_PER_PAGE) {
+                isStoppedEarly = true;
+                break;
+            }
+            totalLogsSearched++;
+            if (entry.getLogTime() == lastLogTimeChecked) {
+                logsCheckedWithLastLogTime++;
+            } else {
+                lastLogTimeChecked = entry.getLogTime();
+                logsCheckedWithLastLogTime = 1;
+            }
+            if (isLogToShow(entry, data)) {
+                logs.add(entry);
+            }
+        }
+
+        if (isStoppedEarly) {
+            // the next search continues right after the last log checked
+            data.setFromDate(lastLogTimeChecked);
+            nextEndTimeToSearch = lastLogTimeChecked;
+            nextLogsToSkip = logsCheckedWithLastLogTime;
+        } else {
+            data.setFromDate(earliestTimeSearched);
+            nextEndTimeToSearch = earliestTimeSearched - 1;
+            nextLogsToSkip = 0;
+        }
+        return logs;
+    }
+
+    /**
+     * Retrieves all stored logs in the time period specified in the query.
+     */
+    private List<ActivityLogEntry> searchStoredLogsWithExactTimePeriod(AdminActivityLogPageData data) {
+        List<ActivityLogEntry> logs = new LinkedList<>();
+
+        totalLogsSearched = 0;
+        for (ActivityLogEntry entry : getStoredLogs(data.getFromDate(), data.getToDate(), data)) {
+            totalLogsSearched++;
+            if (isLogToShow(entry, data)) {
+                logs.add(entry);
+            }
+        }
+        nextEndTimeToSearch = data.getFromDate() - 1;
+        return logs;
+    }
+
+    /**
+     * Gets the stored logs from {@code startTime} to {@code endTime}, latest first, narrowed down
+     * by the person, role or request in the query so that the indexes of the store are used.
+     */
+    private Iterable<ActivityLogEntry> getStoredLogs(long startTime, long endTime, AdminActivityLogPageData data) {
+        String person = data.isPersonSpecified() ? data.getPersonSpecified() : null;
+        return logic.getActivityLogs(startTime, endTime, person,
+                data.getRolesSpecified(), data.getRequestsSpecified());
+    }
+
     /**
      * Filters logs that should be shown on Admin Activity Log Page.
      */
@@ -255,16 +346,13 @@ public class AdminActivityLogPageAction extends Action {
         for (AppLogLine appLog : appLogLines) {
             String logMsg = appLog.getLogMessage();
             boolean isNotTeammatesLog = !logMsg.contains("TEAMMATESLOG");
-            boolean isLogFromAdminActivityLogPage = logMsg.contains("adminActivityLogPage");
+            boolean isLogFromAdminActivityLogPage = logMsg.contains(ADMIN_ACTIVITY_LOG_PAGE_ACTION_NAME);
             if (isNotTeammatesLog || isLogFromAdminActivityLogPage) {
                 continue;
             }
 
             ActivityLogEntry activityLogEntry = ActivityLogEntry.buildFromAppLog(appLog);
-            boolean isToShow = data.filterLog(activityLogEntry)
-                    && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
-
-            if (!isToShow) {
+            if (!isLogToShow(activityLogEntry, data)) {
                 continue;
             }
 
@@ -273,6 +361,14 @@ public class AdminActivityLogPageAction extends Action {
         return appLogs;
     }
 
+    private boolean isLogToShow(ActivityLogEntry activityLogEntry, AdminActivityLogPageData data) {
+        boolean isLogFromAdminActivityLogPage =
+                ADMIN_ACTIVITY_LOG_PAGE_ACTION_NAME.equals(activityLogEntry.getActionName());
+        return !isLogFromAdminActivityLogPage
+                && data.filterLog(activityLogEntry)
+                && (!activityLogEntry.isTestingData() || data.getShouldShowTestData());
+    }
+
     private ZoneId getLocalTimeZoneForRequest(String userGoogleId, String userRole) {
 
         if (userRole != null && (userRole.contentEquals("Admin") || userRole.contains("(M)"))) {
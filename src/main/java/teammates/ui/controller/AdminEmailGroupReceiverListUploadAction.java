@@ -10,7 +10,7 @@ import com.google.appengine.api.blobstore.BlobstoreFailureException;
 import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.util.Const;
-import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
 import teammates.common.util.Logger;
 import teammates.ui.pagedata.AdminEmailComposePageData;
 
@@ -18,6 +18,8 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
 
     private static final Logger log = Logger.getLogger();
 
+    private static final int RECEIVERS_PER_READ = 1000;
+
     private AdminEmailComposePageData data;
 
     @Override
@@ -38,16 +40,17 @@ public class AdminEmailGroupReceiverListUploadAction extends Action {
         }
 
         try {
-            List<List<String>> groupReceiverList =
-                    GoogleCloudStorageHelper.getGroupReceiverList(blobInfo.getBlobKey());
-
             // log all email addresses retrieved from the txt file
             int i = 0;
 
-            for (List<String> list : groupReceiverList) {
-                for (String str : list) {
-                    log.info(str + " - " + i + " \n");
-                    i++;
+            try (GroupReceiverListReader reader = new GroupReceiverListReader(blobInfo.getBlobKey(), 0)) {
+                List<String> emails = reader.readBatch(RECEIVERS_PER_READ);
+                while (!emails.isEmpty()) {
+                    for (String str : emails) {
+                        log.info(str + " - " + i + " \n");
+                        i++;
+                    }
+                    emails = reader.readBatch(RECEIVERS_PER_READ);
                 }
             }
         } catch (IOException e) {
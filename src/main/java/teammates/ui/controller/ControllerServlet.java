@@ -20,6 +20,7 @@ import teammates.common.exception.InvalidPostParametersException;
 import teammates.common.exception.PageNotFoundException;
 import teammates.common.exception.TeammatesException;
 import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.HttpRequestHelper;
 import teammates.common.util.LogMessageGenerator;
@@ -29,6 +30,8 @@ import teammates.common.util.StatusMessageColor;
 import teammates.common.util.TimeHelper;
 import teammates.common.util.Url;
 import teammates.logic.api.GateKeeper;
+import teammates.logic.api.Logic;
+import teammates.logic.api.TaskQueuer;
 
 /**
  * Receives requests from the Browser, executes the matching action and sends
@@ -58,6 +61,9 @@ public class ControllerServlet extends HttpServlet {
         String url = HttpRequestHelper.getRequestedUrl(req);
         Map<String, String[]> params = HttpRequestHelper.getParameterMap(req);
 
+        Logic logic = new Logic();
+        logic.startCachingCourseRosters();
+        logic.startBufferingSearchDocumentWrites();
         try {
             /* We are using the Template Method Design Pattern here.
              * This method contains the high level logic of the request processing.
@@ -73,6 +79,8 @@ public class ControllerServlet extends HttpServlet {
             Action c = new ActionFactory().getAction(req);
             if (c.isValidUser()) {
                 ActionResult actionResult = c.executeAndPostProcess();
+                // written before the response is sent so that the next page can already search for them
+                flushSearchDocumentWrites(logic);
                 actionResult.writeSessionTokenToCookieIfRequired(req, resp);
                 actionResult.send(req, resp);
             } else {
@@ -82,35 +90,32 @@ public class ControllerServlet extends HttpServlet {
             long timeTaken = System.currentTimeMillis() - startTime;
             // This is the log message that is used to generate the 'activity log' for the admin.
 
-            log.info(c.getLogMessage() + "|||" + timeTaken);
+            ActivityLogEntry logEntry = c.getActivityLogEntry(timeTaken);
+            log.info(logEntry.generateLogMessage() + "|||" + timeTaken);
+            logic.putActivityLog(logEntry);
 
         } catch (PageNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(logic, url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ACTION_NOT_FOUND_PAGE, params, url));
         } catch (EntityNotFoundException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(logic, url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ENTITY_NOT_FOUND_PAGE, params, url));
 
         } catch (FeedbackSessionNotVisibleException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(logic, url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             req.getSession().setAttribute(Const.ParamsNames.FEEDBACK_SESSION_NOT_VISIBLE, e.getStartTimeString());
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.FEEDBACK_SESSION_NOT_VISIBLE, params, url));
 
         } catch (InvalidOriginException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(logic, url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.INVALID_ORIGIN, params, url));
 
         } catch (UnauthorizedAccessException e) {
-            log.warning(new LogMessageGenerator()
-                                .generateActionFailureLogMessage(url, params, e, userType));
+            logActionFailure(logic, url, params, e, userType);
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.UNAUTHORIZED, params, url));
 
@@ -153,10 +158,44 @@ public class ControllerServlet extends HttpServlet {
                         + TeammatesException.toStringWithStackTrace(t));
             cleanUpStatusMessageInSession(req);
             resp.sendRedirect(appendParamsToErrorPageUrl(Const.ViewURIs.ERROR_PAGE, params, url));
+        } finally {
+            flushSearchDocumentWrites(logic);
+            logic.stopBufferingSearchDocumentWrites();
+            logCourseRosterCacheUsage(logic);
+            logic.stopCachingCourseRosters();
         }
 
     }
 
+    /**
+     * Writes the search documents buffered so far in the request, and leaves those which failed
+     * due to a transient error to be re-indexed by the task queue instead of retrying them in the request.
+     */
+    private void flushSearchDocumentWrites(Logic logic) {
+        try {
+            Map<String, List<String>> failedDocumentIds = logic.flushSearchDocumentWrites();
+            TaskQueuer taskQueuer = new TaskQueuer();
+            failedDocumentIds.forEach(taskQueuer::scheduleSearchDocumentsReindex);
+        } catch (RuntimeException e) {
+            log.severe("Failed to write search documents : " + TeammatesException.toStringWithStackTrace(e));
+        }
+    }
+
+    private void logActionFailure(Logic logic, String url, Map<String, String[]> params,
+            Exception e, UserType userType) {
+        ActivityLogEntry logEntry = new LogMessageGenerator().generateActionFailureLogEntry(url, params, e, userType);
+        log.warning(logEntry.generateLogMessage());
+        logic.putActivityLog(logEntry);
+    }
+
+    private void logCourseRosterCacheUsage(Logic logic) {
+        int missCount = logic.getCourseRosterCacheMissCount();
+        if (missCount > 0) {
+            log.info("Course roster cache : " + logic.getCourseRosterCacheHitCount() + " hit(s), "
+                    + missCount + " miss(es)");
+        }
+    }
+
     private void cleanUpStatusMessageInSession(HttpServletRequest req) {
         req.getSession().removeAttribute(Const.ParamsNames.STATUS_MESSAGES_LIST);
     }
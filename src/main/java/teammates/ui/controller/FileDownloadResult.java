@@ -2,12 +2,17 @@ package teammates.ui.controller;
 
 import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.util.List;
 
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.TeammatesException;
+import teammates.common.util.Assumption;
 import teammates.common.util.SanitizationHelper;
 import teammates.common.util.StatusMessage;
 import teammates.common.util.StringHelper;
@@ -17,6 +22,9 @@ public class FileDownloadResult extends ActionResult {
     private String fileContent = "";
     private String fileName = "";
 
+    /** If not null, the content is produced by this writer while the response is being sent. */
+    private FileContentWriter fileContentWriter;
+
     public FileDownloadResult(String destination, AccountAttributes account,
             List<StatusMessage> status) {
         super(destination, account, status);
@@ -31,8 +39,17 @@ public class FileDownloadResult extends ActionResult {
         this.fileContent = fileContent;
     }
 
+    public FileDownloadResult(
+            String destination, AccountAttributes account,
+            List<StatusMessage> status,
+            String fileName, FileContentWriter fileContentWriter) {
+        super(destination, account, status);
+        this.fileName = fileName;
+        this.fileContentWriter = fileContentWriter;
+    }
+
     @Override
-    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+    public void send(HttpServletRequest req, HttpServletResponse resp) throws IOException, ServletException {
         /*
          * We have to call setContentType() instead of setHeader() in order
          *     to make the servlet aware of the specified charset encoding
@@ -43,7 +60,16 @@ public class FileDownloadResult extends ActionResult {
         resp.setHeader("Content-Disposition", getContentDispositionHeader());
         PrintWriter writer = resp.getWriter();
         writer.write("\uFEFF");
-        writer.append(fileContent);
+        if (fileContentWriter == null) {
+            writer.append(fileContent);
+            return;
+        }
+
+        try {
+            fileContentWriter.write(writer);
+        } catch (EntityDoesNotExistException e) {
+            throw new ServletException(e);
+        }
     }
 
     /**
@@ -67,8 +93,38 @@ public class FileDownloadResult extends ActionResult {
         return this.fileName;
     }
 
+    /**
+     * Returns the content of the file.
+     *
+     * <p>If the content is streamed, it is produced in full in memory;
+     * this is meant for tests only.
+     */
     public String getFileContent() {
-        return this.fileContent;
+        if (fileContentWriter == null) {
+            return this.fileContent;
+        }
+
+        StringWriter content = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(content)) {
+            fileContentWriter.write(writer);
+        } catch (EntityDoesNotExistException e) {
+            Assumption.fail(TeammatesException.toStringWithStackTrace(e));
+        }
+        return content.toString();
+    }
+
+    /**
+     * Writes the content of a file directly to the response, so that large files
+     * do not have to be held in memory.
+     */
+    @FunctionalInterface
+    public interface FileContentWriter {
+
+        /**
+         * Writes the content of the file to {@code writer}.
+         */
+        void write(PrintWriter writer) throws EntityDoesNotExistException;
+
     }
 
 }
@@ -12,17 +12,40 @@ import com.google.appengine.api.blobstore.BlobstoreServiceFactory;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
 import teammates.common.util.Const;
+import teammates.common.util.GoogleCloudStorageHelper;
 import teammates.common.util.StatusMessage;
 
+/**
+ * Action result that serves an image stored in Google Cloud Storage.
+ *
+ * <p>A stored image never changes under its blob key, as every new image is written to a new file,
+ * so the response is tagged with the blob key. Browsers revalidating the image with the tag get an empty
+ * "not modified" response, and images requested by their blob key may be cached by browsers without
+ * revalidation. Small images, like profile pictures, are also served from memory to save reads from the storage.
+ */
 public class ImageResult extends ActionResult {
 
+    private static final long ONE_YEAR_IN_SECONDS = 365L * 24 * 60 * 60;
+
     /** The Google Cloud Storage blob key for the image. */
     public String blobKey;
 
+    /**
+     * Whether the image is requested by its blob key, in which case the response is the same for all requests
+     * and can be cached by the browser without revalidation.
+     */
+    public boolean isRequestedByBlobKey;
+
     public ImageResult(String destination, String blobKey, AccountAttributes account,
             List<StatusMessage> status) {
+        this(destination, blobKey, account, status, false);
+    }
+
+    public ImageResult(String destination, String blobKey, AccountAttributes account,
+            List<StatusMessage> status, boolean isRequestedByBlobKey) {
         super(destination, account, status);
         this.blobKey = blobKey;
+        this.isRequestedByBlobKey = isRequestedByBlobKey;
     }
 
     @Override
@@ -30,11 +53,39 @@ public class ImageResult extends ActionResult {
 
         if (blobKey.isEmpty()) {
             resp.sendRedirect(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH);
-        } else {
-            resp.setContentType("image/png");
+            return;
+        }
+
+        String entityTag = "\"" + blobKey + "\"";
+        if (entityTag.equals(req.getHeader("If-None-Match"))) {
+            setCachingHeaders(resp, entityTag);
+            resp.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] image = GoogleCloudStorageHelper.readSmallImage(new BlobKey(blobKey));
+        if (image != null && image.length == 0) {
+            // a missing image is not to be cached as the image under its blob key
+            resp.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        setCachingHeaders(resp, entityTag);
+        resp.setContentType("image/png");
+        if (image == null) {
             BlobstoreService blobstoreService = BlobstoreServiceFactory.getBlobstoreService();
             blobstoreService.serve(new BlobKey(blobKey), resp);
+        } else {
+            resp.setContentLength(image.length);
+            resp.getOutputStream().write(image);
         }
     }
 
+    private void setCachingHeaders(HttpServletResponse resp, String entityTag) {
+        resp.setHeader("ETag", entityTag);
+        resp.setHeader("Cache-Control", isRequestedByBlobKey
+                                        ? "private, max-age=" + ONE_YEAR_IN_SECONDS + ", immutable"
+                                        : "private, no-cache");
+    }
+
 }
@@ -70,7 +70,7 @@ public class InstructorFeedbackEditPageAction extends Action {
 
         data.init(feedbackSession, questions, templateQuestions, questionHasResponses, studentList,
                 instructorsWhoCanSubmit, instructor, shouldLoadInEditMode,
-                numOfInstructors, logic.getCourseDetails(courseId));
+                numOfInstructors, logic.getCourseDetailsWithoutSections(courseId));
 
         return createShowPageResult(Const.ViewURIs.INSTRUCTOR_FEEDBACK_EDIT, data);
     }
@@ -24,7 +24,7 @@ public class StudentCourseDetailsPageAction extends Action {
 
         StudentCourseDetailsPageData data = new StudentCourseDetailsPageData(account, sessionToken);
 
-        data.init(logic.getCourseDetails(courseId), logic.getInstructorsForCourse(courseId),
+        data.init(logic.getCourseDetailsWithoutSections(courseId), logic.getInstructorsForCourse(courseId),
                       logic.getStudentForGoogleId(courseId, account.googleId),
                       logic.getTeamDetailsForStudent(logic.getStudentForGoogleId(courseId, account.googleId)));
 
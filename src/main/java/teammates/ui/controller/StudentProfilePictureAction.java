@@ -41,7 +41,7 @@ public class StudentProfilePictureAction extends Action {
     private ActionResult handleRequestWithBlobKey() {
         String blobKey = getBlobKeyFromRequest();
         log.info("blob-key given: " + blobKey);
-        return createImageResult(blobKey);
+        return createImageResult(blobKey, true);
     }
 
     private ActionResult handleRequestWithEmailAndCourse()
@@ -0,0 +1,85 @@
+package teammates.ui.controller;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.datatransfer.attributes.StudentProfileAttributes;
+import teammates.common.exception.EntityDoesNotExistException;
+import teammates.common.exception.InvalidParametersException;
+import teammates.common.util.Const;
+import teammates.common.util.Logger;
+import teammates.common.util.StringHelper;
+import teammates.ui.pagedata.StudentProfilePictureLinksAjaxPageData;
+
+/**
+ * Action: gets the links to the profile pictures of a page's worth of students of a course at once.
+ *
+ * <p>Access is checked against the course roster once for all the students, and the links returned are
+ * keyed by the pictures themselves, so that the pictures can be cached by the browser.
+ *
+ * @see StudentProfilePictureAction
+ */
+public class StudentProfilePictureLinksAction extends Action {
+
+    private static final Logger log = Logger.getLogger();
+
+    @Override
+    protected ActionResult execute() throws EntityDoesNotExistException {
+        String encryptedCourseId = getNonNullRequestParamValue(Const.ParamsNames.COURSE_ID);
+        String[] encryptedEmails = getNonNullRequestParamValues(Const.ParamsNames.STUDENT_EMAIL);
+
+        String courseId = decrypt(encryptedCourseId);
+        Map<String, StudentAttributes> studentsByEmail = new HashMap<>();
+        for (StudentAttributes student : logic.getStudentsForCourse(courseId)) {
+            studentsByEmail.put(student.email, student);
+        }
+
+        Map<String, StudentAttributes> requestedStudents = new LinkedHashMap<>();
+        for (String encryptedEmail : encryptedEmails) {
+            String email = decrypt(encryptedEmail);
+            StudentAttributes student = studentsByEmail.get(email);
+            if (student == null) {
+                throw new EntityDoesNotExistException("student with " + courseId + "/" + email);
+            }
+            requestedStudents.put(encryptedEmail, student);
+        }
+
+        gateKeeper.verifyAccessibleForCurrentUserAsInstructorOrTeamMemberOrAdmin(
+                account, courseId, new ArrayList<>(requestedStudents.values()));
+
+        // picture request is only relevant for registered students
+        List<String> googleIds = new ArrayList<>();
+        for (StudentAttributes student : requestedStudents.values()) {
+            if (!student.googleId.isEmpty()) {
+                googleIds.add(student.googleId);
+            }
+        }
+        Map<String, String> pictureKeys = new HashMap<>();
+        for (StudentProfileAttributes profile : logic.getStudentProfiles(googleIds)) {
+            pictureKeys.put(profile.googleId, profile.pictureKey);
+        }
+
+        StudentProfilePictureLinksAjaxPageData data = new StudentProfilePictureLinksAjaxPageData(account, sessionToken);
+        Map<String, String> pictureLinks = new LinkedHashMap<>();
+        requestedStudents.forEach((encryptedEmail, student) ->
+                pictureLinks.put(encryptedEmail, data.getPictureUrl(pictureKeys.get(student.googleId))));
+        data.setPictureLinks(pictureLinks);
+
+        statusToAdmin = "Requested links to " + pictureLinks.size() + " profile pictures in course " + courseId;
+        return createAjaxResult(data);
+    }
+
+    private String decrypt(String ciphertext) throws EntityDoesNotExistException {
+        try {
+            return StringHelper.decrypt(ciphertext);
+        } catch (InvalidParametersException e) {
+            log.warning("Attempting to decrypt malformed ciphertext when retrieving email or course id from request.");
+            throw new EntityDoesNotExistException(e);
+        }
+    }
+
+}
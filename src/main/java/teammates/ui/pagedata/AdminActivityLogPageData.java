@@ -7,6 +7,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import teammates.common.datatransfer.attributes.AccountAttributes;
@@ -484,6 +485,20 @@ public class AdminActivityLogPageData extends PageData {
         return q.personValue;
     }
 
+    /**
+     * Returns the roles in the query, in lower case, or null if no role is specified.
+     */
+    public List<String> getRolesSpecified() {
+        return q != null && q.isRoleInQuery ? Arrays.asList(q.roleValues) : null;
+    }
+
+    /**
+     * Returns the requests in the query, in lower case, or null if no request is specified.
+     */
+    public List<String> getRequestsSpecified() {
+        return q != null && q.isRequestInQuery ? Arrays.asList(q.requestValues) : null;
+    }
+
     public boolean isFromDateSpecifiedInQuery() {
         return isFromDateSpecifiedInQuery;
     }
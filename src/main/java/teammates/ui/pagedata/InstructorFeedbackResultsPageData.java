@@ -1,6 +1,7 @@
 package teammates.ui.pagedata;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -1074,8 +1075,9 @@ public class InstructorFeedbackResultsPageData extends PageData {
             FeedbackQuestionAttributes question, List<FeedbackResponseAttributes> responses) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleGiversWithoutResponses = bundle.getPossibleGivers(question);
-        List<String> possibleReceiversWithoutResponsesForGiver = new ArrayList<>();
+        // ordered sets, so that crossing out a participant seen in a response takes constant time
+        Set<String> possibleGiversWithoutResponses = new LinkedHashSet<>(bundle.getPossibleGivers(question));
+        Set<String> possibleReceiversWithoutResponsesForGiver = new LinkedHashSet<>();
 
         String prevGiver = "";
         Map<String, Integer> responseGiverRecipientIndex = new HashMap<>();
@@ -1086,7 +1088,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
             }
 
             // keep track of possible givers who did not give a response
-            removeParticipantIdentifierFromList(possibleGiversWithoutResponses, response.giver);
+            possibleGiversWithoutResponses.remove(response.giver);
 
             boolean isNewGiver = !prevGiver.equals(response.giver);
             if (isNewGiver) {
@@ -1099,11 +1101,12 @@ public class InstructorFeedbackResultsPageData extends PageData {
                 }
                 String giverIdentifier = response.giver;
 
-                possibleReceiversWithoutResponsesForGiver = bundle.getPossibleRecipients(question, giverIdentifier);
+                possibleReceiversWithoutResponsesForGiver =
+                        new LinkedHashSet<>(bundle.getPossibleRecipients(question, giverIdentifier));
             }
 
             // keep track of possible recipients without a response from the current giver
-            removeParticipantIdentifierFromList(possibleReceiversWithoutResponsesForGiver, response.recipient);
+            possibleReceiversWithoutResponsesForGiver.remove(response.recipient);
             prevGiver = response.giver;
 
             InstructorFeedbackResultsModerationButton moderationButton = buildModerationButtonForExistingResponse(
@@ -1160,9 +1163,9 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                     String participantIdentifier, boolean isFirstGroupedByGiver) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
-        List<String> possibleParticipantsWithoutResponses = isFirstGroupedByGiver
+        Set<String> possibleParticipantsWithoutResponses = new LinkedHashSet<>(isFirstGroupedByGiver
                                                           ? bundle.getPossibleRecipients(question, participantIdentifier)
-                                                          : bundle.getPossibleGivers(question, participantIdentifier);
+                                                          : bundle.getPossibleGivers(question, participantIdentifier));
 
         for (FeedbackResponseAttributes response : responses) {
             if (!bundle.isGiverVisible(response) || !bundle.isRecipientVisible(response)) {
@@ -1171,8 +1174,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
 
             // keep track of possible participant who did not give/receive a response to/from the participantIdentifier
             String participantWithResponse = isFirstGroupedByGiver ? response.recipient : response.giver;
-            removeParticipantIdentifierFromList(possibleParticipantsWithoutResponses,
-                                                participantWithResponse);
+            possibleParticipantsWithoutResponses.remove(participantWithResponse);
 
             InstructorFeedbackResultsModerationButton moderationButton =
                     buildModerationButtonForExistingResponse(question, response);
@@ -1322,7 +1324,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
      */
     private List<InstructorFeedbackResultsResponseRow> buildMissingResponseRowsBetweenGiverAndPossibleRecipients(
                                                                     FeedbackQuestionAttributes question,
-                                                                    List<String> possibleReceivers,
+                                                                    Collection<String> possibleReceivers,
                                                                     String giverIdentifier,
                                                                     String giverName, String giverTeam) {
         List<InstructorFeedbackResultsResponseRow> missingResponses = new ArrayList<>();
@@ -1360,7 +1362,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
      */
     private List<InstructorFeedbackResultsResponseRow> buildMissingResponseRowsBetweenRecipientAndPossibleGivers(
                                     FeedbackQuestionAttributes question,
-                                    List<String> possibleGivers, String recipientIdentifier,
+                                    Collection<String> possibleGivers, String recipientIdentifier,
                                     String recipientName, String recipientTeam) {
         List<InstructorFeedbackResultsResponseRow> missingResponses = new ArrayList<>();
         FeedbackQuestionDetails questionDetails = questionToDetailsMap.get(question);
@@ -1393,17 +1395,9 @@ public class InstructorFeedbackResultsPageData extends PageData {
         return missingResponses;
     }
 
-    /**
-     * Given a participantIdentifier, remove it from participantIdentifierList.
-     */
-    private void removeParticipantIdentifierFromList(
-                    List<String> participantIdentifierList, String participantIdentifier) {
-        participantIdentifierList.remove(participantIdentifier);
-    }
-
     private List<InstructorFeedbackResultsResponseRow> getRemainingMissingResponseRows(
-            FeedbackQuestionAttributes question, List<String> remainingPossibleGivers,
-            List<String> possibleRecipientsForGiver, String prevGiver) {
+            FeedbackQuestionAttributes question, Set<String> remainingPossibleGivers,
+            Set<String> possibleRecipientsForGiver, String prevGiver) {
         List<InstructorFeedbackResultsResponseRow> responseRows = new ArrayList<>();
 
         if (possibleRecipientsForGiver != null && isMissingResponsesShown) {
@@ -1413,7 +1407,7 @@ public class InstructorFeedbackResultsPageData extends PageData {
                                             bundle.getTeamNameForEmail(prevGiver)));
         }
 
-        removeParticipantIdentifierFromList(remainingPossibleGivers, prevGiver);
+        remainingPossibleGivers.remove(prevGiver);
 
         for (String possibleGiverWithNoResponses : remainingPossibleGivers) {
             if (!isAllSectionsSelected()
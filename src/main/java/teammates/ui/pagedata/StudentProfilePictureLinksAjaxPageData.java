@@ -0,0 +1,27 @@
+package teammates.ui.pagedata;
+
+import java.util.Map;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+
+/**
+ * Page data for the links to the profile pictures of a page's worth of students.
+ */
+public class StudentProfilePictureLinksAjaxPageData extends PageData {
+
+    /** The links to the profile pictures, mapped from the encrypted emails of the students as requested. */
+    private Map<String, String> pictureLinks;
+
+    public StudentProfilePictureLinksAjaxPageData(AccountAttributes account, String sessionToken) {
+        super(account, sessionToken);
+    }
+
+    public void setPictureLinks(Map<String, String> pictureLinks) {
+        this.pictureLinks = pictureLinks;
+    }
+
+    public Map<String, String> getPictureLinks() {
+        return pictureLinks;
+    }
+
+}
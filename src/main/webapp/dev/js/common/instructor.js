@@ -120,6 +120,66 @@ function initializeTimeZoneOptions($selectElement) {
 // Student Profile Picture
 // --------------------------------------------------------------------------
 
+// requests for the links to the profile pictures by their blob keys, mapped from the links in the page
+const profilePictureLinkRequests = {};
+
+function getUrlParamValue(link, paramName) {
+    const match = new RegExp(`[?&]${paramName}=([^&#]*)`).exec(link);
+    return match ? decodeURIComponent(match[1]) : null;
+}
+
+/**
+ * Resolves a link to a profile picture in the page to the link to the picture by its blob key,
+ * which can be cached by the browser<br>
+ * The links to the pictures of all other students of the same course in the page are resolved
+ * in the same request, so that access to all of them is checked at once
+ * @param link the link to the profile picture in the page
+ * @returns a promise of the resolved link, which falls back to the given link
+ */
+function resolveProfilePictureLink(link) {
+    if (profilePictureLinkRequests[link]) {
+        return profilePictureLinkRequests[link];
+    }
+
+    const courseId = getUrlParamValue(link, ParamsNames.COURSE_ID);
+    const studentEmail = getUrlParamValue(link, ParamsNames.STUDENT_EMAIL);
+    if (!courseId || !studentEmail) {
+        return $.Deferred().resolve(link).promise();
+    }
+
+    const linksByEmail = {};
+    $('[data-link]').each(function () {
+        const otherLink = $(this).attr('data-link');
+        const otherEmail = getUrlParamValue(otherLink, ParamsNames.STUDENT_EMAIL);
+        if (otherEmail && !profilePictureLinkRequests[otherLink]
+                && getUrlParamValue(otherLink, ParamsNames.COURSE_ID) === courseId) {
+            linksByEmail[otherEmail] = otherLink;
+        }
+    });
+    linksByEmail[studentEmail] = link;
+
+    const params = {
+        [ParamsNames.COURSE_ID]: courseId,
+        [ParamsNames.STUDENT_EMAIL]: Object.keys(linksByEmail),
+    };
+    const userId = getUrlParamValue(link, ParamsNames.USER_ID);
+    if (userId) {
+        params[ParamsNames.USER_ID] = userId;
+    }
+
+    const request = $.ajax({
+        type: 'POST',
+        url: '/page/studentProfilePicLinks',
+        data: $.param(params, true),
+    }).then(data => data.pictureLinks, () => $.Deferred().resolve({}));
+
+    Object.keys(linksByEmail).forEach((email) => {
+        const pageLink = linksByEmail[email];
+        profilePictureLinkRequests[pageLink] = request.then(pictureLinks => pictureLinks[email] || pageLink);
+    });
+    return profilePictureLinkRequests[link];
+}
+
 /**
  * updates all the student names that show profile picture
  * on hover with the resolved link after one instance of the name
@@ -180,7 +240,12 @@ function bindStudentPhotoLink(elements) {
         const $loadingImage = $('<img>').attr('src', '/images/ajax-loader.gif')
                 .addClass('center-block margin-top-7px');
 
-        $(this).siblings('img').attr('src', actualLink).load(function () {
+        const $image = $(this).siblings('img');
+        resolveProfilePictureLink(actualLink).done((link) => {
+            $image.attr('src', link);
+        });
+
+        $image.load(function () {
             const resolvedLink = $(this).attr('src');
 
             $loadingImage.remove();
@@ -227,7 +292,10 @@ function bindStudentPhotoLink(elements) {
  * @param resolvedLink
  */
 function loadProfilePictureForHoverEvent(obj) {
-    obj.children('img')[0].src = obj.attr('data-link');
+    const image = obj.children('img')[0];
+    resolveProfilePictureLink(obj.attr('data-link')).done((link) => {
+        image.src = link;
+    });
 
     const $loadingImage = $('<img>').attr('src', '/images/ajax-loader.gif');
 
@@ -88,8 +88,9 @@ function highlightKeywordsInLogMessages() {
     });
 }
 
-function submitFormAjax(searchTimeOffset) {
+function submitFormAjax(searchTimeOffset, searchLogsToSkip) {
     $('input[name=searchTimeOffset]').val(searchTimeOffset);
+    $('input[name=searchLogsToSkip]').val(searchLogsToSkip);
 
     const formObject = $('#ajaxLoaderDataForm');
     const formData = formObject.serialize();
@@ -123,7 +124,8 @@ $(document).ready(() => {
 
     $(document).on('click', '#button_older', () => {
         const nextEndTimeToSearch = $('#button_older').attr('data-next-end-time-to-search');
-        submitFormAjax(nextEndTimeToSearch);
+        const logsToSkip = $('#button_older').attr('data-logs-to-skip');
+        submitFormAjax(nextEndTimeToSearch, logsToSkip);
     });
 
     $('#btn-toggle-reference').on('click', () => {
@@ -183,6 +183,10 @@ public class BaseTestCase {
         Assert.assertNotEquals(first, second);
     }
 
+    protected static void assertSame(Object expected, Object actual) {
+        AssertJUnit.assertSame(expected, actual);
+    }
+
     protected static void assertNotSame(Object expected, Object actual) {
         AssertJUnit.assertNotSame(expected, actual);
     }
@@ -6,17 +6,24 @@ import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.testng.annotations.BeforeGroups;
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.log.AppLogLine;
 import com.google.gson.reflect.TypeToken;
 
 import teammates.common.util.ActivityLogEntry;
 import teammates.common.util.Const;
 import teammates.common.util.JsonUtils;
 import teammates.common.util.TimeHelper;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.api.EntitiesDb;
 import teammates.test.driver.FileHelper;
 import teammates.test.driver.TestProperties;
 import teammates.test.driver.TimeHelperExtension;
@@ -30,8 +37,8 @@ import teammates.ui.template.AdminActivityLogTableRow;
 /**
  * SUT: {@link AdminActivityLogPageAction}.
  *
- * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation} and
- * then test the correct execution of the action.
+ * <p>The test will inject predefined GAE logs using {@link teammates.test.driver.GaeSimulation},
+ * store the same logs in the activity log store, and then test the correct execution of the action.
  *
  * <p>Logs will be injected to GAE with time relative to now. Typically, NOW, YESTERDAY
  * and two days ago are the time. It is possible that when the test is run at
@@ -48,9 +55,8 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     private static final int LOG_MESSAGE_INDEX_TWO_DAYS_AGO = 2;
     private static final int LOG_MESSAGE_INDEX_MANY_LOGS = 3;
 
-    // In the case of many logs, the query will first look at logs within 2 hours before now,
-    // if the number of logs exceeds 50, it will stop the query and return logs from the first 2 hours.
-    // 130 seconds is chosen so that it will be around 50 logs within 2 hours before now.
+    // In the case of many logs, the query will stop as soon as 50 relevant logs are found.
+    // 130 seconds is chosen so that all the logs are within the 24 hours searched by default.
     private static final int LOG_MESSAGE_INTERVAL_MANY_LOGS = 130;
 
     private static final Instant NOW = Instant.now();
@@ -59,6 +65,8 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
 
     private List<List<String>> logMessages;
 
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
     @Override
     protected String getActionUri() {
         return Const.ActionURIs.ADMIN_ACTIVITY_LOG_PAGE;
@@ -106,6 +114,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     public void removeAndRestoreLogMessage() {
         gaeSimulation.loginAsAdmin("admin");
         gaeSimulation.clearLogs();
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().toEpochMilli() + 1);
 
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_TWO_DAYS_AGO), TWO_DAYS_AGO.toEpochMilli());
         insertLogMessagesAtTime(logMessages.get(LOG_MESSAGE_INDEX_YESTERDAY), YESTERDAY.toEpochMilli());
@@ -274,14 +283,14 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // test statusMessage for default search
         AdminActivityLogPageAction action = getAction();
         String statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 5, YESTERDAY);
+        verifyStatusMessage(statusMessage, 10, 5, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with filterQuery
         String query = "person:idOfInstructor1OfCourse1";
         action = getAction("filterQuery", query);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 11, 1, YESTERDAY);
+        verifyStatusMessage(statusMessage, 1, 1, YESTERDAY);
         verifyLocalTimeInStatusMessage(statusMessage, YESTERDAY, ZoneId.of("Africa/Johannesburg"));
 
         // test statusMessage with `to`
@@ -289,7 +298,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant toDate = TimeHelperExtension.getEndOfTheDayOffsetNowInAdminTimeZone(-2);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 6, 3, toDate);
+        verifyStatusMessage(statusMessage, 5, 3, toDate);
         verifyLocalTimeInStatusMessage(statusMessage, toDate, Const.SystemParams.ADMIN_TIME_ZONE);
 
         // test statusMessage with `from`
@@ -297,7 +306,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         action = getAction("filterQuery", query);
         Instant fromDate = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
         statusMessage = getShowPageResult(action).getStatusMessage();
-        verifyStatusMessage(statusMessage, 17, 8, fromDate);
+        verifyStatusMessage(statusMessage, 15, 8, fromDate);
         verifyLocalTimeInStatusMessage(statusMessage, fromDate, Const.SystemParams.ADMIN_TIME_ZONE);
     }
 
@@ -340,7 +349,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
         // default continue search
         int[][] expected = new int[][] { {}, {0, 1, 2} };
         String[] params = new String[] {"searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli())};
-        verifyContinueSearch(params, expected, 6, 3, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 3, TWO_DAYS_AGO);
 
         // continue search and no more logs
         expected = new int[][] {};
@@ -353,7 +362,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "searchTimeOffset", String.valueOf(YESTERDAY.toEpochMilli()),
                 "filterQuery", "info:keyword1", "testdata", "true"
         };
-        verifyContinueSearch(params, expected, 6, 2, TWO_DAYS_AGO);
+        verifyContinueSearch(params, expected, 5, 2, TWO_DAYS_AGO);
 
         // when `from` is present, will not do continue search
         expected = new int[][] { {0, 1, 3, 4, 5}, {0, 1, 2} };
@@ -362,7 +371,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
                 "filterQuery", String.format("from:%s", formatAdminDate(YESTERDAY))
         };
         Instant yesterdayBegin = TimeHelperExtension.getBeginOfTheDayOffsetNowInAdminTimeZone(-1);
-        verifyContinueSearch(params, expected, 17, 8, yesterdayBegin);
+        verifyContinueSearch(params, expected, 15, 8, yesterdayBegin);
 
         // `to` present, search with 1 day interval
         expected = new int[][] { {}, {}, {0, 1} };
@@ -380,6 +389,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     public void removeAndRestoreManyLogs() {
         gaeSimulation.loginAsAdmin("admin");
         gaeSimulation.clearLogs();
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().toEpochMilli() + 1);
 
         insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
                 Instant.now().toEpochMilli(), LOG_MESSAGE_INTERVAL_MANY_LOGS);
@@ -390,38 +400,74 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     @Test(groups = "manyActivityLogs", priority = 2)
     public void statusMessageAndContinueSearch_withManyLogs_searchCorrectly() {
         Instant now = Instant.now();
-        // default search will stop at #logs around 50
+        // default search will stop once 50 relevant logs are found
         AdminActivityLogPageAction action = getAction();
         ShowPageResult result = getShowPageResult(action);
-        Instant earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        Instant earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // continue search will get next #logs around 50
-        long nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        // continue search will get the next 50 logs
+        long nextSearch = now.toEpochMilli() - 51 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(110 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(56, 55, 110, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(100 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 50, 99, result.data, result.getStatusMessage(), earliestDateInUtc);
 
         // continue search will get logs until no logs
-        nextSearch = now.toEpochMilli() - 112 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        nextSearch = now.toEpochMilli() - 101 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
-        earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(39, 111, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(150 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 100, 149, result.data, result.getStatusMessage(), earliestDateInUtc);
 
-        // default search with filter stop at #logs around 50
+        // default search with filter will only go through the logs matching the filter
         action = getAction("filterQuery", "request:testdata1");
         result = getShowPageResult(action);
-        earliestDateInUtc = now.minusMillis(54 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
-        verifyManyLogs(55, 0, 54, result.data, result.getStatusMessage(), earliestDateInUtc);
+        earliestDateInUtc = now.minusMillis(50 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000);
+        verifyManyLogs(50, 0, 49, result.data, result.getStatusMessage(), earliestDateInUtc);
 
         // continue search with filter will get logs until no logs
-        nextSearch = now.toEpochMilli() - 56 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
+        nextSearch = now.toEpochMilli() - 51 * LOG_MESSAGE_INTERVAL_MANY_LOGS * 1000;
         action = getAction("filterQuery", "request:testdata1", "searchTimeOffset", String.valueOf(nextSearch));
         result = getShowPageResult(action);
         earliestDateInUtc = Instant.ofEpochMilli(nextSearch - 24 * 60 * 60 * 1000);
-        verifyManyLogs(95, 55, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+        verifyManyLogs(11, 50, 60, result.data, result.getStatusMessage(), earliestDateInUtc);
+    }
+
+    @BeforeGroups("sameTimeActivityLogs")
+    public void removeAndRestoreLogsAtSameTime() {
+        gaeSimulation.loginAsAdmin("admin");
+        gaeSimulation.clearLogs();
+        activityLogsDb.deleteActivityLogsBefore(Instant.now().toEpochMilli() + 1);
+
+        insertLogMessageAtTimeWithInterval(logMessages.get(LOG_MESSAGE_INDEX_MANY_LOGS),
+                Instant.now().toEpochMilli(), 0);
+    }
+
+    @Test(groups = "sameTimeActivityLogs", priority = 3)
+    public void continueSearch_withManyLogsAtSameTime_noLogRepeatedOrSkipped() {
+        AdminActivityLogPageAction action = getAction();
+        ShowPageResult result = getShowPageResult(action);
+        List<ActivityLogEntry> logs = getLogsFromLogTemplateRows(((AdminActivityLogPageData) result.data).getLogs());
+        assertEquals(50, logs.size());
+
+        Set<String> logIds = new HashSet<>();
+        logs.forEach(log -> logIds.add(log.getLogId()));
+
+        // continue search from where the "Search More" button of the previous search points to
+        for (int i = 0; i < 2; i++) {
+            Matcher searchMoreButton = Pattern.compile("data-next-end-time-to-search=\"(\\d+)\" "
+                    + "data-logs-to-skip=\"(\\d+)\"").matcher(result.getStatusMessage());
+            assertTrue(searchMoreButton.find());
+
+            action = getAction("searchTimeOffset", searchMoreButton.group(1),
+                               "searchLogsToSkip", searchMoreButton.group(2));
+            result = getShowPageResult(action);
+            logs = getLogsFromLogTemplateRows(((AdminActivityLogPageData) result.data).getLogs());
+            assertEquals(50, logs.size());
+            logs.forEach(log -> assertTrue(logIds.add(log.getLogId())));
+        }
+        assertEquals(150, logIds.size());
     }
 
     private void verifyContinueSearch(String[] params, int[][] expected, int totalLogs,
@@ -472,7 +518,7 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
     private void verifyStatusMessage(String message, int totalLogs, int filteredLogs, Instant earliestDateInUtc) {
         assertTrue(message.contains("Total Logs gone through in last search: " + totalLogs));
         assertTrue(message.contains("Total Relevant Logs found in last search: " + filteredLogs));
-        assertTrue(message.contains("Logs are from following version(s): 1"));
+        assertTrue(message.contains("Logs are from all version(s)"));
         assertTrue(message.contains("All available version(s): 1"));
         assertTrue(message.contains("The earliest log entry checked on <b>"
                 + formatActivityLogTimeTruncated(earliestDateInUtc, Const.SystemParams.ADMIN_TIME_ZONE)));
@@ -532,8 +578,21 @@ public class AdminActivityLogPageActionTest extends BaseActionTest {
             createTestDataRequestInfoAtTime(logTimeInMillis);
             gaeSimulation.addAppLogLine(String.valueOf(logTimeInMillis), logTimeInMillis * 1000,
                     levelInfo, msgList.get(i));
+            storeLogMessageAtTime(msgList.get(i), logTimeInMillis);
             logTimeInMillis += intervalInSecond * 1000;
         }
+        EntitiesDb.flush();
+    }
+
+    private void storeLogMessageAtTime(String msg, long timeMillis) {
+        // only activity log entries are stored, unlike the other messages logged by the app
+        if (!msg.contains(Const.ActivityLog.TEAMMATESLOG)) {
+            return;
+        }
+        AppLogLine appLogLine = new AppLogLine();
+        appLogLine.setLogMessage(msg);
+        appLogLine.setTimeUsec(timeMillis * 1000);
+        activityLogsDb.putActivityLog(ActivityLogEntry.buildFromAppLog(appLogLine));
     }
 
     private void createTestDataRequestInfoAtTime(long timeMillis) {
@@ -1,20 +1,17 @@
 package teammates.test.cases.action;
 
-import java.net.URL;
-
 import org.apache.commons.lang3.StringUtils;
 import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.attributes.FeedbackSessionAttributes;
 import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
 import teammates.common.exception.NullPostParameterException;
-import teammates.common.util.Config;
 import teammates.common.util.Const;
 import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.StudentsLogic;
 import teammates.ui.controller.FileDownloadResult;
 import teammates.ui.controller.InstructorFeedbackResultsDownloadAction;
-import teammates.ui.controller.RedirectResult;
 
 /**
  * SUT: {@link InstructorFeedbackResultsDownloadAction}.
@@ -43,12 +40,6 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
                 Const.ParamsNames.SECTION_NAME, "Section 1"
         };
 
-        String[] paramsWithLargeData = {
-                Const.ParamsNames.COURSE_ID, session.getCourseId(),
-                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
-                "simulateExcessDataForTesting", "true"
-        };
-
         String[] paramsWithNullCourseId = {
                 Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName()
         };
@@ -116,20 +107,6 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
         assertEquals(expectedFileName, result.getFileName());
         verifyFileContentForSession1InCourse1WithinSection1(result.getFileContent(), session);
 
-        ______TS("Mock case to throw ExceedingRangeException: data is too large to be downloaded in one go");
-
-        action = getAction(paramsWithLargeData);
-        RedirectResult r = getRedirectResult(action);
-
-        expectedDestination = getPageResultDestination(Const.ActionURIs.INSTRUCTOR_FEEDBACK_RESULTS_PAGE, true, "");
-        expectedDestination = Config.getAppUrl(expectedDestination)
-                .withCourseId(session.getCourseId()).withUserId("idOfInstructor1OfCourse1")
-                .withSessionName(session.getFeedbackSessionName()).toAbsoluteString();
-        assertEquals(new URL(expectedDestination).getFile(), r.getDestinationWithParams());
-        assertTrue(r.isError);
-
-        assertEquals(Const.StatusMessages.FEEDBACK_SESSION_DOWNLOAD_FILE_SIZE_EXCEEDED, r.getStatusMessage());
-
         ______TS("Failure case: params with null course id");
 
         try {
@@ -223,6 +200,24 @@ public class InstructorFeedbackResultsDownloadActionTest extends BaseActionTest
         expectedFileName = session.getCourseId() + "_" + session.getFeedbackSessionName() + "_Section 1" + "_question1";
         assertEquals(expectedFileName, result.getFileName());
         verifyFileContentForQuestion1Session1InCourse1WithinSection1(result.getFileContent(), session);
+
+        ______TS("Failure case: question not in the session is reported before the file is written");
+
+        String[] paramsNonExistentQuestion = {
+                Const.ParamsNames.COURSE_ID, session.getCourseId(),
+                Const.ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                Const.ParamsNames.FEEDBACK_QUESTION_NUMBER, "1",
+                Const.ParamsNames.FEEDBACK_QUESTION_ID, "non-existent-question-id"
+        };
+
+        action = getAction(paramsNonExistentQuestion);
+        try {
+            action.executeAndPostProcess();
+            signalFailureToDetectException("EntityNotFoundException");
+        } catch (EntityNotFoundException e) {
+            assertEquals("Trying to download the results of a non-existent question: non-existent-question-id",
+                         e.getMessage());
+        }
     }
 
     private void verifyFileContentForDownloadWithMissingResponsesShown(String fileContent,
@@ -83,6 +83,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals(account.studentProfile.pictureKey, result.blobKey);
+        assertTrue(result.isRequestedByBlobKey);
         verifyLogMessageForActionWithBlobKey(false, action.getLogMessage());
     }
 
@@ -130,6 +131,7 @@ public class StudentProfilePictureActionTest extends BaseActionTest {
         assertFalse(result.isError);
         assertEquals("", result.getStatusMessage());
         assertEquals("asdf34&hfn3!@", result.blobKey);
+        assertFalse(result.isRequestedByBlobKey);
         verifyLogMessageForActionWithEmailAndCourse(instructor, false, action.getLogMessage());
     }
 
@@ -0,0 +1,124 @@
+package teammates.test.cases.action;
+
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.AccountAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.exception.EntityNotFoundException;
+import teammates.common.exception.UnauthorizedAccessException;
+import teammates.common.util.Const;
+import teammates.common.util.StringHelper;
+import teammates.ui.controller.AjaxResult;
+import teammates.ui.controller.StudentProfilePictureLinksAction;
+import teammates.ui.pagedata.StudentProfilePictureLinksAjaxPageData;
+
+/**
+ * SUT: {@link StudentProfilePictureLinksAction}.
+ */
+public class StudentProfilePictureLinksActionTest extends BaseActionTest {
+
+    private final StudentAttributes student1 = typicalBundle.students.get("student1InCourse1");
+    private final StudentAttributes student2 = typicalBundle.students.get("student2InCourse1");
+
+    @Override
+    protected String getActionUri() {
+        return Const.ActionURIs.STUDENT_PROFILE_PICTURE_LINKS;
+    }
+
+    @Override
+    @Test
+    public void testExecuteAndPostProcess() {
+        AccountAttributes instructor = typicalBundle.accounts.get("instructor1OfCourse1");
+        gaeSimulation.loginAsInstructor(instructor.googleId);
+
+        ______TS("Failure case: not enough parameters");
+
+        verifyAssumptionFailure();
+        verifyAssumptionFailure(Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student1.course));
+
+        ______TS("Typical case: links for students with and without a picture");
+
+        String encryptedEmail1 = StringHelper.encrypt(student1.email);
+        String encryptedEmail2 = StringHelper.encrypt(student2.email);
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student1.course),
+                Const.ParamsNames.STUDENT_EMAIL, encryptedEmail1,
+                Const.ParamsNames.STUDENT_EMAIL, encryptedEmail2,
+        };
+
+        StudentProfilePictureLinksAction action = getAction(submissionParams);
+        AjaxResult result = getAjaxResult(action);
+        Map<String, String> pictureLinks = ((StudentProfilePictureLinksAjaxPageData) result.data).getPictureLinks();
+
+        assertFalse(result.isError);
+        assertEquals(2, pictureLinks.size());
+        assertEquals(Const.ActionURIs.STUDENT_PROFILE_PICTURE + "?" + Const.ParamsNames.BLOB_KEY + "=asdf34&hfn3!@&"
+                     + Const.ParamsNames.USER_ID + "=" + instructor.googleId,
+                     pictureLinks.get(encryptedEmail1));
+        assertEquals(Const.SystemParams.DEFAULT_PROFILE_PICTURE_PATH, pictureLinks.get(encryptedEmail2));
+
+        ______TS("Failure case: student does not exist");
+
+        submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student1.course),
+                Const.ParamsNames.STUDENT_EMAIL, encryptedEmail1,
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt("random-email"),
+        };
+
+        action = getAction(submissionParams);
+        try {
+            action.executeAndPostProcess();
+            signalFailureToDetectException("Entity Does not exist");
+        } catch (EntityNotFoundException enfe) {
+            assertEquals("student with " + student1.course + "/random-email", enfe.getMessage());
+        }
+    }
+
+    @Override
+    protected StudentProfilePictureLinksAction getAction(String... params) {
+        return (StudentProfilePictureLinksAction) gaeSimulation.getActionObject(getActionUri(), params);
+    }
+
+    @Override
+    @Test
+    protected void testAccessControl() throws Exception {
+        String[] submissionParams = new String[] {
+                Const.ParamsNames.COURSE_ID, StringHelper.encrypt(student1.course),
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt(student1.email),
+                Const.ParamsNames.STUDENT_EMAIL, StringHelper.encrypt(student2.email),
+        };
+
+        ______TS("Typical case: student from same team");
+
+        gaeSimulation.loginAsStudent(student2.googleId);
+        assertFalse(getAjaxResult(getAction(submissionParams)).isError);
+
+        ______TS("Failure case: instructor not from same course");
+
+        gaeSimulation.loginAsInstructor(typicalBundle.accounts.get("instructor1OfCourse2").googleId);
+        verifyUnauthorized("User is not in the course that student belongs to", submissionParams);
+
+        ______TS("Failure case: instructor from same course with no 'viewing student' privilege");
+
+        gaeSimulation.loginAsInstructor(typicalBundle.accounts.get("helperOfCourse1").googleId);
+        verifyUnauthorized("Instructor does not have enough privileges to view the photo", submissionParams);
+
+        ______TS("Failure case: student not from same team as one of the students");
+
+        gaeSimulation.loginAsStudent(typicalBundle.students.get("student5InCourse1").googleId);
+        verifyUnauthorized("Student does not have enough privileges to view the photo", submissionParams);
+    }
+
+    private void verifyUnauthorized(String expectedMessage, String... submissionParams) {
+        StudentProfilePictureLinksAction action = getAction(submissionParams);
+        try {
+            action.executeAndPostProcess();
+            signalFailureToDetectException("Unauthorised Access");
+        } catch (UnauthorizedAccessException uae) {
+            assertEquals(expectedMessage, uae.getMessage());
+        }
+    }
+
+}
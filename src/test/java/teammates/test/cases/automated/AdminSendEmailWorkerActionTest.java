@@ -0,0 +1,75 @@
+package teammates.test.cases.automated;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.datastore.Text;
+
+import teammates.common.datatransfer.attributes.AdminEmailAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.common.util.EmailWrapper;
+import teammates.logic.core.AdminEmailsLogic;
+import teammates.ui.automated.AdminSendEmailWorkerAction;
+
+/**
+ * SUT: {@link AdminSendEmailWorkerAction}.
+ */
+public class AdminSendEmailWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final AdminEmailsLogic adminEmailsLogic = AdminEmailsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.ADMIN_SEND_EMAIL_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() throws Exception {
+        AdminEmailAttributes adminEmail = AdminEmailAttributes
+                .builder("Admin email subject", Arrays.asList("receiver1@email.tmt"), Arrays.asList(),
+                         new Text("<p>Admin email content</p>"))
+                .build();
+        Instant createDate = adminEmailsLogic.createAdminEmail(adminEmail);
+        adminEmail = adminEmailsLogic.getAdminEmail(adminEmail.getSubject(), createDate);
+
+        ______TS("email sent to every receiver in the task");
+
+        AdminSendEmailWorkerAction action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, adminEmail.getEmailId(),
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver1@email.tmt",
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver2@email.tmt");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 2);
+        List<EmailWrapper> emailsSent = getEmailsSent(action);
+        assertEquals("receiver1@email.tmt", emailsSent.get(0).getRecipient());
+        assertEquals("receiver2@email.tmt", emailsSent.get(1).getRecipient());
+        for (EmailWrapper email : emailsSent) {
+            assertEquals(adminEmail.getSubject(), email.getSubject());
+            assertEquals(adminEmail.getContentValue(), email.getContent());
+        }
+
+        ______TS("current version sent if the email was changed after it was scheduled");
+
+        adminEmail.subject = "Updated admin email subject";
+        adminEmailsLogic.updateAdminEmailById(adminEmail, adminEmail.getEmailId());
+
+        action = getAction(
+                ParamsNames.ADMIN_EMAIL_ID, adminEmail.getEmailId(),
+                ParamsNames.ADMIN_EMAIL_RECEIVER, "receiver1@email.tmt");
+        action.execute();
+
+        verifyNumberOfEmailsSent(action, 1);
+        assertEquals("Updated admin email subject", getEmailsSent(action).get(0).getSubject());
+    }
+
+    @Override
+    protected AdminSendEmailWorkerAction getAction(String... params) {
+        return (AdminSendEmailWorkerAction) gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
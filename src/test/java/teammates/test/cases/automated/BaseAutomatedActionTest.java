@@ -6,7 +6,9 @@ import java.util.Map;
 import org.testng.annotations.BeforeClass;
 
 import teammates.common.datatransfer.DataBundle;
+import teammates.common.util.Const;
 import teammates.common.util.EmailWrapper;
+import teammates.common.util.TaskWrapper;
 import teammates.test.cases.BaseComponentTestCase;
 import teammates.ui.automated.AutomatedAction;
 
@@ -46,6 +48,20 @@ public abstract class BaseAutomatedActionTest extends BaseComponentTestCase {
         assertEquals(taskCount, tasksAdded.get(taskName).intValue());
     }
 
+    /**
+     * Verifies the number of emails scheduled for sending, where each task can send a batch of emails.
+     */
+    protected void verifyNumberOfEmailsScheduled(AutomatedAction action, int emailCount) {
+        int emailsScheduled = 0;
+        for (TaskWrapper task : action.getTaskQueuer().getTasksAdded()) {
+            if (Const.TaskQueue.SEND_EMAIL_QUEUE_NAME.equals(task.getQueueName())
+                    || Const.TaskQueue.SEND_PRIORITY_EMAIL_QUEUE_NAME.equals(task.getQueueName())) {
+                emailsScheduled += task.getParamMap().get(Const.ParamsNames.EMAIL_RECEIVER).length;
+            }
+        }
+        assertEquals(emailCount, emailsScheduled);
+    }
+
     protected void verifyNoEmailsSent(AutomatedAction action) {
         assertTrue(getEmailsSent(action).isEmpty());
     }
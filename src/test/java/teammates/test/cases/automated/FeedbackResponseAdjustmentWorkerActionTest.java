@@ -75,7 +75,58 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         List<FeedbackResponseAttributes> newResponsesForSession =
                 getAllResponsesForStudentForSession(student, session.getFeedbackSessionName());
         assertTrue(newResponsesForSession.isEmpty());
+        verifyNoTasksAdded(action);
 
+        ______TS("typical case : existing student changes section only");
+
+        session = dataBundle.feedbackSessions.get("session1InCourse1");
+        student = dataBundle.students.get("student2InCourse1");
+
+        List<FeedbackResponseAttributes> responsesFromStudent =
+                getResponsesFromStudentForSession(student, session.getFeedbackSessionName());
+        assertFalse(responsesFromStudent.isEmpty());
+
+        oldSection = student.section;
+        newSection = "New Section";
+        enrollList = new ArrayList<>();
+        enrollList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course, student.email,
+                                                student.team, student.team, oldSection, newSection));
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        List<FeedbackResponseAttributes> adjustedResponsesFromStudent =
+                getResponsesFromStudentForSession(student, session.getFeedbackSessionName());
+        assertEquals(responsesFromStudent.size(), adjustedResponsesFromStudent.size());
+        for (FeedbackResponseAttributes response : adjustedResponsesFromStudent) {
+            assertEquals(newSection, response.giverSection);
+        }
+
+        ______TS("many modified students : the rest are left to another task");
+
+        enrollList = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            enrollList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course,
+                                                    "student" + i + "@nonexistent.tmt",
+                                                    "Old Team", "New Team", "Old Section", "New Section"));
+        }
+
+        submissionParams = new String[] {
+                ParamsNames.COURSE_ID, student.course,
+                ParamsNames.FEEDBACK_SESSION_NAME, session.getFeedbackSessionName(),
+                ParamsNames.ENROLLMENT_DETAILS, JsonUtils.toJson(enrollList)
+        };
+
+        action = getAction(submissionParams);
+        action.execute();
+
+        verifySpecifiedTasksAdded(action, Const.TaskQueue.FEEDBACK_RESPONSE_ADJUSTMENT_QUEUE_NAME, 1);
     }
 
     @Override
@@ -96,6 +147,18 @@ public class FeedbackResponseAdjustmentWorkerActionTest extends BaseAutomatedAct
         return returnList;
     }
 
+    private List<FeedbackResponseAttributes> getResponsesFromStudentForSession(StudentAttributes student,
+            String feedbackSessionName) {
+        List<FeedbackResponseAttributes> returnList = new ArrayList<>();
+        for (FeedbackResponseAttributes response
+                : frLogic.getFeedbackResponsesFromGiverForCourse(student.course, student.email)) {
+            if (response.feedbackSessionName.equals(feedbackSessionName)) {
+                returnList.add(response);
+            }
+        }
+        return returnList;
+    }
+
     private List<FeedbackResponseAttributes> getAllTeamResponsesForStudent(StudentAttributes student) {
         List<FeedbackResponseAttributes> returnList = new ArrayList<>();
         List<FeedbackResponseAttributes> studentReceiverResponses =
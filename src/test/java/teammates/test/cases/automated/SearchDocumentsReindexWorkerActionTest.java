@@ -0,0 +1,55 @@
+package teammates.test.cases.automated;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.Const.ParamsNames;
+import teammates.logic.core.StudentsLogic;
+import teammates.ui.automated.SearchDocumentsReindexWorkerAction;
+
+/**
+ * SUT: {@link SearchDocumentsReindexWorkerAction}.
+ */
+public class SearchDocumentsReindexWorkerActionTest extends BaseAutomatedActionTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+
+    @Override
+    protected String getActionUri() {
+        return Const.TaskQueue.SEARCH_DOCUMENTS_REINDEX_WORKER_URL;
+    }
+
+    @Test
+    public void allTests() {
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        StudentAttributes student = studentsLogic.getStudentForEmail(
+                instructor.courseId, dataBundle.students.get("student1InCourse1").email);
+
+        ______TS("typical case: missing student document put again");
+
+        studentsLogic.deleteDocument(student);
+        assertEquals(0, studentsLogic.searchStudents("student1", Arrays.asList(instructor)).numberOfResults);
+
+        String[] submissionParams = new String[] {
+                ParamsNames.SEARCH_INDEX_NAME, Const.SearchIndex.STUDENT,
+                ParamsNames.SEARCH_DOCUMENT_IDS, student.key,
+                ParamsNames.SEARCH_DOCUMENT_IDS, "non-existent-key",
+        };
+
+        SearchDocumentsReindexWorkerAction action = getAction(submissionParams);
+        action.execute();
+
+        assertEquals(1, studentsLogic.searchStudents("student1", Arrays.asList(instructor)).numberOfResults);
+    }
+
+    @Override
+    protected SearchDocumentsReindexWorkerAction getAction(String... params) {
+        return (SearchDocumentsReindexWorkerAction)
+                gaeSimulation.getAutomatedActionObject(getActionUri(), params);
+    }
+
+}
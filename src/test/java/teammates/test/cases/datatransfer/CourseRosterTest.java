@@ -1,7 +1,9 @@
 package teammates.test.cases.datatransfer;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -102,6 +104,47 @@ public class CourseRosterTest extends BaseTestCase {
         assertEquals(emailToNameTableExpected, emailToNameTableActual);
     }
 
+    @Test
+    public void testIndexedViews() {
+        List<StudentAttributes> students = createStudentList("team 2", "s3@gmail.com",
+                                                             "team 1", "s2@gmail.com",
+                                                             "team 1", "s1@gmail.com");
+        students.get(0).section = "section 1";
+        students.get(1).section = "section 2";
+        students.get(2).section = "section 2";
+        students.get(1).name = "student B";
+        students.get(2).name = "student A";
+        CourseRoster roster = new CourseRoster(students, createInstructorList("John", "ins2@email.com",
+                                                                               "Jean", "ins1@email.com"));
+
+        assertEquals(Arrays.asList("team 1", "team 2"), roster.getSortedTeamNames());
+        assertEquals(Arrays.asList("s3@gmail.com", "s1@gmail.com", "s2@gmail.com"),
+                roster.getStudentEmailsSortedBySection());
+        assertEquals(Arrays.asList("ins1@email.com", "ins2@email.com"), roster.getSortedInstructorEmails());
+        assertEquals(new ArrayList<>(Arrays.asList("s1@gmail.com", "s2@gmail.com")),
+                new ArrayList<>(roster.getTeamNameToStudentEmailsTable().get("team 1")));
+        assertEquals(new HashSet<>(Arrays.asList("team 1")), roster.getSectionToTeamNamesTable().get("section 2"));
+
+        ______TS("views are built once and cannot be modified");
+
+        assertSame(roster.getSortedTeamNames(), roster.getSortedTeamNames());
+        assertSame(roster.getStudents(), roster.getStudents());
+
+        try {
+            roster.getStudentEmailsSortedBySection().remove(0);
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+
+        try {
+            roster.getTeamNameToStudentEmailsTable().get("team 1").add("s4@gmail.com");
+            signalFailureToDetectException();
+        } catch (UnsupportedOperationException e) {
+            ignoreExpectedException();
+        }
+    }
+
     private List<StudentAttributes> createStudentList(String... studentData) {
         List<StudentAttributes> students = new ArrayList<>();
         for (int i = 0; i < studentData.length; i += 2) {
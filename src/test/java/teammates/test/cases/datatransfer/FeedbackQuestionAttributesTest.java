@@ -11,6 +11,7 @@ import com.google.appengine.api.datastore.Text;
 import teammates.common.datatransfer.DataBundle;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.datatransfer.questions.FeedbackQuestionType;
 import teammates.common.datatransfer.questions.FeedbackTextQuestionDetails;
 import teammates.common.exception.EntityAlreadyExistsException;
@@ -365,6 +366,18 @@ public class FeedbackQuestionAttributesTest extends BaseAttributesTest {
 
         fq = typicalBundle.feedbackQuestions.get("qn2InSession1InCourse1");
         assertEquals(fq.getQuestionDetails().getQuestionText(), "Rate 1 other student's product");
+
+        ______TS("Parsed details are reused until the metadata is changed");
+
+        FeedbackQuestionDetails parsedDetails = fq.getQuestionDetails();
+        assertSame(parsedDetails, fq.getQuestionDetails());
+
+        fq.setQuestionDetails(new FeedbackTextQuestionDetails("Changed text question"));
+        assertNotSame(parsedDetails, fq.getQuestionDetails());
+        assertEquals("Changed text question", fq.getQuestionDetails().getQuestionText());
+
+        fq.questionMetaData = new Text("Text question set directly");
+        assertEquals("Text question set directly", fq.getQuestionDetails().getQuestionText());
     }
 
     @Test
@@ -4,7 +4,12 @@ import java.time.Instant;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.datastore.Text;
+
 import teammates.common.datatransfer.attributes.FeedbackResponseAttributes;
+import teammates.common.datatransfer.questions.FeedbackQuestionType;
+import teammates.common.datatransfer.questions.FeedbackResponseDetails;
+import teammates.common.datatransfer.questions.FeedbackTextResponseDetails;
 import teammates.common.util.Const;
 import teammates.test.cases.BaseTestCase;
 
@@ -44,4 +49,28 @@ public class FeedbackResponseAttributesTest extends BaseTestCase {
         assertEquals(defaultTimeStamp, fra.getUpdatedAt());
     }
 
+    @Test
+    public void testGetResponseDetails() {
+        FeedbackResponseAttributes fra = new FeedbackResponseAttributes();
+        fra.feedbackQuestionType = FeedbackQuestionType.TEXT;
+
+        ______TS("missing response");
+
+        assertNull(fra.getResponseDetails());
+
+        ______TS("parsed details are reused until the metadata is changed");
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("First answer"));
+        FeedbackResponseDetails parsedDetails = fra.getResponseDetails();
+        assertEquals("First answer", parsedDetails.getAnswerString());
+        assertSame(parsedDetails, fra.getResponseDetails());
+
+        fra.setResponseDetails(new FeedbackTextResponseDetails("Second answer"));
+        assertNotSame(parsedDetails, fra.getResponseDetails());
+        assertEquals("Second answer", fra.getResponseDetails().getAnswerString());
+
+        fra.responseMetaData = new Text("Answer set directly");
+        assertEquals("Answer set directly", fra.getResponseDetails().getAnswerString());
+    }
+
 }
@@ -7,6 +7,7 @@ import org.testng.annotations.Test;
 
 import teammates.common.datatransfer.InstructorPrivileges;
 import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
 import teammates.test.cases.BaseTestCase;
 
 /**
@@ -379,6 +380,48 @@ public class InstructorPrivilegesTest extends BaseTestCase {
                 sectionId, sessionId, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
     }
 
+    @Test
+    public void testIsAllowedForPrivilegeAnySection() {
+        InstructorPrivileges privileges =
+                new InstructorPrivileges(Const.InstructorPermissionRoleNames.INSTRUCTOR_PERMISSION_ROLE_COOWNER);
+        String sessionName = "session";
+
+        ______TS("no special sections");
+
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("special section without special sessions");
+
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+
+        ______TS("special session in some section");
+
+        privileges.updatePrivilege("section1", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS, false);
+        privileges.updatePrivilege("section2", sessionName,
+                Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS, true);
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+        assertFalse(privileges.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        // section2 was added with the course level privileges, which apply to the other sessions
+        assertTrue(privileges.isAllowedForPrivilegeAnySection(
+                "otherSession", Const.ParamsNames.INSTRUCTOR_PERMISSION_VIEW_SESSION_IN_SECTIONS));
+
+        ______TS("privileges are the same after serialization");
+
+        InstructorPrivileges deserialized = JsonUtils.fromJson(
+                JsonUtils.toJson(privileges, InstructorPrivileges.class), InstructorPrivileges.class);
+        assertEquals(privileges, deserialized);
+        assertTrue(deserialized.isAllowedForPrivilegeAnySection(
+                sessionName, Const.ParamsNames.INSTRUCTOR_PERMISSION_SUBMIT_SESSION_IN_SECTIONS));
+    }
+
     @Test
     public void testValidatePrivileges() {
         InstructorPrivileges privileges =
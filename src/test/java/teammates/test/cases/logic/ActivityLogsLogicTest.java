@@ -0,0 +1,62 @@
+package teammates.test.cases.logic;
+
+import java.time.Instant;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.logic.core.ActivityLogsLogic;
+import teammates.storage.api.EntitiesDb;
+
+/**
+ * SUT: {@link ActivityLogsLogic}.
+ */
+public class ActivityLogsLogicTest extends BaseLogicTest {
+
+    private static final long NOW = Instant.now().toEpochMilli();
+
+    private static ActivityLogsLogic activityLogsLogic = ActivityLogsLogic.inst();
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testPutActivityLog() {
+        activityLogsLogic.deleteActivityLogsBefore(NOW + 1, Integer.MAX_VALUE);
+
+        ______TS("successful requests to frequently requested actions are not stored");
+
+        activityLogsLogic.putActivityLog(
+                new ActivityLogEntry.Builder("studentProfilePic", "/page/studentProfilePic?blob-key=key", NOW - 3)
+                .withLogId("id0").withUserRole(Const.ActivityLog.ROLE_INSTRUCTOR).build());
+        activityLogsLogic.putActivityLog(new ActivityLogEntry.Builder("compileLogs", "/auto/compileLogs", NOW - 3)
+                .withLogId("id1").withUserRole(Const.ActivityLog.ROLE_AUTO).build());
+        EntitiesDb.flush();
+
+        assertFalse(activityLogsLogic.getActivityLogs(NOW - 3, NOW - 3, null, null, null).iterator().hasNext());
+
+        ______TS("failed requests to frequently requested actions are stored");
+
+        activityLogsLogic.putActivityLog(
+                new ActivityLogEntry.Builder("studentProfilePic", "/page/studentProfilePic?blob-key=key", NOW - 2)
+                .withLogId("id2").withActionResponse(Const.ACTION_RESULT_FAILURE).build());
+        EntitiesDb.flush();
+
+        ActivityLogEntry entry = activityLogsLogic.getActivityLogs(NOW - 2, NOW - 2, null, null, null).iterator().next();
+        assertEquals("id2", entry.getLogId());
+
+        ______TS("requests to other actions are stored");
+
+        activityLogsLogic.putActivityLog(
+                new ActivityLogEntry.Builder("instructorHomePage", "/page/instructorHomePage", NOW - 1)
+                .withLogId("id3").withUserRole(Const.ActivityLog.ROLE_INSTRUCTOR).build());
+        EntitiesDb.flush();
+
+        entry = activityLogsLogic.getActivityLogs(NOW - 1, NOW - 1, null, null, null).iterator().next();
+        assertEquals("id3", entry.getLogId());
+    }
+
+}
@@ -0,0 +1,93 @@
+package teammates.test.cases.logic;
+
+import java.util.List;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.common.util.Const;
+import teammates.common.util.JsonUtils;
+import teammates.logic.core.CourseRosterCache;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
+
+/**
+ * SUT: {@link CourseRosterCache}.
+ */
+public class CourseRosterCacheTest extends BaseLogicTest {
+
+    private static final StudentsLogic studentsLogic = StudentsLogic.inst();
+    private static final InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+
+    @AfterMethod
+    public void stopCaching() {
+        CourseRosterCache.stop();
+    }
+
+    @Test
+    public void testCaching() throws Exception {
+        StudentAttributes student = dataBundle.students.get("student1InCourse1");
+        InstructorAttributes instructor = dataBundle.instructors.get("instructor1OfCourse1");
+        String courseId = student.course;
+
+        ______TS("not caching outside of a request");
+
+        studentsLogic.getStudentsForCourse(courseId);
+        studentsLogic.getStudentsForCourse(courseId);
+        assertEquals(0, CourseRosterCache.getHitCount());
+        assertEquals(0, CourseRosterCache.getMissCount());
+
+        ______TS("roster loaded once and reused");
+
+        CourseRosterCache.start();
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(courseId);
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(courseId);
+        assertEquals(2, CourseRosterCache.getMissCount());
+        assertEquals(0, CourseRosterCache.getHitCount());
+
+        assertEquals(JsonUtils.toJson(students), JsonUtils.toJson(studentsLogic.getStudentsForCourse(courseId)));
+        assertEquals(JsonUtils.toJson(instructors), JsonUtils.toJson(instructorsLogic.getInstructorsForCourse(courseId)));
+        assertEquals(students.get(0).getJsonString(),
+                     studentsLogic.getStudentForEmail(courseId, students.get(0).email).getJsonString());
+        assertEquals(instructor.email, instructorsLogic.getInstructorForEmail(courseId, instructor.email).email);
+        assertNull(studentsLogic.getStudentForEmail(courseId, "non-existent@email.tmt"));
+        assertEquals(2, CourseRosterCache.getMissCount());
+        assertEquals(5, CourseRosterCache.getHitCount());
+
+        ______TS("returned lists and attributes are copies");
+
+        StudentAttributes cachedStudent = studentsLogic.getStudentForEmail(courseId, student.email);
+        String originalComments = cachedStudent.comments;
+        cachedStudent.comments = "modified by caller";
+        assertEquals(originalComments, studentsLogic.getStudentForEmail(courseId, student.email).comments);
+
+        InstructorAttributes cachedInstructor = instructorsLogic.getInstructorForEmail(courseId, instructor.email);
+        cachedInstructor.privileges.updatePrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE, false);
+        assertTrue(instructorsLogic.getInstructorForEmail(courseId, instructor.email)
+                .isAllowedForPrivilege(Const.ParamsNames.INSTRUCTOR_PERMISSION_MODIFY_COURSE));
+
+        students.clear();
+        assertEquals(instructors.size(), instructorsLogic.getInstructorsForCourse(courseId).size());
+        assertTrue(studentsLogic.getStudentsForCourse(courseId).size() > 0);
+
+        ______TS("roster reloaded after a write");
+
+        StudentAttributes studentToUpdate = studentsLogic.getStudentForEmail(courseId, student.email);
+        studentToUpdate.comments = "updated comments";
+        studentsLogic.updateStudentCascadeWithoutDocument(student.email, studentToUpdate);
+        int missCount = CourseRosterCache.getMissCount();
+
+        assertEquals("updated comments", studentsLogic.getStudentForEmail(courseId, student.email).comments);
+        studentsLogic.getStudentsForCourse(courseId);
+        assertEquals(missCount + 1, CourseRosterCache.getMissCount());
+
+        ______TS("cache discarded at the end of the request");
+
+        CourseRosterCache.stop();
+        assertEquals(0, CourseRosterCache.getHitCount());
+        assertEquals(0, CourseRosterCache.getMissCount());
+    }
+
+}
@@ -3,6 +3,7 @@ package teammates.test.cases.logic;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 
@@ -51,8 +52,10 @@ public class CoursesLogicTest extends BaseLogicTest {
         testVerifyCourseIsPresent();
         testGetCourseSummary();
         testGetCourseSummaryWithoutStats();
+        testGetCourseSummaryWithoutSections();
         testGetCourseDetails();
         testGetTeamsForCourse();
+        testGetTeamNamesForCourse();
         testGetCoursesForStudentAccount();
         testGetCourseDetailsListForStudent();
         testGetCourseSummariesForInstructor();
@@ -417,6 +420,49 @@ public class CoursesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetCourseSummaryWithoutSections() throws Exception {
+
+        ______TS("typical case: same statistics as the full course summary");
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        CourseDetailsBundle courseSummary = coursesLogic.getCourseSummaryWithoutSections(course.getId());
+        CourseDetailsBundle fullCourseSummary = coursesLogic.getCourseSummary(course.getId());
+        assertEquals(course.getId(), courseSummary.course.getId());
+        assertEquals(fullCourseSummary.stats.sectionsTotal, courseSummary.stats.sectionsTotal);
+        assertEquals(fullCourseSummary.stats.teamsTotal, courseSummary.stats.teamsTotal);
+        assertEquals(fullCourseSummary.stats.studentsTotal, courseSummary.stats.studentsTotal);
+        assertEquals(fullCourseSummary.stats.unregisteredTotal, courseSummary.stats.unregisteredTotal);
+        assertTrue(courseSummary.sections.isEmpty());
+
+        ______TS("statistics follow changes to the students");
+
+        StudentAttributes newStudent = StudentAttributes
+                .builder(course.getId(), "New Student", "new.student@email.tmt")
+                .withComments("")
+                .withTeam("New Team")
+                .withSection("New Section")
+                .build();
+        StudentsLogic.inst().createStudentCascadeWithoutDocument(newStudent);
+        courseSummary = coursesLogic.getCourseSummaryWithoutSections(course.getId());
+        assertEquals(fullCourseSummary.stats.sectionsTotal + 1, courseSummary.stats.sectionsTotal);
+        assertEquals(fullCourseSummary.stats.teamsTotal + 1, courseSummary.stats.teamsTotal);
+        assertEquals(fullCourseSummary.stats.studentsTotal + 1, courseSummary.stats.studentsTotal);
+        assertEquals(fullCourseSummary.stats.unregisteredTotal + 1, courseSummary.stats.unregisteredTotal);
+
+        StudentsLogic.inst().deleteStudentCascadeWithoutDocument(newStudent.course, newStudent.email);
+        courseSummary = coursesLogic.getCourseSummaryWithoutSections(course.getId());
+        assertEquals(fullCourseSummary.stats.studentsTotal, courseSummary.stats.studentsTotal);
+
+        ______TS("non-existent");
+
+        try {
+            coursesLogic.getCourseSummaryWithoutSections("non-existent-course");
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("does not exist", e.getMessage());
+        }
+    }
+
     private void testGetCourseDetails() throws Exception {
 
         ______TS("typical case");
@@ -531,6 +577,24 @@ public class CoursesLogicTest extends BaseLogicTest {
         }
     }
 
+    private void testGetTeamNamesForCourse() throws Exception {
+
+        ______TS("typical case");
+
+        CourseAttributes course = dataBundle.courses.get("typicalCourse1");
+        assertEquals(Arrays.asList("Team 1.1</td></div>'\"", "Team 1.2"),
+                coursesLogic.getTeamNamesForCourse(course.getId()));
+
+        ______TS("non-existent");
+
+        try {
+            coursesLogic.getTeamNamesForCourse("non-existent-course");
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains("does not exist", e.getMessage());
+        }
+    }
+
     private void testGetCoursesForStudentAccount() throws Exception {
 
         ______TS("student having two courses");
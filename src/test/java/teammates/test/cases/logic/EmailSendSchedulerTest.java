@@ -0,0 +1,59 @@
+package teammates.test.cases.logic;
+
+import org.testng.annotations.Test;
+
+import teammates.logic.core.EmailSendScheduler;
+
+/**
+ * SUT: {@link EmailSendScheduler}.
+ */
+public class EmailSendSchedulerTest extends BaseLogicTest {
+
+    private static final long START_TIME = 1_000_000L;
+
+    @Override
+    protected void prepareTestData() {
+        // no test data used in this test
+    }
+
+    @Test
+    public void testReserve() {
+        // 10 emails per second, up to 20 at once, in tasks released at up to 100 per second
+        EmailSendScheduler scheduler = new EmailSendScheduler(10, 20, 100);
+
+        ______TS("emails within the burst size are sent immediately");
+
+        assertEquals(0, scheduler.reserve(15, START_TIME));
+        assertEquals(0, scheduler.reserve(5, START_TIME));
+        assertEquals(0, scheduler.getBacklog(START_TIME));
+
+        ______TS("emails beyond the burst size wait for the quota to be refilled");
+
+        assertEquals(1000, scheduler.reserve(10, START_TIME));
+        assertEquals(3000, scheduler.reserve(20, START_TIME));
+        assertEquals(30, scheduler.getBacklog(START_TIME));
+
+        ______TS("backlog drains at the quota rate");
+
+        assertEquals(20, scheduler.getBacklog(START_TIME + 1000));
+        assertEquals(0, scheduler.getBacklog(START_TIME + 3000));
+        assertEquals(0, scheduler.reserve(5, START_TIME + 3500));
+
+        ______TS("unused quota does not build up beyond the burst size");
+
+        assertEquals(0, scheduler.reserve(20, START_TIME + 60_000));
+        assertEquals(100, scheduler.reserve(1, START_TIME + 60_000));
+
+        ______TS("each task takes at least the emails sent in the time between two tasks of the queue");
+
+        // 10 emails per second, up to 20 at once, in tasks released at 1 per second
+        scheduler = new EmailSendScheduler(10, 20, 1);
+
+        assertEquals(0, scheduler.reserve(1, START_TIME));
+        assertEquals(0, scheduler.reserve(1, START_TIME));
+        assertEquals(1000, scheduler.reserve(1, START_TIME));
+        assertEquals(2000, scheduler.reserve(5, START_TIME));
+        assertEquals(4000, scheduler.reserve(20, START_TIME));
+    }
+
+}
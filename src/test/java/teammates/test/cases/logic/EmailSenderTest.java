@@ -1,5 +1,10 @@
 package teammates.test.cases.logic;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import javax.mail.Message;
 import javax.mail.internet.InternetAddress;
 import javax.mail.internet.MimeMessage;
@@ -15,13 +20,15 @@ import com.sendgrid.Mail;
 import com.sun.jersey.multipart.FormDataMultiPart;
 
 import teammates.common.util.EmailWrapper;
+import teammates.logic.core.EmailSenderService;
 import teammates.logic.core.JavamailService;
 import teammates.logic.core.MailgunService;
 import teammates.logic.core.MailjetService;
 import teammates.logic.core.SendgridService;
 
 /**
- * SUT: {@link JavamailService},
+ * SUT: {@link EmailSenderService},
+ *      {@link JavamailService},
  *      {@link SendgridService},
  *      {@link MailgunService},
  *      {@link MailjetService}.
@@ -53,6 +60,106 @@ public class EmailSenderTest extends BaseLogicTest {
         return wrapper;
     }
 
+    private List<EmailWrapper> getTypicalEmailBatch() {
+        List<EmailWrapper> batch = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+            Map<String, String> substitutions = new LinkedHashMap<>();
+            substitutions.put("${userName}", "Recipient " + i);
+            substitutions.put("${submitUrl}", "http://submit.url/" + i);
+
+            EmailWrapper wrapper = new EmailWrapper();
+            wrapper.setSenderName("Sender Name");
+            wrapper.setSenderEmail("sender@email.com");
+            wrapper.setReplyTo("replyto@email.com");
+            wrapper.setRecipient("recipient" + i + "@email.com");
+            wrapper.setSubject("Test subject");
+            wrapper.setContentFromTemplate("<p>Dear ${userName}, submit at ${submitUrl}</p>", substitutions);
+            batch.add(wrapper);
+        }
+        return batch;
+    }
+
+    @Test
+    public void testGroupIntoBatches() {
+        List<EmailWrapper> emails = new ArrayList<>(getTypicalEmailBatch());
+        emails.add(getTypicalEmailWrapper());
+        emails.addAll(getTypicalEmailBatch());
+
+        ______TS("emails from the same template are batched, others are sent alone");
+
+        List<List<EmailWrapper>> batches = EmailWrapper.groupIntoBatches(emails, 10);
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(0).size());
+        assertEquals(emails.get(2), batches.get(0).get(0));
+        assertEquals(4, batches.get(1).size());
+        assertEquals(emails.get(0), batches.get(1).get(0));
+        assertEquals(emails.get(4), batches.get(1).get(3));
+
+        ______TS("batches do not exceed the maximum size");
+
+        batches = EmailWrapper.groupIntoBatches(emails, 3);
+        assertEquals(3, batches.size());
+        assertEquals(3, batches.get(1).size());
+        assertEquals(1, batches.get(2).size());
+
+        ______TS("content is the template with the substitutions");
+
+        assertEquals("<p>Dear Recipient 1, submit at http://submit.url/1</p>", emails.get(0).getContent());
+    }
+
+    @Test
+    public void testSendEmails() {
+        List<EmailWrapper> emails = new ArrayList<>(getTypicalEmailBatch());
+        emails.add(getTypicalEmailWrapper());
+        emails.addAll(getTypicalEmailBatch());
+        emails.get(4).setRecipient("invalid-address");
+
+        List<String> recipientsSentTo = new ArrayList<>();
+        List<Integer> batchSizesSent = new ArrayList<>();
+        EmailSenderService service = new EmailSenderService() {
+            @Override
+            public Object parseToEmail(EmailWrapper wrapper) {
+                return wrapper;
+            }
+
+            @Override
+            protected void sendEmailWithService(EmailWrapper wrapper) {
+                if ("recipient@email.com".equals(wrapper.getRecipient())
+                        || "invalid-address".equals(wrapper.getRecipient())) {
+                    throw new IllegalStateException("Email is rejected");
+                }
+                recipientsSentTo.add(wrapper.getRecipient());
+            }
+
+            @Override
+            protected int getMaxBatchSize() {
+                return 2;
+            }
+
+            @Override
+            protected void sendEmailBatchWithService(List<EmailWrapper> batch) {
+                for (EmailWrapper wrapper : batch) {
+                    if ("invalid-address".equals(wrapper.getRecipient())) {
+                        throw new IllegalStateException("Batch is rejected");
+                    }
+                }
+                batch.forEach(wrapper -> recipientsSentTo.add(wrapper.getRecipient()));
+                batchSizesSent.add(batch.size());
+            }
+        };
+
+        ______TS("emails of a batch which failed are sent one by one, only the emails which failed are returned");
+
+        List<EmailWrapper> unsentEmails = service.sendEmails(emails);
+
+        assertEquals(2, unsentEmails.size());
+        assertEquals(emails.get(2), unsentEmails.get(0));
+        assertEquals(emails.get(4), unsentEmails.get(1));
+        assertEquals(3, recipientsSentTo.size());
+        assertEquals(1, batchSizesSent.size());
+        assertTrue(recipientsSentTo.contains(emails.get(3).getRecipient()));
+    }
+
     @Test
     public void testConvertToMimeMessage() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -83,6 +190,22 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.getContent().get(1).getValue());
     }
 
+    @Test
+    public void testConvertBatchToSendgrid() {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        Mail email = new SendgridService().parseToEmail(batch);
+
+        assertEquals("sender@email.com", email.getFrom().getEmail());
+        assertEquals("replyto@email.com", email.getReplyto().getEmail());
+        assertEquals("Test subject", email.getSubject());
+        assertEquals(batch.get(0).getContentTemplate(), email.getContent().get(1).getValue());
+        assertEquals(2, email.personalization.size());
+        for (int i = 0; i < batch.size(); i++) {
+            assertEquals(batch.get(i).getRecipient(), email.personalization.get(i).getTos().get(0).getEmail());
+            assertEquals(batch.get(i).getSubstitutions(), email.personalization.get(i).getSubstitutions());
+        }
+    }
+
     @Test
     public void testConvertToMailgun() throws Exception {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -98,6 +221,24 @@ public class EmailSenderTest extends BaseLogicTest {
         }
     }
 
+    @Test
+    public void testConvertBatchToMailgun() throws Exception {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        try (FormDataMultiPart formData = new MailgunService().parseToEmail(batch)) {
+
+            assertEquals(2, formData.getFields("to").size());
+            assertEquals("recipient2@email.com", formData.getFields("to").get(1).getValue());
+            assertEquals("<p>Dear %recipient.userName%, submit at %recipient.submitUrl%</p>",
+                    formData.getField("html").getValue());
+
+            JSONObject recipientVariables = new JSONObject(formData.getField("recipient-variables").getValue());
+            assertEquals("Recipient 1",
+                    recipientVariables.getJSONObject("recipient1@email.com").getString("userName"));
+            assertEquals("http://submit.url/2",
+                    recipientVariables.getJSONObject("recipient2@email.com").getString("submitUrl"));
+        }
+    }
+
     @Test
     public void testConvertToMailjet() {
         EmailWrapper wrapper = getTypicalEmailWrapper();
@@ -116,4 +257,24 @@ public class EmailSenderTest extends BaseLogicTest {
         assertEquals(wrapper.getContent(), email.get(Email.HTMLPART));
     }
 
+    @Test
+    public void testConvertBatchToMailjet() {
+        List<EmailWrapper> batch = getTypicalEmailBatch();
+        MailjetRequest request = new MailjetService().parseToEmail(batch);
+        JSONObject email = new JSONObject(request.getBody());
+
+        JSONArray recipients = (JSONArray) email.get(Email.RECIPIENTS);
+        assertEquals(2, recipients.length());
+        assertEquals("recipient2@email.com", recipients.getJSONObject(1).get("Email"));
+        assertEquals("Recipient 2", recipients.getJSONObject(1).getJSONObject("Vars").getString("userName"));
+        assertEquals("<p>Dear [[var:userName]], submit at [[var:submitUrl]]</p>", email.get(Email.HTMLPART));
+
+        ______TS("batch containing delimiters of the template language is not sent as a batch");
+
+        MailjetService service = new MailjetService();
+        assertTrue(service.canSendAsBatch(batch));
+        batch.forEach(wrapper -> wrapper.setSubject("Test {% subject"));
+        assertFalse(service.canSendAsBatch(batch));
+    }
+
 }
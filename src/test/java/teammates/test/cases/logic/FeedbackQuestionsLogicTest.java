@@ -1,6 +1,7 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -9,9 +10,11 @@ import org.testng.annotations.Test;
 
 import com.google.appengine.api.datastore.Text;
 
+import teammates.common.datatransfer.CourseRoster;
 import teammates.common.datatransfer.FeedbackParticipantType;
 import teammates.common.datatransfer.attributes.FeedbackQuestionAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.datatransfer.questions.FeedbackQuestionDetails;
 import teammates.common.exception.EntityDoesNotExistException;
 import teammates.common.exception.InvalidParametersException;
@@ -131,6 +134,71 @@ public class FeedbackQuestionsLogicTest extends BaseLogicTest {
         assertEquals(recipients.get(email), Const.USER_NAME_FOR_SELF);
         assertEquals(recipients.size(), 1);
 
+        ______TS("recipients read from the database and resolved against a roster match the course members");
+
+        String courseId = dataBundle.courses.get("typicalCourse1").getId();
+        List<StudentAttributes> studentsInCourse = new ArrayList<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (student.course.equals(courseId)) {
+                studentsInCourse.add(student);
+            }
+        }
+        CourseRoster roster = new CourseRoster(studentsInCourse, new ArrayList<>());
+
+        // to all other students in the course
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        Map<String, String> expectedRecipients = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            if (!student.email.equals(student1.email)) {
+                expectedRecipients.put(student.email, student.name);
+            }
+        }
+        verifyRecipientsForStudentGiver(expectedRecipients, "qn2InSession1InCourse1", student1, roster);
+
+        // to the other members of the own team
+        expectedRecipients = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            if (student.team.equals(student1.team) && !student.email.equals(student1.email)) {
+                expectedRecipients.put(student.email, student.name);
+            }
+        }
+        verifyRecipientsForStudentGiver(expectedRecipients, "team.members.feedback", student1, roster);
+
+        // to all other teams in the course
+        StudentAttributes student5 = dataBundle.students.get("student5InCourse1");
+        expectedRecipients = new HashMap<>();
+        for (StudentAttributes student : studentsInCourse) {
+            if (!student.team.equals(student5.team)) {
+                expectedRecipients.put(student.team, student.team);
+            }
+        }
+        verifyRecipientsForStudentGiver(expectedRecipients, "team.feedback", student5, roster);
+
+        // to all other instructors in the course
+        InstructorAttributes instructor1OfCourse2 = dataBundle.instructors.get("instructor1OfCourse2");
+        List<InstructorAttributes> instructorsInCourse2 = new ArrayList<>();
+        expectedRecipients = new HashMap<>();
+        for (InstructorAttributes instructor : dataBundle.instructors.values()) {
+            if (instructor.courseId.equals(instructor1OfCourse2.courseId)) {
+                instructorsInCourse2.add(instructor);
+                if (!instructor.email.equals(instructor1OfCourse2.email)) {
+                    expectedRecipients.put(instructor.email, instructor.name);
+                }
+            }
+        }
+        FeedbackQuestionAttributes questionToInstructors = getQuestionFromDatastore("qn2InSession1InCourse2");
+        assertEquals(expectedRecipients, fqLogic.getRecipientsForQuestion(
+                questionToInstructors, instructor1OfCourse2.email, instructor1OfCourse2, null));
+        assertEquals(expectedRecipients, fqLogic.getRecipientsForQuestion(
+                questionToInstructors, instructor1OfCourse2.email, instructor1OfCourse2, null,
+                new CourseRoster(new ArrayList<>(), instructorsInCourse2)));
+    }
+
+    private void verifyRecipientsForStudentGiver(Map<String, String> expectedRecipients, String questionKey,
+                                                 StudentAttributes giver, CourseRoster roster) throws Exception {
+        FeedbackQuestionAttributes question = getQuestionFromDatastore(questionKey);
+        assertEquals(expectedRecipients, fqLogic.getRecipientsForQuestion(question, giver.email, null, giver));
+        assertEquals(expectedRecipients, fqLogic.getRecipientsForQuestion(question, giver.email, null, giver, roster));
     }
 
     private void testUpdateQuestionNumber() throws Exception {
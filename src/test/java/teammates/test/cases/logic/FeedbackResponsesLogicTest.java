@@ -1,6 +1,7 @@
 package teammates.test.cases.logic;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import org.testng.annotations.BeforeClass;
@@ -58,8 +59,8 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         testGetViewableResponsesForQuestionInSection();
         testUpdateFeedbackResponse();
         testUpdateFeedbackResponsesForChangingTeam();
-        testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate();
-        testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate();
+        testAdjustFeedbackResponsesForEnrollments_deleteLastResponse_decreaseResponseRate();
+        testAdjustFeedbackResponsesForEnrollments_deleteNotLastResponse_sameResponseRate();
         testUpdateFeedbackResponsesForChangingEmail();
         testDeleteFeedbackResponsesForStudent();
         testSpecialCharactersInTeamName();
@@ -267,7 +268,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
                             getQuestionFromDatastore("qn1InSession1InCourse1").getId(),
                             studentToUpdate.email).size(), 1);
 
-        ______TS("test updateFeedbackResponseForChangingTeam for recipient type = giver's team members including giver");
+        ______TS("test adjustFeedbackResponsesForEnrollments for recipient type = giver's team members including giver");
         FeedbackQuestionAttributes questionToTeamMembersAndSelf =
                                         getQuestionFromDatastore(questionTypeBundle, "qn1InContribSession2InCourse2");
         studentToUpdate = questionTypeBundle.students.get("student2InCourse2");
@@ -282,7 +283,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         assertNotNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                   responseToBeDeleted.giver,
                                                   responseToBeDeleted.recipient));
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(studentDetails1, responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(responseToBeDeleted.feedbackSessionName,
+                                                      responseToBeDeleted.courseId,
+                                                      Arrays.asList(studentDetails1));
         assertNull(frLogic.getFeedbackResponse(questionToTeamMembersAndSelf.getId(),
                                                responseToBeDeleted.giver,
                                                responseToBeDeleted.recipient));
@@ -291,7 +294,7 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         restoreStudentFeedbackResponseToDatastore(responseToBeDeleted);
     }
 
-    private void testUpdateFeedbackResponsesForChangingTeam_deleteLastResponse_decreaseResponseRate()
+    private void testAdjustFeedbackResponsesForEnrollments_deleteLastResponse_decreaseResponseRate()
             throws Exception {
         FeedbackResponseAttributes responseToBeDeleted =
                 getResponseFromDatastore(questionTypeBundle, "response1ForQ1ContribSession2Course2");
@@ -307,8 +310,10 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(responseToBeDeleted.feedbackSessionName,
+                                                      responseToBeDeleted.courseId,
+                                                      Arrays.asList(enrollmentDetailsToTriggerDeletion));
+        assertNull(getResponseFromDatastore(questionTypeBundle, "response1ForQ1ContribSession2Course2"));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate - 1, responseRateAfterDeletion);
@@ -317,15 +322,16 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         restoreStudentFeedbackResponseToDatastore(responseToBeDeleted);
     }
 
-    private void testUpdateFeedbackResponsesForChangingTeam_deleteNotLastResponse_sameResponseRate()
+    private void testAdjustFeedbackResponsesForEnrollments_deleteNotLastResponse_sameResponseRate()
             throws Exception {
         FeedbackResponseAttributes responseToBeDeleted =
-                getResponseFromDatastore(questionTypeBundle, "response1ForQ1S5C1");
+                getResponseFromDatastore(questionTypeBundle, "response2ForQ1S5C1");
         // make sure it's not the last response by the student
         assertTrue(1 < numResponsesFromGiverInSession(responseToBeDeleted.giver,
                                                       responseToBeDeleted.feedbackSessionName,
                                                       responseToBeDeleted.courseId));
-        StudentAttributes student = questionTypeBundle.students.get("student1InCourse1");
+        // the response is deleted because its recipient changes team
+        StudentAttributes student = questionTypeBundle.students.get("student2InCourse1");
         StudentEnrollDetails enrollmentDetailsToTriggerDeletion =
                 new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, student.course,
                                          student.email, student.team, student.team + "tmp", student.section,
@@ -333,8 +339,10 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
 
         int originalResponseRate = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                    responseToBeDeleted.courseId);
-        assertTrue(frLogic.updateFeedbackResponseForChangingTeam(enrollmentDetailsToTriggerDeletion,
-                                                                 responseToBeDeleted));
+        frLogic.adjustFeedbackResponsesForEnrollments(responseToBeDeleted.feedbackSessionName,
+                                                      responseToBeDeleted.courseId,
+                                                      Arrays.asList(enrollmentDetailsToTriggerDeletion));
+        assertNull(getResponseFromDatastore(questionTypeBundle, "response2ForQ1S5C1"));
         int responseRateAfterDeletion = getResponseRate(responseToBeDeleted.feedbackSessionName,
                                                         responseToBeDeleted.courseId);
         assertEquals(originalResponseRate, responseRateAfterDeletion);
@@ -354,10 +362,9 @@ public class FeedbackResponsesLogicTest extends BaseLogicTest {
         return numResponses;
     }
 
-    private int getResponseRate(String sessionName, String courseId) {
+    private int getResponseRate(String sessionName, String courseId) throws EntityDoesNotExistException {
         FeedbackSessionAttributes sessionFromDataStore = fsLogic.getFeedbackSession(sessionName, courseId);
-        return sessionFromDataStore.getRespondingInstructorList().size()
-                + sessionFromDataStore.getRespondingStudentList().size();
+        return fsLogic.getFeedbackSessionDetails(sessionFromDataStore).stats.submittedTotal;
     }
 
     private void restoreStudentFeedbackResponseToDatastore(FeedbackResponseAttributes response)
@@ -1,11 +1,15 @@
 package teammates.test.cases.logic;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 
@@ -39,6 +43,8 @@ import teammates.logic.core.FeedbackQuestionsLogic;
 import teammates.logic.core.FeedbackResponseCommentsLogic;
 import teammates.logic.core.FeedbackResponsesLogic;
 import teammates.logic.core.FeedbackSessionsLogic;
+import teammates.logic.core.InstructorsLogic;
+import teammates.logic.core.StudentsLogic;
 import teammates.test.driver.AssertHelper;
 import teammates.test.driver.TimeHelperExtension;
 
@@ -50,6 +56,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
     private static FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
     private static FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
     private static FeedbackResponseCommentsLogic frcLogic = FeedbackResponseCommentsLogic.inst();
+    private static InstructorsLogic instructorsLogic = InstructorsLogic.inst();
+    private static StudentsLogic studentsLogic = StudentsLogic.inst();
 
     @Override
     protected void prepareTestData() {
@@ -84,6 +92,8 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         testIsFeedbackSessionCompletedByStudent();
         testIsFeedbackSessionCompletedByInstructor();
         testIsFeedbackSessionFullyCompletedByStudent();
+        testGetNonRespondents();
+        testGetStudentsYetToFullyCompleteSession();
 
         testMoveFeedbackSessionToRecycleBin();
         testRestoreFeedbackSessionFromRecycleBin();
@@ -588,6 +598,56 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
         assertTrue(recipients.containsKey("instructorNotYetJoinedCourse1@email.tmt"));
         assertFalse(recipients.containsKey("helper@course1.tmt"));
 
+        ______TS("questions with the same giver and recipient types get separate copies of the recipients");
+
+        FeedbackQuestionAttributes peerQuestion = getQuestionFromDatastore("qn2InSession1InCourse1");
+        FeedbackQuestionAttributes otherPeerQuestion = FeedbackQuestionAttributes.builder()
+                .withFeedbackSessionName(peerQuestion.feedbackSessionName)
+                .withCourseId(peerQuestion.courseId)
+                .withQuestionNumber(-1)
+                .withCreatorEmail(peerQuestion.creatorEmail)
+                .withNumOfEntitiesToGiveFeedbackTo(Const.MAX_POSSIBLE_RECIPIENTS)
+                .withGiverType(FeedbackParticipantType.STUDENTS)
+                .withRecipientType(FeedbackParticipantType.STUDENTS)
+                .withQuestionMetaData(new Text("another question to other students"))
+                .withQuestionType(FeedbackQuestionType.TEXT)
+                .withShowResponseTo(new ArrayList<>())
+                .withShowRecipientNameTo(new ArrayList<>())
+                .withShowGiverNameTo(new ArrayList<>())
+                .build();
+        fqLogic.createFeedbackQuestion(otherPeerQuestion);
+        otherPeerQuestion = fqLogic.getFeedbackQuestion(
+                peerQuestion.feedbackSessionName, peerQuestion.courseId, otherPeerQuestion.questionNumber);
+
+        StudentAttributes giver = dataBundle.students.get("student1InCourse1");
+        Map<String, String> expectedPeerRecipients = new HashMap<>();
+        for (StudentAttributes student : dataBundle.students.values()) {
+            if (student.course.equals(giver.course) && !student.email.equals(giver.email)) {
+                expectedPeerRecipients.put(student.email, student.name);
+            }
+        }
+
+        actual = fsLogic.getFeedbackSessionQuestionsForStudent(
+                peerQuestion.feedbackSessionName, peerQuestion.courseId, giver.email);
+
+        Map<String, String> peerRecipients = actual.recipientList.get(peerQuestion.getId());
+        Map<String, String> otherPeerRecipients = actual.recipientList.get(otherPeerQuestion.getId());
+        assertEquals(expectedPeerRecipients, peerRecipients);
+        assertEquals(expectedPeerRecipients, otherPeerRecipients);
+        assertNotSame(peerRecipients, otherPeerRecipients);
+
+        // the recipients of a question of other types are not taken from the questions to other students
+        assertEquals(Collections.singletonMap(giver.email, Const.USER_NAME_FOR_SELF),
+                actual.recipientList.get(getQuestionFromDatastore("qn1InSession1InCourse1").getId()));
+        assertEquals(new HashSet<>(Arrays.asList("instructor1@course1.tmt", "instructor2@course1.tmt",
+                        "instructor3@course1.tmt", "instructorNotYetJoinedCourse1@email.tmt")),
+                actual.recipientList.get(getQuestionFromDatastore("qn5InSession1InCourse1").getId()).keySet());
+
+        peerRecipients.clear();
+        assertEquals(expectedPeerRecipients, otherPeerRecipients);
+
+        fqLogic.deleteFeedbackQuestionCascade(otherPeerQuestion.getId());
+
         ______TS("team feedback test");
 
         // Check that student3 get team member's (student4) feedback response as well (for team question).
@@ -1795,6 +1855,31 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
 
         assertFalse(export.contains("Summary Statistics"));
 
+        ______TS("Results written one question at a time are the same as those generated in one go");
+
+        StringWriter streamedExport = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(streamedExport)) {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                    null, null, true, false, writer);
+        }
+
+        assertEquals(export, streamedExport.toString());
+
+        ______TS("Non-existent question is reported before anything is written");
+
+        StringWriter exportOfMissingQuestion = new StringWriter();
+        try (PrintWriter writer = new PrintWriter(exportOfMissingQuestion)) {
+            fsLogic.writeFeedbackSessionResultsSummaryInSectionAsCsv(
+                    session.getFeedbackSessionName(), session.getCourseId(), instructor.email,
+                    null, "non-existent-question-id", true, false, writer);
+            signalFailureToDetectException("Failed to detect non-existent feedback question.");
+        } catch (EntityDoesNotExistException e) {
+            assertEquals("Trying to view a non-existent feedback question: non-existent-question-id",
+                         e.getMessage());
+        }
+        assertEquals("", exportOfMissingQuestion.toString());
+
         ______TS("Non-existent Course/Session");
 
         try {
@@ -1970,6 +2055,76 @@ public class FeedbackSessionsLogicTest extends BaseLogicTest {
                                                                      student3OfCourse1.email));
     }
 
+    private void testGetNonRespondents() throws Exception {
+
+        ______TS("success: empty session");
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("empty.session");
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fs.getCourseId());
+        List<InstructorAttributes> instructors = instructorsLogic.getInstructorsForCourse(fs.getCourseId());
+
+        assertTrue(fsLogic.getNonRespondentStudents(fs, students).isEmpty());
+        assertTrue(fsLogic.getNonRespondentInstructors(fs, instructors).isEmpty());
+
+        ______TS("success: same users as the check for each user");
+
+        FeedbackSessionAttributes session1InCourse1 = dataBundle.feedbackSessions.get("session1InCourse1");
+        fs = fsLogic.getFeedbackSession(session1InCourse1.getFeedbackSessionName(), session1InCourse1.getCourseId());
+        students = studentsLogic.getStudentsForCourse(fs.getCourseId());
+        instructors = instructorsLogic.getInstructorsForCourse(fs.getCourseId());
+
+        List<StudentAttributes> expectedStudents = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            if (!fsLogic.isFeedbackSessionCompletedByStudent(fs, student.email)) {
+                expectedStudents.add(student);
+            }
+        }
+        List<InstructorAttributes> expectedInstructors = new ArrayList<>();
+        for (InstructorAttributes instructor : instructors) {
+            if (!fsLogic.isFeedbackSessionCompletedByInstructor(fs, instructor.email)) {
+                expectedInstructors.add(instructor);
+            }
+        }
+
+        assertEquals(expectedStudents, fsLogic.getNonRespondentStudents(fs, students));
+        assertEquals(expectedInstructors, fsLogic.getNonRespondentInstructors(fs, instructors));
+    }
+
+    private void testGetStudentsYetToFullyCompleteSession() throws Exception {
+
+        FeedbackSessionAttributes fs = dataBundle.feedbackSessions.get("session1InCourse1");
+        StudentAttributes student1OfCourse1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student3OfCourse1 = dataBundle.students.get("student3InCourse1");
+
+        ______TS("failure: non-existent feedback session");
+
+        FeedbackSessionAttributes nonExistentFs = getNewFeedbackSession();
+        try {
+            fsLogic.getStudentsYetToFullyCompleteSession(nonExistentFs, new ArrayList<StudentAttributes>());
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException edne) {
+            assertEquals("Trying to check a non-existent feedback session: "
+                         + nonExistentFs.getCourseId() + "/" + nonExistentFs.getFeedbackSessionName(),
+                         edne.getMessage());
+        }
+
+        ______TS("success: same students as the check for each student");
+
+        List<StudentAttributes> students = studentsLogic.getStudentsForCourse(fs.getCourseId());
+        List<StudentAttributes> expected = new ArrayList<>();
+        for (StudentAttributes student : students) {
+            if (!fsLogic.isFeedbackSessionFullyCompletedByStudent(
+                    fs.getFeedbackSessionName(), fs.getCourseId(), student.email)) {
+                expected.add(student);
+            }
+        }
+
+        List<StudentAttributes> actual = fsLogic.getStudentsYetToFullyCompleteSession(fs, students);
+        assertEquals(expected, actual);
+        assertTrue(actual.stream().noneMatch(student -> student.email.equals(student1OfCourse1.email)));
+        assertTrue(actual.stream().anyMatch(student -> student.email.equals(student3OfCourse1.email)));
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.tmt")
                 .withCreatedTime(Instant.now())
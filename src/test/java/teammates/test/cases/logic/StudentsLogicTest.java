@@ -70,7 +70,7 @@ public class StudentsLogicTest extends BaseLogicTest {
         testGetTeamForStudent();
 
         testEnrollStudent();
-        testAdjustFeedbackResponseForEnrollments();
+        testAdjustFeedbackResponsesForEnrollments();
 
         testValidateSections();
         testupdateStudentCascadeWithoutDocument();
@@ -355,88 +355,84 @@ public class StudentsLogicTest extends BaseLogicTest {
 
     }
 
-    private void testAdjustFeedbackResponseForEnrollments() throws Exception {
-
-        // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: no change of team");
+    private void testAdjustFeedbackResponsesForEnrollments() throws Exception {
 
+        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
         String course1Id = dataBundle.courses.get("typicalCourse1").getId();
+        String sessionName = dataBundle.feedbackSessions.get("session2InCourse1").getFeedbackSessionName();
         StudentAttributes student1InCourse1 = dataBundle.students.get("student1InCourse1");
         StudentAttributes student2InCourse1 = dataBundle.students.get("student2InCourse1");
-        ArrayList<StudentEnrollDetails> enrollmentList = new ArrayList<>();
-        StudentEnrollDetails studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED,
-                                         course1Id, student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        FeedbackResponseAttributes feedbackResponse1InBundle = dataBundle.feedbackResponses.get("response1ForQ2S2C1");
-        FeedbackResponsesLogic frLogic = FeedbackResponsesLogic.inst();
-        FeedbackQuestionsLogic fqLogic = FeedbackQuestionsLogic.inst();
-        FeedbackQuestionAttributes feedbackQuestionInDb =
-                fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                                            feedbackResponse1InBundle.courseId,
-                                            Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        FeedbackResponseAttributes responseBefore =
-                frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                                            feedbackResponse1InBundle.giver,
-                                            feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        FeedbackResponseAttributes responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
+        StudentAttributes student4InCourse1 = dataBundle.students.get("student4InCourse1");
 
         // the case below will not cause the response to be deleted
-        // because the studentEnrollDetails'email is not the same as giver or recipient
-        ______TS("adjust feedback response: unmodified status");
+        // because the enrollment of its giver is not modified
+        ______TS("adjust feedback responses: unmodified status");
 
+        FeedbackResponseAttributes responseBefore = getResponseFromDatastore("response2ForQ2S2C1");
+        List<StudentEnrollDetails> enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, course1Id,
+                student1InCourse1.email, student1InCourse1.team, student1InCourse1.team + "tmp",
+                student1InCourse1.section, student1InCourse1.section));
+
+        frLogic.adjustFeedbackResponsesForEnrollments(sessionName, course1Id, enrollmentList);
+
+        assertEquals(responseBefore.getId(), getResponseFromDatastore("response2ForQ2S2C1").getId());
+
+        // the case below will cause only the response given by the student to be deleted
+        // because the question's recipient type is own team members
+        ______TS("adjust feedback responses: change of giver's team");
+
+        FeedbackResponseAttributes otherResponseBefore = getResponseFromDatastore("response1ForQ2S2C1");
         enrollmentList = new ArrayList<>();
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.UNMODIFIED, course1Id,
-                                         student1InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
-        enrollmentList.add(studentDetails1);
-
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
-
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertEquals(responseBefore.getId(), responseAfter.getId());
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                student1InCourse1.email, student1InCourse1.team, student1InCourse1.team + "tmp",
+                student1InCourse1.section, student1InCourse1.section));
 
-        // the code below will cause the feedback to be deleted because
-        // recipient's e-mail is the same as the one in studentEnrollDetails
-        // and the question's recipient's type is own team members
-        ______TS("adjust feedback response: delete after adjustment");
+        frLogic.adjustFeedbackResponsesForEnrollments(sessionName, course1Id, enrollmentList);
 
-        studentDetails1 =
-                new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
-                                         student2InCourse1.email, student1InCourse1.team,
-                                         student1InCourse1.team + "tmp", student1InCourse1.section,
-                                         student1InCourse1.section + "tmp");
+        assertNull(getResponseFromDatastore("response2ForQ2S2C1"));
+        assertEquals(otherResponseBefore.getId(), getResponseFromDatastore("response1ForQ2S2C1").getId());
+
+        // the case below will cause the response to be deleted
+        // because the question's recipient type is own team members
+        ______TS("adjust feedback responses: change of recipient's team");
+
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                student2InCourse1.email, student2InCourse1.team, student2InCourse1.team + "tmp",
+                student2InCourse1.section, student2InCourse1.section));
+
+        frLogic.adjustFeedbackResponsesForEnrollments(sessionName, course1Id, enrollmentList);
+
+        assertNull(getResponseFromDatastore("response1ForQ2S2C1"));
+
+        ______TS("adjust feedback responses: change of section only");
+
+        responseBefore = getResponseFromDatastore("response1ForQ1S2C1");
         enrollmentList = new ArrayList<>();
-        enrollmentList.add(studentDetails1);
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                student4InCourse1.email, student4InCourse1.team, student4InCourse1.team,
+                student4InCourse1.section, student4InCourse1.section + "tmp"));
 
-        feedbackQuestionInDb = fqLogic.getFeedbackQuestion(feedbackResponse1InBundle.feedbackSessionName,
-                feedbackResponse1InBundle.courseId, Integer.parseInt(feedbackResponse1InBundle.feedbackQuestionId));
-        responseBefore = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
+        frLogic.adjustFeedbackResponsesForEnrollments(sessionName, course1Id, enrollmentList);
 
-        studentsLogic.adjustFeedbackResponseForEnrollments(enrollmentList, responseBefore);
+        FeedbackResponseAttributes responseAfter = getResponseFromDatastore("response1ForQ1S2C1");
+        assertEquals(responseBefore.getId(), responseAfter.getId());
+        assertEquals(student4InCourse1.section + "tmp", responseAfter.giverSection);
 
-        responseAfter = frLogic.getFeedbackResponse(feedbackQuestionInDb.getId(),
-                feedbackResponse1InBundle.giver, feedbackResponse1InBundle.recipient);
-        assertNull(responseAfter);
+        // restore the section so other tests are unaffected
+        enrollmentList = new ArrayList<>();
+        enrollmentList.add(new StudentEnrollDetails(StudentUpdateStatus.MODIFIED, course1Id,
+                student4InCourse1.email, student4InCourse1.team, student4InCourse1.team,
+                student4InCourse1.section + "tmp", student4InCourse1.section));
+        frLogic.adjustFeedbackResponsesForEnrollments(sessionName, course1Id, enrollmentList);
+    }
 
+    private FeedbackResponseAttributes getResponseFromDatastore(String jsonId) {
+        FeedbackResponseAttributes response = dataBundle.feedbackResponses.get(jsonId);
+        FeedbackQuestionAttributes question = FeedbackQuestionsLogic.inst().getFeedbackQuestion(
+                response.feedbackSessionName, response.courseId, Integer.parseInt(response.feedbackQuestionId));
+        return FeedbackResponsesLogic.inst().getFeedbackResponse(question.getId(), response.giver, response.recipient);
     }
 
     private void testEnrollLinesChecking() throws Exception {
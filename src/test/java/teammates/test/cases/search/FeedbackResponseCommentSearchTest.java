@@ -1,13 +1,19 @@
 package teammates.test.cases.search;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import org.testng.annotations.Test;
 
+import com.google.appengine.api.search.Document;
+
 import teammates.common.datatransfer.FeedbackResponseCommentSearchResultBundle;
 import teammates.common.datatransfer.attributes.FeedbackResponseCommentAttributes;
 import teammates.common.datatransfer.attributes.InstructorAttributes;
+import teammates.common.util.Const;
 import teammates.storage.api.FeedbackResponseCommentsDb;
+import teammates.storage.search.FeedbackResponseCommentSearchDocument;
+import teammates.storage.search.SearchDocument;
 
 /**
  * SUT: {@link FeedbackResponseCommentsDb},
@@ -81,5 +87,42 @@ public class FeedbackResponseCommentSearchTest extends BaseSearchTest {
                 frc1I3Q1S2C2.commentGiver));
         bundle = commentsDb.search("\"Instructor 3 comment to instr1C2 response to student1C2\"", instructors);
         verifySearchResults(bundle);
+
+        ______TS("success: search for comments; confirms stale documents are not included in results");
+
+        FeedbackResponseCommentAttributes staleComment = commentsDb.getFeedbackResponseComment(
+                frc1I1Q1S1C1.courseId, frc1I1Q1S1C1.createdAt, frc1I1Q1S1C1.commentGiver);
+        commentsDb.deleteCommentById(staleComment.getId());
+        bundle = commentsDb.search("\"self feedback\"", instructors);
+        verifySearchResults(bundle, frc1I1Q2S1C1);
+
+        // restore the deleted comment for the other tests
+        prepareTestData();
+    }
+
+    @Test
+    public void testCreateDocuments() {
+        FeedbackResponseCommentsDb commentsDb = new FeedbackResponseCommentsDb();
+
+        List<FeedbackResponseCommentAttributes> comments = new ArrayList<>();
+        for (FeedbackResponseCommentAttributes comment : dataBundle.feedbackResponseComments.values()) {
+            comments.add(commentsDb.getFeedbackResponseComment(comment.courseId, comment.createdAt,
+                    comment.commentGiver));
+        }
+
+        ______TS("documents built in a batch are the same as documents built one at a time");
+
+        List<SearchDocument> documents = FeedbackResponseCommentSearchDocument.createDocuments(comments);
+        assertEquals(comments.size(), documents.size());
+        for (int i = 0; i < comments.size(); i++) {
+            Document expected = new FeedbackResponseCommentSearchDocument(comments.get(i)).build();
+            Document actual = documents.get(i).build();
+            assertEquals(expected.getId(), actual.getId());
+            for (String fieldName : expected.getFieldNames()) {
+                assertEquals(expected.getOnlyField(fieldName).getText(), actual.getOnlyField(fieldName).getText());
+            }
+            assertEquals(expected.getOnlyField(Const.SearchDocumentField.CREATED_DATE).getDate(),
+                    actual.getOnlyField(Const.SearchDocumentField.CREATED_DATE).getDate());
+        }
     }
 }
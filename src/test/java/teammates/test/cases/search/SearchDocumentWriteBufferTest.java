@@ -0,0 +1,71 @@
+package teammates.test.cases.search;
+
+import java.util.Arrays;
+
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import teammates.common.datatransfer.StudentSearchResultBundle;
+import teammates.common.datatransfer.attributes.StudentAttributes;
+import teammates.logic.core.SearchDocumentWriteBuffer;
+import teammates.storage.api.StudentsDb;
+import teammates.test.driver.AssertHelper;
+
+/**
+ * SUT: {@link SearchDocumentWriteBuffer},
+ *      {@link teammates.storage.search.SearchManager}.
+ */
+public class SearchDocumentWriteBufferTest extends BaseSearchTest {
+
+    private static final StudentsDb studentsDb = new StudentsDb();
+
+    @AfterMethod
+    public void stopBuffering() {
+        SearchDocumentWriteBuffer.stop();
+    }
+
+    @Test
+    public void testBufferedWrites() {
+        StudentAttributes student1 = dataBundle.students.get("student1InCourse1");
+        StudentAttributes student2 = dataBundle.students.get("student2InCourse1");
+
+        ______TS("writes not visible until flushed");
+
+        SearchDocumentWriteBuffer.start();
+        studentsDb.deleteDocument(student1);
+        assertEquals(1, searchInCourse1("student1").numberOfResults);
+
+        assertTrue(SearchDocumentWriteBuffer.flush().isEmpty());
+        assertEquals(0, searchInCourse1("student1").numberOfResults);
+
+        ______TS("only the last write of a document is kept");
+
+        studentsDb.putDocument(student1);
+        studentsDb.deleteDocument(student2);
+        studentsDb.putDocument(student2);
+        studentsDb.deleteDocument(student1);
+        assertTrue(SearchDocumentWriteBuffer.flush().isEmpty());
+
+        assertEquals(0, searchInCourse1("student1").numberOfResults);
+        StudentSearchResultBundle bundle = searchInCourse1("student2");
+        assertEquals(1, bundle.numberOfResults);
+        AssertHelper.assertSameContentIgnoreOrder(Arrays.asList(student2), bundle.studentList);
+
+        ______TS("writes discarded when buffering stops before flushing");
+
+        studentsDb.putDocument(student1);
+        SearchDocumentWriteBuffer.stop();
+        assertTrue(SearchDocumentWriteBuffer.flush().isEmpty());
+        assertEquals(0, searchInCourse1("student1").numberOfResults);
+
+        ______TS("writes are immediate when not buffering");
+
+        studentsDb.putDocument(student1);
+        assertEquals(1, searchInCourse1("student1").numberOfResults);
+    }
+
+    private StudentSearchResultBundle searchInCourse1(String queryString) {
+        return studentsDb.search(queryString, Arrays.asList(dataBundle.instructors.get("instructor1OfCourse1")));
+    }
+
+}
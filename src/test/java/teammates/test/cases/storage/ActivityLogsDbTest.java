@@ -0,0 +1,122 @@
+package teammates.test.cases.storage;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import teammates.common.util.ActivityLogEntry;
+import teammates.common.util.Const;
+import teammates.storage.api.ActivityLogsDb;
+import teammates.storage.api.EntitiesDb;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link ActivityLogsDb}.
+ */
+public class ActivityLogsDbTest extends BaseComponentTestCase {
+
+    private static final long NOW = Instant.now().toEpochMilli();
+
+    private ActivityLogsDb activityLogsDb = new ActivityLogsDb();
+
+    @BeforeClass
+    public void putTypicalActivityLogs() {
+        activityLogsDb.deleteActivityLogsBefore(NOW + 1);
+
+        ActivityLogEntry instructorLog =
+                new ActivityLogEntry.Builder("instructorHomePage", "/page/instructorHomePage", NOW - 3)
+                .withLogId("id0").withUserRole(Const.ActivityLog.ROLE_INSTRUCTOR)
+                .withUserName("Instructor Name").withUserGoogleId("instr.Id").withUserEmail("instr@email.com")
+                .withActionTimeTaken(30).build();
+        ActivityLogEntry studentLog = new ActivityLogEntry.Builder("studentHomePage", "/page/studentHomePage", NOW - 2)
+                .withLogId("id1").withUserRole(Const.ActivityLog.ROLE_STUDENT).withMasqueradeUserRole(true)
+                .withUserName("Student Name").withUserGoogleId("student.Id").withUserEmail("student@email.com")
+                .build();
+        ActivityLogEntry automatedLog = new ActivityLogEntry.Builder("compileLogs", "/auto/compileLogs", NOW - 1)
+                .withLogId("id2").withUserRole(Const.ActivityLog.ROLE_AUTO).build();
+
+        activityLogsDb.putActivityLog(instructorLog);
+        activityLogsDb.putActivityLog(studentLog);
+        activityLogsDb.putActivityLog(automatedLog);
+        EntitiesDb.flush();
+    }
+
+    @Test
+    public void testPutActivityLog() {
+        ______TS("stored entry is the same as the entry put");
+
+        List<ActivityLogEntry> logs = getActivityLogs(NOW - 3, NOW - 3, null, null, null);
+        assertEquals(1, logs.size());
+        ActivityLogEntry entry = logs.get(0);
+        assertEquals("id0", entry.getLogId());
+        assertEquals(NOW - 3, entry.getLogTime());
+        assertEquals("instructorHomePage", entry.getActionName());
+        assertEquals("/page/instructorHomePage", entry.getActionUrl());
+        assertEquals(Const.ActivityLog.ROLE_INSTRUCTOR, entry.getUserRole());
+        assertFalse(entry.isMasqueradeUserRole());
+        assertEquals("Instructor Name", entry.getUserName());
+        assertEquals("instr.Id", entry.getUserGoogleId());
+        assertEquals("instr@email.com", entry.getUserEmail());
+        assertEquals(30, entry.getActionTimeTaken());
+
+        ______TS("null parameter");
+
+        try {
+            activityLogsDb.putActivityLog(null);
+            signalFailureToDetectException(" - Assertion Error");
+        } catch (AssertionError ae) {
+            assertEquals(Const.StatusCodes.DBLEVEL_NULL_INPUT, ae.getMessage());
+        }
+    }
+
+    @Test
+    public void testGetActivityLogs() {
+        ______TS("all logs in time range, latest first");
+
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, null, null, null), "id2", "id1", "id0");
+        verifyLogIds(getActivityLogs(NOW - 2, NOW - 1, null, null, null), "id2", "id1");
+        verifyLogIds(getActivityLogs(NOW + 1, NOW + 10, null, null, null));
+
+        ______TS("by person, case-insensitive");
+
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, "INSTR.ID", null, null), "id0");
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, "student@email.com", null, null), "id1");
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, "student name", null, null), "id1");
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, "student", null, null));
+
+        ______TS("by role, case-insensitive");
+
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, null, Arrays.asList("student", "auto"), null), "id2", "id1");
+
+        ______TS("by action name, case-insensitive");
+
+        verifyLogIds(getActivityLogs(NOW - 3, NOW, null, null, Arrays.asList("INSTRUCTORHOMEPAGE")), "id0");
+    }
+
+    @AfterClass
+    public void deleteTypicalActivityLogs() {
+        activityLogsDb.deleteActivityLogsBefore(NOW + 1);
+        assertTrue(getActivityLogs(NOW - 3, NOW, null, null, null).isEmpty());
+    }
+
+    private List<ActivityLogEntry> getActivityLogs(long startTime, long endTime, String person,
+            List<String> roles, List<String> actionNames) {
+        List<ActivityLogEntry> logs = new ArrayList<>();
+        activityLogsDb.getActivityLogs(startTime, endTime, person, roles, actionNames).forEach(logs::add);
+        return logs;
+    }
+
+    private void verifyLogIds(List<ActivityLogEntry> actualLogs, String... expectedLogIds) {
+        List<String> actualLogIds = new ArrayList<>();
+        for (ActivityLogEntry entry : actualLogs) {
+            actualLogIds.add(entry.getLogId());
+        }
+        assertEquals(Arrays.asList(expectedLogIds), actualLogIds);
+    }
+
+}
@@ -1,7 +1,9 @@
 package teammates.test.cases.storage;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.Test;
 
@@ -165,6 +167,14 @@ public class FeedbackQuestionsDbTest extends BaseComponentTestCase {
 
         assertEquals(expected.toString(), actual.toString());
 
+        ______TS("get multiple questions by id");
+
+        Map<String, FeedbackQuestionAttributes> questions =
+                fqDb.getFeedbackQuestions(Arrays.asList(actual.getId(), "non-existent id"));
+
+        assertEquals(1, questions.size());
+        assertEquals(expected.toString(), questions.get(actual.getId()).toString());
+
         ______TS("get non-existent question by id");
 
         actual = fqDb.getFeedbackQuestion("non-existent id");
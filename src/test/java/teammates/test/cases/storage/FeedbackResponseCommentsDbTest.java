@@ -2,7 +2,9 @@ package teammates.test.cases.storage;
 
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.testng.annotations.BeforeClass;
 import org.testng.annotations.Test;
@@ -113,6 +115,15 @@ public class FeedbackResponseCommentsDbTest extends BaseComponentTestCase {
         ______TS("non-existent comment");
 
         assertNull(frcDb.getFeedbackResponseComment(-1L));
+
+        ______TS("multiple comments");
+
+        Map<Long, FeedbackResponseCommentAttributes> comments = frcDb.getFeedbackResponseComments(
+                Arrays.asList(frcaExpected.getId(), anotherFrcaData.getId(), -1L));
+
+        assertEquals(2, comments.size());
+        assertEquals(frcaExpected.toString(), comments.get(frcaExpected.getId()).toString());
+        assertEquals(anotherFrcaData.toString(), comments.get(anotherFrcaData.getId()).toString());
     }
 
     private void testGetFeedbackResponseCommentFromCommentDetails() {
@@ -1,5 +1,6 @@
 package teammates.test.cases.storage;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -220,6 +221,17 @@ public class FeedbackResponsesDbTest extends BaseComponentTestCase {
 
         assertEquals(expected.toString(), actual.toString());
 
+        ______TS("get multiple responses by id");
+
+        FeedbackResponseAttributes another = getResponseAttributes("response2ForQ1S1C1");
+        another = frDb.getFeedbackResponse(another.feedbackQuestionId, another.giver, another.recipient);
+        Map<String, FeedbackResponseAttributes> responses =
+                frDb.getFeedbackResponses(Arrays.asList(actual.getId(), another.getId(), "non-existent id"));
+
+        assertEquals(2, responses.size());
+        assertEquals(expected.toString(), responses.get(actual.getId()).toString());
+        assertEquals(another.toString(), responses.get(another.getId()).toString());
+
         ______TS("get non-existent response by id");
 
         actual = frDb.getFeedbackResponse("non-existent id");
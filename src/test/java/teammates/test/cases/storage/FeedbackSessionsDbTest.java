@@ -6,6 +6,8 @@ import static teammates.common.util.FieldValidator.TIME_FRAME_ERROR_MESSAGE;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -140,6 +142,12 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
             AssertHelper.assertContains(Const.StatusCodes.DBLEVEL_NULL_INPUT, e.getLocalizedMessage());
         }
 
+        ______TS("existing sessions among given names");
+
+        Set<String> existingNames = fsDb.getExistingFeedbackSessionNames("idOfTypicalCourse2",
+                Arrays.asList("Instructor feedback session", "Non-existant feedback session"));
+        assertEquals(new HashSet<>(Arrays.asList("Instructor feedback session")), existingNames);
+
     }
 
     private void testGetFeedbackSessionsForCourse() {
@@ -318,6 +326,83 @@ public class FeedbackSessionsDbTest extends BaseComponentTestCase {
         assertFalse(fsDb.getSoftDeletedFeedbackSessionsForCourse("testCourse").isEmpty());
     }
 
+    @Test
+    public void testRespondents() throws Exception {
+        FeedbackSessionAttributes session = getNewFeedbackSession();
+        session.setRespondingStudentList(new HashSet<>(Arrays.asList("legacy@email.tmt")));
+        fsDb.deleteEntity(session);
+        fsDb.createEntity(session);
+
+        ______TS("respondents stored in the session entity are still read");
+
+        FeedbackSessionAttributes actual =
+                fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.tmt")), actual.getRespondingStudentList());
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+        assertTrue(fsDb.isStudentRespondent("legacy@email.tmt", actual));
+        assertFalse(fsDb.isInstructorRespondent("legacy@email.tmt", actual));
+
+        ______TS("added respondents are checked by key and loaded into the session");
+
+        fsDb.addStudentRespondents(Arrays.asList("student1@email.tmt", "student2@email.tmt"), session);
+        fsDb.addInstructorRespondent("instructor@email.tmt", session);
+        fsDb.addStudentRespondent("student1@email.tmt", session);
+
+        actual = fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.tmt")), actual.getRespondingStudentList());
+        assertTrue(fsDb.isStudentRespondent("student1@email.tmt", actual));
+        assertTrue(fsDb.isInstructorRespondent("instructor@email.tmt", actual));
+        assertFalse(fsDb.isStudentRespondent("instructor@email.tmt", actual));
+
+        fsDb.loadRespondents(actual);
+        assertEquals(new HashSet<>(Arrays.asList("legacy@email.tmt", "student1@email.tmt", "student2@email.tmt")),
+                actual.getRespondingStudentList());
+        assertEquals(new HashSet<>(Arrays.asList("instructor@email.tmt")), actual.getRespondingInstructorList());
+
+        ______TS("respondents updated and deleted regardless of where they are stored");
+
+        fsDb.updateStudentRespondent("legacy@email.tmt", "legacy.new@email.tmt", session);
+        fsDb.updateStudentRespondent("student2@email.tmt", "student2.new@email.tmt", session);
+        fsDb.deleteStudentRespondent("student1@email.tmt", session);
+        fsDb.deleteInstructorRespondent("instructor@email.tmt", session);
+
+        actual = fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertFalse(fsDb.isStudentRespondent("student1@email.tmt", actual));
+        fsDb.loadRespondents(actual);
+        assertEquals(new HashSet<>(Arrays.asList("legacy.new@email.tmt", "student2.new@email.tmt")),
+                actual.getRespondingStudentList());
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+
+        ______TS("respondents cleared");
+
+        fsDb.addInstructorRespondent("instructor@email.tmt", session);
+        fsDb.clearStudentRespondents(session);
+
+        actual = fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        fsDb.loadRespondents(actual);
+        assertTrue(actual.getRespondingStudentList().isEmpty());
+        assertEquals(new HashSet<>(Arrays.asList("instructor@email.tmt")), actual.getRespondingInstructorList());
+
+        ______TS("respondents deleted together with the session");
+
+        fsDb.deleteEntity(session);
+        fsDb.createEntity(getNewFeedbackSession());
+        actual = fsDb.getFeedbackSession(session.getCourseId(), session.getFeedbackSessionName());
+        assertFalse(fsDb.isInstructorRespondent("instructor@email.tmt", actual));
+        fsDb.loadRespondents(actual);
+        assertTrue(actual.getRespondingInstructorList().isEmpty());
+        fsDb.deleteEntity(session);
+
+        ______TS("session does not exist");
+
+        try {
+            fsDb.addStudentRespondent("student1@email.tmt", session);
+            signalFailureToDetectException();
+        } catch (EntityDoesNotExistException e) {
+            AssertHelper.assertContains(FeedbackSessionsDb.ERROR_UPDATE_NON_EXISTENT, e.getLocalizedMessage());
+        }
+    }
+
     private FeedbackSessionAttributes getNewFeedbackSession() {
         return FeedbackSessionAttributes.builder("fsTest1", "testCourse", "valid@email.com")
                 .withCreatedTime(Instant.now())
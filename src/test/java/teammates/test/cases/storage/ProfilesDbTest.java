@@ -149,6 +149,7 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         // success test cases
         testUpdateProfilePictureSuccessInitiallyEmpty(a);
         testUpdateProfilePictureSuccessSamePictureKey(a);
+        testUpdateProfilePictureSuccessReplacesPicture(a);
     }
 
     private void testUpdateProfilePictureWithNullParameters()
@@ -223,6 +224,21 @@ public class ProfilesDbTest extends BaseComponentTestCase {
         profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
     }
 
+    private void testUpdateProfilePictureSuccessReplacesPicture(
+            AccountAttributes a) throws IOException, EntityDoesNotExistException {
+        ______TS("update picture key - previous picture deleted");
+
+        String oldPictureKey = a.studentProfile.pictureKey;
+        a.studentProfile.pictureKey = writeFileToGcs(a.googleId, "src/test/resources/images/profile_pic.png");
+        profilesDb.updateStudentProfilePicture(a.googleId, a.studentProfile.pictureKey);
+
+        StudentProfileAttributes updatedProfile = profilesDb.getStudentProfile(a.studentProfile.googleId);
+
+        assertEquals(a.studentProfile.pictureKey, updatedProfile.pictureKey);
+        assertTrue(doesFileExistInGcs(new BlobKey(updatedProfile.pictureKey)));
+        assertFalse(doesFileExistInGcs(new BlobKey(oldPictureKey)));
+    }
+
     @Test
     public void testDeleteProfilePicture() throws Exception {
         AccountAttributes a = createNewAccount();
@@ -3,8 +3,13 @@ package teammates.test.cases.storage;
 import static teammates.common.util.FieldValidator.COURSE_ID_ERROR_MESSAGE;
 import static teammates.common.util.FieldValidator.REASON_INCORRECT_FORMAT;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import org.testng.annotations.Test;
 
+import teammates.common.datatransfer.CourseStatisticsBundle;
+import teammates.common.datatransfer.CourseStats;
 import teammates.common.datatransfer.attributes.StudentAttributes;
 import teammates.common.exception.EntityAlreadyExistsException;
 import teammates.common.exception.EntityDoesNotExistException;
@@ -285,6 +290,139 @@ public class StudentsDbTest extends BaseComponentTestCase {
 
     }
 
+    @Test
+    public void testCreateOrUpdateStudents() throws Exception {
+        StudentAttributes existingStudent = createNewStudent();
+        String originalKey = studentsDb.getStudentForEmail(existingStudent.course, existingStudent.email).key;
+
+        ______TS("success : new students created and existing ones updated in one batch");
+
+        StudentAttributes updatedStudent = StudentAttributes
+                .builder(existingStudent.course, "updated name", existingStudent.email)
+                .withComments("updated comments")
+                .withTeam("new team")
+                .withSection("new section")
+                .build();
+        StudentAttributes newStudent = StudentAttributes
+                .builder(existingStudent.course, "new student", "new.student@email.com")
+                .withComments("")
+                .withTeam("new team")
+                .withSection("new section")
+                .build();
+        studentsDb.createOrUpdateStudents(existingStudent.course,
+                Arrays.asList(updatedStudent, newStudent), false);
+
+        Map<String, StudentAttributes> students = studentsDb.getStudentsForEmails(existingStudent.course,
+                Arrays.asList(existingStudent.email, newStudent.email, "non-existent@email.com"));
+        assertEquals(2, students.size());
+        assertTrue(students.get(existingStudent.email).isEnrollInfoSameAs(updatedStudent));
+        assertEquals(originalKey, students.get(existingStudent.email).key);
+        assertEquals("", students.get(existingStudent.email).googleId);
+        assertTrue(students.get(newStudent.email).isEnrollInfoSameAs(newStudent));
+
+        ______TS("failure : invalid student, nothing written");
+
+        StudentAttributes invalidStudent = StudentAttributes
+                .builder(existingStudent.course, "invalid student", "invalid-email")
+                .withComments("")
+                .withTeam("new team")
+                .withSection("new section")
+                .build();
+        newStudent.name = "another name";
+        try {
+            studentsDb.createOrUpdateStudents(existingStudent.course, Arrays.asList(newStudent, invalidStudent), false);
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            AssertHelper.assertContains("invalid-email", e.getMessage());
+        }
+        assertEquals("new student", studentsDb.getStudentForEmail(newStudent.course, newStudent.email).name);
+
+        studentsDb.deleteStudentWithoutDocument(existingStudent.course, existingStudent.email);
+        studentsDb.deleteStudentWithoutDocument(newStudent.course, newStudent.email);
+    }
+
+    @Test
+    public void testCourseStatistics() throws Exception {
+        String courseId = "statistics-course";
+
+        ______TS("success : statistics of course without students");
+
+        verifyCourseStats(courseId, 0, 0, 0, 0);
+
+        ______TS("success : student created");
+
+        StudentAttributes firstStudent = StudentAttributes
+                .builder(courseId, "first student", "first.student@email.com")
+                .withComments("")
+                .withTeam("Team 1")
+                .withSection("Section 1")
+                .withGoogleId("")
+                .build();
+        studentsDb.createEntity(firstStudent);
+
+        verifyCourseStats(courseId, 1, 1, 1, 1);
+        CourseStatisticsBundle statistics = studentsDb.getCourseStatistics(courseId);
+        assertTrue(statistics.hasIndicatedSections());
+
+        ______TS("success : students created and updated in one batch");
+
+        firstStudent.team = "Team 2";
+        StudentAttributes secondStudent = StudentAttributes
+                .builder(courseId, "second student", "second.student@email.com")
+                .withComments("")
+                .withTeam("Team 3")
+                .withGoogleId("second.student")
+                .build();
+        studentsDb.createOrUpdateStudents(courseId, Arrays.asList(firstStudent, secondStudent), false);
+
+        verifyCourseStats(courseId, 1, 2, 2, 1);
+        statistics = studentsDb.getCourseStatistics(courseId);
+        assertEquals(Arrays.asList(Const.DEFAULT_SECTION, "Section 1"), statistics.getSectionNames());
+        assertEquals(Arrays.asList("Team 2", "Team 3"), statistics.getTeamNames());
+
+        ______TS("success : student registered");
+
+        studentsDb.updateStudentWithoutSearchability(courseId, firstStudent.email, firstStudent.name, firstStudent.team,
+                firstStudent.section, firstStudent.email, "first.student", firstStudent.comments);
+
+        verifyCourseStats(courseId, 1, 2, 2, 0);
+
+        ______TS("success : student deleted");
+
+        studentsDb.deleteStudentWithoutDocument(courseId, firstStudent.email);
+
+        verifyCourseStats(courseId, 0, 1, 1, 0);
+        statistics = studentsDb.getCourseStatistics(courseId);
+        assertFalse(statistics.hasIndicatedSections());
+        assertEquals(Arrays.asList("Team 3"), statistics.getTeamNames());
+
+        ______TS("success : last student deleted");
+
+        studentsDb.deleteStudentWithoutDocument(courseId, secondStudent.email);
+
+        verifyCourseStats(courseId, 0, 0, 0, 0);
+
+        ______TS("success : all students of course deleted");
+
+        studentsDb.createEntity(firstStudent);
+        studentsDb.createEntity(secondStudent);
+        verifyCourseStats(courseId, 1, 2, 2, 1);
+
+        studentsDb.deleteStudentsForCourseWithoutDocument(courseId);
+
+        verifyCourseStats(courseId, 0, 0, 0, 0);
+    }
+
+    private void verifyCourseStats(String courseId, int sectionsTotal, int teamsTotal,
+            int studentsTotal, int unregisteredTotal) {
+        CourseStats stats = studentsDb.getCourseStatistics(courseId)
+                .toCourseStats(studentsDb.getNumberOfUnregisteredStudentsForCourse(courseId));
+        assertEquals(sectionsTotal, stats.sectionsTotal);
+        assertEquals(teamsTotal, stats.teamsTotal);
+        assertEquals(studentsTotal, stats.studentsTotal);
+        assertEquals(unregisteredTotal, stats.unregisteredTotal);
+    }
+
     private StudentAttributes createNewStudent() throws InvalidParametersException {
         StudentAttributes s = StudentAttributes
                 .builder("valid-course", "valid student", "valid@email.com")
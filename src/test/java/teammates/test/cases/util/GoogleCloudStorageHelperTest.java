@@ -0,0 +1,55 @@
+package teammates.test.cases.util;
+
+import java.nio.charset.StandardCharsets;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.blobstore.BlobKey;
+
+import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link GoogleCloudStorageHelper}.
+ */
+public class GoogleCloudStorageHelperTest extends BaseComponentTestCase {
+
+    @Test
+    public void testReadSmallImage() throws Exception {
+        byte[] image = "image".getBytes(StandardCharsets.UTF_8);
+        BlobKey imageKey = new BlobKey(GoogleCloudStorageHelper.writeImageDataToGcs("googleCloudStorageHelperTest", image));
+
+        ______TS("small image read, then served from memory");
+
+        assertEquals("image", new String(GoogleCloudStorageHelper.readSmallImage(imageKey), StandardCharsets.UTF_8));
+        assertSame(GoogleCloudStorageHelper.readSmallImage(imageKey), GoogleCloudStorageHelper.readSmallImage(imageKey));
+
+        ______TS("new image written to a new file, the same image to the same file");
+
+        byte[] newImage = "new image".getBytes(StandardCharsets.UTF_8);
+        BlobKey newImageKey =
+                new BlobKey(GoogleCloudStorageHelper.writeImageDataToGcs("googleCloudStorageHelperTest", newImage));
+        assertFalse(imageKey.equals(newImageKey));
+        assertEquals("new image", new String(GoogleCloudStorageHelper.readSmallImage(newImageKey), StandardCharsets.UTF_8));
+        assertEquals("image", new String(GoogleCloudStorageHelper.readSmallImage(imageKey), StandardCharsets.UTF_8));
+        assertEquals(newImageKey.getKeyString(),
+                GoogleCloudStorageHelper.writeImageDataToGcs("googleCloudStorageHelperTest", newImage));
+
+        ______TS("deleted image no longer served from memory, and remembered as missing");
+
+        GoogleCloudStorageHelper.deleteFile(imageKey);
+        assertEquals(0, GoogleCloudStorageHelper.readSmallImage(imageKey).length);
+        assertEquals(0, GoogleCloudStorageHelper.readSmallImage(imageKey).length);
+        GoogleCloudStorageHelper.deleteFile(newImageKey);
+
+        ______TS("image too large to be kept in memory");
+
+        BlobKey largeImageKey = new BlobKey(GoogleCloudStorageHelper.writeImageDataToGcs(
+                "googleCloudStorageHelperTestLarge", new byte[512 * 1024]));
+        assertNull(GoogleCloudStorageHelper.readSmallImage(largeImageKey));
+        assertNull(GoogleCloudStorageHelper.readSmallImage(largeImageKey));
+
+        GoogleCloudStorageHelper.deleteFile(largeImageKey);
+    }
+
+}
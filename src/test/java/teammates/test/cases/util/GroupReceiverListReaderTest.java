@@ -0,0 +1,49 @@
+package teammates.test.cases.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.testng.annotations.Test;
+
+import com.google.appengine.api.blobstore.BlobKey;
+
+import teammates.common.util.GoogleCloudStorageHelper;
+import teammates.common.util.GroupReceiverListReader;
+import teammates.test.cases.BaseComponentTestCase;
+
+/**
+ * SUT: {@link GroupReceiverListReader}.
+ */
+public class GroupReceiverListReaderTest extends BaseComponentTestCase {
+
+    @Test
+    public void testReadBatch() throws Exception {
+        String receiverList = "a@example.com,b@example.com, c@example.com,,d@example.com,e@example.com\n";
+        BlobKey fileKey = new BlobKey(GoogleCloudStorageHelper.writeImageDataToGcs(
+                "groupReceiverListReaderTest", receiverList.getBytes(StandardCharsets.UTF_8)));
+
+        ______TS("addresses read in batches, skipping blank entries");
+
+        long offset;
+        try (GroupReceiverListReader reader = new GroupReceiverListReader(fileKey, 0)) {
+            assertEquals(Arrays.asList("a@example.com", "b@example.com"), reader.readBatch(2));
+            offset = reader.getOffset();
+            assertEquals("a@example.com,b@example.com,".length(), offset);
+            assertEquals(Arrays.asList("c@example.com", "d@example.com"), reader.readBatch(2));
+            assertEquals(Arrays.asList("e@example.com"), reader.readBatch(2));
+            assertEquals(receiverList.length(), reader.getOffset());
+            assertTrue(reader.readBatch(2).isEmpty());
+        }
+
+        ______TS("resumed reader continues from the offset of an earlier reader");
+
+        try (GroupReceiverListReader reader = new GroupReceiverListReader(fileKey, offset)) {
+            List<String> emails = reader.readBatch(10);
+            assertEquals(Arrays.asList("c@example.com", "d@example.com", "e@example.com"), emails);
+        }
+
+        GoogleCloudStorageHelper.deleteFile(fileKey);
+    }
+
+}
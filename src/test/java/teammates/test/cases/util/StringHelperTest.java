@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
@@ -221,6 +222,34 @@ public class StringHelperTest extends BaseTestCase {
         }
     }
 
+    @Test
+    public void testKeyEncryptionWithReusedCiphers() throws Exception {
+        String msg = "Test decryption";
+        String encryptedMsg = StringHelper.encrypt(msg);
+        assertEquals(encryptedMsg, StringHelper.encrypt(msg));
+
+        ______TS("ciphers can be reused after a failed decryption");
+
+        try {
+            StringHelper.decrypt("AAAAAAAAAABBBBBBBBBBCCCCCCCCCC");
+            signalFailureToDetectException();
+        } catch (InvalidParametersException e) {
+            ignoreExpectedException();
+        }
+        assertEquals(msg, StringHelper.decrypt(encryptedMsg));
+
+        ______TS("ciphers can be used by several threads");
+
+        List<String> msgs = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            msgs.add(msg + i);
+        }
+        List<String> encryptedMsgs = msgs.parallelStream().map(StringHelper::encrypt).collect(Collectors.toList());
+        for (int i = 0; i < msgs.size(); i++) {
+            assertEquals(msgs.get(i), StringHelper.decrypt(encryptedMsgs.get(i)));
+        }
+    }
+
     @Test
     public void testSplitName() {
 
@@ -0,0 +1,92 @@
+package teammates.test.cases.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.testng.annotations.Test;
+
+import teammates.common.util.CompiledTemplate;
+import teammates.common.util.Templates;
+import teammates.common.util.Templates.EmailTemplates;
+import teammates.test.cases.BaseTestCase;
+
+/**
+ * SUT: {@link Templates}, {@link CompiledTemplate}.
+ */
+public class TemplatesTest extends BaseTestCase {
+
+    @Test
+    public void testPopulateTemplate() {
+        ______TS("all occurrences of slots replaced, unknown slots kept");
+
+        assertEquals("Hi Alice, Alice has ${unknown} in CS101.",
+                Templates.populateTemplate("Hi ${name}, ${name} has ${unknown} in ${course}.",
+                        "${name}", "Alice", "${course}", "CS101", "${absent}", "x"));
+
+        ______TS("first value used for duplicate keys");
+
+        assertEquals("1", Templates.populateTemplate("${a}", "${a}", "1", "${a}", "2"));
+
+        ______TS("values are not populated further");
+
+        assertEquals("$1 {b} ${b", Templates.populateTemplate("${a} {b} ${b", "${a}", "$1", "${b}", "2"));
+
+        ______TS("values containing slots are populated by later keys, as the replacements are done in order");
+
+        assertEquals("<b>1</b>", Templates.populateTemplate("${a}", "${a}", "<b>${b}</b>", "${b}", "1"));
+
+        ______TS("keys which are not slots");
+
+        assertEquals("Hi Bob", Templates.populateTemplate("Hi name", "name", "Bob"));
+
+        ______TS("nested slot-like text");
+
+        assertEquals("${a1}", Templates.populateTemplate("${a${b}}", "${b}", "1"));
+
+        ______TS("same result as replacing the keys one after another");
+
+        String template = EmailTemplates.USER_FEEDBACK_SESSION;
+        String[] keyValuePairs = {
+                "${userName}", "Alice", "${courseName}", "Course", "${courseId}", "CS101",
+                "${feedbackSessionName}", "Session", "${deadline}", "Tomorrow", "${instructorFragment}", "",
+                "${sessionInstructions}", "<p>Instructions</p>", "${submitUrl}", "http://submit",
+                "${reportUrl}", "http://report", "${feedbackAction}", "submit", "${status}", "is now open",
+                "${additionalContactInformation}", "",
+        };
+        String expected = template;
+        for (int i = 0; i < keyValuePairs.length; i += 2) {
+            expected = expected.replace(keyValuePairs[i], keyValuePairs[i + 1]);
+        }
+        assertEquals(expected, Templates.populateTemplate(template, keyValuePairs));
+
+        ______TS("populated template appended to the existing content");
+
+        StringBuilder out = new StringBuilder(expected);
+        Templates.appendPopulatedTemplate(out, template, keyValuePairs);
+        Templates.appendPopulatedTemplate(out, "Hi name", "name", "Bob");
+        assertEquals(expected + expected + "Hi Bob", out.toString());
+    }
+
+    @Test
+    public void testCompiledTemplate() {
+        String constantTemplate = EmailTemplates.USER_COURSE_JOIN;
+        assertSame(CompiledTemplate.compile(constantTemplate), CompiledTemplate.compile(constantTemplate));
+
+        CompiledTemplate template = CompiledTemplate.compile("<p>${a}, ${b}</p>");
+        assertNotSame(template, CompiledTemplate.compile("<p>${a}, ${b}</p>"));
+
+        Map<String, String> slotValues = new HashMap<>();
+        slotValues.put("${a}", "1");
+        slotValues.put("${b}", "2");
+        StringBuilder out = new StringBuilder("<div>");
+        template.renderTo(out, slotValues);
+        template.renderTo(out, slotValues);
+        assertEquals("<div><p>1, 2</p><p>1, 2</p>", out.toString());
+
+        assertTrue(CompiledTemplate.isSlot("${name}"));
+        assertFalse(CompiledTemplate.isSlot("name"));
+        assertFalse(CompiledTemplate.isSlot("${a}${b}"));
+        assertFalse(CompiledTemplate.isSlot("${a${b}"));
+    }
+
+}
@@ -21,6 +21,12 @@ public class MockEmailSender extends EmailSender {
         sentEmails.add(email);
     }
 
+    @Override
+    public List<EmailWrapper> sendEmails(List<EmailWrapper> emails) {
+        sentEmails.addAll(emails);
+        return new ArrayList<>();
+    }
+
     @Override
     public List<EmailWrapper> getEmailsSent() {
         return sentEmails;